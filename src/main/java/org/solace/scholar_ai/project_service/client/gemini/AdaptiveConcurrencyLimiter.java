@@ -0,0 +1,318 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.LlmPriority;
+import org.solace.scholar_ai.project_service.exception.LlmCapacityExceededException;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Priority-aware adaptive concurrency limit for Gemini calls.
+ *
+ * <p>The limit follows AIMD: it grows by roughly one slot per round trip while
+ * calls succeed at their usual latency, and shrinks multiplicatively on 429s,
+ * 503s and timeouts. A call much slower than its caller's recent average is
+ * treated as early congestion (the Vegas idea) and shrinks the limit gently.
+ *
+ * <p>Calls that cannot be admitted queue per {@link LlmPriority} and are
+ * admitted interactive-first. Batch work may only fill {@code batchShare} of
+ * the limit, so interactive calls keep headroom. A queued call that reaches
+ * its priority's deadline fails with {@link LlmCapacityExceededException}
+ * rather than being served canned content. Components gating their own work
+ * on the batch slots can follow them with {@link #onBatchCapacityChange}.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final GeminiConfig.Limiter config;
+    private final ScheduledExecutorService deadlineScheduler = DaemonSchedulers.singleThread("gemini-limiter-deadline");
+
+    private final Map<LlmPriority, Deque<Waiter>> queues = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmCaller, Double> latencyBaselineMillis = new EnumMap<>(LlmCaller.class);
+    private final MeterRegistry meterRegistry;
+    private final List<Runnable> batchCapacityListeners = new CopyOnWriteArrayList<>();
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(GeminiConfig geminiConfig, MeterRegistry meterRegistry) {
+        this.config = geminiConfig.getLimiter();
+        this.meterRegistry = meterRegistry;
+        this.limit = config.getInitialLimit();
+
+        for (LlmPriority priority : LlmPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            Gauge.builder("llm.limiter.queued", this, limiter -> limiter.queuedCount(priority))
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("llm.limiter.limit", this, AdaptiveConcurrencyLimiter::currentLimit)
+                .register(meterRegistry);
+        Gauge.builder("llm.limiter.inflight", this, AdaptiveConcurrencyLimiter::currentInFlight)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ask for a slot. The returned future completes with a permit once the call
+     * may start; cancelling it withdraws the request from the queue.
+     */
+    public CompletableFuture<Permit> acquire(LlmCaller caller) {
+        LlmPriority priority = caller.getPriority();
+        synchronized (this) {
+            if (!hasWaitersAtOrAbove(priority) && hasCapacity(priority)) {
+                inFlight++;
+                recordQueueWait(priority, 0);
+                return CompletableFuture.completedFuture(new Permit(caller));
+            }
+
+            Waiter waiter = new Waiter(caller, System.nanoTime());
+            queues.get(priority).addLast(waiter);
+            Duration maxWait = config.getMaxQueueWait().getOrDefault(priority, Duration.ofSeconds(30));
+            waiter.deadline = deadlineScheduler.schedule(
+                    () -> expire(waiter, maxWait), maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            waiter.future.whenComplete((permit, error) -> {
+                if (waiter.future.isCancelled()) {
+                    withdraw(waiter);
+                }
+            });
+            log.debug("Gemini call for {} queued behind limit {} ({} in flight)", caller, (int) limit, inFlight);
+            return waiter.future;
+        }
+    }
+
+    /**
+     * Return a slot and feed the call's outcome into the limit
+     */
+    public void release(Permit permit, Throwable error) {
+        if (!permit.released.compareAndSet(false, true)) {
+            return;
+        }
+        long latencyNanos = System.nanoTime() - permit.startNanos;
+        List<Admission> admitted;
+        boolean batchCapacityChanged;
+        synchronized (this) {
+            int batchSlots = slots(LlmPriority.BATCH);
+            inFlight--;
+            adjustLimit(permit.caller, latencyNanos, unwrap(error));
+            batchCapacityChanged = slots(LlmPriority.BATCH) != batchSlots;
+            admitted = admitWaiters();
+        }
+        complete(admitted);
+        if (batchCapacityChanged) {
+            batchCapacityListeners.forEach(Runnable::run);
+        }
+    }
+
+    /**
+     * Whether any call is waiting for a slot, i.e. the limit is saturated
+     */
+    public synchronized boolean hasQueuedWaiters() {
+        return queues.values().stream().anyMatch(queue -> !queue.isEmpty());
+    }
+
+    /**
+     * Calls of {@code priority} the current limit admits at once
+     */
+    public synchronized int capacity(LlmPriority priority) {
+        return slots(priority);
+    }
+
+    /**
+     * Run {@code listener} after each change of the batch capacity; it runs
+     * on the releasing thread and should read {@link #capacity} afresh, as
+     * notifications of concurrent changes may arrive out of order
+     */
+    public void onBatchCapacityChange(Runnable listener) {
+        batchCapacityListeners.add(listener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deadlineScheduler.shutdownNow();
+    }
+
+    private void adjustLimit(LlmCaller caller, long latencyNanos, Throwable error) {
+        if (error != null) {
+            if (isOverload(error)) {
+                limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+                meterRegistry
+                        .counter("llm.limiter.overload", "caller", caller.name())
+                        .increment();
+                log.info(
+                        "Gemini overload signal ({}), concurrency limit now {}",
+                        error.getClass().getSimpleName(),
+                        (int) limit);
+            }
+            return;
+        }
+
+        double latencyMillis = latencyNanos / 1_000_000.0;
+        Double baseline = latencyBaselineMillis.get(caller);
+        if (baseline != null && latencyMillis > baseline * config.getLatencyTolerance()) {
+            limit = Math.max(config.getMinLimit(), limit * 0.9);
+        } else if (inFlight + 1 >= limit / 2) {
+            // Only grow when the current limit is actually being used
+            limit = Math.min(config.getMaxLimit(), limit + 1.0 / limit);
+        }
+        latencyBaselineMillis.put(caller, baseline == null ? latencyMillis : baseline * 0.9 + latencyMillis * 0.1);
+    }
+
+    private List<Admission> admitWaiters() {
+        List<Admission> admitted = new ArrayList<>();
+        for (LlmPriority priority : LlmPriority.values()) {
+            Deque<Waiter> queue = queues.get(priority);
+            while (!queue.isEmpty() && hasCapacity(priority)) {
+                Waiter waiter = queue.pollFirst();
+                if (waiter.future.isDone()) {
+                    continue;
+                }
+                waiter.deadline.cancel(false);
+                inFlight++;
+                recordQueueWait(priority, System.nanoTime() - waiter.enqueuedNanos);
+                admitted.add(new Admission(waiter, new Permit(waiter.caller)));
+            }
+            if (!queue.isEmpty()) {
+                // Lower priorities never overtake a blocked higher priority
+                break;
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * Complete futures outside the lock; a waiter cancelled in the meantime
+     * hands its slot straight back
+     */
+    private void complete(List<Admission> admitted) {
+        for (Admission admission : admitted) {
+            if (!admission.waiter.future.complete(admission.permit)) {
+                release(admission.permit, new CancellationException());
+            }
+        }
+    }
+
+    private void expire(Waiter waiter, Duration maxWait) {
+        boolean removed;
+        synchronized (this) {
+            removed = queues.get(waiter.caller.getPriority()).remove(waiter);
+        }
+        if (removed) {
+            meterRegistry
+                    .counter(
+                            "llm.limiter.rejected",
+                            "priority",
+                            waiter.caller.getPriority().name())
+                    .increment();
+            log.warn("Gemini call for {} gave up after queueing {} ms", waiter.caller, maxWait.toMillis());
+            waiter.future.completeExceptionally(new LlmCapacityExceededException(waiter.caller, maxWait));
+        }
+    }
+
+    private synchronized void withdraw(Waiter waiter) {
+        if (queues.get(waiter.caller.getPriority()).remove(waiter)) {
+            waiter.deadline.cancel(false);
+        }
+    }
+
+    private boolean hasCapacity(LlmPriority priority) {
+        return inFlight < slots(priority);
+    }
+
+    private int slots(LlmPriority priority) {
+        if (priority == LlmPriority.INTERACTIVE) {
+            return (int) limit;
+        }
+        return Math.max(1, (int) (limit * config.getBatchShare()));
+    }
+
+    private boolean hasWaitersAtOrAbove(LlmPriority priority) {
+        for (LlmPriority candidate : LlmPriority.values()) {
+            if (!queues.get(candidate).isEmpty()) {
+                return true;
+            }
+            if (candidate == priority) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private void recordQueueWait(LlmPriority priority, long nanos) {
+        meterRegistry
+                .timer("llm.limiter.queue.wait", "priority", priority.name())
+                .record(Duration.ofNanos(nanos));
+    }
+
+    private static boolean isOverload(Throwable error) {
+        return error instanceof HttpClientErrorException.TooManyRequests
+                || error instanceof HttpServerErrorException.ServiceUnavailable
+                || error instanceof ResourceAccessException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private synchronized double currentLimit() {
+        return limit;
+    }
+
+    private synchronized double currentInFlight() {
+        return inFlight;
+    }
+
+    private synchronized double queuedCount(LlmPriority priority) {
+        return queues.get(priority).size();
+    }
+
+    /**
+     * A granted slot; must be released exactly once via {@link #release}
+     */
+    public static final class Permit {
+        private final LlmCaller caller;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(LlmCaller caller) {
+            this.caller = caller;
+        }
+    }
+
+    private static final class Waiter {
+        private final LlmCaller caller;
+        private final long enqueuedNanos;
+        private final CompletableFuture<Permit> future = new CompletableFuture<>();
+        private ScheduledFuture<?> deadline;
+
+        private Waiter(LlmCaller caller, long enqueuedNanos) {
+            this.caller = caller;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    private record Admission(Waiter waiter, Permit permit) {}
+}
@@ -0,0 +1,452 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Shared client for the Gemini generateContent API.
+ *
+ * <p>All Gemini callers go through this class so they share one pooled HTTP/2
+ * connection and a single place for timeouts. {@link #generateAsync} never
+ * blocks the calling thread; {@link #generate} is the blocking facade for
+ * existing synchronous code paths. Non-streaming calls from callers opted
+ * into {@link GeminiResponseCache} are answered from it when possible; every
+ * call that reaches the network is admitted by the
+ * {@link AdaptiveConcurrencyLimiter} first, and callers opted into hedging
+ * go through {@link RequestHedger}.
+ *
+ * <p>Failures are reported with the same exception types RestTemplate used
+ * ({@link HttpClientErrorException}, {@link HttpServerErrorException},
+ * {@link ResourceAccessException}) so the resilience4j retry configuration
+ * keeps matching them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeminiClient {
+
+    private static final List<Map<String, String>> RELAXED_SAFETY_SETTINGS = List.of(
+            Map.of("category", "HARM_CATEGORY_DANGEROUS_CONTENT", "threshold", "BLOCK_NONE"),
+            Map.of("category", "HARM_CATEGORY_HATE_SPEECH", "threshold", "BLOCK_NONE"),
+            Map.of("category", "HARM_CATEGORY_HARASSMENT", "threshold", "BLOCK_NONE"),
+            Map.of("category", "HARM_CATEGORY_SEXUALLY_EXPLICIT", "threshold", "BLOCK_NONE"));
+
+    private static final String MODE_UNARY = "unary";
+    private static final String MODE_STREAM = "stream";
+
+    private final HttpClient geminiHttpClient;
+    private final GeminiConfig geminiConfig;
+    private final ObjectMapper objectMapper;
+    private final GeminiResponseCache responseCache;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final RequestHedger requestHedger;
+    private final LlmMetrics llmMetrics;
+
+    /**
+     * Send a generateContent request without blocking. Callers opted into the
+     * response cache are served from it when possible. Cancelling the returned
+     * future aborts the in-flight exchange.
+     */
+    public CompletableFuture<GeminiResponse> generateAsync(GeminiRequest request) {
+        long startNanos = System.nanoTime();
+        byte[] body;
+        try {
+            body = serialize(request);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid Gemini request", e));
+        }
+
+        if (!responseCache.isEnabledFor(request.getCaller())) {
+            return observed(request, MODE_UNARY, startNanos, () -> false, networkCall(request, body));
+        }
+
+        AtomicBoolean servedFromCache = new AtomicBoolean();
+        String cacheKey = responseCache.keyFor(body);
+        CompletableFuture<GeminiResponse> result = new CompletableFuture<>();
+        CompletableFuture<Optional<GeminiResponse>> lookup = request.isRefreshCache()
+                ? CompletableFuture.completedFuture(Optional.empty())
+                : responseCache.lookup(request.getCaller(), cacheKey);
+        lookup.whenComplete((cached, lookupError) -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (cached != null && cached.isPresent()) {
+                servedFromCache.set(true);
+                result.complete(cached.get());
+                return;
+            }
+
+            CompletableFuture<GeminiResponse> exchange = networkCall(request, body);
+            result.whenComplete((response, error) -> {
+                if (result.isCancelled()) {
+                    exchange.cancel(true);
+                }
+            });
+            exchange.whenComplete((response, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                    return;
+                }
+                responseCache.store(request.getCaller(), cacheKey, response);
+                result.complete(response);
+            });
+        });
+        return observed(request, MODE_UNARY, startNanos, servedFromCache::get, result);
+    }
+
+    /**
+     * Record the logical call's latency and payload sizes before the caller
+     * sees the result, so the meters are current once the future completes
+     */
+    private CompletableFuture<GeminiResponse> observed(
+            GeminiRequest request,
+            String mode,
+            long startNanos,
+            BooleanSupplier fromCache,
+            CompletableFuture<GeminiResponse> call) {
+        CompletableFuture<GeminiResponse> result = new CompletableFuture<>();
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        call.whenComplete((response, error) -> {
+            llmMetrics.recordCall(
+                    request, mode, fromCache.getAsBoolean(), System.nanoTime() - startNanos, response, error);
+            if (error != null) {
+                result.completeExceptionally(unwrap(error));
+            } else {
+                result.complete(response);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Send a request over the network, hedged if the caller opted in
+     */
+    private CompletableFuture<GeminiResponse> networkCall(GeminiRequest request, byte[] body) {
+        if (!requestHedger.isEnabledFor(request.getCaller())) {
+            return limited(request, () -> exchange(request, body));
+        }
+        return requestHedger.generate(
+                request.getCaller(), onAdmitted -> limited(request, onAdmitted, () -> exchange(request, body)));
+    }
+
+    /**
+     * Run {@code call} once the concurrency limiter admits it, reporting the
+     * outcome back so the limit can adapt
+     */
+    private CompletableFuture<GeminiResponse> limited(
+            GeminiRequest request, Supplier<CompletableFuture<GeminiResponse>> call) {
+        return limited(request, () -> {}, call);
+    }
+
+    /**
+     * Like {@link #limited(GeminiRequest, Supplier)}, running {@code onAdmitted}
+     * once the limiter admits the call and just before it is sent
+     */
+    private CompletableFuture<GeminiResponse> limited(
+            GeminiRequest request, Runnable onAdmitted, Supplier<CompletableFuture<GeminiResponse>> call) {
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> admission =
+                concurrencyLimiter.acquire(request.getCaller());
+        CompletableFuture<GeminiResponse> result = new CompletableFuture<>();
+
+        admission.whenComplete((permit, admissionError) -> {
+            if (admissionError != null) {
+                result.completeExceptionally(unwrap(admissionError));
+                return;
+            }
+            if (result.isDone()) {
+                concurrencyLimiter.release(permit, new CancellationException());
+                return;
+            }
+
+            onAdmitted.run();
+            CompletableFuture<GeminiResponse> inner = call.get();
+            result.whenComplete((response, error) -> {
+                if (result.isCancelled()) {
+                    inner.cancel(true);
+                }
+            });
+            inner.whenComplete((response, error) -> {
+                concurrencyLimiter.release(permit, error);
+                if (error != null) {
+                    result.completeExceptionally(unwrap(error));
+                } else {
+                    result.complete(response);
+                }
+            });
+        });
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                admission.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<GeminiResponse> exchange(GeminiRequest request, byte[] body) {
+        HttpRequest httpRequest = buildHttpRequest(request, URI.create(geminiConfig.getApiUrl()), body);
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                geminiHttpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        CompletableFuture<GeminiResponse> result = exchange.handle((response, error) -> {
+            Duration latency = Duration.ofNanos(System.nanoTime() - startNanos);
+            if (error != null) {
+                throw translateTransportError(request, error);
+            }
+            GeminiResponse geminiResponse = toGeminiResponse(request, response, latency);
+            llmMetrics.recordTokens(request, geminiResponse);
+            return geminiResponse;
+        });
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stream a generateContent call. Each text delta is handed to
+     * {@code onToken} as soon as Gemini sends it, on the HTTP client's thread;
+     * the returned future completes with the full text once the stream ends.
+     * Cancelling the returned future aborts the in-flight exchange.
+     */
+    public CompletableFuture<GeminiResponse> streamAsync(GeminiRequest request, Consumer<String> onToken) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<GeminiResponse> call = requestHedger.isEnabledFor(request.getCaller())
+                ? requestHedger.stream(
+                        request.getCaller(),
+                        (tokens, onAdmitted) -> limited(request, onAdmitted, () -> streamExchange(request, tokens)),
+                        onToken)
+                : limited(request, () -> streamExchange(request, onToken));
+        return observed(request, MODE_STREAM, startNanos, () -> false, call);
+    }
+
+    private CompletableFuture<GeminiResponse> streamExchange(GeminiRequest request, Consumer<String> onToken) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = buildHttpRequest(request, streamUri(), serialize(request));
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid Gemini request", e));
+        }
+
+        long startNanos = System.nanoTime();
+        AtomicReference<byte[]> errorBody = new AtomicReference<>();
+        HttpResponse.BodyHandler<GeminiResponse> bodyHandler = responseInfo -> {
+            if (responseInfo.statusCode() >= 400) {
+                return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), body -> {
+                    errorBody.set(body);
+                    return null;
+                });
+            }
+            return HttpResponse.BodySubscribers.fromLineSubscriber(
+                    new GeminiStreamSubscriber(objectMapper, onToken),
+                    subscriber -> subscriber.toResponse(Duration.ofNanos(System.nanoTime() - startNanos)),
+                    StandardCharsets.UTF_8,
+                    null);
+        };
+
+        CompletableFuture<HttpResponse<GeminiResponse>> exchange = geminiHttpClient.sendAsync(httpRequest, bodyHandler);
+
+        CompletableFuture<GeminiResponse> result = exchange.handle((response, error) -> {
+            if (error != null) {
+                throw translateTransportError(request, error);
+            }
+            log.debug(
+                    "Gemini stream for {} returned {} in {} ms",
+                    request.getCaller(),
+                    response.statusCode(),
+                    Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+            if (response.statusCode() >= 400) {
+                throw httpError(response.statusCode(), response.headers(), errorBody.get());
+            }
+            llmMetrics.recordTokens(request, response.body());
+            return response.body();
+        });
+
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Blocking facade over {@link #generateAsync}
+     */
+    public GeminiResponse generate(GeminiRequest request) {
+        try {
+            return generateAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Blocking call returning only the generated text, or null if Gemini
+     * returned no candidate text
+     */
+    public String generateText(GeminiRequest request) {
+        return generate(request).text();
+    }
+
+    private byte[] serialize(GeminiRequest request) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(buildRequestBody(request));
+    }
+
+    private HttpRequest buildHttpRequest(GeminiRequest request, URI uri, byte[] body) {
+        Duration timeout = request.getTimeout() != null
+                ? request.getTimeout()
+                : geminiConfig.getClient().timeoutFor(request.getCaller());
+
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("x-goog-api-key", geminiConfig.getApiKey())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    /**
+     * Streaming endpoint for the configured model, emitting server-sent events
+     */
+    private URI streamUri() {
+        String url = geminiConfig.getApiUrl().replace(":generateContent", ":streamGenerateContent");
+        return URI.create(url + (url.contains("?") ? "&" : "?") + "alt=sse");
+    }
+
+    private Map<String, Object> buildRequestBody(GeminiRequest request) {
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("contents", List.of(Map.of("parts", List.of(Map.of("text", request.getPrompt())))));
+
+        Map<String, Object> generationConfig = new LinkedHashMap<>();
+        putIfPresent(generationConfig, "temperature", request.getTemperature());
+        putIfPresent(generationConfig, "maxOutputTokens", request.getMaxOutputTokens());
+        putIfPresent(generationConfig, "topP", request.getTopP());
+        putIfPresent(generationConfig, "topK", request.getTopK());
+        putIfPresent(generationConfig, "candidateCount", request.getCandidateCount());
+        if (!generationConfig.isEmpty()) {
+            requestBody.put("generationConfig", generationConfig);
+        }
+
+        if (request.isRelaxedSafety()) {
+            requestBody.put("safetySettings", RELAXED_SAFETY_SETTINGS);
+        }
+        return requestBody;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static void putIfPresent(Map<String, Object> map, String key, Object value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    private GeminiResponse toGeminiResponse(GeminiRequest request, HttpResponse<byte[]> response, Duration latency) {
+        int status = response.statusCode();
+        log.debug("Gemini call for {} returned {} in {} ms", request.getCaller(), status, latency.toMillis());
+
+        if (status >= 400) {
+            throw httpError(status, response.headers(), response.body());
+        }
+
+        try {
+            return parseResponse(objectMapper.readTree(response.body()), latency);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to parse Gemini response", e);
+        }
+    }
+
+    private RuntimeException httpError(int status, java.net.http.HttpHeaders responseHeaders, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        responseHeaders.map().forEach(headers::addAll);
+        HttpStatusCode statusCode = HttpStatusCode.valueOf(status);
+        byte[] responseBody = body != null ? body : new byte[0];
+        if (statusCode.is4xxClientError()) {
+            return HttpClientErrorException.create(statusCode, "", headers, responseBody, StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(statusCode, "", headers, responseBody, StandardCharsets.UTF_8);
+    }
+
+    private GeminiResponse parseResponse(JsonNode root, Duration latency) {
+        String text = null;
+        String finishReason = null;
+
+        JsonNode candidate = root.path("candidates").path(0);
+        if (!candidate.isMissingNode()) {
+            StringBuilder builder = new StringBuilder();
+            for (JsonNode part : candidate.path("content").path("parts")) {
+                if (part.hasNonNull("text")) {
+                    builder.append(part.get("text").asText());
+                }
+            }
+            text = builder.isEmpty() ? null : builder.toString();
+            finishReason = candidate.path("finishReason").asText(null);
+        }
+
+        JsonNode usage = root.path("usageMetadata");
+        Integer promptTokens = usage.hasNonNull("promptTokenCount")
+                ? usage.get("promptTokenCount").asInt()
+                : null;
+        Integer completionTokens = usage.hasNonNull("candidatesTokenCount")
+                ? usage.get("candidatesTokenCount").asInt()
+                : null;
+
+        return new GeminiResponse(text, finishReason, promptTokens, completionTokens, latency);
+    }
+
+    private RuntimeException translateTransportError(GeminiRequest request, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IOException ioException) {
+            log.warn("Gemini call for {} failed: {}", request.getCaller(), ioException.toString());
+            return new ResourceAccessException("I/O error on Gemini request: " + ioException.getMessage(), ioException);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Gemini request failed", cause);
+    }
+}
@@ -0,0 +1,44 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Data;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+
+/**
+ * A single generateContent call. Generation parameters left null are omitted
+ * from the request so Gemini applies its own defaults.
+ */
+@Data
+@Builder
+public class GeminiRequest {
+
+    @Builder.Default
+    private LlmCaller caller = LlmCaller.GENERAL;
+
+    // Sub-feature of the caller for metrics, e.g. the summary section
+    private String operation;
+
+    private String prompt;
+
+    private Double temperature;
+
+    private Integer maxOutputTokens;
+
+    private Double topP;
+
+    private Integer topK;
+
+    private Integer candidateCount;
+
+    // Relax the default safety filters, academic content trips them easily
+    @Builder.Default
+    private boolean relaxedSafety = false;
+
+    // Overrides the per-caller timeout from configuration
+    private Duration timeout;
+
+    // Skip cached responses for this call; the fresh response still replaces the cached one
+    @Builder.Default
+    private boolean refreshCache = false;
+}
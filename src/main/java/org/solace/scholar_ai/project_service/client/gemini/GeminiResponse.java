@@ -0,0 +1,9 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import java.time.Duration;
+
+/**
+ * Text and usage metadata of a generateContent response
+ */
+public record GeminiResponse(
+        String text, String finishReason, Integer promptTokens, Integer completionTokens, Duration latency) {}
@@ -0,0 +1,224 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.model.llm.LlmResponseCacheEntry;
+import org.solace.scholar_ai.project_service.repository.llm.LlmResponseCacheRepository;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Two-tier, content-addressed cache of Gemini responses.
+ *
+ * <p>Entries are keyed by a SHA-256 of the model and the serialized request
+ * body, so any change to the prompt or generation parameters is a different
+ * key. The first tier is an in-process Caffeine cache (W-TinyLFU, weighed by
+ * response size); the second is the {@code llm_response_cache} table, which
+ * survives restarts and is shared between nodes. Callers opt in by having a
+ * TTL configured under {@code gemini.cache.ttl}.
+ */
+@Slf4j
+@Component
+public class GeminiResponseCache {
+
+    private static final String FINISH_REASON_STOP = "STOP";
+
+    private final GeminiConfig geminiConfig;
+    private final LlmResponseCacheRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, CachedResponse> memory;
+
+    // Postgres lookups and writes run here so generateAsync never blocks on JDBC
+    private final ExecutorService persistenceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService purgeScheduler = DaemonSchedulers.singleThread("llm-cache-purge");
+
+    public GeminiResponseCache(
+            GeminiConfig geminiConfig, LlmResponseCacheRepository repository, MeterRegistry meterRegistry) {
+        this.geminiConfig = geminiConfig;
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+
+        GeminiConfig.Cache config = geminiConfig.getCache();
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(config.getMaxMemoryBytes())
+                .weigher((String key, CachedResponse value) -> value.weight())
+                .expireAfter(Expiry.creating((String key, CachedResponse value) -> value.remainingTtl()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "llm.response");
+
+        if (config.isEnabled() && config.isPersistent()) {
+            long intervalMillis = config.getPurgeInterval().toMillis();
+            purgeScheduler.scheduleWithFixedDelay(
+                    this::purgeExpired, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabledFor(LlmCaller caller) {
+        return geminiConfig.getCache().isEnabledFor(caller);
+    }
+
+    /**
+     * Cache key for a request: SHA-256 over the model and the exact request body
+     */
+    public String keyFor(byte[] requestBody) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(modelName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(requestBody);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Look a response up in memory, then in Postgres. Never completes
+     * exceptionally; storage failures are logged and reported as a miss.
+     */
+    public CompletableFuture<Optional<GeminiResponse>> lookup(LlmCaller caller, String key) {
+        CachedResponse cached = memory.getIfPresent(key);
+        if (cached != null) {
+            recordLookup(caller, "memory");
+            return CompletableFuture.completedFuture(Optional.of(cached.response()));
+        }
+        if (!geminiConfig.getCache().isPersistent()) {
+            recordLookup(caller, "miss");
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return CompletableFuture.supplyAsync(() -> loadPersisted(caller, key), persistenceExecutor);
+    }
+
+    /**
+     * Store a fresh response in both tiers. Truncated, blocked or empty
+     * responses are not cached.
+     */
+    public void store(LlmCaller caller, String key, GeminiResponse response) {
+        if (response.text() == null
+                || (response.finishReason() != null && !FINISH_REASON_STOP.equals(response.finishReason()))) {
+            return;
+        }
+        Duration ttl = geminiConfig.getCache().getTtl().get(caller);
+        if (ttl == null) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(ttl);
+        memory.put(key, new CachedResponse(response, expiresAt));
+
+        if (!geminiConfig.getCache().isPersistent()) {
+            return;
+        }
+        LlmResponseCacheEntry entry = LlmResponseCacheEntry.builder()
+                .cacheKey(key)
+                .caller(caller)
+                .model(modelName())
+                .responseText(response.text())
+                .finishReason(response.finishReason())
+                .promptTokens(response.promptTokens())
+                .completionTokens(response.completionTokens())
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build();
+        persistenceExecutor.execute(() -> {
+            try {
+                repository.upsert(entry);
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist cached Gemini response for {}: {}", caller, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        purgeScheduler.shutdownNow();
+        persistenceExecutor.close();
+    }
+
+    private Optional<GeminiResponse> loadPersisted(LlmCaller caller, String key) {
+        try {
+            Optional<LlmResponseCacheEntry> entry = repository.findLive(key, Instant.now());
+            if (entry.isPresent()) {
+                LlmResponseCacheEntry e = entry.get();
+                GeminiResponse response = new GeminiResponse(
+                        e.getResponseText(),
+                        e.getFinishReason(),
+                        e.getPromptTokens(),
+                        e.getCompletionTokens(),
+                        Duration.ZERO);
+                memory.put(key, new CachedResponse(response, e.getExpiresAt()));
+                recordLookup(caller, "database");
+                return Optional.of(response);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cached Gemini response lookup failed for {}: {}", caller, e.getMessage());
+        }
+        recordLookup(caller, "miss");
+        return Optional.empty();
+    }
+
+    private void purgeExpired() {
+        try {
+            int removed = repository.deleteExpired(Instant.now());
+            if (removed > 0) {
+                log.debug("Purged {} expired Gemini cache entries", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge expired Gemini cache entries: {}", e.getMessage());
+        }
+    }
+
+    private void recordLookup(LlmCaller caller, String result) {
+        meterRegistry
+                .counter("llm.cache.lookups", "caller", caller.name(), "result", result)
+                .increment();
+    }
+
+    /**
+     * Model segment of the configured API URL, e.g. {@code gemini-2.0-flash-lite}
+     */
+    private String modelName() {
+        String url = geminiConfig.getApiUrl();
+        int start = url.indexOf("/models/");
+        if (start < 0) {
+            return url;
+        }
+        start += "/models/".length();
+        int end = url.indexOf(':', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    private record CachedResponse(GeminiResponse response, Instant expiresAt) {
+
+        int weight() {
+            // Two bytes per char plus a rough allowance for the key and entry overhead
+            return response.text().length() * 2 + 256;
+        }
+
+        Duration remainingTtl() {
+            Duration remaining = Duration.between(Instant.now(), expiresAt);
+            return remaining.isNegative() ? Duration.ZERO : remaining;
+        }
+    }
+}
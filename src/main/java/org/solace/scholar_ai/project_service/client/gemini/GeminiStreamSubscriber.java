@@ -0,0 +1,97 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes the server-sent event lines of a streamGenerateContent response,
+ * forwarding every text delta and accumulating the full response
+ */
+@Slf4j
+class GeminiStreamSubscriber implements Flow.Subscriber<String> {
+
+    private static final String DATA_PREFIX = "data:";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<String> onToken;
+    private final StringBuilder text = new StringBuilder();
+    private String finishReason;
+    private Integer promptTokens;
+    private Integer completionTokens;
+
+    GeminiStreamSubscriber(ObjectMapper objectMapper, Consumer<String> onToken) {
+        this.objectMapper = objectMapper;
+        this.onToken = onToken;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (!line.startsWith(DATA_PREFIX)) {
+            return;
+        }
+        String payload = line.substring(DATA_PREFIX.length()).trim();
+        if (payload.isEmpty()) {
+            return;
+        }
+
+        JsonNode chunk;
+        try {
+            chunk = objectMapper.readTree(payload);
+        } catch (Exception e) {
+            log.warn("Skipping unparseable Gemini stream chunk: {}", e.getMessage());
+            return;
+        }
+
+        JsonNode candidate = chunk.path("candidates").path(0);
+        StringBuilder delta = new StringBuilder();
+        for (JsonNode part : candidate.path("content").path("parts")) {
+            if (part.hasNonNull("text")) {
+                delta.append(part.get("text").asText());
+            }
+        }
+        if (candidate.hasNonNull("finishReason")) {
+            finishReason = candidate.get("finishReason").asText();
+        }
+
+        JsonNode usage = chunk.path("usageMetadata");
+        if (usage.hasNonNull("promptTokenCount")) {
+            promptTokens = usage.get("promptTokenCount").asInt();
+        }
+        if (usage.hasNonNull("candidatesTokenCount")) {
+            completionTokens = usage.get("candidatesTokenCount").asInt();
+        }
+
+        if (!delta.isEmpty()) {
+            text.append(delta);
+            try {
+                onToken.accept(delta.toString());
+            } catch (RuntimeException e) {
+                log.warn("Gemini stream token consumer failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // Reported through the response future
+    }
+
+    @Override
+    public void onComplete() {
+        // The finisher builds the response once the body is complete
+    }
+
+    GeminiResponse toResponse(Duration latency) {
+        return new GeminiResponse(
+                text.isEmpty() ? null : text.toString(), finishReason, promptTokens, completionTokens, latency);
+    }
+}
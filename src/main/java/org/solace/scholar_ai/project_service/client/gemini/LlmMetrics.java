@@ -0,0 +1,239 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.exception.LlmCapacityExceededException;
+import org.solace.scholar_ai.project_service.util.prompt.TokenEstimator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+
+/**
+ * Micrometer surface for Gemini usage, tagged by calling feature.
+ *
+ * <p>Every meter carries {@code caller} (the {@link LlmCaller}) and, where the
+ * caller distinguishes sub-features such as summary sections, an
+ * {@code operation} tag ({@value #NO_OPERATION} otherwise).
+ *
+ * <ul>
+ *   <li>{@code llm.calls}: end-to-end latency per logical call, with
+ *       {@code mode} (unary/stream), {@code source} (network/cache) and
+ *       {@code outcome}
+ *   <li>{@code llm.prompt.bytes}, {@code llm.response.bytes}: UTF-8 payload sizes
+ *   <li>{@code llm.tokens}: billed prompt/completion tokens for every network
+ *       attempt, including hedges; {@code llm.prompt.tokens.estimated} is the
+ *       local estimate used for prompt budgets
+ *   <li>{@code llm.retries}, {@code llm.fallbacks}, {@code llm.json.parse.failures}
+ *   <li>{@code llm.circuit.breaker.state} and {@code llm.circuit.breaker.transitions}
+ * </ul>
+ */
+@Component
+public class LlmMetrics {
+
+    public static final String NO_OPERATION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    // The retry event fires after the failed attempt has unwound, so it finds
+    // the attempt's tags through the exception it threw
+    private final Map<Throwable, CallTags> failedAttempts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public LlmMetrics(
+            MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry, RetryRegistry retryRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::bindCircuitBreaker);
+        circuitBreakerRegistry.getEventPublisher().onEntryAdded(event -> bindCircuitBreaker(event.getAddedEntry()));
+        retryRegistry.getAllRetries().forEach(this::bindRetry);
+        retryRegistry.getEventPublisher().onEntryAdded(event -> bindRetry(event.getAddedEntry()));
+    }
+
+    /**
+     * Record one logical call as seen by its caller, from request to final
+     * response or error
+     */
+    public void recordCall(
+            GeminiRequest request,
+            String mode,
+            boolean fromCache,
+            long durationNanos,
+            GeminiResponse response,
+            Throwable error) {
+        String caller = request.getCaller().name();
+        String operation = operation(request.getOperation());
+
+        Timer.builder("llm.calls")
+                .description("Gemini calls by calling feature")
+                .tag("caller", caller)
+                .tag("operation", operation)
+                .tag("mode", mode)
+                .tag("source", fromCache ? "cache" : "network")
+                .tag("outcome", outcome(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (request.getPrompt() != null) {
+            bytes("llm.prompt.bytes", caller, operation).record(utf8Length(request.getPrompt()));
+        }
+        if (response != null && response.text() != null) {
+            bytes("llm.response.bytes", caller, operation).record(utf8Length(response.text()));
+        }
+    }
+
+    /**
+     * Record tokens for one network attempt; cache hits cost nothing and are
+     * not recorded
+     */
+    public void recordTokens(GeminiRequest request, GeminiResponse response) {
+        String caller = request.getCaller().name();
+        String operation = operation(request.getOperation());
+        tokens("llm.prompt.tokens.estimated", caller, operation, "prompt")
+                .record(TokenEstimator.estimate(request.getPrompt()));
+        if (response.promptTokens() != null) {
+            tokens("llm.tokens", caller, operation, "prompt").record(response.promptTokens());
+        }
+        if (response.completionTokens() != null) {
+            tokens("llm.tokens", caller, operation, "completion").record(response.completionTokens());
+        }
+    }
+
+    /**
+     * Mark the end of a retryable attempt so a following retry is attributed
+     * to {@code caller}; {@code failure} is what it threw, or null if it succeeded
+     */
+    public void endAttempt(LlmCaller caller, String operation, Throwable failure) {
+        if (failure != null) {
+            failedAttempts.put(failure, new CallTags(caller.name(), operation(operation)));
+        }
+    }
+
+    /**
+     * A caller answered with canned or degraded content instead of a model response
+     */
+    public void recordFallback(LlmCaller caller, String operation, Throwable cause) {
+        meterRegistry
+                .counter(
+                        "llm.fallbacks",
+                        "caller",
+                        caller.name(),
+                        "operation",
+                        operation(operation),
+                        "reason",
+                        fallbackReason(cause))
+                .increment();
+    }
+
+    /**
+     * A model response could not be parsed as the JSON the caller asked for
+     */
+    public void recordParseFailure(LlmCaller caller, String operation) {
+        meterRegistry
+                .counter("llm.json.parse.failures", "caller", caller.name(), "operation", operation(operation))
+                .increment();
+    }
+
+    private void bindCircuitBreaker(CircuitBreaker circuitBreaker) {
+        Gauge.builder("llm.circuit.breaker.state", circuitBreaker, breaker -> breaker.getState()
+                        .getOrder())
+                .description("0 closed, 1 open, 2 half-open, 3 disabled, 4 forced open, 5 metrics only")
+                .tag("breaker", circuitBreaker.getName())
+                .register(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry
+                .counter(
+                        "llm.circuit.breaker.transitions",
+                        "breaker",
+                        event.getCircuitBreakerName(),
+                        "to",
+                        event.getStateTransition().getToState().name())
+                .increment());
+    }
+
+    private void bindRetry(Retry retry) {
+        retry.getEventPublisher().onRetry(event -> {
+            CallTags tags = event.getLastThrowable() != null ? failedAttempts.remove(event.getLastThrowable()) : null;
+            meterRegistry
+                    .counter(
+                            "llm.retries",
+                            "retry",
+                            event.getName(),
+                            "caller",
+                            tags != null ? tags.caller() : "unknown",
+                            "operation",
+                            tags != null ? tags.operation() : NO_OPERATION,
+                            "exception",
+                            event.getLastThrowable() != null
+                                    ? event.getLastThrowable().getClass().getSimpleName()
+                                    : "none")
+                    .increment();
+        });
+    }
+
+    private DistributionSummary bytes(String name, String caller, String operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit("bytes")
+                .tag("caller", caller)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private DistributionSummary tokens(String name, String caller, String operation, String type) {
+        return DistributionSummary.builder(name)
+                .baseUnit("tokens")
+                .tag("caller", caller)
+                .tag("operation", operation)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error == null) {
+            return "success";
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            return "cancelled";
+        }
+        if (cause instanceof HttpStatusCodeException statusError) {
+            return "http_" + statusError.getStatusCode().value();
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    private static String fallbackReason(Throwable cause) {
+        if (cause == null) {
+            return "none";
+        }
+        if (cause instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (cause instanceof LlmCapacityExceededException) {
+            return "capacity";
+        }
+        return outcome(cause);
+    }
+
+    private static String operation(String operation) {
+        return operation == null || operation.isBlank() ? NO_OPERATION : operation;
+    }
+
+    private static int utf8Length(String text) {
+        return text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private record CallTags(String caller, String operation) {}
+}
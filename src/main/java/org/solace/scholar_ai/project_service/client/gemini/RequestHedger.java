@@ -0,0 +1,328 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedged requests for latency-sensitive Gemini callers.
+ *
+ * <p>If the primary attempt has not answered once the configured percentile of
+ * that caller's recent latency has passed, one backup attempt is started and
+ * whichever answers first wins; the other is cancelled. For streams the race
+ * is decided by the first token, so only the winner's tokens reach the
+ * consumer. Backups are paid for from a token budget refilled by
+ * {@code maxHedgeRatio} per call, and are skipped while the concurrency
+ * limiter is queueing work.
+ *
+ * <p>Latency is measured from the moment an attempt is admitted by the
+ * limiter, so queueing for a slot neither starts a hedge nor skews the
+ * percentile. Only primary attempts are sampled, including those that lose:
+ * a primary cancelled because its backup won contributes the time it had
+ * taken so far, a lower bound that keeps slow primaries in the window.
+ */
+@Slf4j
+@Component
+public class RequestHedger {
+
+    // Upper bound on saved-up hedges, so a quiet period cannot fund a burst
+    private static final double MAX_BUDGET = 10.0;
+
+    private final GeminiConfig.Hedging config;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService hedgeScheduler = DaemonSchedulers.singleThread("gemini-hedge");
+
+    private double budget = 1.0;
+
+    public RequestHedger(
+            GeminiConfig geminiConfig, AdaptiveConcurrencyLimiter concurrencyLimiter, MeterRegistry meterRegistry) {
+        this.config = geminiConfig.getHedging();
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabledFor(LlmCaller caller) {
+        return config.isEnabled() && config.getCallers().contains(caller);
+    }
+
+    /**
+     * Hedge a unary call; {@code attempt} starts one independent request and
+     * runs the {@link Runnable} it is given once the request is admitted
+     */
+    public CompletableFuture<GeminiResponse> generate(
+            LlmCaller caller, Function<Runnable, CompletableFuture<GeminiResponse>> attempt) {
+        return new Race(caller, false, (tokens, onAdmitted) -> attempt.apply(onAdmitted), null).run();
+    }
+
+    /**
+     * Hedge a streaming call on time to first token; {@code attempt} starts one
+     * independent stream delivering its tokens to the consumer it is given, and
+     * runs the {@link Runnable} it is given once the stream is admitted
+     */
+    public CompletableFuture<GeminiResponse> stream(
+            LlmCaller caller,
+            BiFunction<Consumer<String>, Runnable, CompletableFuture<GeminiResponse>> attempt,
+            Consumer<String> onToken) {
+        return new Race(caller, true, attempt, onToken).run();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hedgeScheduler.shutdownNow();
+    }
+
+    private synchronized void creditBudget() {
+        budget = Math.min(MAX_BUDGET, budget + config.getMaxHedgeRatio());
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        return true;
+    }
+
+    private LatencyWindow window(LlmCaller caller, boolean streaming) {
+        return latencyWindows.computeIfAbsent(
+                caller.name() + (streaming ? ":ttft" : ":total"), key -> new LatencyWindow(config.getWindow()));
+    }
+
+    /**
+     * One primary attempt and at most one backup competing for the result
+     */
+    private final class Race {
+        private final LlmCaller caller;
+        private final BiFunction<Consumer<String>, Runnable, CompletableFuture<GeminiResponse>> attempt;
+        private final Consumer<String> onToken;
+        private final LatencyWindow latencies;
+        private final CompletableFuture<GeminiResponse> result = new CompletableFuture<>();
+        private final List<Attempt> attempts = new ArrayList<>(2);
+        private Attempt winner;
+        private ScheduledFuture<?> hedgeTimer;
+
+        private Race(
+                LlmCaller caller,
+                boolean streaming,
+                BiFunction<Consumer<String>, Runnable, CompletableFuture<GeminiResponse>> attempt,
+                Consumer<String> onToken) {
+            this.caller = caller;
+            this.attempt = attempt;
+            this.onToken = onToken;
+            this.latencies = window(caller, streaming);
+        }
+
+        private CompletableFuture<GeminiResponse> run() {
+            creditBudget();
+            meterRegistry.counter("llm.hedge.calls", "caller", caller.name()).increment();
+
+            result.whenComplete((response, error) -> {
+                if (result.isCancelled()) {
+                    cancelAll(null);
+                }
+            });
+
+            launch(false);
+            return result;
+        }
+
+        /**
+         * Start the clock of an attempt once it holds a limiter slot, and arm
+         * the hedge timer if it is the primary
+         */
+        private void onAdmitted(Attempt current) {
+            synchronized (this) {
+                current.admittedNanos = System.nanoTime();
+            }
+            if (current.backup) {
+                return;
+            }
+            latencies.percentile(config.getPercentile(), config.getMinSamples()).ifPresent(slow -> {
+                Duration delay = slow.compareTo(config.getMinDelay()) < 0 ? config.getMinDelay() : slow;
+                synchronized (this) {
+                    if (!result.isDone() && winner == null) {
+                        hedgeTimer = hedgeScheduler.schedule(
+                                this::maybeLaunchBackup, delay.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                }
+            });
+        }
+
+        private void maybeLaunchBackup() {
+            synchronized (this) {
+                if (result.isDone() || winner != null || attempts.stream().allMatch(a -> a.failed)) {
+                    return;
+                }
+            }
+            if (concurrencyLimiter.hasQueuedWaiters() || !spendBudget()) {
+                meterRegistry
+                        .counter("llm.hedge.throttled", "caller", caller.name())
+                        .increment();
+                return;
+            }
+            meterRegistry.counter("llm.hedge.fired", "caller", caller.name()).increment();
+            log.debug("Hedging slow Gemini call for {}", caller);
+            launch(true);
+        }
+
+        private void launch(boolean backup) {
+            Attempt current = new Attempt(backup);
+            synchronized (this) {
+                attempts.add(current);
+            }
+
+            Consumer<String> tokens = onToken == null
+                    ? null
+                    : token -> {
+                        if (claim(current)) {
+                            onToken.accept(token);
+                        }
+                    };
+            CompletableFuture<GeminiResponse> future = attempt.apply(tokens, () -> onAdmitted(current));
+
+            synchronized (this) {
+                current.future = future;
+                if (current.cancelRequested || (result.isDone() && winner != current)) {
+                    future.cancel(true);
+                }
+            }
+            future.whenComplete((response, error) -> onAttemptDone(current, response, error));
+        }
+
+        /**
+         * Make {@code candidate} the winner if nobody has won yet; returns
+         * whether it is the winner
+         */
+        private boolean claim(Attempt candidate) {
+            boolean hedged;
+            long primaryAdmittedNanos;
+            synchronized (this) {
+                if (winner != null) {
+                    return winner == candidate;
+                }
+                winner = candidate;
+                hedged = attempts.size() > 1;
+                primaryAdmittedNanos = attempts.get(0).admittedNanos;
+                if (hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+                cancelAll(candidate);
+            }
+
+            // The primary's latency, or its time so far if the backup beat it
+            if (primaryAdmittedNanos != 0) {
+                latencies.record(System.nanoTime() - primaryAdmittedNanos);
+            }
+            if (hedged) {
+                meterRegistry
+                        .counter(
+                                "llm.hedge.wins",
+                                "caller",
+                                caller.name(),
+                                "winner",
+                                candidate.backup ? "backup" : "primary")
+                        .increment();
+            }
+            return true;
+        }
+
+        private void onAttemptDone(Attempt current, GeminiResponse response, Throwable error) {
+            if (error == null) {
+                // Streams normally claim on their first token; an empty stream claims here
+                if (claim(current)) {
+                    result.complete(response);
+                }
+                return;
+            }
+
+            boolean fail;
+            synchronized (this) {
+                current.failed = true;
+                fail = winner == current || (winner == null && attempts.stream().allMatch(a -> a.failed));
+                if (fail && hedgeTimer != null) {
+                    hedgeTimer.cancel(false);
+                }
+            }
+            if (fail) {
+                result.completeExceptionally(
+                        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        }
+
+        private synchronized void cancelAll(Attempt except) {
+            for (Attempt other : attempts) {
+                if (other == except) {
+                    continue;
+                }
+                if (other.future != null) {
+                    other.future.cancel(true);
+                } else {
+                    other.cancelRequested = true;
+                }
+            }
+        }
+    }
+
+    private static final class Attempt {
+        private final boolean backup;
+        // When the limiter admitted the attempt, or 0 while it is queued
+        private long admittedNanos;
+        private CompletableFuture<GeminiResponse> future;
+        private boolean cancelRequested;
+        private boolean failed;
+
+        private Attempt(boolean backup) {
+            this.backup = backup;
+        }
+    }
+
+    /**
+     * Fixed-size ring of recent latencies for one caller
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int next;
+        private int count;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[Math.max(1, size)];
+        }
+
+        private synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private synchronized Optional<Duration> percentile(double quantile, int minSamples) {
+            if (count < minSamples) {
+                return Optional.empty();
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(count - 1, Math.ceil(quantile * count) - 1);
+            return Optional.of(Duration.ofNanos(sorted[Math.max(0, index)]));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.solace.scholar_ai.project_service.config;
+
+import java.net.http.HttpClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Builds the single HTTP client shared by every Gemini caller.
+ * The JDK client negotiates HTTP/2 (multiplexing concurrent calls over one
+ * connection) and keeps HTTP/1.1 connections alive in a pool, so calls no
+ * longer pay a TLS handshake each.
+ */
+@Slf4j
+@Configuration
+public class GeminiClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public HttpClient geminiHttpClient(GeminiConfig geminiConfig) {
+        GeminiConfig.Client client = geminiConfig.getClient();
+
+        // The JDK connection pool is tuned through system properties that are read once,
+        // so they have to be in place before the first HttpClient is built
+        System.setProperty(
+                "jdk.httpclient.keepalive.timeout",
+                String.valueOf(client.getKeepAlive().toSeconds()));
+        System.setProperty("jdk.httpclient.connectionPoolSize", String.valueOf(client.getMaxIdleConnections()));
+
+        log.info(
+                "Creating shared Gemini HTTP client (connectTimeout={}, keepAlive={}, defaultTimeout={})",
+                client.getConnectTimeout(),
+                client.getKeepAlive(),
+                client.getDefaultTimeout());
+
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(client.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
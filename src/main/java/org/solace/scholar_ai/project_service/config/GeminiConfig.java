@@ -1,6 +1,13 @@
 package org.solace.scholar_ai.project_service.config;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 import lombok.Data;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.LlmPriority;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -10,4 +17,115 @@ import org.springframework.context.annotation.Configuration;
 public class GeminiConfig {
     private String apiKey;
     private String apiUrl = "https://generativelanguage.googleapis.com/v1beta/models/gemini-pro:generateContent";
+    private Client client = new Client();
+    private Cache cache = new Cache();
+    private Limiter limiter = new Limiter();
+    private PromptBudget promptBudget = new PromptBudget();
+    private Hedging hedging = new Hedging();
+
+    /**
+     * Transport settings for the shared Gemini HTTP client
+     */
+    @Data
+    public static class Client {
+        private Duration connectTimeout = Duration.ofSeconds(10);
+
+        // Idle time before a pooled keep-alive connection is closed
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        // Upper bound on idle HTTP/1.1 connections kept per host (HTTP/2 multiplexes over one)
+        private int maxIdleConnections = 32;
+
+        // Request timeout used when no per-caller override is configured
+        private Duration defaultTimeout = Duration.ofSeconds(60);
+
+        private Map<LlmCaller, Duration> timeouts = new EnumMap<>(LlmCaller.class);
+
+        public Duration timeoutFor(LlmCaller caller) {
+            return timeouts.getOrDefault(caller, defaultTimeout);
+        }
+    }
+
+    /**
+     * Content-addressed response cache; only callers listed in {@code ttl} are cached
+     */
+    @Data
+    public static class Cache {
+        private boolean enabled = true;
+
+        // Upper bound on the in-memory tier, weighed by approximate bytes of cached text
+        private long maxMemoryBytes = 64L * 1024 * 1024;
+
+        // Keep a Postgres copy so entries survive restarts and are shared across nodes
+        private boolean persistent = true;
+
+        // How often expired Postgres entries are removed
+        private Duration purgeInterval = Duration.ofHours(1);
+
+        private Map<LlmCaller, Duration> ttl = new EnumMap<>(LlmCaller.class);
+
+        public boolean isEnabledFor(LlmCaller caller) {
+            return enabled && ttl.containsKey(caller);
+        }
+    }
+
+    /**
+     * Adaptive concurrency limit shared by all Gemini calls on this node
+     */
+    @Data
+    public static class Limiter {
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+
+        // Multiplicative decrease applied on 429, 503 or transport timeouts
+        private double backoffRatio = 0.7;
+
+        // A call slower than this multiple of its caller's recent average counts as congestion
+        private double latencyTolerance = 2.5;
+
+        // Share of the limit batch work may occupy, keeping headroom for interactive calls
+        private double batchShare = 0.75;
+
+        // How long a call may queue for a slot before failing
+        private Map<LlmPriority, Duration> maxQueueWait = new EnumMap<>(Map.of(
+                LlmPriority.INTERACTIVE, Duration.ofSeconds(10),
+                LlmPriority.BATCH, Duration.ofMinutes(2)));
+    }
+
+    /**
+     * Token budgets for the optional paper context packed into each prompt
+     * type; instructions, title, abstract and the user's question come on top
+     */
+    @Data
+    public static class PromptBudget {
+        private int quickTake = 4000;
+        private int methods = 8000;
+        private int reproducibility = 4000;
+        private int ethics = 8000;
+        private int contextImpact = 6000;
+        private int paperChat = 12000;
+        private int chatHistory = 1500;
+    }
+
+    /**
+     * Hedged requests for latency-sensitive callers; only listed callers hedge
+     */
+    @Data
+    public static class Hedging {
+        private boolean enabled = true;
+        private Set<LlmCaller> callers = EnumSet.noneOf(LlmCaller.class);
+
+        // Start the backup once the primary is slower than this share of recent calls
+        private double percentile = 0.95;
+
+        // Long-run cap on backups as a fraction of hedge-enabled calls
+        private double maxHedgeRatio = 0.05;
+
+        private Duration minDelay = Duration.ofMillis(500);
+
+        // Recent latencies kept per caller, and how many are needed before hedging starts
+        private int window = 256;
+        private int minSamples = 20;
+    }
 }
@@ -64,6 +64,10 @@ public class RabbitMQConfig {
     @Value("${scholarai.rabbitmq.gap-analysis.response-routing-key}")
     private String gapAnalysisResponseRoutingKey;
 
+    // Citation job event properties
+    @Value("${scholarai.rabbitmq.citation-job-events.exchange:scholarai.citation.job-events}")
+    private String citationJobEventsExchangeName;
+
     /**
      * Creates a durable topic exchange for the application.
      * Topic exchanges route messages based on wildcard matches between the routing
@@ -239,6 +243,43 @@ public class RabbitMQConfig {
                 .with(gapAnalysisResponseRoutingKey);
     }
 
+    /**
+     * Creates a durable fanout exchange for citation job events.
+     * Every node binds its own queue, so every node receives every event.
+     *
+     * @return The configured FanoutExchange for citation job events.
+     */
+    @Bean
+    public FanoutExchange citationJobEventsExchange() {
+        return ExchangeBuilder.fanoutExchange(citationJobEventsExchangeName)
+                .durable(true)
+                .build();
+    }
+
+    /**
+     * Creates this node's queue for citation job events.
+     * The queue is exclusive to the node's connection and deleted with it, so
+     * a node that stops leaves no backlog behind.
+     *
+     * @return The configured Queue for citation job events.
+     */
+    @Bean
+    public Queue citationJobEventsQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("scholarai.citation.job-events."));
+    }
+
+    /**
+     * Binds this node's citation job events queue to the fanout exchange.
+     *
+     * @param citationJobEventsQueue    This node's queue for citation job events.
+     * @param citationJobEventsExchange The citation job events fanout exchange.
+     * @return The Binding definition.
+     */
+    @Bean
+    public Binding bindCitationJobEvents(Queue citationJobEventsQueue, FanoutExchange citationJobEventsExchange) {
+        return BindingBuilder.bind(citationJobEventsQueue).to(citationJobEventsExchange);
+    }
+
     /**
      * Creates a message converter to serialize and deserialize messages as JSON.
      * This allows Java objects to be sent and received as JSON payloads.
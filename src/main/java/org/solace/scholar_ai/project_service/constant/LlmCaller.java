@@ -0,0 +1,26 @@
+package org.solace.scholar_ai.project_service.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Features that call the Gemini API through the shared client. Used to pick
+ * per-caller timeouts, scheduling priority and to tag outgoing calls.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LlmCaller {
+    SUMMARY(LlmPriority.BATCH),
+    PAPER_CHAT(LlmPriority.INTERACTIVE),
+    CHAT_TITLE(LlmPriority.BATCH),
+    ABSTRACT_ANALYSIS(LlmPriority.BATCH),
+    COMMAND_PARSE(LlmPriority.INTERACTIVE),
+    COMMAND_EXECUTE(LlmPriority.INTERACTIVE),
+    CITATION_VERIFY(LlmPriority.BATCH),
+    LATEX_ASSIST(LlmPriority.INTERACTIVE),
+    LATEX_REVIEW(LlmPriority.INTERACTIVE),
+    NOTE_CONTENT(LlmPriority.INTERACTIVE),
+    GENERAL(LlmPriority.INTERACTIVE);
+
+    private final LlmPriority priority;
+}
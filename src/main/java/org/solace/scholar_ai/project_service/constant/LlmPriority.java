@@ -0,0 +1,10 @@
+package org.solace.scholar_ai.project_service.constant;
+
+/**
+ * Scheduling class for Gemini calls. When capacity is short, interactive work
+ * is admitted before batch work; declaration order is priority order.
+ */
+public enum LlmPriority {
+    INTERACTIVE,
+    BATCH
+}
@@ -0,0 +1,9 @@
+package org.solace.scholar_ai.project_service.constant;
+
+/**
+ * LLM work done ahead of the first reader once a paper's extraction completes
+ */
+public enum PregenerationTask {
+    SUMMARY,
+    ABSTRACT_ANALYSIS
+}
@@ -0,0 +1,30 @@
+package org.solace.scholar_ai.project_service.constant;
+
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Independently generated sections of a paper summary, in the order they are
+ * presented. The key names the section in job progress and metrics.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SummarySection {
+    QUICK_TAKE("quick_take"),
+    METHODS("methods"),
+    REPRODUCIBILITY("reproducibility"),
+    ETHICS("ethics"),
+    CONTEXT_IMPACT("context_impact");
+
+    private final String key;
+
+    public static Optional<SummarySection> fromKey(String key) {
+        for (SummarySection section : values()) {
+            if (section.key.equals(key)) {
+                return Optional.of(section);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -6,9 +6,12 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.solace.scholar_ai.project_service.dto.request.chat.CreateChatSessionRequest;
@@ -22,9 +25,11 @@ import org.solace.scholar_ai.project_service.exception.PaperNotFoundException;
 import org.solace.scholar_ai.project_service.service.chat.ChatSessionService;
 import org.solace.scholar_ai.project_service.service.chat.EnhancedPaperContextChatService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/papers")
@@ -93,6 +98,84 @@ public class PaperContextChatController {
         }
     }
 
+    @PostMapping(path = "/{paperId}/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Chat with a paper, streaming the answer",
+            description = "Answers like the chat endpoint, through the same service, retrieval and prompt, but "
+                    + "streams the answer over server-sent events. 'token' events carry text deltas as they are "
+                    + "generated; a final 'done' event carries the stored chat response, which holds the fallback "
+                    + "answer instead if generation failed, or an 'error' event if the request failed.",
+            responses = {
+                @ApiResponse(responseCode = "200", description = "Event stream started"),
+                @ApiResponse(responseCode = "404", description = "Paper not found"),
+                @ApiResponse(responseCode = "422", description = "Paper content not extracted yet")
+            })
+    public ResponseEntity<SseEmitter> streamChatWithPaper(
+            @Parameter(description = "ID of the paper to chat about", required = true) @PathVariable UUID paperId,
+            @Valid @RequestBody PaperChatRequest request,
+            HttpServletResponse response) {
+
+        log.info("📝 Streaming chat request for paper {}: {}", paperId, request.getMessage());
+
+        // Prevent proxies from buffering the event stream
+        response.setHeader("Cache-Control", "no-cache, no-transform");
+        response.setHeader("X-Accel-Buffering", "no");
+
+        SseEmitter emitter = new SseEmitter(0L);
+        AtomicBoolean clientConnected = new AtomicBoolean(true);
+        emitter.onCompletion(() -> clientConnected.set(false));
+        emitter.onError(error -> clientConnected.set(false));
+
+        try {
+            paperContextChatService
+                    .streamChatWithPaper(
+                            paperId,
+                            request,
+                            token -> sendChatEvent(emitter, clientConnected, "token", Map.of("text", token)))
+                    .whenComplete((chatResponse, error) -> {
+                        if (error != null) {
+                            log.error("❌ Streaming chat failed for paper {}: {}", paperId, error.getMessage());
+                            sendChatEvent(
+                                    emitter,
+                                    clientConnected,
+                                    "error",
+                                    Map.of(
+                                            "error",
+                                            "An error occurred while processing your request. Please try again."));
+                        } else {
+                            sendChatEvent(
+                                    emitter,
+                                    clientConnected,
+                                    chatResponse.isSuccess() ? "done" : "error",
+                                    chatResponse);
+                        }
+                        emitter.complete();
+                    });
+            return ResponseEntity.ok(emitter);
+
+        } catch (PaperNotFoundException e) {
+            log.warn("❌ Paper not found: {}", paperId);
+            return ResponseEntity.notFound().build();
+
+        } catch (PaperNotExtractedException e) {
+            log.warn("❌ Paper content not extracted: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+    }
+
+    private void sendChatEvent(SseEmitter emitter, AtomicBoolean clientConnected, String name, Object data) {
+        if (!clientConnected.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (Exception e) {
+            // The browser went away; generation still finishes and the answer is stored
+            clientConnected.set(false);
+            log.debug("Stopped streaming chat events: {}", e.getMessage());
+        }
+    }
+
     @GetMapping("/{paperId}/chat/sessions/{sessionId}")
     @Operation(
             summary = "Get chat session history",
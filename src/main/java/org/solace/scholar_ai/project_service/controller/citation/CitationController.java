@@ -107,15 +107,6 @@ public class CitationController {
                 return emitter;
             }
 
-            // Send immediate initial status event for active jobs
-            send(
-                    emitter,
-                    "status",
-                    Map.of(
-                            "status", "STARTED",
-                            "step", "Initializing citation check...",
-                            "progressPct", 0));
-
             // Setup keep-alive to prevent proxy timeouts
             final Runnable keepAlive = () -> {
                 try {
@@ -126,7 +117,8 @@ public class CitationController {
             };
             final var keepAliveTask = keepAliveExecutor.scheduleWithFixedDelay(keepAlive, 20, 20, TimeUnit.SECONDS);
 
-            citationCheckService.registerJobListener(jobId, new CitationCheckService.CitationJobListener() {
+            // Registering replays the job's events so far, whichever node runs it
+            CitationCheckService.CitationJobListener listener = new CitationCheckService.CitationJobListener() {
                 @Override
                 public void onStatus(UUID jobId, String status, String step, int progressPct) {
                     send(
@@ -168,20 +160,21 @@ public class CitationController {
                     keepAliveTask.cancel(false);
                     emitter.complete();
                 }
-            });
+            };
 
             emitter.onCompletion(() -> {
                 keepAliveTask.cancel(false);
-                citationCheckService.unregisterJobListener(jobId);
+                citationCheckService.unregisterJobListener(jobId, listener);
             });
             emitter.onTimeout(() -> {
                 keepAliveTask.cancel(false);
-                citationCheckService.unregisterJobListener(jobId);
+                citationCheckService.unregisterJobListener(jobId, listener);
             });
             emitter.onError((throwable) -> {
                 keepAliveTask.cancel(false);
-                citationCheckService.unregisterJobListener(jobId);
+                citationCheckService.unregisterJobListener(jobId, listener);
             });
+            citationCheckService.registerJobListener(jobId, listener);
 
             return emitter;
         } catch (Exception e) {
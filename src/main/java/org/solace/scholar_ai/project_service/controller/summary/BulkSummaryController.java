@@ -0,0 +1,131 @@
+package org.solace.scholar_ai.project_service.controller.summary;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.summary.BulkSummaryRequestDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryBatchDto;
+import org.solace.scholar_ai.project_service.model.summary.SummaryBatch;
+import org.solace.scholar_ai.project_service.service.summary.BulkSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/summaries/batches")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Summary", description = "API for summarizing a project's papers in one request")
+public class BulkSummaryController {
+
+    private final BulkSummaryService bulkSummaryService;
+
+    @Operation(
+            summary = "Summarize papers in bulk",
+            description = "Starts a background batch (202) over a project's papers or a paper list. Papers whose "
+                    + "summary is up to date are skipped; the rest run with bounded parallelism until the "
+                    + "estimated token budget is used up")
+    @PostMapping
+    public ResponseEntity<?> submitBatch(@RequestBody BulkSummaryRequestDto request) {
+        log.info(
+                "Received bulk summary request for project {} ({} papers listed)",
+                request.getProjectId(),
+                request.getPaperIds() != null ? request.getPaperIds().size() : 0);
+
+        try {
+            SummaryBatch batch = bulkSummaryService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/summaries/batches/" + batch.getId()))
+                    .body(SummaryBatchDto.fromEntity(batch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Get bulk summary progress")
+    @GetMapping("/{batchId}")
+    public ResponseEntity<SummaryBatchDto> getBatch(@PathVariable UUID batchId) {
+        return bulkSummaryService
+                .findBatch(batchId)
+                .map(SummaryBatchDto::fromEntity)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * SSE stream of aggregate batch progress: a {@code progress} event each
+     * time a paper changes state, then one {@code complete} or {@code error}
+     * event
+     */
+    @Operation(summary = "Stream bulk summary progress")
+    @GetMapping(path = "/{batchId}/events", produces = "text/event-stream")
+    public SseEmitter streamBatch(@PathVariable UUID batchId, HttpServletResponse response) {
+        // Set headers to prevent proxy buffering
+        response.setHeader("Cache-Control", "no-cache, no-transform");
+        response.setHeader("X-Accel-Buffering", "no");
+        SseEmitter emitter = new SseEmitter(0L); // No timeout
+
+        Optional<SummaryBatch> batch = bulkSummaryService.findBatch(batchId);
+        if (batch.isEmpty()) {
+            send(emitter, "error", Map.of("message", "Summary batch not found: " + batchId));
+            emitter.complete();
+            return emitter;
+        }
+        send(emitter, "progress", SummaryBatchDto.fromEntity(batch.get()));
+        if (batch.get().isFinished()) {
+            sendFinal(emitter, SummaryBatchDto.fromEntity(batch.get()));
+            return emitter;
+        }
+
+        BulkSummaryService.SummaryBatchListener listener = new BulkSummaryService.SummaryBatchListener() {
+            @Override
+            public void onProgress(SummaryBatchDto batch) {
+                send(emitter, "progress", batch);
+            }
+
+            @Override
+            public void onComplete(SummaryBatchDto batch) {
+                sendFinal(emitter, batch);
+            }
+
+            @Override
+            public void onKeepAlive() {
+                try {
+                    emitter.send(SseEmitter.event().comment("keep-alive"));
+                } catch (Exception e) {
+                    log.debug("Keep-alive failed for summary batch {}, connection likely closed", batchId);
+                }
+            }
+        };
+        bulkSummaryService.subscribe(batchId, listener);
+        emitter.onCompletion(() -> bulkSummaryService.unsubscribe(batchId, listener));
+        emitter.onTimeout(() -> bulkSummaryService.unsubscribe(batchId, listener));
+        emitter.onError(error -> bulkSummaryService.unsubscribe(batchId, listener));
+
+        // The batch may have finished before the listener was subscribed
+        bulkSummaryService
+                .findBatch(batchId)
+                .filter(SummaryBatch::isFinished)
+                .ifPresent(finished -> sendFinal(emitter, SummaryBatchDto.fromEntity(finished)));
+        return emitter;
+    }
+
+    private void sendFinal(SseEmitter emitter, SummaryBatchDto batch) {
+        send(emitter, SummaryBatch.Status.COMPLETED.name().equals(batch.getStatus()) ? "complete" : "error", batch);
+        emitter.complete();
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (Exception e) {
+            log.debug("Failed to send summary batch event {}: {}", event, e.getMessage());
+        }
+    }
+}
@@ -2,20 +2,33 @@ package org.solace.scholar_ai.project_service.controller.summary;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
 import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryResponseDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
 import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
 import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
-import org.solace.scholar_ai.project_service.service.summary.PaperSummaryGenerationService;
+import org.solace.scholar_ai.project_service.service.summary.SummaryJobService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -24,50 +37,114 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Paper Summary", description = "API for generating and managing paper summaries")
 public class PaperSummaryController {
 
-    private final PaperSummaryGenerationService summaryGenerationService;
     private final PaperSummaryRepository summaryRepository;
     private final PaperRepository paperRepository;
+    private final SummaryJobService summaryJobService;
 
-    @Operation(summary = "Generate summary for a paper")
+    @Operation(
+            summary = "Generate summary for a paper",
+            description = "Returns the existing summary (200) or starts a background job (202) whose progress "
+                    + "is available from the job and status endpoints")
     @PostMapping("/generate")
-    public ResponseEntity<PaperSummaryResponseDto> generateSummary(@PathVariable UUID paperId) {
+    public ResponseEntity<?> generateSummary(@PathVariable UUID paperId) {
         log.info("Received request to generate summary for paper: {}", paperId);
 
         // Check if summary already exists
-        if (summaryRepository.findByPaperId(paperId).isPresent()) {
+        Optional<PaperSummary> existingSummary = summaryRepository.findByPaperId(paperId);
+        if (existingSummary.isPresent()) {
             log.info("Summary already exists for paper: {}, returning existing summary", paperId);
-            PaperSummary existingSummary =
-                    summaryRepository.findByPaperId(paperId).get();
-            return ResponseEntity.ok(PaperSummaryResponseDto.fromEntity(existingSummary));
+            return ResponseEntity.ok(PaperSummaryResponseDto.fromEntity(existingSummary.get()));
         }
 
-        try {
-            PaperSummary summary = summaryGenerationService.generateSummary(paperId);
-            return ResponseEntity.ok(PaperSummaryResponseDto.fromEntity(summary));
-        } catch (org.springframework.dao.DataIntegrityViolationException e) {
-            // Handle race condition: another process created the summary while we were
-            // generating
-            log.info("Race condition detected for paper: {}, another process created the summary", paperId);
-            if (summaryRepository.findByPaperId(paperId).isPresent()) {
-                PaperSummary existingSummary =
-                        summaryRepository.findByPaperId(paperId).get();
-                return ResponseEntity.ok(PaperSummaryResponseDto.fromEntity(existingSummary));
-            }
-            // If summary still doesn't exist, re-throw the exception
-            throw e;
-        }
+        return accepted(paperId, summaryJobService.submit(paperId, false));
     }
 
-    @Operation(summary = "Regenerate summary for a paper")
+    @Operation(
+            summary = "Regenerate summary for a paper",
+            description = "Starts a background job (202) that replaces the existing summary, regenerating only "
+                    + "the sections whose extraction input changed")
     @PostMapping("/regenerate")
-    public ResponseEntity<PaperSummaryResponseDto> regenerateSummary(@PathVariable UUID paperId) {
+    public ResponseEntity<SummaryJobDto> regenerateSummary(@PathVariable UUID paperId) {
         log.info("Received request to regenerate summary for paper: {}", paperId);
 
-        // Delete existing summary if present
-        summaryRepository.findByPaperId(paperId).ifPresent(summaryRepository::delete);
+        return accepted(paperId, summaryJobService.submit(paperId, true));
+    }
+
+    @Operation(
+            summary = "Regenerate one section of a paper's summary",
+            description = "Starts a background job (202) that regenerates the section, and any other section "
+                    + "whose extraction input changed, keeping the rest of the summary")
+    @PostMapping("/sections/{section}/regenerate")
+    public ResponseEntity<?> regenerateSection(@PathVariable UUID paperId, @PathVariable String section) {
+        log.info("Received request to regenerate summary section {} for paper: {}", section, paperId);
 
-        PaperSummary summary = summaryGenerationService.generateSummary(paperId);
-        return ResponseEntity.ok(PaperSummaryResponseDto.fromEntity(summary));
+        Optional<SummarySection> summarySection = SummarySection.fromKey(section);
+        if (summarySection.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unknown summary section: " + section));
+        }
+        return accepted(paperId, summaryJobService.submitSections(paperId, EnumSet.of(summarySection.get())));
+    }
+
+    @Operation(summary = "Get summary job progress")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SummaryJobDto> getSummaryJob(@PathVariable UUID paperId, @PathVariable UUID jobId) {
+        return summaryJobService
+                .findJob(jobId)
+                .filter(job -> paperId.equals(job.getPaperId()))
+                .map(SummaryJobDto::fromEntity)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * SSE stream of summary job progress: {@code status} and {@code section}
+     * events while running, then one {@code complete} or {@code error} event.
+     * Each {@code section} event carries the parsed section payload.
+     */
+    @Operation(summary = "Stream summary job progress")
+    @GetMapping(path = "/jobs/{jobId}/events", produces = "text/event-stream")
+    public SseEmitter streamSummaryJob(
+            @PathVariable UUID paperId, @PathVariable UUID jobId, HttpServletResponse response) {
+        SseEmitter emitter = sseEmitter(response);
+        Optional<SummaryJob> job = summaryJobService.findJob(jobId).filter(found -> paperId.equals(found.getPaperId()));
+        if (job.isEmpty()) {
+            send(emitter, "error", Map.of("message", "Summary job not found: " + jobId));
+            emitter.complete();
+            return emitter;
+        }
+
+        streamJob(emitter, job.get());
+        return emitter;
+    }
+
+    /**
+     * Streaming summary mode: sends the existing summary as one {@code summary}
+     * event, or generates it and sends each section as soon as it is ready,
+     * quick take first, followed by {@code complete} or {@code error}
+     */
+    @Operation(
+            summary = "Generate summary for a paper as a stream",
+            description = "SSE stream of section events as they are generated, quick_take first")
+    @PostMapping(path = "/stream", produces = "text/event-stream")
+    public SseEmitter streamSummary(@PathVariable UUID paperId, HttpServletResponse response) {
+        log.info("Received request to stream summary for paper: {}", paperId);
+        SseEmitter emitter = sseEmitter(response);
+
+        Optional<PaperSummary> existingSummary = summaryRepository.findByPaperId(paperId);
+        if (existingSummary.isPresent()) {
+            send(emitter, "summary", PaperSummaryResponseDto.fromEntity(existingSummary.get()));
+            emitter.complete();
+            return emitter;
+        }
+
+        try {
+            streamJob(emitter, summaryJobService.submit(paperId, false));
+        } catch (RuntimeException e) {
+            log.warn("Could not start summary stream for paper {}: {}", paperId, e.getMessage());
+            send(emitter, "error", Map.of("message", e.getMessage()));
+            emitter.complete();
+        }
+        return emitter;
     }
 
     @Operation(summary = "Get summary for a paper")
@@ -117,6 +194,22 @@ public class PaperSummaryController {
             status.put("summarizationCompletedAt", paper.getSummarizationCompletedAt());
             status.put("summarizationError", paper.getSummarizationError());
 
+            // Background job state is more current than the paper while a job is queued or has failed
+            summaryJobService.findLatestJob(paperId).ifPresent(job -> {
+                status.put("jobId", job.getId());
+                status.put("jobStatus", job.getStatus().name());
+                status.put("progressPct", job.getProgressPct());
+                status.put("sections", job.getSections());
+                if (job.getStatus() == SummaryJob.Status.QUEUED) {
+                    status.put("summarizationStatus", "PENDING");
+                } else if (job.getStatus() == SummaryJob.Status.RUNNING) {
+                    status.put("summarizationStatus", "PROCESSING");
+                } else if (job.getStatus() == SummaryJob.Status.FAILED) {
+                    status.put("summarizationStatus", "FAILED");
+                    status.put("summarizationError", job.getErrorMessage());
+                }
+            });
+
             return ResponseEntity.ok(status);
         } catch (Exception e) {
             log.error("Error checking summarization status for paper: {}", paperId, e);
@@ -164,4 +257,164 @@ public class PaperSummaryController {
             return ResponseEntity.ok(response);
         }
     }
+
+    private ResponseEntity<SummaryJobDto> accepted(UUID paperId, SummaryJob job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/papers/" + paperId + "/summary/jobs/" + job.getId()))
+                .body(SummaryJobDto.fromEntity(job));
+    }
+
+    private SseEmitter sseEmitter(HttpServletResponse response) {
+        // Set headers to prevent proxy buffering
+        response.setHeader("Cache-Control", "no-cache, no-transform");
+        response.setHeader("X-Accel-Buffering", "no");
+        return new SseEmitter(0L); // No timeout
+    }
+
+    private void streamJob(SseEmitter emitter, SummaryJob job) {
+        UUID jobId = job.getId();
+        send(emitter, "status", SummaryJobDto.fromEntity(job));
+        SectionEventWriter writer = new SectionEventWriter(emitter);
+
+        if (!job.isFinished()) {
+            SummaryJobService.SummaryJobListener listener = new SummaryJobService.SummaryJobListener() {
+                @Override
+                public void onStatus(SummaryJobDto job) {
+                    send(emitter, "status", job);
+                }
+
+                @Override
+                public void onSection(
+                        SummaryJobDto job,
+                        SummarySection section,
+                        SummaryJob.SectionStatus status,
+                        SummarySectionPayload payload) {
+                    writer.section(job, section, status, payload);
+                }
+
+                @Override
+                public void onComplete(SummaryJobDto job) {
+                    finish(writer, jobId, job);
+                }
+
+                @Override
+                public void onError(SummaryJobDto job) {
+                    finish(writer, jobId, job);
+                }
+
+                @Override
+                public void onKeepAlive() {
+                    try {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } catch (Exception e) {
+                        log.debug("Keep-alive failed for summary job {}, connection likely closed", jobId);
+                    }
+                }
+            };
+            summaryJobService.subscribe(jobId, listener);
+            emitter.onCompletion(() -> summaryJobService.unsubscribe(jobId, listener));
+            emitter.onTimeout(() -> summaryJobService.unsubscribe(jobId, listener));
+            emitter.onError(error -> summaryJobService.unsubscribe(jobId, listener));
+            // Catch up on sections that finished before subscribing, and on the
+            // job finishing in between
+            job = summaryJobService.findJob(jobId).orElse(job);
+        }
+
+        replaySections(writer, job);
+        if (job.isFinished()) {
+            writer.finish(SummaryJobDto.fromEntity(job));
+        }
+    }
+
+    /**
+     * Finish a live stream, first sending any sections that completed before
+     * the listener was subscribed
+     */
+    private void finish(SectionEventWriter writer, UUID jobId, SummaryJobDto job) {
+        summaryJobService.findJob(jobId).ifPresent(persisted -> replaySections(writer, persisted));
+        writer.finish(job);
+    }
+
+    private void replaySections(SectionEventWriter writer, SummaryJob job) {
+        SummaryJobDto snapshot = SummaryJobDto.fromEntity(job);
+        for (SummarySection section : SummarySection.values()) {
+            String status = job.getSections().get(section.getKey());
+            if (status != null && !SummaryJob.SectionStatus.PENDING.name().equals(status)) {
+                writer.section(
+                        snapshot,
+                        section,
+                        SummaryJob.SectionStatus.valueOf(status),
+                        job.getSectionResults().get(section));
+            }
+        }
+    }
+
+    private void sendFinal(SseEmitter emitter, SummaryJobDto job) {
+        send(emitter, SummaryJob.Status.COMPLETED.name().equals(job.getStatus()) ? "complete" : "error", job);
+        emitter.complete();
+    }
+
+    private void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (Exception e) {
+            log.debug("Failed to send summary job event {}: {}", event, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the section events of one SSE connection. Each section is sent
+     * once, whether it arrives live or from the catch-up read, and quick_take
+     * always goes first: sections finishing before it are held back until it
+     * arrives or the job ends.
+     */
+    private final class SectionEventWriter {
+
+        private final SseEmitter emitter;
+        private final Set<SummarySection> seen = EnumSet.noneOf(SummarySection.class);
+        private final List<Map<String, Object>> held = new ArrayList<>();
+        private boolean finished;
+
+        private SectionEventWriter(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void section(
+                SummaryJobDto job,
+                SummarySection section,
+                SummaryJob.SectionStatus status,
+                SummarySectionPayload payload) {
+            if (finished || !seen.add(section)) {
+                return;
+            }
+            Map<String, Object> event = new LinkedHashMap<>();
+            event.put("section", section.getKey());
+            event.put("status", status.name());
+            event.put("payload", payload);
+            event.put("job", job);
+
+            if (section != SummarySection.QUICK_TAKE && !seen.contains(SummarySection.QUICK_TAKE)) {
+                held.add(event);
+                return;
+            }
+            send(emitter, "section", event);
+            if (section == SummarySection.QUICK_TAKE) {
+                flushHeld();
+            }
+        }
+
+        synchronized void finish(SummaryJobDto job) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            flushHeld();
+            sendFinal(emitter, job);
+        }
+
+        private void flushHeld() {
+            held.forEach(event -> send(emitter, "section", event));
+            held.clear();
+        }
+    }
 }
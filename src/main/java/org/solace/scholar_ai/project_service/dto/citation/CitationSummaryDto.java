@@ -22,4 +22,7 @@ public class CitationSummaryDto {
     private Instant startedAt;
 
     private Instant finishedAt;
+
+    // Wall-clock milliseconds per analysis stage, in stage order
+    private Map<String, Long> stageTimingsMs;
 }
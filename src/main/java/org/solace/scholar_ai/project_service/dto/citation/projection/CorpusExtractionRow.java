@@ -0,0 +1,10 @@
+package org.solace.scholar_ai.project_service.dto.citation.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identity and version of a selected paper's extraction, enough to tell
+ * whether its cached citation index is still current
+ */
+public record CorpusExtractionRow(UUID paperId, UUID extractionId, Instant updatedAt) {}
@@ -0,0 +1,9 @@
+package org.solace.scholar_ai.project_service.dto.citation.projection;
+
+import java.util.UUID;
+
+/**
+ * Paragraph columns a citation check indexes, keyed by the id of the
+ * extraction the paragraph belongs to
+ */
+public record CorpusParagraphRow(UUID extractionId, UUID id, String text, Integer page, byte[] minhashSignature) {}
@@ -0,0 +1,10 @@
+package org.solace.scholar_ai.project_service.dto.citation.projection;
+
+import java.util.UUID;
+
+/**
+ * Reference metadata a citation check validates bibliography entries against,
+ * keyed by the id of the extraction the reference belongs to
+ */
+public record CorpusReferenceRow(
+        UUID extractionId, String title, String authors, Integer year, String venue, String doi) {}
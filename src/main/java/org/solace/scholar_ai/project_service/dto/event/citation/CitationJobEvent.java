@@ -0,0 +1,64 @@
+package org.solace.scholar_ai.project_service.dto.event.citation;
+
+import java.util.UUID;
+import org.solace.scholar_ai.project_service.dto.citation.CitationCheckResponseDto;
+import org.solace.scholar_ai.project_service.dto.citation.CitationSummaryDto;
+
+/**
+ * Progress of a citation check job, fanned out to every node so that any of
+ * them can stream it to the browser.
+ *
+ * <p>{@code sequence} numbers the events of a job from 1 in the order the
+ * node running the job published them. Events built from the persisted job
+ * state to catch up a subscriber carry sequence 0.
+ */
+public record CitationJobEvent(
+        UUID jobId,
+        long sequence,
+        Type type,
+        String status,
+        String step,
+        Integer progressPct,
+        CitationCheckResponseDto.CitationIssueDto issue,
+        CitationSummaryDto summary,
+        String message) {
+
+    public enum Type {
+        STATUS,
+        ISSUE,
+        SUMMARY,
+        ERROR,
+        COMPLETE
+    }
+
+    public static CitationJobEvent status(UUID jobId, String status, String step, int progressPct) {
+        return new CitationJobEvent(jobId, 0, Type.STATUS, status, step, progressPct, null, null, null);
+    }
+
+    public static CitationJobEvent issue(UUID jobId, CitationCheckResponseDto.CitationIssueDto issue) {
+        return new CitationJobEvent(jobId, 0, Type.ISSUE, null, null, null, issue, null, null);
+    }
+
+    public static CitationJobEvent summary(UUID jobId, CitationSummaryDto summary) {
+        return new CitationJobEvent(jobId, 0, Type.SUMMARY, null, null, null, null, summary, null);
+    }
+
+    public static CitationJobEvent error(UUID jobId, String message) {
+        return new CitationJobEvent(jobId, 0, Type.ERROR, null, null, null, null, null, message);
+    }
+
+    public static CitationJobEvent complete(UUID jobId) {
+        return new CitationJobEvent(jobId, 0, Type.COMPLETE, null, null, null, null, null, null);
+    }
+
+    public CitationJobEvent withSequence(long sequence) {
+        return new CitationJobEvent(jobId, sequence, type, status, step, progressPct, issue, summary, message);
+    }
+
+    /**
+     * Whether no events of the job follow this one
+     */
+    public boolean isTerminal() {
+        return type == Type.ERROR || type == Type.COMPLETE;
+    }
+}
@@ -39,4 +39,6 @@ public record UpdateProjectDto(
                 @Max(value = 100, message = "Progress must not exceed 100")
                 Integer progress,
         @Schema(description = "Human-readable last activity time", example = "2 hours ago") String lastActivity,
-        @Schema(description = "Whether the project is starred by the user", example = "true") Boolean isStarred) {}
+        @Schema(description = "Whether the project is starred by the user", example = "true") Boolean isStarred,
+        @Schema(description = "Whether papers are summarized as soon as their extraction completes", example = "true")
+                Boolean pregenerateSummaries) {}
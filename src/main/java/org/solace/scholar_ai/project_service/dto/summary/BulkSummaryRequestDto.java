@@ -0,0 +1,29 @@
+package org.solace.scholar_ai.project_service.dto.summary;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Papers to summarize in bulk: every paper of {@code projectId}, or
+ * {@code paperIds} if given
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkSummaryRequestDto {
+
+    private UUID projectId;
+
+    private List<UUID> paperIds;
+
+    // Papers summarized at the same time; defaults to summary.bulk.default-parallelism
+    private Integer parallelism;
+
+    // Cap on estimated prompt and completion tokens for the whole request; defaults to summary.bulk.default-max-tokens
+    private Long maxTokens;
+}
@@ -1,10 +1,14 @@
 package org.solace.scholar_ai.project_service.dto.summary;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * Main DTO for paper summary containing all structured fields
@@ -122,9 +126,14 @@ public class PaperSummaryDto {
     @JsonProperty("future_work")
     private List<String> futureWork;
 
-    // Nested DTOs
+    // Nested DTOs. Bound straight from model output, which uses snake_case,
+    // and stored as JSONB in camelCase. Null and empty fields are kept so the
+    // API always returns every key.
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Finding {
         private String task;
         private String metric;
@@ -136,11 +145,17 @@ public class PaperSummaryDto {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class DatasetInfo {
         private String name;
         private String domain;
         private String size;
+
+        @JsonAlias("split_info")
         private String splitInfo;
+
         private String license;
         private String url;
         private String description;
@@ -148,16 +163,28 @@ public class PaperSummaryDto {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ParticipantInfo {
         private Integer n;
         private String demographics;
+
+        @JsonAlias("irb_approved")
         private Boolean irbApproved;
+
+        @JsonAlias("recruitment_method")
         private String recruitmentMethod;
+
+        @JsonAlias("compensation_details")
         private String compensationDetails;
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class MetricInfo {
         private String name;
         private String definition;
@@ -167,49 +194,98 @@ public class PaperSummaryDto {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ComputeInfo {
         private String hardware;
+
+        @JsonAlias("training_time")
         private String trainingTime;
+
+        @JsonAlias("energy_estimate_kwh")
         private Double energyEstimateKwh;
+
+        @JsonAlias("cloud_provider")
         private String cloudProvider;
+
+        @JsonAlias("estimated_cost")
         private Double estimatedCost;
+
+        @JsonAlias("gpu_count")
         private Integer gpuCount;
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ImplementationInfo {
         private List<String> frameworks;
+
+        @JsonAlias("key_hyperparams")
         private Map<String, Object> keyHyperparams;
+
         private String language;
         private String dependencies;
+
+        @JsonAlias("code_lines")
         private Integer codeLines;
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class ArtifactInfo {
+        @JsonAlias("code_url")
         private String codeUrl;
+
+        @JsonAlias("data_url")
         private String dataUrl;
+
+        @JsonAlias("model_url")
         private String modelUrl;
+
+        @JsonAlias("docker_image")
         private String dockerImage;
+
+        @JsonAlias("config_files")
         private String configFiles;
+
+        @JsonAlias("demo_url")
         private String demoUrl;
+
+        @JsonAlias("supplementary_material")
         private String supplementaryMaterial;
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class EthicsInfo {
         private Boolean irb;
         private Boolean consent;
+
+        @JsonAlias("sensitive_data")
         private Boolean sensitiveData;
+
+        @JsonAlias("privacy_measures")
         private String privacyMeasures;
+
+        @JsonAlias("data_anonymization")
         private String dataAnonymization;
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class RelatedWork {
         private String citation;
         private String relation; // supports|contradicts|builds_on|extends|competes
@@ -219,6 +295,9 @@ public class PaperSummaryDto {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class EvidenceAnchor {
         private String field;
         private Integer page;
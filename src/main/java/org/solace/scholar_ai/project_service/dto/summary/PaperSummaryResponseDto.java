@@ -1,16 +1,13 @@
 package org.solace.scholar_ai.project_service.dto.summary;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
 
 /**
@@ -20,11 +17,8 @@ import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Slf4j
 public class PaperSummaryResponseDto {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
     private UUID id;
     private UUID paperId; // Just the ID, not the full Paper object
 
@@ -32,29 +26,29 @@ public class PaperSummaryResponseDto {
     private String oneLiner;
     private List<String> keyContributions; // JSON array
     private String methodOverview;
-    private List<Map<String, Object>> mainFindings; // JSON array of findings objects
+    private List<PaperSummaryDto.Finding> mainFindings;
     private List<String> limitations; // JSON array
     private List<String> applicability; // JSON array
 
     // Methods & Data Section
     private String studyType;
     private List<String> researchQuestions; // JSON array
-    private List<Map<String, Object>> datasets; // JSON array of dataset objects
-    private Map<String, Object> participants; // JSON object
+    private List<PaperSummaryDto.DatasetInfo> datasets;
+    private PaperSummaryDto.ParticipantInfo participants;
     private String procedureOrPipeline;
     private List<String> baselinesOrControls; // JSON array
-    private List<Map<String, Object>> metrics; // JSON array with definitions
+    private List<PaperSummaryDto.MetricInfo> metrics;
     private List<String> statisticalAnalysis; // JSON array
-    private Map<String, Object> computeResources; // JSON object
-    private Map<String, Object> implementationDetails; // JSON object
+    private PaperSummaryDto.ComputeInfo computeResources;
+    private PaperSummaryDto.ImplementationInfo implementationDetails;
 
     // Reproducibility Section
-    private Map<String, Object> artifacts; // JSON object with URLs
+    private PaperSummaryDto.ArtifactInfo artifacts;
     private String reproducibilityNotes;
     private Double reproScore;
 
     // Ethics & Compliance Section
-    private Map<String, Object> ethics; // JSON object
+    private PaperSummaryDto.EthicsInfo ethics;
     private List<String> biasAndFairness; // JSON array
     private List<String> risksAndMisuse; // JSON array
     private String dataRights;
@@ -62,12 +56,12 @@ public class PaperSummaryResponseDto {
     // Context & Impact Section
     private String noveltyType;
     private List<String> positioning; // JSON array
-    private List<Map<String, Object>> relatedWorksKey; // JSON array of citation objects
+    private List<PaperSummaryDto.RelatedWork> relatedWorksKey;
     private String impactNotes;
 
     // Quality & Trust Section
     private Double confidence;
-    private List<Map<String, Object>> evidenceAnchors; // JSON array
+    private List<PaperSummaryDto.EvidenceAnchor> evidenceAnchors;
     private List<String> threatsToValidity; // JSON array
 
     // Additional fields for enhanced tracking
@@ -80,6 +74,7 @@ public class PaperSummaryResponseDto {
     private String modelVersion;
     private String responseSource;
     private String fallbackReason;
+    private List<String> provisionalSections; // sections awaiting regeneration after a fallback
     private Instant generationTimestamp;
     private Double generationTimeSeconds;
     private Integer promptTokens;
@@ -106,49 +101,50 @@ public class PaperSummaryResponseDto {
                 .id(summary.getId())
                 .paperId(summary.getPaper() != null ? summary.getPaper().getId() : null)
                 .oneLiner(summary.getOneLiner())
-                .keyContributions(parseJsonArray(summary.getKeyContributions()))
+                .keyContributions(strings(summary.getKeyContributions()))
                 .methodOverview(summary.getMethodOverview())
-                .mainFindings(parseJsonArrayToMap(summary.getMainFindings()))
-                .limitations(parseJsonArray(summary.getLimitations()))
-                .applicability(parseJsonArray(summary.getApplicability()))
+                .mainFindings(summary.getMainFindings())
+                .limitations(strings(summary.getLimitations()))
+                .applicability(strings(summary.getApplicability()))
                 .studyType(
                         summary.getStudyType() != null ? summary.getStudyType().name() : null)
-                .researchQuestions(parseJsonArray(summary.getResearchQuestions()))
-                .datasets(parseJsonArrayToMap(summary.getDatasets()))
-                .participants(parseJsonObject(summary.getParticipants()))
+                .researchQuestions(strings(summary.getResearchQuestions()))
+                .datasets(summary.getDatasets())
+                .participants(summary.getParticipants())
                 .procedureOrPipeline(summary.getProcedureOrPipeline())
-                .baselinesOrControls(parseJsonArray(summary.getBaselinesOrControls()))
-                .metrics(parseJsonArrayToMap(summary.getMetrics()))
-                .statisticalAnalysis(parseJsonArray(summary.getStatisticalAnalysis()))
-                .computeResources(parseJsonObject(summary.getComputeResources()))
-                .implementationDetails(parseJsonObject(summary.getImplementationDetails()))
-                .artifacts(parseJsonObject(summary.getArtifacts()))
+                .baselinesOrControls(strings(summary.getBaselinesOrControls()))
+                .metrics(summary.getMetrics())
+                .statisticalAnalysis(strings(summary.getStatisticalAnalysis()))
+                .computeResources(summary.getComputeResources())
+                .implementationDetails(summary.getImplementationDetails())
+                .artifacts(summary.getArtifacts())
                 .reproducibilityNotes(summary.getReproducibilityNotes())
                 .reproScore(summary.getReproScore())
-                .ethics(parseJsonObject(summary.getEthics()))
-                .biasAndFairness(parseJsonArray(summary.getBiasAndFairness()))
-                .risksAndMisuse(parseJsonArray(summary.getRisksAndMisuse()))
+                .ethics(summary.getEthics())
+                .biasAndFairness(strings(summary.getBiasAndFairness()))
+                .risksAndMisuse(strings(summary.getRisksAndMisuse()))
                 .dataRights(summary.getDataRights())
                 .noveltyType(
                         summary.getNoveltyType() != null
                                 ? summary.getNoveltyType().name()
                                 : null)
-                .positioning(parseJsonArray(summary.getPositioning()))
-                .relatedWorksKey(parseJsonArrayToMap(summary.getRelatedWorksKey()))
+                .positioning(strings(summary.getPositioning()))
+                .relatedWorksKey(summary.getRelatedWorksKey())
                 .impactNotes(summary.getImpactNotes())
                 .confidence(summary.getConfidence())
-                .evidenceAnchors(parseJsonArrayToMap(summary.getEvidenceAnchors()))
-                .threatsToValidity(parseJsonArray(summary.getThreatsToValidity()))
-                .domainClassification(parseJsonArray(summary.getDomainClassification()))
+                .evidenceAnchors(summary.getEvidenceAnchors())
+                .threatsToValidity(strings(summary.getThreatsToValidity()))
+                .domainClassification(strings(summary.getDomainClassification()))
                 .technicalDepth(summary.getTechnicalDepth())
-                .interdisciplinaryConnections(parseJsonArray(summary.getInterdisciplinaryConnections()))
-                .futureWork(parseJsonArray(summary.getFutureWork()))
+                .interdisciplinaryConnections(strings(summary.getInterdisciplinaryConnections()))
+                .futureWork(strings(summary.getFutureWork()))
                 .modelVersion(summary.getModelVersion())
                 .responseSource(
                         summary.getResponseSource() != null
                                 ? summary.getResponseSource().name()
                                 : null)
                 .fallbackReason(summary.getFallbackReason())
+                .provisionalSections(strings(summary.getProvisionalSections()))
                 .generationTimestamp(summary.getGenerationTimestamp())
                 .generationTimeSeconds(summary.getGenerationTimeSeconds())
                 .promptTokens(summary.getPromptTokens())
@@ -165,138 +161,16 @@ public class PaperSummaryResponseDto {
     }
 
     /**
-     * Utility method to safely get a string value from a map
-     */
-    private static String getStringValue(Map<String, Object> map, String key) {
-        if (map == null || key == null) {
-            return null;
-        }
-        Object value = map.get(key);
-        if (value instanceof String) {
-            String str = (String) value;
-            return str.trim().isEmpty() ? null : str;
-        }
-        return value != null ? value.toString() : null;
-    }
-
-    /**
-     * Utility method to safely get a list value from a map
-     */
-    @SuppressWarnings("unchecked")
-    private static List<String> getStringListValue(Map<String, Object> map, String key) {
-        if (map == null || key == null) {
-            return null;
-        }
-        Object value = map.get(key);
-        if (value instanceof List) {
-            List<?> list = (List<?>) value;
-            return list.stream()
-                    .filter(item -> item != null)
-                    .map(Object::toString)
-                    .filter(str -> !str.trim().isEmpty())
-                    .toList();
-        }
-        return null;
-    }
-
-    /**
-     * Parse JSON string to List<String> using Jackson
+     * Drop blank and repeated entries from a list of model-written strings
      */
-    @SuppressWarnings("unchecked")
-    private static List<String> parseJsonArray(String jsonString) {
-        if (jsonString == null || jsonString.trim().isEmpty()) {
+    private static List<String> strings(List<String> values) {
+        if (values == null) {
             return null;
         }
-        try {
-            if (jsonString.startsWith("[") && jsonString.endsWith("]")) {
-                // Parse as JSON array
-                List<Object> parsed = OBJECT_MAPPER.readValue(jsonString, List.class);
-                return parsed.stream()
-                        .filter(obj -> obj != null)
-                        .map(Object::toString)
-                        .filter(str -> !str.trim().isEmpty())
-                        .distinct() // Remove duplicates
-                        .toList();
-            } else {
-                // Single item, return as list if it's not empty
-                String trimmed = jsonString.trim();
-                return trimmed.isEmpty() ? List.of() : List.of(trimmed);
-            }
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON array: {}", jsonString, e);
-            // Fallback: return as single item list if it's not empty
-            String trimmed = jsonString.trim();
-            return trimmed.isEmpty() ? List.of() : List.of(trimmed);
-        } catch (Exception e) {
-            log.error("Unexpected error parsing JSON array: {}", jsonString, e);
-            return List.of();
-        }
-    }
-
-    /**
-     * Parse JSON string to Map<String, Object> using Jackson
-     */
-    @SuppressWarnings("unchecked")
-    private static Map<String, Object> parseJsonObject(String jsonString) {
-        if (jsonString == null || jsonString.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            if (jsonString.startsWith("{") && jsonString.endsWith("}")) {
-                // Parse as JSON object
-                Map<String, Object> parsed = OBJECT_MAPPER.readValue(jsonString, Map.class);
-                // Filter out null values and empty strings
-                return parsed.entrySet().stream()
-                        .filter(entry -> entry.getValue() != null)
-                        .filter(entry -> !(entry.getValue() instanceof String)
-                                || !((String) entry.getValue()).trim().isEmpty())
-                        .collect(java.util.stream.Collectors.toMap(
-                                Map.Entry::getKey,
-                                Map.Entry::getValue,
-                                (existing, replacement) -> existing,
-                                java.util.LinkedHashMap::new));
-            }
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON object: {}", jsonString, e);
-        } catch (Exception e) {
-            log.error("Unexpected error parsing JSON object: {}", jsonString, e);
-        }
-        return null;
-    }
-
-    /**
-     * Parse JSON string to List<Map<String, Object>> using Jackson
-     */
-    @SuppressWarnings("unchecked")
-    private static List<Map<String, Object>> parseJsonArrayToMap(String jsonString) {
-        if (jsonString == null || jsonString.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            if (jsonString.startsWith("[") && jsonString.endsWith("]")) {
-                // Parse as JSON array of objects
-                List<Map<String, Object>> parsed = OBJECT_MAPPER.readValue(jsonString, List.class);
-                // Filter out null maps and maps with only null/empty values
-                return parsed.stream()
-                        .filter(map -> map != null)
-                        .map(map -> map.entrySet().stream()
-                                .filter(entry -> entry.getValue() != null)
-                                .filter(entry -> !(entry.getValue() instanceof String)
-                                        || !((String) entry.getValue()).trim().isEmpty())
-                                .collect(java.util.stream.Collectors.toMap(
-                                        Map.Entry::getKey,
-                                        Map.Entry::getValue,
-                                        (existing, replacement) -> existing,
-                                        java.util.HashMap::new)))
-                        .filter(map -> !map.isEmpty())
-                        .<Map<String, Object>>map(map -> (Map<String, Object>) map)
-                        .toList();
-            }
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to parse JSON array to map: {}", jsonString, e);
-        } catch (Exception e) {
-            log.error("Unexpected error parsing JSON array to map: {}", jsonString, e);
-        }
-        return null;
+        return values.stream()
+                .filter(Objects::nonNull)
+                .filter(value -> !value.isBlank())
+                .distinct()
+                .toList();
     }
 }
@@ -0,0 +1,82 @@
+package org.solace.scholar_ai.project_service.dto.summary;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.solace.scholar_ai.project_service.model.summary.SummaryBatch;
+
+/**
+ * Aggregate progress of a bulk summarization for polling and SSE events
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryBatchDto {
+
+    private UUID batchId;
+    private UUID projectId;
+    private String status;
+    private Integer totalPapers;
+    private Integer finishedPapers;
+    private Integer progressPct;
+    private Map<SummaryBatch.PaperState, Integer> counts; // papers per state
+    private Long tokenBudget;
+    private Long tokensReserved;
+    private Map<String, SummaryBatch.PaperProgress> papers;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant completedAt;
+
+    public static SummaryBatchDto fromEntity(SummaryBatch batch) {
+        if (batch == null) {
+            return null;
+        }
+        Map<SummaryBatch.PaperState, Integer> counts = new EnumMap<>(SummaryBatch.PaperState.class);
+        Map<String, SummaryBatch.PaperProgress> papers = new LinkedHashMap<>();
+        int finished = 0;
+        for (Map.Entry<String, SummaryBatch.PaperProgress> entry :
+                batch.getPapers().entrySet()) {
+            SummaryBatch.PaperProgress progress = entry.getValue();
+            counts.merge(progress.getState(), 1, Integer::sum);
+            if (progress.getState().isFinished()) {
+                finished++;
+            }
+            papers.put(
+                    entry.getKey(),
+                    SummaryBatch.PaperProgress.builder()
+                            .state(progress.getState())
+                            .jobId(progress.getJobId())
+                            .estimatedTokens(progress.getEstimatedTokens())
+                            .error(progress.getError())
+                            .build());
+        }
+        int total = batch.getPapers().size();
+        return SummaryBatchDto.builder()
+                .batchId(batch.getId())
+                .projectId(batch.getProjectId())
+                .status(batch.getStatus().name())
+                .totalPapers(total)
+                .finishedPapers(finished)
+                .progressPct(total == 0 ? 100 : 100 * finished / total)
+                .counts(counts)
+                .tokenBudget(batch.getTokenBudget())
+                .tokensReserved(batch.getTokensReserved())
+                .papers(papers)
+                .errorMessage(batch.getErrorMessage())
+                .createdAt(batch.getCreatedAt())
+                .completedAt(batch.getCompletedAt())
+                .build();
+    }
+
+    public boolean isFinished() {
+        return SummaryBatch.Status.COMPLETED.name().equals(status)
+                || SummaryBatch.Status.FAILED.name().equals(status);
+    }
+}
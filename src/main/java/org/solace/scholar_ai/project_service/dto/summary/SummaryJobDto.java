@@ -0,0 +1,58 @@
+package org.solace.scholar_ai.project_service.dto.summary;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+
+/**
+ * Snapshot of a background summary job for polling and SSE progress events
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryJobDto {
+
+    private UUID jobId;
+    private UUID paperId;
+    private String status;
+    private Integer progressPct;
+    private List<String> regenerateSections;
+    private Map<String, String> sections; // section key -> PENDING, COMPLETED or FAILED
+    private UUID summaryId;
+    private String errorMessage;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant completedAt;
+
+    public static SummaryJobDto fromEntity(SummaryJob job) {
+        if (job == null) {
+            return null;
+        }
+        return SummaryJobDto.builder()
+                .jobId(job.getId())
+                .paperId(job.getPaperId())
+                .status(job.getStatus().name())
+                .progressPct(job.getProgressPct())
+                .regenerateSections(List.copyOf(job.getRegenerateSections()))
+                .sections(new LinkedHashMap<>(job.getSections()))
+                .summaryId(job.getSummaryId())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    public boolean isFinished() {
+        return SummaryJob.Status.COMPLETED.name().equals(status)
+                || SummaryJob.Status.FAILED.name().equals(status);
+    }
+}
@@ -0,0 +1,18 @@
+package org.solace.scholar_ai.project_service.dto.summary;
+
+import java.util.Set;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+
+/**
+ * Sections of a paper's summary that are missing or out of date, and an upper
+ * bound on the tokens regenerating them would use (estimated prompt tokens
+ * plus each section's output limit)
+ *
+ * @param summarized whether the paper has a stored summary
+ */
+public record SummaryPlan(boolean summarized, Set<SummarySection> staleSections, long estimatedTokens) {
+
+    public boolean isUpToDate() {
+        return summarized && staleSections.isEmpty();
+    }
+}
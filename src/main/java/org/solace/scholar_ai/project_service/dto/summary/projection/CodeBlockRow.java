@@ -0,0 +1,6 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+/**
+ * Code block columns for a summary context
+ */
+public record CodeBlockRow(String codeId, String language, String code, Integer page) {}
@@ -0,0 +1,8 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+import java.util.UUID;
+
+/**
+ * Scalar columns of a paper extraction needed to build a summary context
+ */
+public record ExtractionHeaderRow(UUID id, String title, String abstractText, Integer pageCount, String language) {}
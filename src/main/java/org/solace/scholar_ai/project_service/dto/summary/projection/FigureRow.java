@@ -0,0 +1,6 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+/**
+ * Figure columns for a summary context, without OCR text
+ */
+public record FigureRow(String figureId, String label, String caption, Integer page) {}
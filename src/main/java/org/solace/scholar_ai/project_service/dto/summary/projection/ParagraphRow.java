@@ -0,0 +1,8 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+import java.util.UUID;
+
+/**
+ * Paragraph text keyed by the database id of its section
+ */
+public record ParagraphRow(UUID sectionId, String text) {}
@@ -0,0 +1,7 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+/**
+ * Bibliographic columns of a reference, without raw text or the
+ * Crossref/OpenAlex/Unpaywall payloads
+ */
+public record ReferenceRow(String referenceId, String title, String authors, Integer year, String venue, String doi) {}
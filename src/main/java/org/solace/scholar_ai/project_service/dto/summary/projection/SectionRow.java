@@ -0,0 +1,18 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+import java.util.UUID;
+
+/**
+ * Section columns for a summary context; {@code parentId} is null for
+ * top-level sections
+ */
+public record SectionRow(
+        UUID id,
+        UUID parentId,
+        String sectionId,
+        String title,
+        String sectionType,
+        Integer level,
+        Integer pageStart,
+        Integer pageEnd,
+        Integer orderIndex) {}
@@ -0,0 +1,6 @@
+package org.solace.scholar_ai.project_service.dto.summary.projection;
+
+/**
+ * Table columns for a summary context, without rows, structure or HTML
+ */
+public record TableRow(String tableId, String label, String caption, Integer page, String headers) {}
@@ -0,0 +1,45 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+
+/**
+ * Context and impact: novelty, related work and future directions
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ContextImpactSection(
+        @JsonProperty("novelty_type") String noveltyType,
+        @JsonProperty("positioning") List<String> positioning,
+        @JsonProperty("related_works_key") List<PaperSummaryDto.RelatedWork> relatedWorksKey,
+        @JsonProperty("impact_notes") String impactNotes,
+        @JsonProperty("domain_classification") List<String> domainClassification,
+        @JsonProperty("technical_depth") String technicalDepth,
+        @JsonProperty("interdisciplinary_connections") List<String> interdisciplinaryConnections,
+        @JsonProperty("future_work") List<String> futureWork,
+        @JsonProperty("threats_to_validity") List<String> threatsToValidity,
+        @JsonProperty("_response_source") String responseSource,
+        @JsonProperty("_fallback_reason") String fallbackReason)
+        implements SummarySectionPayload {
+
+    public static final ContextImpactSection EMPTY =
+            new ContextImpactSection(null, null, null, null, null, null, null, null, null, null, null);
+
+    @Override
+    public List<Object> fieldValues() {
+        return Arrays.asList(
+                noveltyType,
+                positioning,
+                relatedWorksKey,
+                impactNotes,
+                domainClassification,
+                technicalDepth,
+                interdisciplinaryConnections,
+                futureWork,
+                threatsToValidity);
+    }
+}
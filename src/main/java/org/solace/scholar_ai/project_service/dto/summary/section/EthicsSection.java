@@ -0,0 +1,30 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+
+/**
+ * Ethics and compliance: review, consent, bias and misuse risks
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record EthicsSection(
+        @JsonProperty("ethics") PaperSummaryDto.EthicsInfo ethics,
+        @JsonProperty("bias_and_fairness") List<String> biasAndFairness,
+        @JsonProperty("risks_and_misuse") List<String> risksAndMisuse,
+        @JsonProperty("data_rights") String dataRights,
+        @JsonProperty("_response_source") String responseSource,
+        @JsonProperty("_fallback_reason") String fallbackReason)
+        implements SummarySectionPayload {
+
+    public static final EthicsSection EMPTY = new EthicsSection(null, null, null, null, null, null);
+
+    @Override
+    public List<Object> fieldValues() {
+        return Arrays.asList(ethics, biasAndFairness, risksAndMisuse, dataRights);
+    }
+}
@@ -0,0 +1,47 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+
+/**
+ * Methods and data: study design, datasets, metrics and compute
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MethodsSection(
+        @JsonProperty("study_type") String studyType,
+        @JsonProperty("research_questions") List<String> researchQuestions,
+        @JsonProperty("datasets") List<PaperSummaryDto.DatasetInfo> datasets,
+        @JsonProperty("participants") PaperSummaryDto.ParticipantInfo participants,
+        @JsonProperty("procedure_or_pipeline") String procedureOrPipeline,
+        @JsonProperty("baselines_or_controls") List<String> baselinesOrControls,
+        @JsonProperty("metrics") List<PaperSummaryDto.MetricInfo> metrics,
+        @JsonProperty("statistical_analysis") List<String> statisticalAnalysis,
+        @JsonProperty("compute_resources") PaperSummaryDto.ComputeInfo computeResources,
+        @JsonProperty("implementation_details") PaperSummaryDto.ImplementationInfo implementationDetails,
+        @JsonProperty("_response_source") String responseSource,
+        @JsonProperty("_fallback_reason") String fallbackReason)
+        implements SummarySectionPayload {
+
+    public static final MethodsSection EMPTY =
+            new MethodsSection(null, null, null, null, null, null, null, null, null, null, null, null);
+
+    @Override
+    public List<Object> fieldValues() {
+        return Arrays.asList(
+                studyType,
+                researchQuestions,
+                datasets,
+                participants,
+                procedureOrPipeline,
+                baselinesOrControls,
+                metrics,
+                statisticalAnalysis,
+                computeResources,
+                implementationDetails);
+    }
+}
@@ -0,0 +1,32 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+
+/**
+ * Quick take: one-line summary, contributions and headline findings
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QuickTakeSection(
+        @JsonProperty("one_liner") String oneLiner,
+        @JsonProperty("key_contributions") List<String> keyContributions,
+        @JsonProperty("method_overview") String methodOverview,
+        @JsonProperty("main_findings") List<PaperSummaryDto.Finding> mainFindings,
+        @JsonProperty("limitations") List<String> limitations,
+        @JsonProperty("applicability") List<String> applicability,
+        @JsonProperty("_response_source") String responseSource,
+        @JsonProperty("_fallback_reason") String fallbackReason)
+        implements SummarySectionPayload {
+
+    public static final QuickTakeSection EMPTY = new QuickTakeSection(null, null, null, null, null, null, null, null);
+
+    @Override
+    public List<Object> fieldValues() {
+        return Arrays.asList(oneLiner, keyContributions, methodOverview, mainFindings, limitations, applicability);
+    }
+}
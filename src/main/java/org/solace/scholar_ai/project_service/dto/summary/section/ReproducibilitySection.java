@@ -0,0 +1,29 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Arrays;
+import java.util.List;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+
+/**
+ * Reproducibility: released artifacts and a reproducibility score
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReproducibilitySection(
+        @JsonProperty("artifacts") PaperSummaryDto.ArtifactInfo artifacts,
+        @JsonProperty("reproducibility_notes") String reproducibilityNotes,
+        @JsonProperty("repro_score") Double reproScore,
+        @JsonProperty("_response_source") String responseSource,
+        @JsonProperty("_fallback_reason") String fallbackReason)
+        implements SummarySectionPayload {
+
+    public static final ReproducibilitySection EMPTY = new ReproducibilitySection(null, null, null, null, null);
+
+    @Override
+    public List<Object> fieldValues() {
+        return Arrays.asList(artifacts, reproducibilityNotes, reproScore);
+    }
+}
@@ -0,0 +1,46 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Parsed model output for one {@link org.solace.scholar_ai.project_service.constant.SummarySection}.
+ *
+ * <p>Every section carries the {@code _response_source} and
+ * {@code _fallback_reason} markers the Gemini fallback adds to canned
+ * responses; both are null for real model output.
+ */
+public sealed interface SummarySectionPayload
+        permits QuickTakeSection, MethodsSection, ReproducibilitySection, EthicsSection, ContextImpactSection {
+
+    String FALLBACK = "fallback";
+
+    String responseSource();
+
+    String fallbackReason();
+
+    /**
+     * The model-generated fields of this section, in schema order
+     */
+    List<Object> fieldValues();
+
+    @JsonIgnore
+    default boolean isFallback() {
+        return FALLBACK.equals(responseSource());
+    }
+
+    /**
+     * Fraction of the section's fields the model actually filled in
+     */
+    @JsonIgnore
+    default double completeness() {
+        List<Object> values = fieldValues();
+        long filled = values.stream()
+                .filter(value -> value != null
+                        && !(value instanceof Collection<?> collection && collection.isEmpty())
+                        && !(value instanceof String text && text.isBlank()))
+                .count();
+        return values.isEmpty() ? 0.0 : (double) filled / values.size();
+    }
+}
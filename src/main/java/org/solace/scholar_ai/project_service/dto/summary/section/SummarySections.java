@@ -0,0 +1,85 @@
+package org.solace.scholar_ai.project_service.dto.summary.section;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.EnumMap;
+import java.util.Map;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+
+/**
+ * One payload per {@link SummarySection}, keyed by section key when stored as
+ * JSONB. Sections that have not been generated, or failed, are null.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SummarySections(
+        @JsonProperty("quick_take") QuickTakeSection quickTake,
+        @JsonProperty("methods") MethodsSection methods,
+        @JsonProperty("reproducibility") ReproducibilitySection reproducibility,
+        @JsonProperty("ethics") EthicsSection ethics,
+        @JsonProperty("context_impact") ContextImpactSection contextImpact) {
+
+    public static final SummarySections EMPTY = new SummarySections(null, null, null, null, null);
+
+    public static SummarySections of(Map<SummarySection, ? extends SummarySectionPayload> payloads) {
+        SummarySections sections = EMPTY;
+        for (Map.Entry<SummarySection, ? extends SummarySectionPayload> entry : payloads.entrySet()) {
+            sections = sections.with(entry.getKey(), entry.getValue());
+        }
+        return sections;
+    }
+
+    public SummarySectionPayload get(SummarySection section) {
+        return switch (section) {
+            case QUICK_TAKE -> quickTake;
+            case METHODS -> methods;
+            case REPRODUCIBILITY -> reproducibility;
+            case ETHICS -> ethics;
+            case CONTEXT_IMPACT -> contextImpact;
+        };
+    }
+
+    /**
+     * A copy with {@code section} set to {@code payload}, which must be the
+     * payload type of that section
+     */
+    public SummarySections with(SummarySection section, SummarySectionPayload payload) {
+        return switch (section) {
+            case QUICK_TAKE -> new SummarySections(
+                    (QuickTakeSection) payload, methods, reproducibility, ethics, contextImpact);
+            case METHODS -> new SummarySections(
+                    quickTake, (MethodsSection) payload, reproducibility, ethics, contextImpact);
+            case REPRODUCIBILITY -> new SummarySections(
+                    quickTake, methods, (ReproducibilitySection) payload, ethics, contextImpact);
+            case ETHICS -> new SummarySections(
+                    quickTake, methods, reproducibility, (EthicsSection) payload, contextImpact);
+            case CONTEXT_IMPACT -> new SummarySections(
+                    quickTake, methods, reproducibility, ethics, (ContextImpactSection) payload);
+        };
+    }
+
+    /**
+     * The sections that are present, in presentation order
+     */
+    public Map<SummarySection, SummarySectionPayload> asMap() {
+        Map<SummarySection, SummarySectionPayload> present = new EnumMap<>(SummarySection.class);
+        for (SummarySection section : SummarySection.values()) {
+            SummarySectionPayload payload = get(section);
+            if (payload != null) {
+                present.put(section, payload);
+            }
+        }
+        return present;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return quickTake == null
+                && methods == null
+                && reproducibility == null
+                && ethics == null
+                && contextImpact == null;
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -33,6 +34,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handle LlmCapacityExceededException - return 503 Service Unavailable
+     */
+    @ExceptionHandler(LlmCapacityExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleLlmCapacityExceededException(LlmCapacityExceededException ex) {
+        log.warn("LLM capacity exceeded: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "AI service is busy, please retry shortly");
+        errorResponse.put("code", "LLM_CAPACITY_EXCEEDED");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(errorResponse);
+    }
+
     /**
      * Handle general RuntimeException - return 500 Internal Server Error
      */
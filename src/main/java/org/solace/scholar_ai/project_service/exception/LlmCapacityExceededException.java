@@ -0,0 +1,21 @@
+package org.solace.scholar_ai.project_service.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+
+/**
+ * Thrown when a Gemini call waited its full queue deadline without being
+ * admitted by the concurrency limiter
+ */
+@Getter
+public class LlmCapacityExceededException extends RuntimeException {
+    private final LlmCaller caller;
+    private final Duration waited;
+
+    public LlmCapacityExceededException(LlmCaller caller, Duration waited) {
+        super("Gemini capacity exceeded: " + caller + " waited " + waited.toMillis() + " ms without a slot");
+        this.caller = caller;
+        this.waited = waited;
+    }
+}
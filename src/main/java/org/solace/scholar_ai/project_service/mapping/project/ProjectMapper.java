@@ -40,6 +40,7 @@ public interface ProjectMapper {
     @Mapping(target = "activeTasks", source = "dto.activeTasks")
     @Mapping(target = "lastActivity", source = "dto.lastActivity")
     @Mapping(target = "isStarred", source = "dto.isStarred")
+    @Mapping(target = "pregenerateSummaries", source = "dto.pregenerateSummaries")
     @Mapping(target = "createdAt", ignore = true) // Don't update creation time
     @Mapping(target = "updatedAt", ignore = true) // Auto-generated
     @Mapping(target = "status", source = "dto.status", qualifiedByName = "stringToStatusEnum")
@@ -87,6 +88,7 @@ public interface ProjectMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "lastActivity", ignore = true)
     @Mapping(target = "isStarred", constant = "false")
+    @Mapping(target = "pregenerateSummaries", constant = "false")
     @Mapping(target = "topics", source = "dto.topics", qualifiedByName = "listToString")
     @Mapping(target = "tags", source = "dto.tags", qualifiedByName = "listToString")
     @Mapping(target = "name", source = "dto.name")
@@ -0,0 +1,36 @@
+package org.solace.scholar_ai.project_service.messaging.listener.citation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.event.citation.CitationJobEvent;
+import org.solace.scholar_ai.project_service.service.citation.events.CitationJobEventHub;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener for citation job events published by any node, read from this
+ * node's own queue on the fanout exchange
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CitationJobEventListener {
+
+    private final CitationJobEventHub citationJobEventHub;
+
+    /**
+     * Handle citation job events. A single consumer keeps each job's events in
+     * publication order.
+     *
+     * @param event The citation job event
+     */
+    @RabbitListener(queues = "#{citationJobEventsQueue.name}", concurrency = "1")
+    public void handleCitationJobEvent(CitationJobEvent event) {
+        try {
+            citationJobEventHub.receive(event);
+        } catch (Exception e) {
+            // Progress events are not worth redelivering
+            log.warn("Error dispatching {} event for citation job {}: {}", event.type(), event.jobId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.solace.scholar_ai.project_service.messaging.publisher.citation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.RabbitMQConfig;
+import org.solace.scholar_ai.project_service.dto.event.citation.CitationJobEvent;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for fanning citation job events out to every project service node
+ * via RabbitMQ
+ */
+@Slf4j
+@Service
+public class CitationJobEventSender {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final RabbitMQConfig rabbitMQConfig;
+
+    public CitationJobEventSender(RabbitTemplate rabbitTemplate, RabbitMQConfig rabbitMQConfig) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.rabbitMQConfig = rabbitMQConfig;
+    }
+
+    /**
+     * Publish a citation job event to the fanout exchange
+     *
+     * @param event The citation job event
+     */
+    public void send(CitationJobEvent event) {
+        rabbitTemplate.convertAndSend(rabbitMQConfig.getCitationJobEventsExchangeName(), "", event);
+        log.debug("Sent {} event {} for citation job {}", event.type(), event.sequence(), event.jobId());
+    }
+}
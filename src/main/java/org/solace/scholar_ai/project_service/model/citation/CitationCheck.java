@@ -56,6 +56,13 @@ public class CitationCheck {
     @Column(name = "summary", columnDefinition = "jsonb")
     private Map<String, Object> summary; // JSON object: { total: number, byType: Record<CitationIssueType, number> }
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "sentence_fingerprints", columnDefinition = "jsonb")
+    private List<String> sentenceFingerprints; // Fingerprints of analyzed sentences, for incremental re-checks
+
+    @Column(name = "analysis_context_hash", length = 64)
+    private String analysisContextHash; // SHA256 of selected papers, extraction versions and thresholds
+
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
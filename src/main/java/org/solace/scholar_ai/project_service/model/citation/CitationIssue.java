@@ -67,6 +67,9 @@ public class CitationIssue {
     @Column(name = "suggestions")
     private List<Map<String, Object>> suggestions; // JSON array of suggestion objects
 
+    @Column(name = "sentence_fingerprint", length = 16)
+    private String sentenceFingerprint; // Set for sentence-level issues, which re-checks can reuse
+
     @Column(name = "resolved", nullable = false)
     @Builder.Default
     private Boolean resolved = false; // Whether the issue has been marked as resolved
@@ -0,0 +1,33 @@
+package org.solace.scholar_ai.project_service.model.coordination;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Time-limited lease on a unit of work, shared by all nodes through Postgres
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_leases")
+public class JobLease {
+
+    @Id
+    @Column(name = "lease_key", nullable = false, updatable = false)
+    private String leaseKey;
+
+    @Column(name = "owner", nullable = false)
+    private String owner;
+
+    @Column(name = "acquired_at", nullable = false)
+    private Instant acquiredAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -53,4 +53,8 @@ public class ExtractedParagraph {
     // Style information (stored as JSON)
     @Column(name = "style", columnDefinition = "TEXT")
     private String style; // font, size, etc. as JSON
+
+    // MinHash signature of the paragraph's terms for near-duplicate lookup; null if persisted before signatures
+    @Column(name = "minhash_signature")
+    private byte[] minhashSignature;
 }
@@ -0,0 +1,51 @@
+package org.solace.scholar_ai.project_service.model.llm;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+
+/**
+ * Persisted Gemini response, addressed by a hash of model, prompt and
+ * generation parameters so it survives restarts and is shared across nodes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "llm_response_cache")
+public class LlmResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false, updatable = false)
+    private String cacheKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "caller", length = 50, nullable = false)
+    private LlmCaller caller;
+
+    @Column(name = "model", length = 100, nullable = false)
+    private String model;
+
+    @Column(name = "response_text", columnDefinition = "TEXT", nullable = false)
+    private String responseText;
+
+    @Column(name = "finish_reason", length = 50)
+    private String finishReason;
+
+    @Column(name = "prompt_tokens")
+    private Integer promptTokens;
+
+    @Column(name = "completion_tokens")
+    private Integer completionTokens;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,72 @@
+package org.solace.scholar_ai.project_service.model.pregeneration;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.solace.scholar_ai.project_service.constant.PregenerationTask;
+
+/**
+ * One queued pre-generation task for a paper.
+ *
+ * <p>The queue is driven entirely by native queries in the repository: rows
+ * are inserted, claimed, heartbeated and finished there, using the database
+ * clock. The entity is read-only from the application's point of view.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "pregeneration_jobs")
+public class PregenerationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "paper_id", nullable = false)
+    private UUID paperId;
+
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task", nullable = false)
+    private PregenerationTask task;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "owner")
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -80,4 +80,8 @@ public class Project {
 
     @Column(name = "is_starred", nullable = false)
     private Boolean isStarred = false;
+
+    // Opt-in: summarize papers as soon as their extraction completes
+    @Column(name = "pregenerate_summaries", nullable = false)
+    private Boolean pregenerateSummaries = false;
 }
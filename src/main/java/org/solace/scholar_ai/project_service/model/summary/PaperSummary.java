@@ -2,10 +2,18 @@ package org.solace.scholar_ai.project_service.model.summary;
 
 import jakarta.persistence.*;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySections;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
 
 /**
@@ -32,56 +40,69 @@ public class PaperSummary {
     @Column(name = "one_liner", columnDefinition = "TEXT")
     private String oneLiner;
 
-    @Column(name = "key_contributions", columnDefinition = "TEXT")
-    private String keyContributions; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "key_contributions", columnDefinition = "jsonb")
+    private List<String> keyContributions;
 
     @Column(name = "method_overview", columnDefinition = "TEXT")
     private String methodOverview;
 
-    @Column(name = "main_findings", columnDefinition = "TEXT")
-    private String mainFindings; // JSON array of findings objects
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "main_findings", columnDefinition = "jsonb")
+    private List<PaperSummaryDto.Finding> mainFindings;
 
-    @Column(name = "limitations", columnDefinition = "TEXT")
-    private String limitations; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "limitations", columnDefinition = "jsonb")
+    private List<String> limitations;
 
-    @Column(name = "applicability", columnDefinition = "TEXT")
-    private String applicability; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "applicability", columnDefinition = "jsonb")
+    private List<String> applicability;
 
     // Methods & Data Section
     @Column(name = "study_type", length = 50)
     @Enumerated(EnumType.STRING)
     private StudyType studyType;
 
-    @Column(name = "research_questions", columnDefinition = "TEXT")
-    private String researchQuestions; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "research_questions", columnDefinition = "jsonb")
+    private List<String> researchQuestions;
 
-    @Column(name = "datasets", columnDefinition = "TEXT")
-    private String datasets; // JSON array of dataset objects
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "datasets", columnDefinition = "jsonb")
+    private List<PaperSummaryDto.DatasetInfo> datasets;
 
-    @Column(name = "participants", columnDefinition = "TEXT")
-    private String participants; // JSON object
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "participants", columnDefinition = "jsonb")
+    private PaperSummaryDto.ParticipantInfo participants;
 
     @Column(name = "procedure_or_pipeline", columnDefinition = "TEXT")
     private String procedureOrPipeline;
 
-    @Column(name = "baselines_or_controls", columnDefinition = "TEXT")
-    private String baselinesOrControls; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "baselines_or_controls", columnDefinition = "jsonb")
+    private List<String> baselinesOrControls;
 
-    @Column(name = "metrics", columnDefinition = "TEXT")
-    private String metrics; // JSON array with definitions
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "metrics", columnDefinition = "jsonb")
+    private List<PaperSummaryDto.MetricInfo> metrics;
 
-    @Column(name = "statistical_analysis", columnDefinition = "TEXT")
-    private String statisticalAnalysis; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "statistical_analysis", columnDefinition = "jsonb")
+    private List<String> statisticalAnalysis;
 
-    @Column(name = "compute_resources", columnDefinition = "TEXT")
-    private String computeResources; // JSON object
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "compute_resources", columnDefinition = "jsonb")
+    private PaperSummaryDto.ComputeInfo computeResources;
 
-    @Column(name = "implementation_details", columnDefinition = "TEXT")
-    private String implementationDetails; // JSON object
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "implementation_details", columnDefinition = "jsonb")
+    private PaperSummaryDto.ImplementationInfo implementationDetails;
 
     // Reproducibility Section
-    @Column(name = "artifacts", columnDefinition = "TEXT")
-    private String artifacts; // JSON object with URLs
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "artifacts", columnDefinition = "jsonb")
+    private PaperSummaryDto.ArtifactInfo artifacts;
 
     @Column(name = "reproducibility_notes", columnDefinition = "TEXT")
     private String reproducibilityNotes;
@@ -90,14 +111,17 @@ public class PaperSummary {
     private Double reproScore; // 0-1 scale
 
     // Ethics & Compliance Section
-    @Column(name = "ethics", columnDefinition = "TEXT")
-    private String ethics; // JSON object
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "ethics", columnDefinition = "jsonb")
+    private PaperSummaryDto.EthicsInfo ethics;
 
-    @Column(name = "bias_and_fairness", columnDefinition = "TEXT")
-    private String biasAndFairness; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "bias_and_fairness", columnDefinition = "jsonb")
+    private List<String> biasAndFairness;
 
-    @Column(name = "risks_and_misuse", columnDefinition = "TEXT")
-    private String risksAndMisuse; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "risks_and_misuse", columnDefinition = "jsonb")
+    private List<String> risksAndMisuse;
 
     @Column(name = "data_rights", columnDefinition = "TEXT")
     private String dataRights;
@@ -107,11 +131,13 @@ public class PaperSummary {
     @Enumerated(EnumType.STRING)
     private NoveltyType noveltyType;
 
-    @Column(name = "positioning", columnDefinition = "TEXT")
-    private String positioning; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "positioning", columnDefinition = "jsonb")
+    private List<String> positioning;
 
-    @Column(name = "related_works_key", columnDefinition = "TEXT")
-    private String relatedWorksKey; // JSON array of citation objects
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "related_works_key", columnDefinition = "jsonb")
+    private List<PaperSummaryDto.RelatedWork> relatedWorksKey;
 
     @Column(name = "impact_notes", columnDefinition = "TEXT")
     private String impactNotes;
@@ -120,24 +146,29 @@ public class PaperSummary {
     @Column(name = "confidence")
     private Double confidence; // 0-1 scale
 
-    @Column(name = "evidence_anchors", columnDefinition = "TEXT")
-    private String evidenceAnchors; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "evidence_anchors", columnDefinition = "jsonb")
+    private List<PaperSummaryDto.EvidenceAnchor> evidenceAnchors;
 
-    @Column(name = "threats_to_validity", columnDefinition = "TEXT")
-    private String threatsToValidity; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "threats_to_validity", columnDefinition = "jsonb")
+    private List<String> threatsToValidity;
 
     // Additional fields for enhanced tracking
-    @Column(name = "domain_classification", columnDefinition = "TEXT")
-    private String domainClassification; // JSON array of domains
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "domain_classification", columnDefinition = "jsonb")
+    private List<String> domainClassification;
 
     @Column(name = "technical_depth", columnDefinition = "TEXT")
     private String technicalDepth; // introductory|intermediate|advanced|expert
 
-    @Column(name = "interdisciplinary_connections", columnDefinition = "TEXT")
-    private String interdisciplinaryConnections; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "interdisciplinary_connections", columnDefinition = "jsonb")
+    private List<String> interdisciplinaryConnections;
 
-    @Column(name = "future_work", columnDefinition = "TEXT")
-    private String futureWork; // JSON array
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "future_work", columnDefinition = "jsonb")
+    private List<String> futureWork;
 
     // Generation metadata
     @Column(name = "model_version", length = 50)
@@ -165,6 +196,33 @@ public class PaperSummary {
     @Column(name = "extraction_coverage_used")
     private Double extractionCoverageUsed; // % of extracted data utilized
 
+    // Section key -> hash of the extraction input the section was generated from
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "section_input_hashes", columnDefinition = "jsonb")
+    @Builder.Default
+    private Map<String, String> sectionInputHashes = new LinkedHashMap<>();
+
+    // Parsed model output per section, reused when a regeneration finds the input unchanged
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "section_payloads", columnDefinition = "jsonb")
+    @Builder.Default
+    private SummarySections sectionPayloads = SummarySections.EMPTY;
+
+    // Section keys answered by the Gemini fallback, regenerated in the background once Gemini recovers
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "provisional_sections", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private List<String> provisionalSections = new ArrayList<>();
+
+    // Background repairs of the provisional sections that left some provisional
+    @Column(name = "provisional_repair_attempts", nullable = false)
+    @Builder.Default
+    private Integer provisionalRepairAttempts = 0;
+
+    // Earliest next background repair; null until one has been attempted
+    @Column(name = "provisional_next_attempt_at")
+    private Instant provisionalNextAttemptAt;
+
     @Column(name = "validation_status", length = 50)
     @Enumerated(EnumType.STRING)
     @Builder.Default
@@ -0,0 +1,119 @@
+package org.solace.scholar_ai.project_service.model.summary;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Bulk summarization of a project's papers or an explicit paper list. Each
+ * paper that needs work is summarized by its own {@link SummaryJob}; the
+ * batch tracks which papers were skipped, started, finished or left out by
+ * the token budget.
+ *
+ * <p>Like {@link SummaryJob}, {@code owner} and {@code heartbeatAt} are only
+ * written by the claim and heartbeat queries in the repository.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "summary_batches")
+public class SummaryBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Set when the batch was requested for a whole project
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    // Papers summarized at the same time; their sections still share the LLM limiter
+    @Column(name = "parallelism", nullable = false)
+    private Integer parallelism;
+
+    // Upper bound on estimated tokens for the whole batch; null means unlimited
+    @Column(name = "token_budget")
+    private Long tokenBudget;
+
+    // Estimated tokens of the papers started so far, reserved before each one starts
+    @Column(name = "tokens_reserved", nullable = false)
+    @Builder.Default
+    private Long tokensReserved = 0L;
+
+    // Paper id -> progress, in request order
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "papers", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private Map<String, PaperProgress> papers = new LinkedHashMap<>();
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "owner", updatable = false)
+    private String owner;
+
+    @Column(name = "heartbeat_at", updatable = false)
+    private Instant heartbeatAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum PaperState {
+        PENDING,
+        // Summary exists and every section's input is unchanged
+        UP_TO_DATE,
+        NOT_EXTRACTED,
+        // Not started because its estimate would exceed the token budget
+        OVER_BUDGET,
+        RUNNING,
+        COMPLETED,
+        FAILED;
+
+        public boolean isFinished() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PaperProgress {
+        private PaperState state;
+        private UUID jobId;
+        private Long estimatedTokens;
+        private String error;
+    }
+}
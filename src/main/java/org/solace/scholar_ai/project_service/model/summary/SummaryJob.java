@@ -0,0 +1,111 @@
+package org.solace.scholar_ai.project_service.model.summary;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySections;
+
+/**
+ * Background summary generation for one paper, with per-section progress.
+ *
+ * <p>{@code owner} and {@code heartbeatAt} are written only by the claim and
+ * heartbeat queries in the repository, so saving the entity never makes a
+ * running job look stale to other nodes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "summary_jobs")
+public class SummaryJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "paper_id", nullable = false)
+    private UUID paperId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    // Bypass cached LLM responses and replace the existing summary
+    @Column(name = "refresh", nullable = false)
+    private boolean refresh;
+
+    // Section keys to regenerate even if their input is unchanged; empty regenerates only changed sections
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "regenerate_sections", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private List<String> regenerateSections = new ArrayList<>();
+
+    @Column(name = "progress_pct", nullable = false)
+    @Builder.Default
+    private Integer progressPct = 0;
+
+    // Section key -> SectionStatus name
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "sections", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private Map<String, String> sections = new LinkedHashMap<>();
+
+    // Parsed payload of each finished section, kept so a resumed job only regenerates what is missing
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "section_results", columnDefinition = "jsonb", nullable = false)
+    @Builder.Default
+    private SummarySections sectionResults = SummarySections.EMPTY;
+
+    @Column(name = "summary_id")
+    private UUID summaryId;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "owner", updatable = false)
+    private String owner;
+
+    @Column(name = "heartbeat_at", updatable = false)
+    private Instant heartbeatAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public enum SectionStatus {
+        PENDING,
+        COMPLETED,
+        FAILED
+    }
+}
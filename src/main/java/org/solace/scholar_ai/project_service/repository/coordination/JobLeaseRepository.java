@@ -0,0 +1,53 @@
+package org.solace.scholar_ai.project_service.repository.coordination;
+
+import org.solace.scholar_ai.project_service.model.coordination.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Lease operations commit in their own transaction so other nodes see them
+ * immediately, even when called from inside a caller's transaction. Expiry is
+ * computed with the database clock to avoid skew between nodes.
+ */
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * Take the lease if it is free or expired; returns 1 if acquired, 0 if held by someone else
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "INSERT INTO job_leases (lease_key, owner, acquired_at, expires_at) "
+                    + "VALUES (:leaseKey, :owner, now(), now() + make_interval(secs => :ttlSeconds)) "
+                    + "ON CONFLICT (lease_key) DO UPDATE SET owner = EXCLUDED.owner, "
+                    + "acquired_at = EXCLUDED.acquired_at, expires_at = EXCLUDED.expires_at "
+                    + "WHERE job_leases.expires_at < now()",
+            nativeQuery = true)
+    int tryAcquire(
+            @Param("leaseKey") String leaseKey, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Extend a lease still held by the given owner
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE job_leases SET expires_at = now() + make_interval(secs => :ttlSeconds) "
+                    + "WHERE lease_key = :leaseKey AND owner = :owner",
+            nativeQuery = true)
+    int renew(@Param("leaseKey") String leaseKey, @Param("owner") String owner, @Param("ttlSeconds") long ttlSeconds);
+
+    /**
+     * Release a lease held by the given owner
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "DELETE FROM job_leases WHERE lease_key = :leaseKey AND owner = :owner", nativeQuery = true)
+    int release(@Param("leaseKey") String leaseKey, @Param("owner") String owner);
+}
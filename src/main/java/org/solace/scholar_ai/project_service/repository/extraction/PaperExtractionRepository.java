@@ -1,10 +1,26 @@
 package org.solace.scholar_ai.project_service.repository.extraction;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusParagraphRow;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusReferenceRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.CodeBlockRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.ExtractionHeaderRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.FigureRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.ParagraphRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.ReferenceRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.SectionRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.TableRow;
 import org.solace.scholar_ai.project_service.model.extraction.PaperExtraction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -74,4 +90,77 @@ public interface PaperExtractionRepository extends JpaRepository<PaperExtraction
      */
     @Query("SELECT COUNT(pe) > 0 FROM PaperExtraction pe WHERE pe.paper.id = :paperId")
     boolean existsByPaperId(@Param("paperId") UUID paperId);
+
+    // Column projections for summary generation. Each reads one collection of
+    // an extraction in a single statement and skips the large TEXT columns
+    // summary prompts never use.
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.ExtractionHeaderRow("
+            + "pe.id, pe.title, pe.abstractText, pe.pageCount, pe.language) "
+            + "FROM PaperExtraction pe WHERE pe.paper.id = :paperId")
+    Optional<ExtractionHeaderRow> findSummaryHeaderByPaperId(@Param("paperId") UUID paperId);
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.SectionRow("
+            + "s.id, parent.id, s.sectionId, s.title, s.sectionType, s.level, s.pageStart, s.pageEnd, s.orderIndex) "
+            + "FROM ExtractedSection s LEFT JOIN s.parentSection parent "
+            + "WHERE s.paperExtraction.id = :extractionId "
+            + "ORDER BY s.orderIndex ASC NULLS LAST")
+    List<SectionRow> findSummarySections(@Param("extractionId") UUID extractionId);
+
+    /**
+     * Paragraph text of every section of an extraction in paragraph order.
+     * Must be consumed and closed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.ParagraphRow(p.section.id, p.text) "
+            + "FROM ExtractedParagraph p "
+            + "WHERE p.section.paperExtraction.id = :extractionId "
+            + "ORDER BY p.orderIndex ASC NULLS LAST")
+    Stream<ParagraphRow> streamSummaryParagraphs(@Param("extractionId") UUID extractionId);
+
+    @Query(
+            "SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.FigureRow(f.figureId, f.label, f.caption, f.page) "
+                    + "FROM ExtractedFigure f WHERE f.paperExtraction.id = :extractionId "
+                    + "ORDER BY f.orderIndex ASC NULLS LAST")
+    List<FigureRow> findSummaryFigures(@Param("extractionId") UUID extractionId);
+
+    @Query(
+            "SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.TableRow(t.tableId, t.label, t.caption, t.page, t.headers) "
+                    + "FROM ExtractedTable t WHERE t.paperExtraction.id = :extractionId "
+                    + "ORDER BY t.orderIndex ASC NULLS LAST")
+    List<TableRow> findSummaryTables(@Param("extractionId") UUID extractionId);
+
+    @Query(
+            "SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.CodeBlockRow(c.codeId, c.language, c.code, c.page) "
+                    + "FROM ExtractedCodeBlock c WHERE c.paperExtraction.id = :extractionId "
+                    + "ORDER BY c.orderIndex ASC NULLS LAST")
+    List<CodeBlockRow> findSummaryCodeBlocks(@Param("extractionId") UUID extractionId);
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.summary.projection.ReferenceRow("
+            + "r.referenceId, r.title, r.authors, r.year, r.venue, r.doi) "
+            + "FROM ExtractedReference r WHERE r.paperExtraction.id = :extractionId "
+            + "ORDER BY r.orderIndex ASC NULLS LAST")
+    List<ReferenceRow> findSummaryReferences(@Param("extractionId") UUID extractionId);
+
+    // Column projections for citation checks. Each reads one collection for
+    // every selected paper in a single statement, without the eager section,
+    // extraction and paper graph behind each row.
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow("
+            + "pe.paper.id, pe.id, pe.updatedAt) "
+            + "FROM PaperExtraction pe WHERE pe.paper.id IN :paperIds")
+    List<CorpusExtractionRow> findCitationCorpusExtractions(@Param("paperIds") Collection<UUID> paperIds);
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.citation.projection.CorpusParagraphRow("
+            + "s.paperExtraction.id, p.id, p.text, p.page, p.minhashSignature) "
+            + "FROM ExtractedParagraph p JOIN p.section s "
+            + "WHERE s.paperExtraction.id IN :extractionIds "
+            + "ORDER BY s.orderIndex ASC NULLS LAST, p.orderIndex ASC NULLS LAST")
+    List<CorpusParagraphRow> findCitationParagraphs(@Param("extractionIds") Collection<UUID> extractionIds);
+
+    @Query("SELECT new org.solace.scholar_ai.project_service.dto.citation.projection.CorpusReferenceRow("
+            + "r.paperExtraction.id, r.title, r.authors, r.year, r.venue, r.doi) "
+            + "FROM ExtractedReference r WHERE r.paperExtraction.id IN :extractionIds "
+            + "ORDER BY r.orderIndex ASC NULLS LAST")
+    List<CorpusReferenceRow> findCitationReferences(@Param("extractionIds") Collection<UUID> extractionIds);
 }
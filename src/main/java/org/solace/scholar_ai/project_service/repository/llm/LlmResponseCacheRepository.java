@@ -0,0 +1,48 @@
+package org.solace.scholar_ai.project_service.repository.llm;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.solace.scholar_ai.project_service.model.llm.LlmResponseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface LlmResponseCacheRepository extends JpaRepository<LlmResponseCacheEntry, String> {
+
+    /**
+     * Find a cached response that has not yet expired
+     */
+    @Query("SELECT e FROM LlmResponseCacheEntry e WHERE e.cacheKey = :cacheKey AND e.expiresAt > :now")
+    Optional<LlmResponseCacheEntry> findLive(@Param("cacheKey") String cacheKey, @Param("now") Instant now);
+
+    /**
+     * Insert or refresh a cached response; concurrent writers for the same key
+     * simply overwrite each other
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO llm_response_cache (cache_key, caller, model, response_text, finish_reason, "
+                    + "prompt_tokens, completion_tokens, created_at, expires_at) "
+                    + "VALUES (:#{#e.cacheKey}, :#{#e.caller.name()}, :#{#e.model}, :#{#e.responseText}, "
+                    + ":#{#e.finishReason}, :#{#e.promptTokens}, :#{#e.completionTokens}, :#{#e.createdAt}, "
+                    + ":#{#e.expiresAt}) "
+                    + "ON CONFLICT (cache_key) DO UPDATE SET response_text = EXCLUDED.response_text, "
+                    + "finish_reason = EXCLUDED.finish_reason, prompt_tokens = EXCLUDED.prompt_tokens, "
+                    + "completion_tokens = EXCLUDED.completion_tokens, created_at = EXCLUDED.created_at, "
+                    + "expires_at = EXCLUDED.expires_at",
+            nativeQuery = true)
+    void upsert(@Param("e") LlmResponseCacheEntry entry);
+
+    /**
+     * Delete expired entries (for cleanup)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM LlmResponseCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,131 @@
+package org.solace.scholar_ai.project_service.repository.pregeneration;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.solace.scholar_ai.project_service.model.pregeneration.PregenerationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Postgres-backed work queue for pre-generation.
+ *
+ * <p>Workers claim due rows with {@code FOR UPDATE SKIP LOCKED}, so nodes
+ * polling at the same time take disjoint rows without waiting on each other.
+ * A claimed row is owned through a heartbeat lease; rows whose heartbeat
+ * expires are claimable again. The lock, count and claim queries must run in
+ * one transaction, see {@code PregenerationService}.
+ */
+@Repository
+public interface PregenerationJobRepository extends JpaRepository<PregenerationJob, UUID> {
+
+    /**
+     * Queue {@code task} for a paper unless it is already queued or running
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "INSERT INTO pregeneration_jobs "
+                    + "(id, paper_id, project_id, task, status, attempts, next_attempt_at, created_at) "
+                    + "VALUES (gen_random_uuid(), :paperId, :projectId, :task, 'PENDING', 0, now(), now()) "
+                    + "ON CONFLICT (paper_id, task) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING",
+            nativeQuery = true)
+    int enqueue(@Param("paperId") UUID paperId, @Param("projectId") UUID projectId, @Param("task") String task);
+
+    /**
+     * Serialize claims across nodes for the rest of the current transaction,
+     * so the running count below cannot be read by two claimers at once
+     */
+    @Query(
+            value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('pregeneration-claim'))) AS claim_lock",
+            nativeQuery = true)
+    Integer lockClaims();
+
+    /**
+     * Jobs currently held by a live worker on any node
+     */
+    @Query(
+            value = "SELECT count(*) FROM pregeneration_jobs WHERE status = 'RUNNING' "
+                    + "AND heartbeat_at >= now() - make_interval(secs => :staleSeconds)",
+            nativeQuery = true)
+    long countRunning(@Param("staleSeconds") long staleSeconds);
+
+    /**
+     * Lock up to {@code limit} claimable rows: due pending jobs and running
+     * jobs whose worker stopped heartbeating, oldest due first
+     */
+    @Query(
+            value = "SELECT id FROM pregeneration_jobs "
+                    + "WHERE (status = 'PENDING' AND next_attempt_at <= now()) "
+                    + "OR (status = 'RUNNING' AND heartbeat_at < now() - make_interval(secs => :staleSeconds)) "
+                    + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UUID> lockClaimable(@Param("staleSeconds") long staleSeconds, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(
+            value = "UPDATE pregeneration_jobs SET status = 'RUNNING', owner = :owner, heartbeat_at = now(), "
+                    + "attempts = attempts + 1 WHERE id IN (:ids)",
+            nativeQuery = true)
+    int claim(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+
+    /**
+     * Extend the lease on jobs still owned by {@code owner}
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE pregeneration_jobs SET heartbeat_at = now() "
+                    + "WHERE id IN (:ids) AND owner = :owner AND status = 'RUNNING'",
+            nativeQuery = true)
+    int heartbeat(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE pregeneration_jobs SET status = 'COMPLETED', completed_at = now(), last_error = NULL "
+                    + "WHERE id = :id AND owner = :owner",
+            nativeQuery = true)
+    int complete(@Param("id") UUID id, @Param("owner") String owner);
+
+    /**
+     * Release a failed job back to the queue, due again after {@code delaySeconds}
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE pregeneration_jobs SET status = 'PENDING', owner = NULL, heartbeat_at = NULL, "
+                    + "last_error = :error, next_attempt_at = now() + make_interval(secs => :delaySeconds) "
+                    + "WHERE id = :id AND owner = :owner",
+            nativeQuery = true)
+    int retryLater(
+            @Param("id") UUID id,
+            @Param("owner") String owner,
+            @Param("delaySeconds") long delaySeconds,
+            @Param("error") String error);
+
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE pregeneration_jobs SET status = 'FAILED', completed_at = now(), last_error = :error "
+                    + "WHERE id = :id AND owner = :owner",
+            nativeQuery = true)
+    int fail(@Param("id") UUID id, @Param("owner") String owner, @Param("error") String error);
+
+    /**
+     * Unfinished jobs by task and state; PENDING rows are split into due and
+     * backing off
+     */
+    @Query(
+            value = "SELECT task, CASE WHEN status = 'PENDING' AND next_attempt_at > now() THEN 'BACKOFF' "
+                    + "ELSE status END AS state, count(*) FROM pregeneration_jobs "
+                    + "WHERE status IN ('PENDING', 'RUNNING') GROUP BY 1, 2",
+            nativeQuery = true)
+    List<Object[]> countUnfinished();
+}
@@ -5,14 +5,19 @@ import java.util.Optional;
 import java.util.UUID;
 import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface PaperSummaryRepository extends JpaRepository<PaperSummary, UUID> {
 
     Optional<PaperSummary> findByPaperId(UUID paperId);
 
+    boolean existsByPaperId(UUID paperId);
+
     @Query("SELECT ps FROM PaperSummary ps WHERE ps.validationStatus = 'PENDING'")
     List<PaperSummary> findPendingValidation();
 
@@ -22,6 +27,43 @@ public interface PaperSummaryRepository extends JpaRepository<PaperSummary, UUID
     @Query("SELECT ps FROM PaperSummary ps WHERE ps.reproScore >= :minScore")
     List<PaperSummary> findHighReproducibilitySummaries(Double minScore);
 
+    /**
+     * Summaries with sections answered by the Gemini fallback that are due for
+     * a repair and have had fewer than {@code maxAttempts}; those never
+     * attempted come first, least recently saved first
+     */
+    @Query(
+            value = "SELECT * FROM paper_summaries WHERE provisional_sections <> CAST('[]' AS jsonb) "
+                    + "AND provisional_repair_attempts < :maxAttempts "
+                    + "AND (provisional_next_attempt_at IS NULL OR provisional_next_attempt_at <= now()) "
+                    + "ORDER BY provisional_next_attempt_at NULLS FIRST, updated_at LIMIT :limit",
+            nativeQuery = true)
+    List<PaperSummary> findProvisional(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    /**
+     * Count a repair that left provisional sections and hold the next one
+     * back for {@code delaySeconds}
+     */
+    @Modifying
+    @Transactional
+    @Query(
+            value = "UPDATE paper_summaries SET provisional_repair_attempts = provisional_repair_attempts + 1, "
+                    + "provisional_next_attempt_at = now() + make_interval(secs => :delaySeconds) "
+                    + "WHERE paper_id = :paperId",
+            nativeQuery = true)
+    int retryProvisionalLater(@Param("paperId") UUID paperId, @Param("delaySeconds") long delaySeconds);
+
+    @Query(
+            value = "SELECT count(*) FROM paper_summaries WHERE provisional_sections <> CAST('[]' AS jsonb)",
+            nativeQuery = true)
+    long countProvisional();
+
+    @Query(
+            value = "SELECT COALESCE(SUM(jsonb_array_length(provisional_sections)), 0) FROM paper_summaries "
+                    + "WHERE provisional_sections <> CAST('[]' AS jsonb)",
+            nativeQuery = true)
+    long countProvisionalSections();
+
     // Count summaries by paper IDs
     long countByPaperIdIn(List<UUID> paperIds);
 
@@ -0,0 +1,60 @@
+package org.solace.scholar_ai.project_service.repository.summary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ownership of a job is a heartbeat lease: the claim and heartbeat queries
+ * commit in their own transaction and use the database clock, like
+ * {@link org.solace.scholar_ai.project_service.repository.coordination.JobLeaseRepository}.
+ */
+@Repository
+public interface SummaryJobRepository extends JpaRepository<SummaryJob, UUID> {
+
+    Optional<SummaryJob> findFirstByPaperIdOrderByCreatedAtDesc(UUID paperId);
+
+    Optional<SummaryJob> findFirstByPaperIdAndRefreshAndStatusInOrderByCreatedAtDesc(
+            UUID paperId, boolean refresh, Collection<SummaryJob.Status> statuses);
+
+    /**
+     * Unfinished jobs whose runner stopped heartbeating, oldest first
+     */
+    @Query(
+            value = "SELECT id FROM summary_jobs WHERE status IN ('QUEUED', 'RUNNING') "
+                    + "AND (heartbeat_at IS NULL OR heartbeat_at < now() - make_interval(secs => :staleSeconds)) "
+                    + "ORDER BY created_at LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findStaleIds(@Param("staleSeconds") long staleSeconds, @Param("limit") int limit);
+
+    /**
+     * Take ownership of a job that is new or whose heartbeat expired; returns 1 if claimed
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE summary_jobs SET owner = :owner, heartbeat_at = now(), attempts = attempts + 1 "
+                    + "WHERE id = :id AND status IN ('QUEUED', 'RUNNING') "
+                    + "AND (owner IS NULL OR heartbeat_at < now() - make_interval(secs => :staleSeconds))",
+            nativeQuery = true)
+    int claim(@Param("id") UUID id, @Param("owner") String owner, @Param("staleSeconds") long staleSeconds);
+
+    /**
+     * Extend the lease on jobs still owned by {@code owner}
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(
+            value = "UPDATE summary_jobs SET heartbeat_at = now() WHERE id IN (:ids) AND owner = :owner",
+            nativeQuery = true)
+    int heartbeat(@Param("ids") Collection<UUID> ids, @Param("owner") String owner);
+}
@@ -1,26 +1,19 @@
 package org.solace.scholar_ai.project_service.service.ai;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.solace.scholar_ai.project_service.config.GeminiConfig;
-import org.springframework.http.*;
+import org.solace.scholar_ai.project_service.client.gemini.GeminiClient;
+import org.solace.scholar_ai.project_service.client.gemini.GeminiRequest;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AIContentService {
 
-    private final GeminiConfig geminiConfig;
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GeminiClient geminiClient;
 
     /**
      * Generate AI content for notes based on user prompt and context
@@ -32,42 +25,23 @@ public class AIContentService {
             // Build the prompt with context
             String systemPrompt = buildSystemPrompt(noteContext, userPrompt);
 
-            // Prepare the request
-            Map<String, Object> requestBody = new HashMap<>();
-            Map<String, Object> contents = new HashMap<>();
-            Map<String, Object> part = new HashMap<>();
-
-            part.put("text", systemPrompt);
-            contents.put("parts", List.of(part));
-            requestBody.put("contents", List.of(contents));
-
-            // Add generation config for better output
-            Map<String, Object> generationConfig = new HashMap<>();
-            generationConfig.put("temperature", 0.7);
-            generationConfig.put("topK", 40);
-            generationConfig.put("topP", 0.95);
-            generationConfig.put("maxOutputTokens", 1024);
-            requestBody.put("generationConfig", generationConfig);
-
-            // Set headers
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            // Make the API call
-            String url = geminiConfig.getApiUrl() + "?key=" + geminiConfig.getApiKey();
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                String content = extractContentFromResponse(response.getBody());
-                log.info("Successfully generated AI content for project {}", projectId);
-                return content;
-            } else {
-                log.error("Failed to generate AI content. Status: {}", response.getStatusCode());
-                throw new RuntimeException("Failed to generate AI content");
+            String content = geminiClient.generateText(GeminiRequest.builder()
+                    .caller(LlmCaller.NOTE_CONTENT)
+                    .prompt(systemPrompt)
+                    .temperature(0.7)
+                    .topK(40)
+                    .topP(0.95)
+                    .maxOutputTokens(1024)
+                    .build());
+
+            if (content == null) {
+                log.warn("Unexpected response format from Gemini API");
+                return "Unable to generate content. Please try again.";
             }
 
+            log.info("Successfully generated AI content for project {}", projectId);
+            return content.trim();
+
         } catch (Exception e) {
             log.error("Error generating AI content for project {}: {}", projectId, e.getMessage());
             throw new RuntimeException("Failed to generate AI content: " + e.getMessage());
@@ -102,33 +76,4 @@ public class AIContentService {
 
         return prompt.toString();
     }
-
-    /**
-     * Extract content from Gemini API response
-     */
-    private String extractContentFromResponse(String responseBody) {
-        try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode candidates = root.path("candidates");
-
-            if (candidates.isArray() && candidates.size() > 0) {
-                JsonNode firstCandidate = candidates.get(0);
-                JsonNode content = firstCandidate.path("content");
-                JsonNode parts = content.path("parts");
-
-                if (parts.isArray() && parts.size() > 0) {
-                    JsonNode firstPart = parts.get(0);
-                    String text = firstPart.path("text").asText();
-                    return text.trim();
-                }
-            }
-
-            log.warn("Unexpected response format from Gemini API");
-            return "Unable to generate content. Please try again.";
-
-        } catch (Exception e) {
-            log.error("Error parsing Gemini API response: {}", e.getMessage());
-            return "Error generating content. Please try again.";
-        }
-    }
 }
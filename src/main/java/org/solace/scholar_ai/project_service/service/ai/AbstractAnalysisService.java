@@ -12,13 +12,17 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.ai.AbstractAnalysisDto;
 import org.solace.scholar_ai.project_service.dto.ai.AbstractHighlightDto;
 import org.solace.scholar_ai.project_service.model.paper.AbstractAnalysis;
 import org.solace.scholar_ai.project_service.model.paper.AbstractHighlight;
 import org.solace.scholar_ai.project_service.repository.AbstractAnalysisRepository;
+import org.solace.scholar_ai.project_service.service.coordination.SingleFlightService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -27,7 +31,10 @@ public class AbstractAnalysisService {
 
     private final GeminiGeneralService geminiGeneralService;
     private final ObjectMapper objectMapper;
+    private final LlmMetrics llmMetrics;
     private final AbstractAnalysisRepository abstractAnalysisRepository;
+    private final SingleFlightService singleFlightService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Extract JSON content from Gemini response, handling markdown code blocks
@@ -92,7 +99,7 @@ public class AbstractAnalysisService {
                 abstractText);
 
         try {
-            String response = geminiGeneralService.generateContent(prompt);
+            String response = geminiGeneralService.generateContent(prompt, LlmCaller.ABSTRACT_ANALYSIS);
             log.info("📥 Gemini response for highlights: {}", response);
 
             // Extract JSON from markdown code blocks if present
@@ -116,6 +123,7 @@ public class AbstractAnalysisService {
 
         } catch (JsonProcessingException e) {
             log.error("❌ Error parsing Gemini response for highlights: {}", e.getMessage(), e);
+            llmMetrics.recordParseFailure(LlmCaller.ABSTRACT_ANALYSIS, "highlights");
             return new AbstractHighlightDto(List.of());
         } catch (Exception e) {
             log.error("❌ Error analyzing abstract highlights: {}", e.getMessage(), e);
@@ -156,7 +164,7 @@ public class AbstractAnalysisService {
                 abstractText);
 
         try {
-            String response = geminiGeneralService.generateContent(prompt);
+            String response = geminiGeneralService.generateContent(prompt, LlmCaller.ABSTRACT_ANALYSIS);
             log.info("📥 Gemini response for insights: {}", response);
 
             // Extract JSON from markdown code blocks if present
@@ -177,6 +185,7 @@ public class AbstractAnalysisService {
 
         } catch (JsonProcessingException e) {
             log.error("❌ Error parsing Gemini response for insights: {}", e.getMessage(), e);
+            llmMetrics.recordParseFailure(LlmCaller.ABSTRACT_ANALYSIS, "insights");
             return new AbstractAnalysisDto(
                     "Not specified",
                     "Not specified",
@@ -217,72 +226,83 @@ public class AbstractAnalysisService {
     }
 
     /**
-     * Get or create analysis for a paper
+     * Get or create analysis for a paper. Concurrent requests for the same
+     * abstract, on this or another node, share one Gemini analysis.
      */
-    @Transactional
     public AbstractAnalysisDto getOrCreateAnalysis(String paperId, String abstractText) {
         try {
             String abstractHash = generateAbstractHash(abstractText);
+            return singleFlightService.execute(
+                    "abstract-analysis",
+                    paperId,
+                    abstractHash,
+                    () -> findOrCreateAnalysis(paperId, abstractText, abstractHash));
+        } catch (Exception e) {
+            log.error("❌ Error in getOrCreateAnalysis for paper {}: {}", paperId, e.getMessage(), e);
+            throw new RuntimeException("Failed to analyze abstract: " + e.getMessage(), e);
+        }
+    }
 
-            // Try to find existing analysis
-            Optional<AbstractAnalysis> existingAnalysis =
-                    abstractAnalysisRepository.findByPaperIdAndAbstractTextHash(paperId, abstractHash);
+    private AbstractAnalysisDto findOrCreateAnalysis(String paperId, String abstractText, String abstractHash) {
+        // Try to find existing analysis
+        Optional<AbstractAnalysis> existingAnalysis =
+                abstractAnalysisRepository.findByPaperIdAndAbstractTextHash(paperId, abstractHash);
 
-            if (existingAnalysis.isPresent()) {
-                log.info("📋 Found existing analysis for paper: {}", paperId);
-                return convertToDto(existingAnalysis.get());
-            }
+        if (existingAnalysis.isPresent()) {
+            log.info("📋 Found existing analysis for paper: {}", paperId);
+            return convertToDto(existingAnalysis.get());
+        }
 
-            // Create new analysis
-            log.info("🤖 Creating new analysis for paper: {}", paperId);
-            AbstractAnalysisDto insights = analyzeAbstractInsights(abstractText);
-            AbstractHighlightDto highlights = analyzeAbstractHighlights(abstractText);
-
-            // Truncate fields if they're too long for database
-            String truncatedFocus = truncateField(insights.getFocus(), 1000);
-            String truncatedApproach = truncateField(insights.getApproach(), 1000);
-            String truncatedEmphasis = truncateField(insights.getEmphasis(), 1000);
-            String truncatedMethodology = truncateField(insights.getMethodology(), 1000);
-            String truncatedImpact = truncateField(insights.getImpact(), 1000);
-            String truncatedChallenges = truncateField(insights.getChallenges(), 1000);
-
-            // Save to database
-            AbstractAnalysis analysis = AbstractAnalysis.builder()
-                    .paperId(paperId)
-                    .abstractTextHash(abstractHash)
-                    .focus(truncatedFocus)
-                    .approach(truncatedApproach)
-                    .emphasis(truncatedEmphasis)
-                    .methodology(truncatedMethodology)
-                    .impact(truncatedImpact)
-                    .challenges(truncatedChallenges)
-                    .analysisVersion("1.0")
-                    .isActive(true)
-                    .build();
-
-            AbstractAnalysis savedAnalysis = abstractAnalysisRepository.save(analysis);
-
-            // Save highlights
-            if (highlights.getHighlights() != null
-                    && !highlights.getHighlights().isEmpty()) {
-                List<AbstractHighlight> highlightEntities = highlights.getHighlights().stream()
-                        .map(highlight -> AbstractHighlight.builder()
-                                .abstractAnalysis(savedAnalysis)
-                                .text(truncateField(highlight.getText(), 500))
-                                .type(truncateField(highlight.getType(), 50))
-                                .startIndex(highlight.getStartIndex())
-                                .endIndex(highlight.getEndIndex())
-                                .build())
-                        .collect(Collectors.toList());
-
-                savedAnalysis.setHighlights(highlightEntities);
-            }
+        // Create new analysis; Gemini is called outside the transaction
+        log.info("🤖 Creating new analysis for paper: {}", paperId);
+        AbstractAnalysisDto insights = analyzeAbstractInsights(abstractText);
+        AbstractHighlightDto highlights = analyzeAbstractHighlights(abstractText);
 
-            return insights;
-        } catch (Exception e) {
-            log.error("❌ Error in getOrCreateAnalysis for paper {}: {}", paperId, e.getMessage(), e);
-            throw new RuntimeException("Failed to analyze abstract: " + e.getMessage(), e);
+        return transactionTemplate.execute(status -> saveAnalysis(paperId, abstractHash, insights, highlights));
+    }
+
+    private AbstractAnalysisDto saveAnalysis(
+            String paperId, String abstractHash, AbstractAnalysisDto insights, AbstractHighlightDto highlights) {
+        // Truncate fields if they're too long for database
+        String truncatedFocus = truncateField(insights.getFocus(), 1000);
+        String truncatedApproach = truncateField(insights.getApproach(), 1000);
+        String truncatedEmphasis = truncateField(insights.getEmphasis(), 1000);
+        String truncatedMethodology = truncateField(insights.getMethodology(), 1000);
+        String truncatedImpact = truncateField(insights.getImpact(), 1000);
+        String truncatedChallenges = truncateField(insights.getChallenges(), 1000);
+
+        // Save to database
+        AbstractAnalysis analysis = AbstractAnalysis.builder()
+                .paperId(paperId)
+                .abstractTextHash(abstractHash)
+                .focus(truncatedFocus)
+                .approach(truncatedApproach)
+                .emphasis(truncatedEmphasis)
+                .methodology(truncatedMethodology)
+                .impact(truncatedImpact)
+                .challenges(truncatedChallenges)
+                .analysisVersion("1.0")
+                .isActive(true)
+                .build();
+
+        AbstractAnalysis savedAnalysis = abstractAnalysisRepository.save(analysis);
+
+        // Save highlights
+        if (highlights.getHighlights() != null && !highlights.getHighlights().isEmpty()) {
+            List<AbstractHighlight> highlightEntities = highlights.getHighlights().stream()
+                    .map(highlight -> AbstractHighlight.builder()
+                            .abstractAnalysis(savedAnalysis)
+                            .text(truncateField(highlight.getText(), 500))
+                            .type(truncateField(highlight.getType(), 50))
+                            .startIndex(highlight.getStartIndex())
+                            .endIndex(highlight.getEndIndex())
+                            .build())
+                    .collect(Collectors.toList());
+
+            savedAnalysis.setHighlights(highlightEntities);
         }
+
+        return insights;
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.constant.todo.TodoCategory;
 import org.solace.scholar_ai.project_service.constant.todo.TodoPriority;
 import org.solace.scholar_ai.project_service.dto.chat.ParsedCommand;
@@ -136,7 +137,7 @@ public class CommandExecutorService {
                                 "- %s (Priority: %s, Status: %s)",
                                 todo.getTitle(), todo.getPriority(), todo.getStatus()))
                         .reduce("", (a, b) -> a + "\n" + b));
-        String summary = geminiGeneralService.generateContent(summaryPrompt);
+        String summary = geminiGeneralService.generateContent(summaryPrompt, LlmCaller.COMMAND_EXECUTE);
 
         return Map.of(
                 "todos", todos,
@@ -153,7 +154,7 @@ public class CommandExecutorService {
     }
 
     private Map<String, Object> handleGeneralQuestion(String question) {
-        String response = geminiGeneralService.generateContent(question);
+        String response = geminiGeneralService.generateContent(question, LlmCaller.COMMAND_EXECUTE);
         return Map.of("response", response);
     }
 }
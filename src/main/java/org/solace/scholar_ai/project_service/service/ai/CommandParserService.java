@@ -1,12 +1,15 @@
 package org.solace.scholar_ai.project_service.service.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
 import org.solace.scholar_ai.project_service.constant.CommandType;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.chat.ParsedCommand;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 public class CommandParserService {
     private final GeminiGeneralService geminiGeneralService;
     private final ObjectMapper objectMapper;
+    private final LlmMetrics llmMetrics;
 
     public ParsedCommand parseCommand(String userInput) {
         log.info("🔍 Parsing command: {}", userInput);
@@ -24,7 +28,7 @@ public class CommandParserService {
             String prompt = buildParsingPrompt(userInput);
             log.info("📝 Generated prompt: {}", prompt);
 
-            String geminiResponse = geminiGeneralService.generateContent(prompt);
+            String geminiResponse = geminiGeneralService.generateContent(prompt, LlmCaller.COMMAND_PARSE);
             log.info("🤖 Gemini response: {}", geminiResponse);
 
             // Parse JSON response from Gemini
@@ -61,10 +65,13 @@ public class CommandParserService {
                     .build();
         } catch (Exception e) {
             log.error("❌ Error parsing command: {}", e.getMessage(), e);
+            if (e instanceof JsonProcessingException) {
+                llmMetrics.recordParseFailure(LlmCaller.COMMAND_PARSE, null);
+            }
             log.info("🔄 Falling back to general question handler");
 
             // Fallback to general question if parsing fails
-            String fallbackResponse = geminiGeneralService.generateContent(userInput);
+            String fallbackResponse = geminiGeneralService.generateContent(userInput, LlmCaller.COMMAND_PARSE);
             log.info("🔄 Fallback response: {}", fallbackResponse);
 
             return ParsedCommand.builder()
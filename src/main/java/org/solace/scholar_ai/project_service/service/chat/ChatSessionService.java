@@ -9,6 +9,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.request.chat.CreateChatSessionRequest;
 import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
 import org.solace.scholar_ai.project_service.dto.response.chat.ChatMessageResponse;
@@ -222,7 +223,8 @@ public class ChatSessionService {
                     org.solace.scholar_ai.project_service.service.summary.GeminiService.GenerationConfig.builder()
                             .temperature(0.3)
                             .maxOutputTokens(100)
-                            .build());
+                            .build(),
+                    LlmCaller.CHAT_TITLE);
 
             // Clean and validate title
             title = title.trim().replaceAll("^[\"']|[\"']$", ""); // Remove quotes
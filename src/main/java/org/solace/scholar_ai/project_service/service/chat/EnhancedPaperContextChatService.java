@@ -1,10 +1,17 @@
 package org.solace.scholar_ai.project_service.service.chat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
 import org.solace.scholar_ai.project_service.dto.response.chat.PaperChatResponse;
 import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
@@ -20,6 +27,7 @@ import org.solace.scholar_ai.project_service.repository.chat.ChatMessageReposito
 import org.solace.scholar_ai.project_service.repository.chat.ChatSessionRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperAuthorRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.service.ai.GeminiGeneralService;
 import org.solace.scholar_ai.project_service.service.chat.QueryRequirementAnalysisService.DataRequirement;
 import org.solace.scholar_ai.project_service.service.summary.GeminiService;
 import org.springframework.stereotype.Service;
@@ -40,6 +48,8 @@ public class EnhancedPaperContextChatService {
     private final ChatSessionRepository chatSessionRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final GeminiService geminiService;
+    private final GeminiGeneralService streamingGeminiService;
+    private final MeterRegistry meterRegistry;
 
     // Enhanced AI components
     private final QueryRequirementAnalysisService queryRequirementAnalysisService;
@@ -48,6 +58,19 @@ public class EnhancedPaperContextChatService {
 
     // Configuration constants
     private static final int MAX_CONVERSATION_HISTORY = 3;
+    private static final double TEMPERATURE = 0.3;
+    private static final int MAX_OUTPUT_TOKENS = 2000;
+
+    /**
+     * A question that is ready to be sent to the LLM
+     */
+    private record ChatTurn(
+            Paper paper,
+            ChatSession session,
+            Set<DataRequirement> dataRequirements,
+            List<Author> authors,
+            List<ContentChunk> relevantChunks,
+            String prompt) {}
 
     /**
      * Main method for intelligent chat with papers using comprehensive AI optimization
@@ -57,75 +80,32 @@ public class EnhancedPaperContextChatService {
         log.info("Processing intelligent chat request for paper: {} with query type analysis", paperId);
 
         try {
-            // 1. Validate paper and extraction
-            Paper paper = validatePaperAndExtraction(paperId);
-
-            // 2. Get or create chat session
-            ChatSession session = getOrCreateChatSession(paperId, request.getSessionId());
-
-            // 3. Store user message
-            storeUserMessage(session, request.getMessage());
-
-            // 4. AI-powered analysis of what data is needed for this query
-            Set<DataRequirement> dataRequirements =
-                    queryRequirementAnalysisService.analyzeQueryRequirements(request.getMessage());
-
-            log.debug("AI determined data requirements: {}", dataRequirements);
-
-            // 5. Get paper authors if AI determined they're needed
-            List<Author> authors = queryRequirementAnalysisService.shouldIncludeAuthors(dataRequirements)
-                    ? getAuthorsForPaper(paperId)
-                    : null;
-
-            // 6. Retrieve content based on AI-determined requirements
-            List<ContentChunk> relevantChunks = contentRetrievalService.retrieveContentBasedOnRequirements(
-                    paper.getPaperExtraction(),
-                    request.getMessage(),
-                    request.getSelectedText(),
-                    request.getSelectionContext(),
-                    authors,
-                    dataRequirements);
-
-            log.debug("Retrieved {} AI-prioritized content chunks based on requirements", relevantChunks.size());
-
-            // 7. Get recent conversation history
-            List<ChatMessage> recentHistory = getRecentChatHistory(session.getId());
-
-            // 8. Build intelligent prompt optimized for determined requirements
-            String optimizedPrompt = promptBuilder.buildOptimizedPromptWithRequirements(
-                    paper.getPaperExtraction(),
-                    relevantChunks,
-                    recentHistory,
-                    request.getMessage(),
-                    request.getSelectedText(),
-                    dataRequirements.toArray(new DataRequirement[0]),
-                    authors);
+            // 1-8. Validate the paper, store the question and build the prompt
+            ChatTurn turn = prepareTurn(paperId, request);
 
             // 9. Generate AI response with standard parameters
             String aiResponse;
             try {
                 aiResponse = geminiService.generate(
-                        optimizedPrompt,
+                        turn.prompt(),
                         org.solace.scholar_ai.project_service.service.summary.GeminiService.GenerationConfig.builder()
-                                .temperature(0.3)
-                                .maxOutputTokens(2000)
-                                .build());
+                                .temperature(TEMPERATURE)
+                                .maxOutputTokens(MAX_OUTPUT_TOKENS)
+                                .build(),
+                        LlmCaller.PAPER_CHAT);
                 if (aiResponse == null || aiResponse.trim().isEmpty()) {
                     throw new RuntimeException("AI service returned empty response");
                 }
             } catch (Exception aiError) {
                 log.warn("AI service error, providing fallback response: {}", aiError.getMessage());
-                aiResponse = generateFallbackResponse(dataRequirements, authors, paper.getPaperExtraction());
+                aiResponse = generateFallbackResponse(
+                        turn.dataRequirements(), turn.authors(), turn.paper().getPaperExtraction());
             }
 
             log.debug("Generated AI response using AI-powered query analysis system");
 
-            // 10. Store assistant response
-            ChatMessage assistantMessage = storeAssistantMessage(session, aiResponse);
-
-            // 11. Build comprehensive response with metadata
-            return buildSimplifiedChatResponse(
-                    session, assistantMessage, relevantChunks, paper.getPaperExtraction(), dataRequirements);
+            // 10-11. Store assistant response and build the response with metadata
+            return completeTurn(turn, aiResponse);
 
         } catch (Exception e) {
             log.error("Error in enhanced chat processing for paper: {}", paperId, e);
@@ -133,6 +113,130 @@ public class EnhancedPaperContextChatService {
         }
     }
 
+    /**
+     * Streaming variant of {@link #chatWithPaper}, with the same retrieval,
+     * prompt and generation settings. Tokens are forwarded to {@code onToken}
+     * as Gemini produces them, the assistant message is stored once the stream
+     * ends, and the returned future completes with the response
+     * {@link #chatWithPaper} would have returned. If generation fails, the
+     * future completes with the same fallback answer instead.
+     *
+     * @throws PaperNotFoundException if the paper does not exist
+     * @throws PaperNotExtractedException if its content is not extracted yet
+     */
+    @Transactional
+    public CompletableFuture<PaperChatResponse> streamChatWithPaper(
+            UUID paperId, PaperChatRequest request, Consumer<String> onToken) {
+        log.info("Processing streaming chat request for paper: {}", paperId);
+        long startNanos = System.nanoTime();
+
+        ChatTurn turn;
+        try {
+            turn = prepareTurn(paperId, request);
+        } catch (PaperNotFoundException | PaperNotExtractedException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error in enhanced chat processing for paper: {}", paperId, e);
+            return CompletableFuture.completedFuture(handleChatError(paperId, request.getSessionId(), e));
+        }
+
+        AtomicBoolean awaitingFirstToken = new AtomicBoolean(true);
+        Consumer<String> timedOnToken = token -> {
+            if (awaitingFirstToken.compareAndSet(true, false)) {
+                Timer.builder("paper.chat.time.to.first.token")
+                        .description("Time from receiving a paper chat question to streaming the first answer token")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            onToken.accept(token);
+        };
+
+        return streamingGeminiService
+                .streamResponse(turn.prompt(), TEMPERATURE, MAX_OUTPUT_TOKENS, LlmCaller.PAPER_CHAT, timedOnToken)
+                .handle((aiResponse, error) -> {
+                    if (error == null
+                            && aiResponse != null
+                            && !aiResponse.trim().isEmpty()) {
+                        return completeTurn(turn, aiResponse);
+                    }
+                    log.warn(
+                            "AI service error while streaming, providing fallback response: {}",
+                            error != null ? error.getMessage() : "AI service returned empty response");
+                    return completeTurn(
+                            turn,
+                            generateFallbackResponse(
+                                    turn.dataRequirements(),
+                                    turn.authors(),
+                                    turn.paper().getPaperExtraction()));
+                });
+    }
+
+    /**
+     * Steps shared by both chat variants up to the LLM call: validate the
+     * paper, store the question, retrieve content and build the prompt
+     */
+    private ChatTurn prepareTurn(UUID paperId, PaperChatRequest request) {
+        // 1. Validate paper and extraction
+        Paper paper = validatePaperAndExtraction(paperId);
+
+        // 2. Get or create chat session
+        ChatSession session = getOrCreateChatSession(paperId, request.getSessionId());
+
+        // 3. Store user message
+        storeUserMessage(session, request.getMessage());
+
+        // 4. AI-powered analysis of what data is needed for this query
+        Set<DataRequirement> dataRequirements =
+                queryRequirementAnalysisService.analyzeQueryRequirements(request.getMessage());
+
+        log.debug("AI determined data requirements: {}", dataRequirements);
+
+        // 5. Get paper authors if AI determined they're needed
+        List<Author> authors = queryRequirementAnalysisService.shouldIncludeAuthors(dataRequirements)
+                ? getAuthorsForPaper(paperId)
+                : null;
+
+        // 6. Retrieve content based on AI-determined requirements
+        List<ContentChunk> relevantChunks = contentRetrievalService.retrieveContentBasedOnRequirements(
+                paper.getPaperExtraction(),
+                request.getMessage(),
+                request.getSelectedText(),
+                request.getSelectionContext(),
+                authors,
+                dataRequirements);
+
+        log.debug("Retrieved {} AI-prioritized content chunks based on requirements", relevantChunks.size());
+
+        // 7. Get recent conversation history
+        List<ChatMessage> recentHistory = getRecentChatHistory(session.getId());
+
+        // 8. Build intelligent prompt optimized for determined requirements
+        String optimizedPrompt = promptBuilder.buildOptimizedPromptWithRequirements(
+                paper.getPaperExtraction(),
+                relevantChunks,
+                recentHistory,
+                request.getMessage(),
+                request.getSelectedText(),
+                dataRequirements.toArray(new DataRequirement[0]),
+                authors);
+
+        return new ChatTurn(paper, session, dataRequirements, authors, relevantChunks, optimizedPrompt);
+    }
+
+    /**
+     * Store the answer of a turn and build the chat response
+     */
+    private PaperChatResponse completeTurn(ChatTurn turn, String aiResponse) {
+        ChatMessage assistantMessage = storeAssistantMessage(turn.session(), aiResponse);
+        return buildSimplifiedChatResponse(
+                turn.session(),
+                assistantMessage,
+                turn.relevantChunks(),
+                turn.paper().getPaperExtraction(),
+                turn.dataRequirements());
+    }
+
     /**
      * Validate paper exists and is fully extracted
      */
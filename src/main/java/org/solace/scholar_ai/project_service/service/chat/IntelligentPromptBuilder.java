@@ -1,24 +1,30 @@
 package org.solace.scholar_ai.project_service.service.chat;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
 import org.solace.scholar_ai.project_service.model.author.Author;
 import org.solace.scholar_ai.project_service.model.chat.ChatMessage;
 import org.solace.scholar_ai.project_service.model.chat.ContentChunk;
 import org.solace.scholar_ai.project_service.model.extraction.PaperExtraction;
+import org.solace.scholar_ai.project_service.util.prompt.ContextPacker;
 import org.springframework.stereotype.Service;
 
 /**
  * Intelligent Prompt Builder that creates optimized prompts for different query types
- * Uses query analysis to structure prompts for maximum AI accuracy and relevance
+ * Uses query analysis to structure prompts for maximum AI accuracy and relevance.
+ * Retrieved content and history are packed into the configured token budgets.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IntelligentPromptBuilder {
 
+    private final GeminiConfig geminiConfig;
+
     /**
      * Build comprehensive prompt optimized for the specific query type and context
      */
@@ -47,7 +53,7 @@ public class IntelligentPromptBuilder {
 
         // 4. Conversation history (if exists)
         if (conversationHistory != null && !conversationHistory.isEmpty()) {
-            prompt.append(buildConversationContext(conversationHistory));
+            prompt.append(buildConversationContext(conversationHistory, "=== CONVERSATION HISTORY ===\n"));
             prompt.append("\n\n");
         }
 
@@ -99,24 +105,23 @@ public class IntelligentPromptBuilder {
         prompt.append(buildPaperContextWithAuthors(extraction, authors));
         prompt.append("\n\n");
 
-        // 3. Relevant content chunks
+        // 3. Relevant content chunks, packed by relevance into the chat budget
         if (relevantChunks != null && !relevantChunks.isEmpty()) {
-            prompt.append("RELEVANT PAPER CONTENT:\n");
+            List<ContextPacker.Block> blocks = new ArrayList<>();
             for (ContentChunk chunk : relevantChunks) {
-                prompt.append("=== ").append(chunk.getSource()).append(" ===\n");
-                prompt.append(chunk.getContent()).append("\n\n");
+                blocks.add(new ContextPacker.Block(
+                        "RELEVANT PAPER CONTENT:\n",
+                        null,
+                        "=== " + chunk.getSource() + " ===\n" + chunk.getContent() + "\n",
+                        chunk.getRelevanceScore(),
+                        blocks.size()));
             }
+            prompt.append(pack(blocks, geminiConfig.getPromptBudget().getPaperChat(), "paper content"));
         }
 
-        // 4. Conversation history (if exists)
+        // 4. Conversation history (if exists), most recent turns first
         if (conversationHistory != null && !conversationHistory.isEmpty()) {
-            prompt.append("CONVERSATION HISTORY:\n");
-            for (ChatMessage msg : conversationHistory) {
-                prompt.append(msg.getRole().toString())
-                        .append(": ")
-                        .append(msg.getContent())
-                        .append("\n");
-            }
+            prompt.append(buildConversationContext(conversationHistory, "CONVERSATION HISTORY:\n"));
             prompt.append("\n");
         }
 
@@ -290,44 +295,68 @@ public class IntelligentPromptBuilder {
         // Group chunks by type for better organization
         var chunksByType = relevantChunks.stream().collect(Collectors.groupingBy(ContentChunk::getType));
 
-        // Process in priority order based on query type
+        // Process in priority order based on query type; lower-priority types rank lower when packing
         String[] priorityOrder = getPriorityOrder(analysis.getPrimaryType());
+        List<ContextPacker.Block> blocks = new ArrayList<>();
 
-        for (String type : priorityOrder) {
+        for (int rank = 0; rank < priorityOrder.length; rank++) {
+            String type = priorityOrder[rank];
             List<ContentChunk> chunks = chunksByType.get(type);
             if (chunks != null && !chunks.isEmpty()) {
-                context.append("\n--- ").append(type.toUpperCase()).append(" CONTENT ---\n");
+                double typeWeight = 1.0 / (1.0 + 0.1 * rank);
                 for (ContentChunk chunk : chunks) {
-                    context.append("Source: ").append(chunk.getSource()).append("\n");
-                    context.append("Content: ").append(chunk.getContent()).append("\n");
+                    StringBuilder text = new StringBuilder();
+                    text.append("Source: ").append(chunk.getSource()).append("\n");
+                    text.append("Content: ").append(chunk.getContent()).append("\n");
                     if (chunk.getPageNumber() != null) {
-                        context.append("Page: ").append(chunk.getPageNumber()).append("\n");
+                        text.append("Page: ").append(chunk.getPageNumber()).append("\n");
                     }
-                    context.append("Relevance: ")
+                    text.append("Relevance: ")
                             .append(String.format("%.2f", chunk.getRelevanceScore()))
-                            .append("\n\n");
+                            .append("\n");
+                    blocks.add(new ContextPacker.Block(
+                            "\n--- " + type.toUpperCase() + " CONTENT ---\n",
+                            null,
+                            text.toString(),
+                            chunk.getRelevanceScore() * typeWeight,
+                            blocks.size()));
                 }
             }
         }
 
+        context.append(pack(blocks, geminiConfig.getPromptBudget().getPaperChat(), "paper content"));
         return context.toString();
     }
 
     /**
-     * Build conversation context from chat history
+     * Build conversation context from chat history, keeping the most recent
+     * turns that fit the history budget in chronological order
      */
-    private String buildConversationContext(List<ChatMessage> conversationHistory) {
-        StringBuilder context = new StringBuilder();
-        context.append("=== CONVERSATION HISTORY ===\n");
-
-        conversationHistory.forEach(message -> {
-            context.append(message.getRole().toString())
-                    .append(": ")
-                    .append(truncateText(message.getContent(), 300))
-                    .append("\n");
-        });
+    private String buildConversationContext(List<ChatMessage> conversationHistory, String header) {
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+        int size = conversationHistory.size();
+        for (int i = 0; i < size; i++) {
+            ChatMessage message = conversationHistory.get(i);
+            blocks.add(new ContextPacker.Block(
+                    header,
+                    null,
+                    message.getRole().toString() + ": " + message.getContent(),
+                    (double) (i + 1) / size,
+                    i));
+        }
+        return pack(blocks, geminiConfig.getPromptBudget().getChatHistory(), "conversation history");
+    }
 
-        return context.toString();
+    private String pack(List<ContextPacker.Block> blocks, int budgetTokens, String label) {
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, budgetTokens);
+        log.debug(
+                "Packed {} into {} tokens: {} blocks kept, {} truncated, {} dropped",
+                label,
+                packed.tokens(),
+                packed.included(),
+                packed.truncated(),
+                packed.dropped());
+        return packed.text();
     }
 
     /**
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
 import org.solace.scholar_ai.project_service.dto.response.chat.PaperChatResponse;
 import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
@@ -85,7 +86,8 @@ public class PaperContextChatService {
                     request.getSelectedText());
 
             // 7. Generate detailed response using Gemini
-            String aiResponse = geminiService.generateResponse(prompt, 0.3, 3000); // Lower temperature, higher token
+            String aiResponse = geminiService.generateResponse(
+                    prompt, 0.3, 3000, LlmCaller.PAPER_CHAT); // Lower temperature, higher token
             // limit
 
             // 8. Store assistant response
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
 import org.solace.scholar_ai.project_service.dto.response.chat.PaperChatResponse;
 import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
@@ -78,7 +79,7 @@ public class PaperContextChatServiceFixed {
                     paper.getPaperExtraction(), relevantChunks, recentHistory, request.getMessage());
 
             // 7. Generate response using Gemini
-            String aiResponse = geminiService.generateResponse(prompt, 0.7, 2000);
+            String aiResponse = geminiService.generateResponse(prompt, 0.7, 2000, LlmCaller.PAPER_CHAT);
 
             // 8. Store assistant response
             ChatMessage assistantMessage = storeAssistantMessage(session, aiResponse);
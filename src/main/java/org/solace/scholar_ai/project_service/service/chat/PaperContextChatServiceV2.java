@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
 import org.solace.scholar_ai.project_service.dto.response.chat.PaperChatResponse;
 import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
@@ -74,7 +75,7 @@ public class PaperContextChatServiceV2 {
             String prompt = buildOptimizedPrompt(extraction, relevantChunks, recentHistory, request.getMessage());
 
             // 7. Get AI response
-            String aiResponse = geminiService.generateResponse(prompt, 0.4, MAX_RESPONSE_TOKENS);
+            String aiResponse = geminiService.generateResponse(prompt, 0.4, MAX_RESPONSE_TOKENS, LlmCaller.PAPER_CHAT);
 
             // 8. Store assistant message
             ChatMessage assistantMessage = storeAssistantMessage(session, aiResponse);
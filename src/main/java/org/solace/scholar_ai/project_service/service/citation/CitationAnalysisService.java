@@ -2,26 +2,42 @@ package org.solace.scholar_ai.project_service.service.citation;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
 import org.solace.scholar_ai.project_service.dto.citation.CitationCheckRequestDto;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusParagraphRow;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusReferenceRow;
 import org.solace.scholar_ai.project_service.model.citation.CitationCheck;
 import org.solace.scholar_ai.project_service.model.citation.CitationEvidence;
 import org.solace.scholar_ai.project_service.model.citation.CitationIssue;
 import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
 import org.solace.scholar_ai.project_service.model.extraction.ExtractedReference;
-import org.solace.scholar_ai.project_service.model.extraction.PaperExtraction;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
 import org.solace.scholar_ai.project_service.model.paper.PaperAuthor;
 import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperAuthorRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
 import org.solace.scholar_ai.project_service.service.ai.GeminiGeneralService;
+import org.solace.scholar_ai.project_service.service.citation.incremental.CitationBaseline;
+import org.solace.scholar_ai.project_service.service.citation.incremental.SentenceFingerprint;
+import org.solace.scholar_ai.project_service.service.citation.index.Bm25Index;
+import org.solace.scholar_ai.project_service.service.citation.index.CitationCorpusIndexer;
+import org.solace.scholar_ai.project_service.service.citation.index.CorpusIndex;
+import org.solace.scholar_ai.project_service.service.citation.index.NearDuplicateIndex;
+import org.solace.scholar_ai.project_service.service.coordination.LlmFanOutExecutor;
+import org.solace.scholar_ai.project_service.util.text.LatexSentenceLexer;
 import org.springframework.stereotype.Service;
 
 /**
@@ -38,10 +54,19 @@ public class CitationAnalysisService {
     private final PaperRepository paperRepository;
     private final PaperAuthorRepository paperAuthorRepository;
     private final ObjectMapper objectMapper;
+    private final LlmMetrics llmMetrics;
+    private final LlmFanOutExecutor llmFanOutExecutor;
+    private final CitationCorpusIndexer corpusIndexer;
+    private final MeterRegistry meterRegistry;
+
+    // Evidence retrieval: paragraphs passed to AI verification per sentence, and
+    // the normalized BM25 score (share of the sentence's term weight) they need
+    private static final int MAX_EVIDENCE_CANDIDATES = 5;
+    private static final double MIN_EVIDENCE_SCORE = 0.3;
+    // Claim/evidence pairs judged in one verification prompt
+    private static final int VERIFICATION_BATCH_SIZE = 8;
 
     // Patterns for LaTeX parsing
-    private static final Pattern CITE_PATTERN = Pattern.compile("\\\\cite\\{([^}]+)\\}");
-    private static final Pattern SENTENCE_PATTERN = Pattern.compile("[.!?]+\\s+|$");
     private static final Pattern CLAIM_PATTERN = Pattern.compile(
             "\\b(shows?|demonstrates?|proves?|indicates?|suggests?|confirms?|reveals?|establishes?)\\b");
 
@@ -63,6 +88,25 @@ public class CitationAnalysisService {
             List<String> selectedPaperIds,
             boolean runWebCheck,
             CitationCheckRequestDto.Options options) {
+        return analyzeDocument(check, latexContent, selectedPaperIds, runWebCheck, options, null);
+    }
+
+    /**
+     * Analyze LaTeX content for citation issues, reusing the sentence-level
+     * issues of {@code baseline} for sentences it already analyzed. Only new
+     * or edited sentences go through evidence retrieval, AI verification and
+     * plagiarism detection; document-level checks (orphan and dangling
+     * references, metadata) are cheap and always run over the whole document.
+     * The sentence fingerprints and analysis context are recorded on
+     * {@code check} for the next re-check.
+     */
+    public List<CitationIssue> analyzeDocument(
+            CitationCheck check,
+            String latexContent,
+            List<String> selectedPaperIds,
+            boolean runWebCheck,
+            CitationCheckRequestDto.Options options,
+            CitationBaseline baseline) {
         log.info(
                 "Starting citation analysis for document {} with {} selected papers",
                 check.getDocumentId(),
@@ -86,29 +130,67 @@ public class CitationAnalysisService {
         }
 
         List<CitationIssue> issues = new ArrayList<>();
+        StageClock clock = new StageClock();
 
         try {
             // Step 1: Parse LaTeX content into sentences
             List<LatexSentence> sentences = parseLatexIntoSentences(latexContent);
             log.info("Parsed {} sentences from LaTeX content", sentences.size());
+            clock.lap("parsing");
 
             // Step 2: Load local corpus from selected papers
-            Map<String, List<ExtractedParagraph>> localCorpus = loadLocalCorpus(selectedPaperIds);
-            Map<String, List<ExtractedReference>> localReferences = loadLocalReferences(selectedPaperIds);
+            List<CorpusExtractionRow> extractions = loadCorpusExtractions(selectedPaperIds);
+            CorpusIndex corpusIndex = corpusIndexer.index(extractions, this::loadLocalCorpus);
+            Map<String, List<ExtractedReference>> localReferences = loadLocalReferences(extractions);
             log.info(
-                    "Loaded local corpus: {} papers, {} paragraphs, {} references",
-                    localCorpus.size(),
-                    localCorpus.values().stream().mapToInt(List::size).sum(),
+                    "Loaded local corpus: {} of {} papers extracted, {} references",
+                    extractions.size(),
+                    selectedPaperIds.size(),
                     localReferences.values().stream().mapToInt(List::size).sum());
+            clock.lap("corpus");
 
-            // Step 3: Analyze each sentence for citation issues
+            // Step 3: Reuse the previous check's issues for unchanged sentences
+            String contextHash =
+                    analysisContextHash(selectedPaperIds, corpusIndex.version(), plagiarismThreshold, runWebCheck);
+            boolean incremental = baseline != null && baseline.appliesTo(contextHash);
+            List<LatexSentence> changedSentences = new ArrayList<>();
             for (LatexSentence sentence : sentences) {
-                if (shouldAnalyzeSentence(sentence)) {
-                    issues.addAll(analyzeSentence(check, sentence, localCorpus, localReferences, runWebCheck));
+                if (incremental && baseline.covers(sentence.getFingerprint())) {
+                    issues.addAll(baseline.reuse(
+                            sentence.getFingerprint(),
+                            check,
+                            sentence.getStartPos(),
+                            sentence.getEndPos(),
+                            sentence.getLineStart(),
+                            sentence.getLineEnd()));
+                } else {
+                    changedSentences.add(sentence);
                 }
             }
+            log.info(
+                    "Analyzing {} of {} sentences{}",
+                    changedSentences.size(),
+                    sentences.size(),
+                    incremental ? ", reusing results of check " + baseline.getCheckId() : "");
+
+            clock.lap("diff");
+
+            // Step 4: Retrieve evidence for each new or edited claim, verify all
+            // claim/evidence pairs in concurrent batches, then raise issues
+            List<LatexSentence> claims = changedSentences.stream()
+                    .filter(this::shouldAnalyzeSentence)
+                    .toList();
+            Map<LatexSentence, List<EvidenceCandidate>> candidates = retrieveEvidence(claims, corpusIndex.evidence());
+            clock.lap("retrieval");
+            Map<LatexSentence, LocalVerificationResult> verification = verifyEvidence(candidates);
+            clock.lap("verification");
+            Set<String> unsettled = new HashSet<>();
+            for (LatexSentence sentence : claims) {
+                issues.addAll(analyzeSentence(check, sentence, verification.get(sentence), unsettled));
+            }
+            clock.lap("issues");
 
-            // Step 4: Comprehensive citation validation
+            // Step 5: Comprehensive citation validation
             log.info("Starting comprehensive citation validation...");
             List<CitationIssue> orphanIssues = findOrphanReferences(check, latexContent, sentences);
             log.info("Found {} orphan reference issues", orphanIssues.size());
@@ -121,12 +203,34 @@ public class CitationAnalysisService {
             List<CitationIssue> metadataIssues = validateMetadata(check, latexContent, localReferences);
             log.info("Found {} metadata validation issues", metadataIssues.size());
             issues.addAll(metadataIssues);
+            clock.lap("validation");
 
-            List<CitationIssue> plagiarismIssues = detectPotentialPlagiarism(check, sentences, localCorpus);
+            List<CitationIssue> plagiarismIssues = detectPotentialPlagiarism(
+                    check, changedSentences, corpusIndex.nearDuplicates(), plagiarismThreshold);
             log.info("Found {} potential plagiarism issues", plagiarismIssues.size());
             issues.addAll(plagiarismIssues);
+            clock.lap("plagiarism");
+
+            // Sentences whose verification failed are analyzed again next time
+            check.setAnalysisContextHash(contextHash);
+            check.setSentenceFingerprints(sentences.stream()
+                    .map(LatexSentence::getFingerprint)
+                    .filter(fingerprint -> !unsettled.contains(fingerprint))
+                    .distinct()
+                    .toList());
+            Map<String, Object> summary = new HashMap<>();
+            summary.put("sentenceCount", sentences.size());
+            summary.put("analyzedSentenceCount", changedSentences.size());
+            summary.put(
+                    "verifiedPairCount",
+                    candidates.values().stream().mapToInt(List::size).sum());
+            summary.put("stageTimingsMs", clock.millis());
+            check.setSummary(summary);
 
-            log.info("Citation analysis completed with {} issues found", issues.size());
+            log.info(
+                    "Citation analysis completed with {} issues found, stage timings (ms): {}",
+                    issues.size(),
+                    clock.millis());
 
         } catch (Exception e) {
             log.error("Error during citation analysis", e);
@@ -152,152 +256,110 @@ public class CitationAnalysisService {
     }
 
     /**
-     * Parse LaTeX content into sentences with position tracking
+     * Hash of everything besides the sentence itself that sentence analysis
+     * depends on, or {@code null} if the corpus version is unknown
+     */
+    private String analysisContextHash(
+            List<String> selectedPaperIds, String corpusVersion, double plagiarismThreshold, boolean runWebCheck) {
+        if (corpusVersion == null) {
+            return null;
+        }
+        return SentenceFingerprint.context(List.of(
+                String.join(",", new TreeSet<>(selectedPaperIds)),
+                corpusVersion,
+                Double.toString(plagiarismThreshold),
+                Boolean.toString(runWebCheck),
+                Integer.toString(MAX_EVIDENCE_CANDIDATES),
+                Double.toString(MIN_EVIDENCE_SCORE)));
+    }
+
+    /**
+     * Parse LaTeX content into sentences with exact source positions, in one
+     * pass of {@link LatexSentenceLexer}
      */
     private List<LatexSentence> parseLatexIntoSentences(String latexContent) {
         List<LatexSentence> sentences = new ArrayList<>();
-
-        // Split original content into lines to preserve line numbers
-        String[] originalLines = latexContent.split("\n");
-        int currentPos = 0;
-
-        // Process each line individually to maintain correct line numbers
-        for (int lineNumber = 0; lineNumber < originalLines.length; lineNumber++) {
-            String originalLine = originalLines[lineNumber];
-
-            // Clean this line individually
-            String cleanLine = originalLine
-                    .replaceAll("\\\\[a-zA-Z]+\\*?\\{[^}]*\\}", " ") // Remove simple commands
-                    .replaceAll("\\\\[a-zA-Z]+\\*?", " ") // Remove commands without braces
-                    .replaceAll("\\$[^$]*\\$", " [MATH] ") // Replace inline math
-                    .replaceAll("\\$\\$[^$]*\\$\\$", " [DISPLAY_MATH] ") // Replace display math
-                    .replaceAll("\\\\\\[[^\\]]*\\\\\\]", " [DISPLAY_MATH] ") // Replace display math
-                    .replaceAll("\\%.*", "") // Remove comments
-                    .replaceAll("\\s+", " ") // Normalize whitespace
-                    .trim();
-
-            if (cleanLine.isEmpty()) {
-                currentPos += originalLine.length() + 1; // Account for newline character
-                continue;
-            }
-
-            // Split line into sentences
-            String[] sentenceParts = cleanLine.split("\\. ");
-            int linePos = 0;
-
-            for (int i = 0; i < sentenceParts.length; i++) {
-                String sentenceText = sentenceParts[i].trim();
-                if (sentenceText.length() > 10) { // Minimum sentence length
-                    int sentenceStart = currentPos + linePos;
-                    int sentenceEnd = sentenceStart + sentenceText.length();
-
-                    // Extract cited keys from ORIGINAL line (before cleaning) to preserve \cite{} commands
-                    Set<String> citedKeys = extractCitedKeys(originalLine);
-
-                    LatexSentence sentence = new LatexSentence(
-                            sentenceText,
-                            sentenceStart,
-                            sentenceEnd,
-                            lineNumber + 1, // Convert 0-based to 1-based line numbering
-                            lineNumber + 1, // For now, assume sentence doesn't span multiple lines
-                            citedKeys);
-                    sentences.add(sentence);
-
-                    log.debug(
-                            "Created sentence at line {}: '{}' with cited keys: {}",
-                            lineNumber + 1,
-                            sentenceText.substring(0, Math.min(50, sentenceText.length())),
-                            citedKeys);
-                }
-                linePos += sentenceText.length() + 2; // Account for ". " separator
-            }
-
-            currentPos += originalLine.length() + 1; // Account for newline character
+        for (LatexSentenceLexer.Sentence sentence : LatexSentenceLexer.sentences(latexContent)) {
+            sentences.add(new LatexSentence(
+                    sentence.text(),
+                    sentence.startPos(),
+                    sentence.endPos(),
+                    sentence.lineStart(),
+                    sentence.lineEnd(),
+                    sentence.citedKeys()));
         }
 
         log.info(
                 "Parsed {} sentences from LaTeX content with line numbers ranging from {} to {}",
                 sentences.size(),
-                sentences.isEmpty()
-                        ? 0
-                        : sentences.stream()
-                                .mapToInt(LatexSentence::getLineStart)
-                                .min()
-                                .orElse(0),
-                sentences.isEmpty()
-                        ? 0
-                        : sentences.stream()
-                                .mapToInt(LatexSentence::getLineStart)
-                                .max()
-                                .orElse(0));
+                sentences.isEmpty() ? 0 : sentences.get(0).getLineStart(),
+                sentences.isEmpty() ? 0 : sentences.get(sentences.size() - 1).getLineEnd());
 
         return sentences;
     }
 
     /**
-     * Extract cited keys from a sentence
+     * Load the extraction of every selected paper that has one, in one query
      */
-    private Set<String> extractCitedKeys(String text) {
-        Set<String> keys = new HashSet<>();
-        Matcher matcher = CITE_PATTERN.matcher(text);
-        while (matcher.find()) {
-            String citeContent = matcher.group(1);
-            // Split multiple keys in same cite command
-            Arrays.stream(citeContent.split(",")).map(String::trim).forEach(keys::add);
+    private List<CorpusExtractionRow> loadCorpusExtractions(List<String> selectedPaperIds) {
+        List<UUID> paperIds = new ArrayList<>();
+        for (String paperId : selectedPaperIds) {
+            try {
+                paperIds.add(UUID.fromString(paperId));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping invalid paper id {}", paperId);
+            }
         }
-        return keys;
+        if (paperIds.isEmpty()) {
+            return List.of();
+        }
+        return paperExtractionRepository.findCitationCorpusExtractions(paperIds);
     }
 
     /**
-     * Load local corpus from selected papers
+     * Load the paragraphs of the given extractions in one query, keyed by
+     * extraction id
      */
-    private Map<String, List<ExtractedParagraph>> loadLocalCorpus(List<String> selectedPaperIds) {
-        Map<String, List<ExtractedParagraph>> corpus = new HashMap<>();
-
-        for (String paperId : selectedPaperIds) {
-            try {
-                UUID paperUuid = UUID.fromString(paperId);
-                List<ExtractedParagraph> paragraphs = Collections.emptyList();
-
-                // Load extraction with sections first
-                Optional<PaperExtraction> extraction = paperExtractionRepository.findByPaperIdWithSections(paperUuid);
-                if (extraction.isPresent()) {
-                    // Get all paragraphs from sections (paragraphs will be lazy loaded)
-                    paragraphs = extraction.get().getSections().stream()
-                            .flatMap(section -> section.getParagraphs().stream())
-                            .collect(Collectors.toList());
-                }
-                corpus.put(paperId, paragraphs);
-                log.debug("Loaded {} paragraphs for paper {}", paragraphs.size(), paperId);
-            } catch (Exception e) {
-                log.warn("Failed to load paragraphs for paper {}: {}", paperId, e.getMessage());
-            }
+    private Map<UUID, List<ExtractedParagraph>> loadLocalCorpus(Set<UUID> extractionIds) {
+        Map<UUID, List<ExtractedParagraph>> corpus = new HashMap<>();
+        for (CorpusParagraphRow row : paperExtractionRepository.findCitationParagraphs(extractionIds)) {
+            corpus.computeIfAbsent(row.extractionId(), k -> new ArrayList<>())
+                    .add(ExtractedParagraph.builder()
+                            .id(row.id())
+                            .text(row.text())
+                            .page(row.page())
+                            .minhashSignature(row.minhashSignature())
+                            .build());
         }
-
+        log.debug("Loaded paragraphs of {} extractions not indexed yet", extractionIds.size());
         return corpus;
     }
 
     /**
-     * Load local references from selected papers
+     * Load the references of the given extractions in one query, keyed by
+     * paper id
      */
-    private Map<String, List<ExtractedReference>> loadLocalReferences(List<String> selectedPaperIds) {
+    private Map<String, List<ExtractedReference>> loadLocalReferences(List<CorpusExtractionRow> extractions) {
         Map<String, List<ExtractedReference>> references = new HashMap<>();
-
-        for (String paperId : selectedPaperIds) {
-            try {
-                UUID paperUuid = UUID.fromString(paperId);
-                List<ExtractedReference> refs = Collections.emptyList();
-                Optional<PaperExtraction> extraction = paperExtractionRepository.findByPaperIdWithReferences(paperUuid);
-                if (extraction.isPresent()) {
-                    refs = extraction.get().getReferences();
-                }
-                references.put(paperId, refs);
-                log.debug("Loaded {} references for paper {}", refs.size(), paperId);
-            } catch (Exception e) {
-                log.warn("Failed to load references for paper {}: {}", paperId, e.getMessage());
-            }
+        if (extractions.isEmpty()) {
+            return references;
+        }
+        Map<UUID, String> paperIds = new HashMap<>();
+        for (CorpusExtractionRow extraction : extractions) {
+            paperIds.put(extraction.extractionId(), extraction.paperId().toString());
+            references.put(extraction.paperId().toString(), new ArrayList<>());
+        }
+        for (CorpusReferenceRow row : paperExtractionRepository.findCitationReferences(paperIds.keySet())) {
+            references
+                    .get(paperIds.get(row.extractionId()))
+                    .add(ExtractedReference.builder()
+                            .title(row.title())
+                            .authors(row.authors())
+                            .year(row.year())
+                            .venue(row.venue())
+                            .doi(row.doi())
+                            .build());
         }
-
         return references;
     }
 
@@ -330,20 +392,18 @@ public class CitationAnalysisService {
     }
 
     /**
-     * Analyze a single sentence for citation issues
+     * Raise citation issues for a single sentence from its verified evidence
      */
     private List<CitationIssue> analyzeSentence(
-            CitationCheck check,
-            LatexSentence sentence,
-            Map<String, List<ExtractedParagraph>> localCorpus,
-            Map<String, List<ExtractedReference>> localReferences,
-            boolean runWebCheck) {
+            CitationCheck check, LatexSentence sentence, LocalVerificationResult localResult, Set<String> unsettled) {
 
         List<CitationIssue> issues = new ArrayList<>();
 
         try {
             // Step 1: Local verification against selected papers
-            LocalVerificationResult localResult = performLocalVerification(sentence, localCorpus);
+            if (!localResult.isComplete()) {
+                unsettled.add(sentence.getFingerprint());
+            }
 
             // Step 2: Determine if citation is needed and if current citations are adequate
             boolean needsCitation = needsCitation(sentence, localResult);
@@ -367,6 +427,7 @@ public class CitationAnalysisService {
                         .snippet(sentence.getText())
                         .citedKeys(sentence.getCitedKeys().toArray(new String[0]))
                         .suggestions(createSuggestions(localResult))
+                        .sentenceFingerprint(sentence.getFingerprint())
                         .build();
 
                 log.info(
@@ -384,97 +445,138 @@ public class CitationAnalysisService {
 
         } catch (Exception e) {
             log.error("Error analyzing sentence: {}", sentence.getText(), e);
+            unsettled.add(sentence.getFingerprint());
         }
 
         return issues;
     }
 
     /**
-     * Perform local verification against selected papers using AI
+     * Candidate paragraphs for each claim: its top BM25 matches in the
+     * selected papers' inverted index
      */
-    private LocalVerificationResult performLocalVerification(
-            LatexSentence sentence, Map<String, List<ExtractedParagraph>> localCorpus) {
-
-        List<EvidenceCandidate> candidates = new ArrayList<>();
-
-        // Find top matching paragraphs from local corpus
-        for (Map.Entry<String, List<ExtractedParagraph>> entry : localCorpus.entrySet()) {
-            String paperId = entry.getKey();
-            List<ExtractedParagraph> paragraphs = entry.getValue();
+    private Map<LatexSentence, List<EvidenceCandidate>> retrieveEvidence(
+            List<LatexSentence> claims, Bm25Index evidenceIndex) {
+        Map<LatexSentence, List<EvidenceCandidate>> candidates = new LinkedHashMap<>();
+        for (LatexSentence claim : claims) {
+            candidates.put(
+                    claim,
+                    evidenceIndex.search(claim.getText(), MAX_EVIDENCE_CANDIDATES, MIN_EVIDENCE_SCORE).stream()
+                            .map(hit -> new EvidenceCandidate(hit.paperId(), hit.paragraph(), hit.score()))
+                            .toList());
+        }
+        return candidates;
+    }
 
-            for (ExtractedParagraph paragraph : paragraphs) {
-                if (paragraph.getText() != null && paragraph.getText().length() > 50) {
-                    double similarity = calculateTextSimilarity(sentence.getText(), paragraph.getText());
-                    if (similarity > 0.3) { // Threshold for considering as candidate
-                        candidates.add(new EvidenceCandidate(paperId, paragraph, similarity));
-                    }
+    /**
+     * Verify every claim/evidence pair with AI. Pairs are judged
+     * {@value #VERIFICATION_BATCH_SIZE} to a prompt, and the batches run
+     * concurrently on the LLM fan-out executor, so a document costs a few
+     * parallel calls instead of one sequential call per pair.
+     */
+    private Map<LatexSentence, LocalVerificationResult> verifyEvidence(
+            Map<LatexSentence, List<EvidenceCandidate>> candidates) {
+        List<VerificationPair> pairs = new ArrayList<>();
+        candidates.forEach((claim, claimCandidates) -> claimCandidates.forEach(candidate -> pairs.add(
+                new VerificationPair(claim.getText(), candidate.getParagraph().getText()))));
+
+        List<CompletableFuture<List<VerificationDecision>>> batches = new ArrayList<>();
+        for (int from = 0; from < pairs.size(); from += VERIFICATION_BATCH_SIZE) {
+            List<VerificationPair> batch = pairs.subList(from, Math.min(pairs.size(), from + VERIFICATION_BATCH_SIZE));
+            batches.add(llmFanOutExecutor.supplyAsync(() -> verifyBatchWithAI(batch)));
+        }
+        List<VerificationDecision> decisions = new ArrayList<>(pairs.size());
+        for (int i = 0; i < batches.size(); i++) {
+            int batchSize = Math.min(VERIFICATION_BATCH_SIZE, pairs.size() - i * VERIFICATION_BATCH_SIZE);
+            try {
+                decisions.addAll(batches.get(i).join());
+            } catch (CompletionException e) {
+                log.error("AI verification batch failed", e.getCause());
+                for (int j = 0; j < batchSize; j++) {
+                    decisions.add(VerificationDecision.failed("Error in AI verification"));
                 }
             }
         }
-
-        // Sort by similarity and take top candidates
-        candidates.sort((a, b) -> Double.compare(b.getSimilarity(), a.getSimilarity()));
-        List<EvidenceCandidate> topCandidates = candidates.stream().limit(5).collect(Collectors.toList());
-
-        // Use AI to verify each candidate
-        List<VerifiedEvidence> verifiedEvidence = new ArrayList<>();
-        for (EvidenceCandidate candidate : topCandidates) {
-            VerificationDecision decision =
-                    verifyWithAI(sentence.getText(), candidate.getParagraph().getText());
-            if (decision.getDecision().equals("supports") && decision.getConfidence() > 0.6) {
-                verifiedEvidence.add(new VerifiedEvidence(candidate, decision));
+        log.info("Verified {} claim/evidence pairs in {} batches", pairs.size(), batches.size());
+
+        Map<LatexSentence, LocalVerificationResult> results = new HashMap<>();
+        int next = 0;
+        for (Map.Entry<LatexSentence, List<EvidenceCandidate>> entry : candidates.entrySet()) {
+            List<VerifiedEvidence> verifiedEvidence = new ArrayList<>();
+            boolean complete = true;
+            for (EvidenceCandidate candidate : entry.getValue()) {
+                VerificationDecision decision = decisions.get(next++);
+                complete &= !decision.isFailed();
+                if (decision.getDecision().equals("supports") && decision.getConfidence() > 0.6) {
+                    verifiedEvidence.add(new VerifiedEvidence(candidate, decision));
+                }
             }
+            results.put(entry.getKey(), new LocalVerificationResult(entry.getValue(), verifiedEvidence, complete));
         }
-
-        return new LocalVerificationResult(topCandidates, verifiedEvidence);
+        return results;
     }
 
     /**
-     * Use Gemini AI to verify if evidence supports the claim
+     * Use Gemini AI to judge a batch of claim/evidence pairs in one call. The
+     * decisions are in pair order; pairs the response leaves out fail.
      */
-    private VerificationDecision verifyWithAI(String claim, String evidence) {
+    private List<VerificationDecision> verifyBatchWithAI(List<VerificationPair> pairs) {
         try {
-            String prompt = buildVerificationPrompt(claim, evidence);
-            String response = geminiGeneralService.generateContent(prompt);
-            return parseVerificationResponse(response);
+            String prompt = buildVerificationPrompt(pairs);
+            String response = geminiGeneralService.generateContent(prompt, LlmCaller.CITATION_VERIFY);
+            return parseVerificationResponse(response, pairs.size());
         } catch (Exception e) {
             log.error("Error in AI verification", e);
-            return new VerificationDecision("not_enough_info", 0.0, "Error in AI verification");
+            return Collections.nCopies(pairs.size(), VerificationDecision.failed("Error in AI verification"));
         }
     }
 
     /**
-     * Build prompt for AI verification
+     * Build prompt for AI verification of numbered claim/evidence pairs
      */
-    private String buildVerificationPrompt(String claim, String evidence) {
+    private String buildVerificationPrompt(List<VerificationPair> pairs) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < pairs.size(); i++) {
+            items.append(String.format(
+                    """
+                    ITEM %d
+                    CLAIM: "%s"
+                    EVIDENCE: "%s"
+
+                    """,
+                    i + 1, pairs.get(i).claim(), pairs.get(i).evidence()));
+        }
         return String.format(
                 """
-            You are a scientific fact-checker. Analyze if the evidence supports the claim.
-
-            CLAIM: "%s"
-
-            EVIDENCE: "%s"
-
-            Respond in JSON format:
-            {
-              "decision": "supports|contradicts|not_enough_info",
-              "confidence": 0.85,
-              "rationale": "Brief explanation"
-            }
+            You are a scientific fact-checker. For each numbered item, analyze if the evidence supports the claim.
+
+            %s
+            Respond with a JSON array holding one object per item:
+            [
+              {
+                "item": 1,
+                "decision": "supports|contradicts|not_enough_info",
+                "confidence": 0.85,
+                "rationale": "Brief explanation"
+              }
+            ]
 
             Rules:
+            - Judge each item only on its own claim and evidence
             - Only use "supports" if evidence clearly backs the claim with confidence ≥ 0.66
             - Use "contradicts" if evidence clearly disputes the claim
             - Use "not_enough_info" if evidence is unclear or insufficient
             - Be conservative - prefer "not_enough_info" over weak "supports"
             """,
-                claim, evidence);
+                items);
     }
 
     /**
-     * Parse AI verification response
+     * Parse AI verification response into one decision per item, in item order
      */
-    private VerificationDecision parseVerificationResponse(String response) {
+    private List<VerificationDecision> parseVerificationResponse(String response, int itemCount) {
+        List<VerificationDecision> decisions = new ArrayList<>(
+                Collections.nCopies(itemCount, VerificationDecision.failed("Item missing from AI response")));
         try {
             // Extract JSON from response if wrapped in markdown
             String jsonContent = response;
@@ -492,19 +594,36 @@ public class CitationAnalysisService {
                 }
             }
 
-            Map<String, Object> parsed =
-                    objectMapper.readValue(jsonContent, new TypeReference<Map<String, Object>>() {});
-
-            String decision = (String) parsed.get("decision");
-            Double confidence = ((Number) parsed.get("confidence")).doubleValue();
-            String rationale = (String) parsed.get("rationale");
-
-            return new VerificationDecision(decision, confidence, rationale);
+            List<Map<String, Object>> parsed =
+                    objectMapper.readValue(jsonContent, new TypeReference<List<Map<String, Object>>>() {});
+
+            int missing = itemCount;
+            for (Map<String, Object> item : parsed) {
+                if (!(item.get("item") instanceof Number number)
+                        || number.intValue() < 1
+                        || number.intValue() > itemCount
+                        || !(item.get("decision") instanceof String decision)
+                        || !(item.get("confidence") instanceof Number confidence)) {
+                    continue;
+                }
+                if (decisions
+                        .set(
+                                number.intValue() - 1,
+                                new VerificationDecision(
+                                        decision, confidence.doubleValue(), (String) item.get("rationale")))
+                        .isFailed()) {
+                    missing--;
+                }
+            }
+            if (missing > 0) {
+                log.warn("AI verification response left out {} of {} items", missing, itemCount);
+            }
 
         } catch (Exception e) {
             log.error("Failed to parse verification response: {}", response, e);
-            return new VerificationDecision("not_enough_info", 0.0, "Failed to parse AI response");
+            llmMetrics.recordParseFailure(LlmCaller.CITATION_VERIFY, null);
         }
+        return decisions;
     }
 
     /**
@@ -657,6 +776,28 @@ public class CitationAnalysisService {
     }
 
     // Inner classes for data structures
+    private record VerificationPair(String claim, String evidence) {}
+
+    /**
+     * Wall-clock milliseconds per analysis stage, in stage order, also
+     * recorded as the {@code citation.check.stage} timer
+     */
+    private final class StageClock {
+        private final Map<String, Long> millis = new LinkedHashMap<>();
+        private long start = System.nanoTime();
+
+        void lap(String stage) {
+            long now = System.nanoTime();
+            millis.merge(stage, TimeUnit.NANOSECONDS.toMillis(now - start), Long::sum);
+            meterRegistry.timer("citation.check.stage", "stage", stage).record(now - start, TimeUnit.NANOSECONDS);
+            start = now;
+        }
+
+        Map<String, Long> millis() {
+            return millis;
+        }
+    }
+
     public static class LatexSentence {
         private final String text;
         private final int startPos;
@@ -664,6 +805,7 @@ public class CitationAnalysisService {
         private final int lineStart;
         private final int lineEnd;
         private final Set<String> citedKeys;
+        private final String fingerprint;
 
         public LatexSentence(String text, int startPos, int endPos, int lineStart, int lineEnd, Set<String> citedKeys) {
             this.text = text;
@@ -672,6 +814,7 @@ public class CitationAnalysisService {
             this.lineStart = lineStart;
             this.lineEnd = lineEnd;
             this.citedKeys = citedKeys;
+            this.fingerprint = SentenceFingerprint.of(text, citedKeys);
         }
 
         // Getters
@@ -698,6 +841,10 @@ public class CitationAnalysisService {
         public Set<String> getCitedKeys() {
             return citedKeys;
         }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
     }
 
     public static class EvidenceCandidate {
@@ -729,11 +876,24 @@ public class CitationAnalysisService {
         private final String decision;
         private final double confidence;
         private final String rationale;
+        private final boolean failed;
 
         public VerificationDecision(String decision, double confidence, String rationale) {
+            this(decision, confidence, rationale, false);
+        }
+
+        private VerificationDecision(String decision, double confidence, String rationale, boolean failed) {
             this.decision = decision;
             this.confidence = confidence;
             this.rationale = rationale;
+            this.failed = failed;
+        }
+
+        /**
+         * No verdict because the AI call or its parsing failed
+         */
+        public static VerificationDecision failed(String rationale) {
+            return new VerificationDecision("not_enough_info", 0.0, rationale, true);
         }
 
         // Getters
@@ -748,6 +908,10 @@ public class CitationAnalysisService {
         public String getRationale() {
             return rationale;
         }
+
+        public boolean isFailed() {
+            return failed;
+        }
     }
 
     public static class VerifiedEvidence {
@@ -772,10 +936,13 @@ public class CitationAnalysisService {
     public static class LocalVerificationResult {
         private final List<EvidenceCandidate> candidates;
         private final List<VerifiedEvidence> verifiedEvidence;
+        private final boolean complete;
 
-        public LocalVerificationResult(List<EvidenceCandidate> candidates, List<VerifiedEvidence> verifiedEvidence) {
+        public LocalVerificationResult(
+                List<EvidenceCandidate> candidates, List<VerifiedEvidence> verifiedEvidence, boolean complete) {
             this.candidates = candidates;
             this.verifiedEvidence = verifiedEvidence;
+            this.complete = complete;
         }
 
         // Getters
@@ -786,6 +953,13 @@ public class CitationAnalysisService {
         public List<VerifiedEvidence> getVerifiedEvidence() {
             return verifiedEvidence;
         }
+
+        /**
+         * Whether every candidate got a verdict
+         */
+        public boolean isComplete() {
+            return complete;
+        }
     }
 
     /**
@@ -940,63 +1114,63 @@ public class CitationAnalysisService {
     }
 
     /**
-     * Detect potential plagiarism - high similarity spans without proper citation
+     * Detect potential plagiarism - uncited sentences whose words nearly match a
+     * paragraph of a selected paper. Paragraphs are looked up through the LSH
+     * buckets of their MinHash signatures; only bucket hits are compared
+     * exactly against {@code plagiarismThreshold}.
      */
     private List<CitationIssue> detectPotentialPlagiarism(
-            CitationCheck check, List<LatexSentence> sentences, Map<String, List<ExtractedParagraph>> localCorpus) {
+            CitationCheck check,
+            List<LatexSentence> sentences,
+            NearDuplicateIndex nearDuplicates,
+            double plagiarismThreshold) {
         List<CitationIssue> issues = new ArrayList<>();
 
         try {
             for (LatexSentence sentence : sentences) {
-                for (Map.Entry<String, List<ExtractedParagraph>> entry : localCorpus.entrySet()) {
-                    String paperId = entry.getKey();
-
-                    for (ExtractedParagraph paragraph : entry.getValue()) {
-                        if (paragraph.getText() != null && paragraph.getText().length() > 30) {
-                            double similarity = calculateTextSimilarity(sentence.getText(), paragraph.getText());
+                if (!sentence.getCitedKeys().isEmpty()) {
+                    continue;
+                }
+                // Reported once per sentence and paper
+                for (NearDuplicateIndex.Match match : nearDuplicates.find(sentence.getText(), plagiarismThreshold)) {
+                    String paperId = match.paperId();
+                    ExtractedParagraph paragraph = match.paragraph();
+                    double similarity = match.similarity();
 
-                            // High similarity threshold for plagiarism detection
-                            if (similarity > 0.85 && sentence.getCitedKeys().isEmpty()) {
-                                CitationIssue issue = CitationIssue.builder()
-                                        .citationCheck(check)
-                                        .projectId(check.getProjectId())
-                                        .documentId(check.getDocumentId())
-                                        .type(
-                                                CitationIssue.IssueType
-                                                        .MISSING_CITATION) // Could add POSSIBLE_PLAGIARISM type
-                                        .severity(CitationIssue.Severity.HIGH)
-                                        .fromPos(sentence.getStartPos())
-                                        .toPos(sentence.getEndPos())
-                                        .lineStart(sentence.getLineStart())
-                                        .lineEnd(sentence.getLineEnd())
-                                        .snippet("High similarity to source material without citation (similarity: "
-                                                + String.format("%.2f", similarity) + ")")
-                                        .citedKeys(new String[] {})
-                                        .suggestions(createPlagiarismSuggestions(paperId, paragraph))
-                                        .build();
+                    CitationIssue issue = CitationIssue.builder()
+                            .citationCheck(check)
+                            .projectId(check.getProjectId())
+                            .documentId(check.getDocumentId())
+                            .type(CitationIssue.IssueType.MISSING_CITATION) // Could add POSSIBLE_PLAGIARISM type
+                            .severity(CitationIssue.Severity.HIGH)
+                            .fromPos(sentence.getStartPos())
+                            .toPos(sentence.getEndPos())
+                            .lineStart(sentence.getLineStart())
+                            .lineEnd(sentence.getLineEnd())
+                            .snippet("High similarity to source material without citation (similarity: "
+                                    + String.format("%.2f", similarity) + ")")
+                            .citedKeys(new String[] {})
+                            .suggestions(createPlagiarismSuggestions(paperId, paragraph))
+                            .sentenceFingerprint(sentence.getFingerprint())
+                            .build();
 
-                                // Add evidence
-                                Map<String, Object> sourceData = new HashMap<>();
-                                sourceData.put("kind", "local");
-                                sourceData.put("paperId", paperId);
-                                sourceData.put("page", paragraph.getPage());
-
-                                CitationEvidence evidence = CitationEvidence.builder()
-                                        .citationIssue(issue)
-                                        .source(sourceData)
-                                        .matchedText(paragraph.getText())
-                                        .similarity(similarity)
-                                        .supportScore(similarity)
-                                        .build();
+                    // Add evidence
+                    Map<String, Object> sourceData = new HashMap<>();
+                    sourceData.put("kind", "local");
+                    sourceData.put("paperId", paperId);
+                    sourceData.put("page", paragraph.getPage());
+
+                    CitationEvidence evidence = CitationEvidence.builder()
+                            .citationIssue(issue)
+                            .source(sourceData)
+                            .matchedText(paragraph.getText())
+                            .similarity(similarity)
+                            .supportScore(similarity)
+                            .build();
 
-                                issue.setEvidence(Arrays.asList(evidence));
-                                issues.add(issue);
-                                log.debug(
-                                        "Found potential plagiarism: similarity {} with paper {}", similarity, paperId);
-                                break; // Only report once per sentence
-                            }
-                        }
-                    }
+                    issue.setEvidence(Arrays.asList(evidence));
+                    issues.add(issue);
+                    log.debug("Found potential plagiarism: similarity {} with paper {}", similarity, paperId);
                 }
             }
 
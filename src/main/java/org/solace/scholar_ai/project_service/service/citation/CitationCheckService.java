@@ -6,17 +6,18 @@ import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.solace.scholar_ai.project_service.dto.citation.CitationCheckRequestDto;
 import org.solace.scholar_ai.project_service.dto.citation.CitationCheckResponseDto;
 import org.solace.scholar_ai.project_service.dto.citation.CitationSummaryDto;
+import org.solace.scholar_ai.project_service.dto.event.citation.CitationJobEvent;
 import org.solace.scholar_ai.project_service.dto.paper.PaperMetadataDto;
 import org.solace.scholar_ai.project_service.model.citation.CitationCheck;
 import org.solace.scholar_ai.project_service.model.citation.CitationEvidence;
@@ -24,6 +25,8 @@ import org.solace.scholar_ai.project_service.model.citation.CitationIssue;
 import org.solace.scholar_ai.project_service.repository.citation.CitationCheckRepository;
 import org.solace.scholar_ai.project_service.repository.citation.CitationEvidenceRepository;
 import org.solace.scholar_ai.project_service.repository.citation.CitationIssueRepository;
+import org.solace.scholar_ai.project_service.service.citation.events.CitationJobEventHub;
+import org.solace.scholar_ai.project_service.service.citation.incremental.CitationBaseline;
 import org.solace.scholar_ai.project_service.service.paper.PaperPersistenceService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -48,9 +51,6 @@ public class CitationCheckService {
         void onComplete(UUID jobId);
     }
 
-    // Map to store job listeners for SSE streaming
-    private final Map<UUID, CitationJobListener> jobListeners = new ConcurrentHashMap<>();
-
     @Autowired
     private CitationCheckRepository citationCheckRepository;
 
@@ -66,92 +66,86 @@ public class CitationCheckService {
     @Autowired
     private PaperPersistenceService paperPersistenceService;
 
+    @Autowired
+    private CitationJobEventHub citationJobEventHub;
+
     /**
-     * Register a job listener for SSE streaming
+     * Register a listener for the events of a job, wherever it runs. It first
+     * receives the events of the job so far, then every later event until the
+     * job completes or fails.
      */
     public void registerJobListener(UUID jobId, CitationJobListener listener) {
-        jobListeners.put(jobId, listener);
+        citationJobEventHub.subscribe(jobId, listener, () -> currentJobEvents(jobId));
         logger.debug("Registered listener for job {}", jobId);
     }
 
     /**
      * Unregister a job listener
      */
-    public void unregisterJobListener(UUID jobId) {
-        jobListeners.remove(jobId);
+    public void unregisterJobListener(UUID jobId, CitationJobListener listener) {
+        citationJobEventHub.unsubscribe(jobId, listener);
         logger.debug("Unregistered listener for job {}", jobId);
     }
 
+    /**
+     * Events that bring a listener up to the persisted state of a job, for
+     * nodes holding none of its events
+     */
+    private List<CitationJobEvent> currentJobEvents(UUID jobId) {
+        Optional<CitationCheck> checkOpt = citationCheckRepository.findById(jobId);
+        if (checkOpt.isEmpty()) {
+            return List.of(CitationJobEvent.status(jobId, "STARTED", "Initializing citation check...", 0));
+        }
+        CitationCheck check = checkOpt.get();
+        return switch (check.getStatus()) {
+            case DONE -> {
+                List<CitationJobEvent> events = new ArrayList<>();
+                CitationSummaryDto summary = convertSummaryToDto(check.getSummary(), check);
+                if (summary != null) {
+                    events.add(CitationJobEvent.summary(jobId, summary));
+                }
+                events.add(CitationJobEvent.complete(jobId));
+                yield events;
+            }
+            case ERROR -> List.of(CitationJobEvent.error(jobId, check.getErrorMessage()));
+            default -> List.of(CitationJobEvent.status(
+                    jobId, check.getStatus().toString(), check.getStep().toString(), check.getProgressPct()));
+        };
+    }
+
     /**
      * Notify listeners about status updates
      */
     private void notifyStatus(UUID jobId, String status, String step, int progressPct) {
-        CitationJobListener listener = jobListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.onStatus(jobId, status, step, progressPct);
-            } catch (Exception e) {
-                logger.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
-            }
-        }
+        citationJobEventHub.publish(CitationJobEvent.status(jobId, status, step, progressPct));
     }
 
     /**
      * Notify listeners about new issues
      */
     private void notifyIssue(UUID jobId, CitationCheckResponseDto.CitationIssueDto issue) {
-        CitationJobListener listener = jobListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.onIssue(jobId, issue);
-            } catch (Exception e) {
-                logger.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
-            }
-        }
+        citationJobEventHub.publish(CitationJobEvent.issue(jobId, issue));
     }
 
     /**
      * Notify listeners about summary
      */
     private void notifySummary(UUID jobId, CitationSummaryDto summary) {
-        CitationJobListener listener = jobListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.onSummary(jobId, summary);
-            } catch (Exception e) {
-                logger.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
-            }
-        }
+        citationJobEventHub.publish(CitationJobEvent.summary(jobId, summary));
     }
 
     /**
      * Notify listeners about errors
      */
     private void notifyError(UUID jobId, String error) {
-        CitationJobListener listener = jobListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.onError(jobId, error);
-            } catch (Exception e) {
-                logger.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
-            }
-        }
+        citationJobEventHub.publish(CitationJobEvent.error(jobId, error));
     }
 
     /**
      * Notify listeners about completion
      */
     private void notifyComplete(UUID jobId) {
-        CitationJobListener listener = jobListeners.get(jobId);
-        if (listener != null) {
-            try {
-                listener.onComplete(jobId);
-            } catch (Exception e) {
-                logger.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
-            }
-        }
-        // Auto-unregister after completion
-        unregisterJobListener(jobId);
+        citationJobEventHub.publish(CitationJobEvent.complete(jobId));
     }
 
     /**
@@ -183,7 +177,7 @@ public class CitationCheckService {
             // Also check for recent checks without content hash (legacy)
             Optional<CitationCheck> recentCheck =
                     citationCheckRepository.findLatestCompletedByDocumentId(request.getDocumentId());
-            if (recentCheck.isPresent()) {
+            if (recentCheck.isPresent() && recentCheck.get().getContentHash() == null) {
                 CitationCheck existingCheck = recentCheck.get();
                 // If completed within last hour, return existing result
                 if (existingCheck.isCompleted()
@@ -196,6 +190,10 @@ public class CitationCheckService {
             }
         }
 
+        // Edited content: keep what the previous check found for unchanged sentences
+        CitationBaseline baseline =
+                Boolean.TRUE.equals(request.getForceRecheck()) ? null : loadBaseline(request.getDocumentId());
+
         // If force recheck or no cached check, delete any existing DONE checks for this document
         // to avoid unique constraint violation
         citationCheckRepository.deleteCompletedByDocumentId(request.getDocumentId());
@@ -214,11 +212,23 @@ public class CitationCheckService {
         citationCheck = citationCheckRepository.save(citationCheck);
 
         // Start async processing
-        processCitationCheckAsync(citationCheck.getId(), request);
+        processCitationCheckAsync(citationCheck.getId(), request, baseline);
 
         return convertToResponseDto(citationCheck);
     }
 
+    /**
+     * Copy out the latest completed check of a document and its issues, before
+     * it is replaced, or {@code null} if it recorded no sentence fingerprints
+     */
+    private CitationBaseline loadBaseline(UUID documentId) {
+        return citationCheckRepository
+                .findLatestCompletedByDocumentId(documentId)
+                .map(previous -> CitationBaseline.of(
+                        previous, citationIssueRepository.findByCitationCheckIdWithEvidence(previous.getId())))
+                .orElse(null);
+    }
+
     /**
      * Get citation check by ID
      */
@@ -277,10 +287,12 @@ public class CitationCheckService {
     }
 
     /**
-     * Process citation check asynchronously
+     * Process citation check asynchronously, re-analyzing only the sentences
+     * not covered by {@code baseline} when one is given
      */
     @org.springframework.scheduling.annotation.Async
-    public CompletableFuture<Void> processCitationCheckAsync(UUID citationCheckId, CitationCheckRequestDto request) {
+    public CompletableFuture<Void> processCitationCheckAsync(
+            UUID citationCheckId, CitationCheckRequestDto request, CitationBaseline baseline) {
         try {
             logger.info("Starting async processing for citation check {}", citationCheckId);
 
@@ -332,8 +344,8 @@ public class CitationCheckService {
                     request.getContent(),
                     selectedPaperIds,
                     enableWebSearch,
-                    request.getOptions() // Pass options for configurable thresholds
-                    );
+                    request.getOptions(), // Pass options for configurable thresholds
+                    baseline);
 
             updateCheckProgress(check, CitationCheck.Status.RUNNING, CitationCheck.Step.WEB_RETRIEVAL, 60);
 
@@ -397,8 +409,9 @@ public class CitationCheckService {
         check.setStep(CitationCheck.Step.DONE);
         check.setProgressPct(100);
 
-        // Create summary JSON
-        Map<String, Object> summaryMap = new HashMap<>();
+        // Create summary JSON, keeping the sentence counts recorded by the analysis
+        Map<String, Object> summaryMap =
+                check.getSummary() != null ? new HashMap<>(check.getSummary()) : new HashMap<>();
         summaryMap.put("totalIssues", issues.size());
         summaryMap.put(
                 "errorCount",
@@ -586,6 +599,11 @@ public class CitationCheckService {
         byType.put("warning", warningCount);
         byType.put("info", infoCount);
 
+        Map<String, Long> stageTimings = new LinkedHashMap<>();
+        if (summaryMap.get("stageTimingsMs") instanceof Map<?, ?> timings) {
+            timings.forEach((stage, millis) -> stageTimings.put(String.valueOf(stage), ((Number) millis).longValue()));
+        }
+
         return CitationSummaryDto.builder()
                 .total(totalIssues)
                 .byType(byType)
@@ -599,6 +617,7 @@ public class CitationCheckService {
                                         .atZone(java.time.ZoneId.systemDefault())
                                         .toInstant()
                                 : null)
+                .stageTimingsMs(stageTimings)
                 .build();
     }
 
@@ -0,0 +1,203 @@
+package org.solace.scholar_ai.project_service.service.citation.events;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.event.citation.CitationJobEvent;
+import org.solace.scholar_ai.project_service.messaging.publisher.citation.CitationJobEventSender;
+import org.solace.scholar_ai.project_service.service.citation.CitationCheckService.CitationJobListener;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers citation job events to the SSE streams open on this node,
+ * whichever node runs the job.
+ *
+ * <p>Events are published to a RabbitMQ fanout exchange that every node
+ * consumes, so every node sees every job's events. Each node keeps the
+ * recent events of each job for {@code citation.job-events.replay-ttl} after
+ * the job's last event, and replays them to a stream opened after the job
+ * started. A node holding no events of a job, for example because it started
+ * after the job did, catches the stream up from the persisted job state
+ * instead. Sequence numbers keep replayed and live events from being
+ * delivered twice.
+ *
+ * <p>If the broker cannot be reached, events are delivered on this node only.
+ */
+@Slf4j
+@Component
+public class CitationJobEventHub {
+
+    private final CitationJobEventSender sender;
+    private final Duration replayTtl;
+    private final int maxReplayEvents;
+
+    // Job id -> next sequence number, for jobs running on this node
+    private final Map<UUID, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final Map<UUID, JobEvents> jobs = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService sweeper = DaemonSchedulers.singleThread("citation-job-events-sweeper");
+
+    // Events and subscribers of one job; guarded by its own monitor
+    private static final class JobEvents {
+
+        private final TreeMap<Long, CitationJobEvent> replay = new TreeMap<>();
+        private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+        private long lastActivity = System.nanoTime();
+    }
+
+    private static final class Subscription {
+
+        private final CitationJobListener listener;
+        private long lastSequence;
+        private boolean closed;
+
+        private Subscription(CitationJobListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    public CitationJobEventHub(
+            CitationJobEventSender sender,
+            @Value("${citation.job-events.replay-ttl:30m}") Duration replayTtl,
+            @Value("${citation.job-events.max-replay-events:5000}") int maxReplayEvents) {
+        this.sender = sender;
+        this.replayTtl = replayTtl;
+        this.maxReplayEvents = maxReplayEvents;
+        long sweepMillis = Math.max(1000, replayTtl.toMillis() / 4);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Number and publish the next event of a job running on this node
+     */
+    public void publish(CitationJobEvent event) {
+        AtomicLong sequence = sequences.computeIfAbsent(event.jobId(), k -> new AtomicLong());
+        CitationJobEvent numbered = event.withSequence(sequence.incrementAndGet());
+        if (numbered.isTerminal()) {
+            sequences.remove(event.jobId());
+        }
+        try {
+            sender.send(numbered);
+        } catch (Exception e) {
+            log.warn(
+                    "Could not fan out {} event for citation job {}, delivering on this node only: {}",
+                    numbered.type(),
+                    numbered.jobId(),
+                    e.getMessage());
+            receive(numbered);
+        }
+    }
+
+    /**
+     * Record an event received from the exchange and pass it to this node's
+     * subscribers of the job
+     */
+    public void receive(CitationJobEvent event) {
+        withJob(event.jobId(), job -> {
+            job.replay.put(event.sequence(), event);
+            if (job.replay.size() > maxReplayEvents) {
+                job.replay.pollFirstEntry();
+            }
+            for (Subscription subscription : job.subscribers) {
+                if (event.sequence() > subscription.lastSequence) {
+                    deliver(event.jobId(), subscription, event);
+                }
+                if (subscription.closed) {
+                    job.subscribers.remove(subscription);
+                }
+            }
+        });
+    }
+
+    /**
+     * Replay the job's events to a new subscriber, or the events from
+     * {@code current} if this node holds none, then pass it every later event
+     * until the job completes or fails
+     */
+    public void subscribe(UUID jobId, CitationJobListener listener, Supplier<List<CitationJobEvent>> current) {
+        withJob(jobId, job -> {
+            Subscription subscription = new Subscription(listener);
+            List<CitationJobEvent> replay = job.replay.isEmpty() ? current.get() : new ArrayList<>(job.replay.values());
+            for (CitationJobEvent event : replay) {
+                if (!subscription.closed) {
+                    deliver(jobId, subscription, event);
+                }
+            }
+            if (!subscription.closed) {
+                job.subscribers.add(subscription);
+            }
+            log.debug("Subscribed to citation job {} after replaying {} events", jobId, replay.size());
+        });
+    }
+
+    /**
+     * Stop passing events of the job to {@code listener}
+     */
+    public void unsubscribe(UUID jobId, CitationJobListener listener) {
+        JobEvents job = jobs.get(jobId);
+        if (job != null) {
+            job.subscribers.removeIf(subscription -> subscription.listener == listener);
+        }
+    }
+
+    private void withJob(UUID jobId, Consumer<JobEvents> action) {
+        while (true) {
+            JobEvents job = jobs.computeIfAbsent(jobId, k -> new JobEvents());
+            synchronized (job) {
+                // Otherwise swept between lookup and lock
+                if (jobs.get(jobId) == job) {
+                    job.lastActivity = System.nanoTime();
+                    action.accept(job);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void deliver(UUID jobId, Subscription subscription, CitationJobEvent event) {
+        subscription.lastSequence = Math.max(subscription.lastSequence, event.sequence());
+        subscription.closed = event.isTerminal();
+        CitationJobListener listener = subscription.listener;
+        try {
+            switch (event.type()) {
+                case STATUS -> listener.onStatus(jobId, event.status(), event.step(), event.progressPct());
+                case ISSUE -> listener.onIssue(jobId, event.issue());
+                case SUMMARY -> listener.onSummary(jobId, event.summary());
+                case ERROR -> listener.onError(jobId, event.message());
+                case COMPLETE -> listener.onComplete(jobId);
+            }
+        } catch (Exception e) {
+            log.warn("Error notifying listener for job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    // Forget jobs nobody streams that had no events for the replay TTL
+    private void sweep() {
+        long cutoff = System.nanoTime() - replayTtl.toNanos();
+        jobs.entrySet().removeIf(entry -> {
+            JobEvents job = entry.getValue();
+            synchronized (job) {
+                return job.subscribers.isEmpty() && job.lastActivity - cutoff < 0;
+            }
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package org.solace.scholar_ai.project_service.service.citation.incremental;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.solace.scholar_ai.project_service.model.citation.CitationCheck;
+import org.solace.scholar_ai.project_service.model.citation.CitationEvidence;
+import org.solace.scholar_ai.project_service.model.citation.CitationIssue;
+
+/**
+ * What the previous check of a document found, sentence by sentence, copied
+ * out of the persistence context so it outlives that check being replaced.
+ *
+ * <p>A sentence whose fingerprint the previous check analyzed, under the same
+ * analysis context, takes over that check's issues and evidence at its new
+ * position instead of being analyzed again. Resolved flags carry over with
+ * them.
+ */
+public final class CitationBaseline {
+
+    private final UUID checkId;
+    private final String analysisContextHash;
+    private final Set<String> fingerprints;
+    private final Map<String, List<CitationIssue>> issues;
+
+    private CitationBaseline(
+            UUID checkId,
+            String analysisContextHash,
+            Set<String> fingerprints,
+            Map<String, List<CitationIssue>> issues) {
+        this.checkId = checkId;
+        this.analysisContextHash = analysisContextHash;
+        this.fingerprints = fingerprints;
+        this.issues = issues;
+    }
+
+    /**
+     * Snapshot a completed check and its issues, with evidence loaded, or
+     * {@code null} if the check recorded no sentence fingerprints
+     */
+    public static CitationBaseline of(CitationCheck check, List<CitationIssue> checkIssues) {
+        if (check.getSentenceFingerprints() == null || check.getAnalysisContextHash() == null) {
+            return null;
+        }
+        Map<String, List<CitationIssue>> issues = new HashMap<>();
+        for (CitationIssue issue : checkIssues) {
+            if (issue.getSentenceFingerprint() != null) {
+                issues.computeIfAbsent(issue.getSentenceFingerprint(), k -> new ArrayList<>())
+                        .add(copy(issue));
+            }
+        }
+        return new CitationBaseline(
+                check.getId(), check.getAnalysisContextHash(), new HashSet<>(check.getSentenceFingerprints()), issues);
+    }
+
+    public UUID getCheckId() {
+        return checkId;
+    }
+
+    /**
+     * Whether results were produced with the same papers, extractions and
+     * thresholds
+     */
+    public boolean appliesTo(String analysisContextHash) {
+        return analysisContextHash != null && analysisContextHash.equals(this.analysisContextHash);
+    }
+
+    /**
+     * Whether the previous check analyzed a sentence with this fingerprint
+     */
+    public boolean covers(String fingerprint) {
+        return fingerprints.contains(fingerprint);
+    }
+
+    /**
+     * Fresh copies of the issues raised for the fingerprint, attached to
+     * {@code check} at the sentence's current position
+     */
+    public List<CitationIssue> reuse(
+            String fingerprint, CitationCheck check, int fromPos, int toPos, int lineStart, int lineEnd) {
+        List<CitationIssue> reused = new ArrayList<>();
+        for (CitationIssue template : issues.getOrDefault(fingerprint, List.of())) {
+            CitationIssue issue = copy(template);
+            issue.setCitationCheck(check);
+            issue.setFromPos(fromPos);
+            issue.setToPos(toPos);
+            issue.setLineStart(lineStart);
+            issue.setLineEnd(lineEnd);
+            reused.add(issue);
+        }
+        return reused;
+    }
+
+    private static CitationIssue copy(CitationIssue source) {
+        CitationIssue issue = CitationIssue.builder()
+                .projectId(source.getProjectId())
+                .documentId(source.getDocumentId())
+                .type(source.getType())
+                .severity(source.getSeverity())
+                .fromPos(source.getFromPos())
+                .toPos(source.getToPos())
+                .lineStart(source.getLineStart())
+                .lineEnd(source.getLineEnd())
+                .snippet(source.getSnippet())
+                .citedKeys(source.getCitedKeys())
+                .suggestions(source.getSuggestions())
+                .sentenceFingerprint(source.getSentenceFingerprint())
+                .resolved(source.getResolved())
+                .build();
+        for (CitationEvidence evidence : source.getEvidence()) {
+            issue.addEvidence(CitationEvidence.builder()
+                    .source(evidence.getSource())
+                    .matchedText(evidence.getMatchedText())
+                    .similarity(evidence.getSimilarity())
+                    .supportScore(evidence.getSupportScore())
+                    .extra(evidence.getExtra())
+                    .build());
+        }
+        return issue;
+    }
+}
@@ -0,0 +1,54 @@
+package org.solace.scholar_ai.project_service.service.citation.incremental;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.TreeSet;
+
+/**
+ * Identifies a sentence by what its analysis reads: the cleaned sentence text
+ * and the citation keys attached to it. Sentences with equal fingerprints get
+ * equal issues under the same analysis context, wherever they sit in the
+ * document.
+ */
+public final class SentenceFingerprint {
+
+    private SentenceFingerprint() {}
+
+    /**
+     * First 64 bits of the SHA-256 of the text and the sorted keys, as 16 hex
+     * digits
+     */
+    public static String of(String text, Collection<String> citedKeys) {
+        MessageDigest digest = sha256();
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        for (String key : new TreeSet<>(citedKeys)) {
+            digest.update((byte) 0);
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    /**
+     * SHA-256 of the parts, separated so that no two part lists collide, as 64
+     * hex digits
+     */
+    public static String context(Collection<String> parts) {
+        MessageDigest digest = sha256();
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.util.text.TextTokenizer;
+
+/**
+ * BM25 search over the paragraphs of several papers.
+ *
+ * <p>Each paper keeps its own {@link PaperTermIndex}; document count, document
+ * frequencies and average paragraph length are combined across them here, so
+ * scores are comparable between papers. A query only touches the postings of
+ * its own terms, and the best {@code k} paragraphs are kept in a bounded heap.
+ *
+ * <p>Scores are normalized by the summed IDF of all query terms, including
+ * terms no paragraph contains, i.e. a paragraph of average length containing
+ * every query term once scores about 1.0. Normalized scores are capped at 1.0
+ * so they stay comparable with the other similarity values stored on citation
+ * evidence.
+ */
+public final class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final List<PaperTermIndex> papers;
+    private final int[] offsets;
+    private final int documentCount;
+    private final double averageLength;
+
+    /**
+     * A paragraph matching a query, with its normalized score
+     */
+    public record Hit(String paperId, ExtractedParagraph paragraph, double score) {}
+
+    private Bm25Index(List<PaperTermIndex> papers) {
+        this.papers = papers;
+        this.offsets = new int[papers.size()];
+        int documents = 0;
+        long totalLength = 0;
+        for (int i = 0; i < papers.size(); i++) {
+            offsets[i] = documents;
+            documents += papers.get(i).size();
+            totalLength += papers.get(i).totalLength();
+        }
+        this.documentCount = documents;
+        this.averageLength = documents > 0 ? (double) totalLength / documents : 0;
+    }
+
+    public static Bm25Index of(Collection<PaperTermIndex> papers) {
+        return new Bm25Index(papers.stream().filter(paper -> paper.size() > 0).toList());
+    }
+
+    public int size() {
+        return documentCount;
+    }
+
+    /**
+     * The {@code k} best paragraphs for {@code query} scoring at least
+     * {@code minScore}, best first
+     */
+    public List<Hit> search(String query, int k, double minScore) {
+        if (documentCount == 0 || k <= 0) {
+            return List.of();
+        }
+        Set<String> terms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+
+        double[] scores = new double[documentCount];
+        boolean[] touched = new boolean[documentCount];
+        List<Integer> candidates = new ArrayList<>();
+        double idfSum = 0;
+        for (String term : terms) {
+            int documentFrequency = 0;
+            for (PaperTermIndex paper : papers) {
+                documentFrequency += paper.documentFrequency(term);
+            }
+            // Terms no paragraph contains still count towards the normalization
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            idfSum += idf;
+            if (documentFrequency == 0) {
+                continue;
+            }
+
+            for (int p = 0; p < papers.size(); p++) {
+                PaperTermIndex paper = papers.get(p);
+                PaperTermIndex.Postings postings = paper.postings(term);
+                if (postings == null) {
+                    continue;
+                }
+                int[] paragraphs = postings.paragraphs();
+                int[] frequencies = postings.frequencies();
+                for (int i = 0; i < paragraphs.length; i++) {
+                    int document = offsets[p] + paragraphs[i];
+                    double frequency = frequencies[i];
+                    double norm = K1 * (1 - B + B * paper.length(paragraphs[i]) / averageLength);
+                    scores[document] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    if (!touched[document]) {
+                        touched[document] = true;
+                        candidates.add(document);
+                    }
+                }
+            }
+        }
+        if (idfSum == 0) {
+            return List.of();
+        }
+
+        // Min-heap of the best k so far
+        Comparator<Integer> byScore = Comparator.comparingDouble(document -> scores[document]);
+        PriorityQueue<Integer> best = new PriorityQueue<>(k + 1, byScore);
+        double threshold = minScore * idfSum;
+        for (int document : candidates) {
+            if (scores[document] < threshold) {
+                continue;
+            }
+            best.add(document);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int document = best.poll();
+            hits.add(hit(document, Math.min(1.0, scores[document] / idfSum)));
+        }
+        return hits.reversed();
+    }
+
+    private Hit hit(int document, double score) {
+        int p = papers.size() - 1;
+        while (offsets[p] > document) {
+            p--;
+        }
+        PaperTermIndex paper = papers.get(p);
+        return new Hit(paper.getPaperId(), paper.paragraph(document - offsets[p]), score);
+    }
+}
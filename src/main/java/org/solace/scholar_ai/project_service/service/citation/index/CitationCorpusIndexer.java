@@ -0,0 +1,142 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Builds the indexes a citation check searches: {@link Bm25Index} for
+ * evidence and {@link NearDuplicateIndex} for copied text.
+ *
+ * <p>Each paper's {@link PaperTermIndex} and {@link PaperLshIndex} are cached
+ * in memory, keyed by its extraction id and checked against the extraction's
+ * update time, so papers selected in check after check are read and indexed
+ * once per extraction. Paragraphs of every extraction missing from the cache
+ * are read together, in one call. Re-persisting a paper's extraction evicts
+ * its entry once the transaction commits; on other nodes the update time
+ * catches it. The cache is bounded by postings and bucket entries, published
+ * as the {@code citation.index} cache metrics.
+ */
+@Slf4j
+@Component
+public class CitationCorpusIndexer {
+
+    // Paragraphs this short are headings, captions or extraction noise
+    public static final int MIN_PARAGRAPH_LENGTH = 50;
+    // Copied text is checked in shorter paragraphs too
+    public static final int MIN_DUPLICATE_PARAGRAPH_LENGTH = 30;
+
+    private final Cache<UUID, IndexedPaper> papers;
+
+    private record IndexedPaper(String paperId, Instant updatedAt, PaperTermIndex terms, PaperLshIndex nearDuplicates) {
+
+        int weight() {
+            return terms.weight() + nearDuplicates.weight();
+        }
+    }
+
+    public CitationCorpusIndexer(
+            MeterRegistry meterRegistry,
+            @Value("${citation.index.cache-max-postings:2000000}") long maxCachedPostings) {
+        this.papers = Caffeine.newBuilder()
+                .maximumWeight(maxCachedPostings)
+                .weigher((UUID key, IndexedPaper index) -> index.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, papers, "citation.index");
+    }
+
+    /**
+     * Index the extractions of the selected papers. {@code loadParagraphs} is
+     * called at most once, with the ids of the extractions not cached at their
+     * current version, and returns their paragraphs keyed by extraction id.
+     */
+    public CorpusIndex index(
+            List<CorpusExtractionRow> extractions,
+            Function<Set<UUID>, Map<UUID, List<ExtractedParagraph>>> loadParagraphs) {
+        Map<UUID, CorpusExtractionRow> byId = new HashMap<>();
+        for (CorpusExtractionRow extraction : extractions) {
+            byId.put(extraction.extractionId(), extraction);
+            IndexedPaper cached = papers.getIfPresent(extraction.extractionId());
+            if (cached != null && !Objects.equals(cached.updatedAt(), extraction.updatedAt())) {
+                papers.asMap().remove(extraction.extractionId(), cached);
+            }
+        }
+        Map<UUID, IndexedPaper> indexed = papers.getAll(byId.keySet(), missing -> {
+            Map<UUID, List<ExtractedParagraph>> paragraphs = loadParagraphs.apply(Set.copyOf(missing));
+            Map<UUID, IndexedPaper> built = new HashMap<>();
+            for (UUID extractionId : missing) {
+                built.put(
+                        extractionId, build(byId.get(extractionId), paragraphs.getOrDefault(extractionId, List.of())));
+            }
+            return built;
+        });
+
+        List<PaperTermIndex> terms = new ArrayList<>(extractions.size());
+        List<PaperLshIndex> nearDuplicates = new ArrayList<>(extractions.size());
+        List<String> versions = new ArrayList<>(extractions.size());
+        for (CorpusExtractionRow extraction : extractions) {
+            IndexedPaper paper = indexed.get(extraction.extractionId());
+            terms.add(paper.terms());
+            nearDuplicates.add(paper.nearDuplicates());
+            versions.add(extraction.paperId() + ":" + extraction.extractionId() + ":"
+                    + (extraction.updatedAt() != null ? extraction.updatedAt().toEpochMilli() : ""));
+        }
+        Collections.sort(versions);
+        return new CorpusIndex(Bm25Index.of(terms), NearDuplicateIndex.of(nearDuplicates), String.join(",", versions));
+    }
+
+    /**
+     * Evict the cached index of a paper whose extraction is being
+     * re-persisted. Inside a transaction the entry is evicted once it commits,
+     * so a concurrent check cannot cache the old paragraphs again afterwards.
+     */
+    public void invalidatePaper(UUID paperId) {
+        String key = paperId.toString();
+        Runnable evict =
+                () -> papers.asMap().values().removeIf(paper -> paper.paperId().equals(key));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private static IndexedPaper build(CorpusExtractionRow extraction, List<ExtractedParagraph> paragraphs) {
+        String paperId = extraction.paperId().toString();
+        IndexedPaper paper = new IndexedPaper(
+                paperId,
+                extraction.updatedAt(),
+                PaperTermIndex.build(paperId, paragraphs, MIN_PARAGRAPH_LENGTH),
+                PaperLshIndex.build(paperId, paragraphs, MIN_DUPLICATE_PARAGRAPH_LENGTH));
+        log.debug(
+                "Indexed {} paragraphs of paper {} ({} without a stored MinHash signature)",
+                paragraphs.size(),
+                paperId,
+                paper.nearDuplicates().getSignedOnIndex());
+        return paper;
+    }
+}
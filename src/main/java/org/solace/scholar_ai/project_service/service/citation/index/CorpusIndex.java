@@ -0,0 +1,11 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+/**
+ * Indexes over the papers selected for one citation check
+ *
+ * @param evidence BM25 index for retrieving supporting paragraphs
+ * @param nearDuplicates LSH index for finding copied paragraphs
+ * @param version paper ids, extraction ids and update times of the indexed
+ *     papers, sorted
+ */
+public record CorpusIndex(Bm25Index evidence, NearDuplicateIndex nearDuplicates, String version) {}
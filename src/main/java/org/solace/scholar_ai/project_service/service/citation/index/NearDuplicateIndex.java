@@ -0,0 +1,96 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.util.text.MinHash;
+import org.solace.scholar_ai.project_service.util.text.TextTokenizer;
+
+/**
+ * Finds paragraphs whose word set is nearly the same as a sentence's, across
+ * several papers.
+ *
+ * <p>A lookup signs the sentence, collects the paragraphs sharing any LSH
+ * band key with it, and verifies only those with exact Jaccard similarity,
+ * so its cost depends on the number of bands and papers rather than on the
+ * number of paragraphs. Below {@value #MIN_LSH_THRESHOLD} the banding would
+ * miss too many true matches, so lower thresholds verify every paragraph.
+ */
+public final class NearDuplicateIndex {
+
+    public static final double MIN_LSH_THRESHOLD = 0.7;
+
+    private final List<PaperLshIndex> papers;
+
+    /**
+     * A paragraph above the threshold, with its exact similarity
+     */
+    public record Match(String paperId, ExtractedParagraph paragraph, double similarity) {}
+
+    private NearDuplicateIndex(List<PaperLshIndex> papers) {
+        this.papers = papers;
+    }
+
+    public static NearDuplicateIndex of(Collection<PaperLshIndex> papers) {
+        return new NearDuplicateIndex(
+                papers.stream().filter(paper -> paper.size() > 0).toList());
+    }
+
+    /**
+     * The most similar paragraph of each paper with word-set Jaccard
+     * similarity above {@code threshold}, best first
+     */
+    public List<Match> find(String text, double threshold) {
+        Set<String> terms = TextTokenizer.termSet(text);
+        if (terms.isEmpty() || papers.isEmpty()) {
+            return List.of();
+        }
+        long[] bandKeys = null;
+        if (threshold >= MIN_LSH_THRESHOLD) {
+            int[] signature = MinHash.signature(terms);
+            bandKeys = new long[MinHash.BANDS];
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                bandKeys[band] = MinHash.bandKey(signature, band);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (PaperLshIndex paper : papers) {
+            BitSet candidates = candidates(paper, bandKeys);
+            Match best = null;
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                ExtractedParagraph paragraph = paper.paragraph(ordinal);
+                double similarity = MinHash.jaccard(terms, TextTokenizer.termSet(paragraph.getText()));
+                if (similarity > threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(paper.getPaperId(), paragraph, similarity);
+                }
+            }
+            if (best != null) {
+                matches.add(best);
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches;
+    }
+
+    private static BitSet candidates(PaperLshIndex paper, long[] bandKeys) {
+        BitSet candidates = new BitSet(paper.size());
+        if (bandKeys == null) {
+            candidates.set(0, paper.size());
+            return candidates;
+        }
+        for (long bandKey : bandKeys) {
+            int[] bucket = paper.bucket(bandKey);
+            if (bucket != null) {
+                for (int ordinal : bucket) {
+                    candidates.set(ordinal);
+                }
+            }
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,101 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.util.text.MinHash;
+
+/**
+ * LSH buckets over the MinHash signatures of one paper's paragraphs: for
+ * every band key, the paragraphs whose signature produces it.
+ *
+ * <p>Signatures are read from {@link ExtractedParagraph#getMinhashSignature()},
+ * written when the extraction was persisted; paragraphs persisted before that
+ * are signed here, once per cached index.
+ */
+public final class PaperLshIndex {
+
+    private final String paperId;
+    private final List<ExtractedParagraph> paragraphs;
+    private final Map<Long, int[]> buckets;
+    private final int signedOnIndex;
+
+    private PaperLshIndex(
+            String paperId, List<ExtractedParagraph> paragraphs, Map<Long, int[]> buckets, int signedOnIndex) {
+        this.paperId = paperId;
+        this.paragraphs = paragraphs;
+        this.buckets = buckets;
+        this.signedOnIndex = signedOnIndex;
+    }
+
+    /**
+     * Bucket the paragraphs of a paper whose text is longer than
+     * {@code minTextLength} characters
+     */
+    public static PaperLshIndex build(String paperId, List<ExtractedParagraph> source, int minTextLength) {
+        List<ExtractedParagraph> paragraphs = new ArrayList<>();
+        Map<Long, int[]> buckets = new HashMap<>();
+        int signedOnIndex = 0;
+        for (ExtractedParagraph paragraph : source) {
+            if (paragraph.getText() == null || paragraph.getText().length() <= minTextLength) {
+                continue;
+            }
+            int[] signature = MinHash.decode(paragraph.getMinhashSignature());
+            if (signature == null) {
+                signature = MinHash.signature(paragraph.getText());
+                signedOnIndex++;
+            }
+            if (signature == null) {
+                continue;
+            }
+            int ordinal = paragraphs.size();
+            paragraphs.add(paragraph);
+            for (int band = 0; band < MinHash.BANDS; band++) {
+                buckets.merge(MinHash.bandKey(signature, band), new int[] {ordinal}, PaperLshIndex::append);
+            }
+        }
+        return new PaperLshIndex(paperId, List.copyOf(paragraphs), buckets, signedOnIndex);
+    }
+
+    public String getPaperId() {
+        return paperId;
+    }
+
+    public int size() {
+        return paragraphs.size();
+    }
+
+    /**
+     * Paragraphs signed while indexing because no stored signature was found
+     */
+    public int getSignedOnIndex() {
+        return signedOnIndex;
+    }
+
+    /**
+     * Rough memory weight for cache sizing: one unit per bucket entry
+     */
+    public int weight() {
+        return paragraphs.size() * MinHash.BANDS;
+    }
+
+    ExtractedParagraph paragraph(int ordinal) {
+        return paragraphs.get(ordinal);
+    }
+
+    /**
+     * Paragraphs sharing the band key, or {@code null}
+     */
+    int[] bucket(long bandKey) {
+        return buckets.get(bandKey);
+    }
+
+    private static int[] append(int[] ordinals, int[] added) {
+        int[] merged = Arrays.copyOf(ordinals, ordinals.length + added.length);
+        System.arraycopy(added, 0, merged, ordinals.length, added.length);
+        return merged;
+    }
+}
@@ -0,0 +1,155 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.util.text.TextTokenizer;
+
+/**
+ * Inverted index over the paragraphs of one paper: for every term, the
+ * paragraphs containing it and how often. Immutable once built, so it can be
+ * cached per extraction and shared between checks; corpus-wide statistics
+ * are left to {@link Bm25Index}, which searches several of these together.
+ */
+public final class PaperTermIndex {
+
+    private final String paperId;
+    private final List<ExtractedParagraph> paragraphs;
+    private final int[] lengths;
+    private final long totalLength;
+    private final Map<String, Postings> postings;
+    private final long postingCount;
+
+    /**
+     * Paragraphs containing one term, in paragraph order, with the term's
+     * frequency in each
+     */
+    record Postings(int[] paragraphs, int[] frequencies) {
+
+        int size() {
+            return paragraphs.length;
+        }
+    }
+
+    private PaperTermIndex(
+            String paperId,
+            List<ExtractedParagraph> paragraphs,
+            int[] lengths,
+            long totalLength,
+            Map<String, Postings> postings,
+            long postingCount) {
+        this.paperId = paperId;
+        this.paragraphs = paragraphs;
+        this.lengths = lengths;
+        this.totalLength = totalLength;
+        this.postings = postings;
+        this.postingCount = postingCount;
+    }
+
+    /**
+     * Index the paragraphs of a paper whose text is longer than
+     * {@code minTextLength} characters
+     */
+    public static PaperTermIndex build(String paperId, List<ExtractedParagraph> source, int minTextLength) {
+        List<ExtractedParagraph> paragraphs = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        Map<String, PostingsBuilder> builders = new HashMap<>();
+        long totalLength = 0;
+
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (ExtractedParagraph paragraph : source) {
+            if (paragraph.getText() == null || paragraph.getText().length() <= minTextLength) {
+                continue;
+            }
+            List<String> terms = TextTokenizer.tokenize(paragraph.getText());
+            if (terms.isEmpty()) {
+                continue;
+            }
+            int ordinal = paragraphs.size();
+            paragraphs.add(paragraph);
+            lengths.add(terms.size());
+            totalLength += terms.size();
+
+            frequencies.clear();
+            for (String term : terms) {
+                frequencies.computeIfAbsent(term, t -> new int[1])[0]++;
+            }
+            frequencies.forEach((term, count) ->
+                    builders.computeIfAbsent(term, t -> new PostingsBuilder()).add(ordinal, count[0]));
+        }
+
+        Map<String, Postings> postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+        long postingCount = 0;
+        for (Map.Entry<String, PostingsBuilder> entry : builders.entrySet()) {
+            Postings built = entry.getValue().build();
+            postings.put(entry.getKey(), built);
+            postingCount += built.size();
+        }
+        return new PaperTermIndex(
+                paperId,
+                List.copyOf(paragraphs),
+                lengths.stream().mapToInt(Integer::intValue).toArray(),
+                totalLength,
+                postings,
+                postingCount);
+    }
+
+    public String getPaperId() {
+        return paperId;
+    }
+
+    public int size() {
+        return paragraphs.size();
+    }
+
+    /**
+     * Rough memory weight for cache sizing: one unit per posting and per paragraph
+     */
+    public int weight() {
+        return (int) Math.min(Integer.MAX_VALUE, postingCount + paragraphs.size());
+    }
+
+    ExtractedParagraph paragraph(int ordinal) {
+        return paragraphs.get(ordinal);
+    }
+
+    int length(int ordinal) {
+        return lengths[ordinal];
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    Postings postings(String term) {
+        return postings.get(term);
+    }
+
+    int documentFrequency(String term) {
+        Postings termPostings = postings.get(term);
+        return termPostings != null ? termPostings.size() : 0;
+    }
+
+    private static final class PostingsBuilder {
+        private int[] paragraphs = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int paragraph, int frequency) {
+            if (size == paragraphs.length) {
+                paragraphs = Arrays.copyOf(paragraphs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            paragraphs[size] = paragraph;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(paragraphs, size), Arrays.copyOf(frequencies, size));
+        }
+    }
+}
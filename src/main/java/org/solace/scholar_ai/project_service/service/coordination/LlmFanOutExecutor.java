@@ -0,0 +1,152 @@
+package org.solace.scholar_ai.project_service.service.coordination;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.client.gemini.AdaptiveConcurrencyLimiter;
+import org.solace.scholar_ai.project_service.constant.LlmPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs blocking LLM fan-out work (summary sections, citation verification)
+ * on virtual threads.
+ *
+ * <p>Concurrency is bounded by the batch slots the
+ * {@link AdaptiveConcurrencyLimiter} currently admits, not by a pool size, so
+ * concurrent jobs share the limiter instead of queueing behind each other's
+ * platform threads. The bound follows the limit as it grows and shrinks.
+ * Tasks beyond it park cheaply here rather than piling up in the limiter
+ * queue against its deadline; when the limit shrinks, running tasks finish
+ * and no new one starts until the count is back under it.
+ *
+ * <p>On shutdown no new work is accepted and running tasks get
+ * {@code shutdown-timeout} to finish before they are interrupted.
+ */
+@Slf4j
+@Component
+public class LlmFanOutExecutor {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("llm-fan-out-", 0).factory());
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Duration shutdownTimeout;
+
+    // Fair so waiting tasks start in arrival order; guards the counts below
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition permitFreed = lock.newCondition();
+    private int capacity;
+    private int active;
+    private int waiting;
+
+    public LlmFanOutExecutor(
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${coordination.llm-fan-out.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.shutdownTimeout = shutdownTimeout;
+        this.capacity = concurrencyLimiter.capacity(LlmPriority.BATCH);
+        concurrencyLimiter.onBatchCapacityChange(this::resize);
+
+        Gauge.builder("llm.fanout.active", this, fanOut -> fanOut.locked(() -> fanOut.active))
+                .register(meterRegistry);
+        Gauge.builder("llm.fanout.waiting", this, fanOut -> fanOut.locked(() -> fanOut.waiting))
+                .register(meterRegistry);
+        Gauge.builder("llm.fanout.capacity", this, fanOut -> fanOut.locked(() -> fanOut.capacity))
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run {@code task} on a virtual thread once a fan-out permit is free.
+     * Fails with {@link java.util.concurrent.RejectedExecutionException} after
+     * shutdown has started.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(() -> runWithPermit(task), executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("LLM fan-out tasks still running after {}, interrupting them", shutdownTimeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T runWithPermit(Supplier<T> task) {
+        try {
+            acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return task.get();
+        } finally {
+            release();
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            waiting++;
+            try {
+                while (active >= capacity) {
+                    permitFreed.await();
+                }
+            } finally {
+                waiting--;
+            }
+            active++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            active--;
+            permitFreed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void resize() {
+        lock.lock();
+        try {
+            capacity = concurrencyLimiter.capacity(LlmPriority.BATCH);
+            permitFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double locked(IntSupplier count) {
+        lock.lock();
+        try {
+            return count.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
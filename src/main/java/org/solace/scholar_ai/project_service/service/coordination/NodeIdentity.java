@@ -0,0 +1,42 @@
+package org.solace.scholar_ai.project_service.service.coordination;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Names this instance in Postgres leases shared with other nodes.
+ *
+ * <p>The node id is the host name, or a random id if it cannot be resolved.
+ * Each lease holder on a node takes its own owner, {@code nodeId/uuid}, so
+ * two components of one node never renew or release each other's leases.
+ */
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity() {
+        this.nodeId = resolveNodeId();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * A lease owner distinct from every other one issued on any node
+     */
+    public String newLeaseOwner() {
+        return nodeId + "/" + UUID.randomUUID();
+    }
+
+    private static String resolveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node-" + UUID.randomUUID();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.solace.scholar_ai.project_service.service.coordination;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.repository.coordination.JobLeaseRepository;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Coalesces concurrent identical jobs so they share one computation.
+ *
+ * <p>Within a node, callers asking for the same (operation, resource, input)
+ * while a computation is running wait for it and receive the same result or
+ * exception. Across nodes, the leader of each flight first takes a Postgres
+ * lease on (operation, resource), so a second node waits for the first to
+ * finish instead of duplicating the work. Computations should therefore start
+ * by re-checking for a result persisted by whoever held the lease before them.
+ */
+@Slf4j
+@Service
+public class SingleFlightService {
+
+    private final JobLeaseRepository leaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration leaseTtl;
+    private final Duration pollInterval;
+    private final NodeIdentity nodeIdentity;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService leaseRenewer = DaemonSchedulers.singleThread("single-flight-lease");
+
+    public SingleFlightService(
+            JobLeaseRepository leaseRepository,
+            MeterRegistry meterRegistry,
+            NodeIdentity nodeIdentity,
+            @Value("${coordination.single-flight.lease-ttl:5m}") Duration leaseTtl,
+            @Value("${coordination.single-flight.poll-interval:500ms}") Duration pollInterval) {
+        this.leaseRepository = leaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.leaseTtl = leaseTtl;
+        this.pollInterval = pollInterval;
+        this.nodeIdentity = nodeIdentity;
+    }
+
+    /**
+     * Run {@code computation} once per (operation, resourceId, inputHash) at a
+     * time; concurrent callers with the same key share its outcome
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String resourceId, String inputHash, Supplier<T> computation) {
+        String flightKey = operation + ":" + resourceId + ":" + inputHash;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            log.info("🔗 Joining in-flight {} for {}", operation, resourceId);
+            meterRegistry
+                    .counter("single.flight.calls", "operation", operation, "role", "follower")
+                    .increment();
+            return (T) await(existing);
+        }
+
+        meterRegistry
+                .counter("single.flight.calls", "operation", operation, "role", "leader")
+                .increment();
+        try {
+            T result = runUnderLease(operation + ":" + resourceId, operation, computation);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private <T> T runUnderLease(String leaseKey, String operation, Supplier<T> computation) {
+        String owner = nodeIdentity.newLeaseOwner();
+        boolean leased = acquireLease(leaseKey, owner, operation);
+
+        ScheduledFuture<?> renewal = null;
+        if (leased) {
+            long renewMillis = Math.max(1000, leaseTtl.toMillis() / 3);
+            renewal = leaseRenewer.scheduleAtFixedRate(
+                    () -> renewLease(leaseKey, owner), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return computation.get();
+        } finally {
+            if (renewal != null) {
+                renewal.cancel(false);
+                releaseLease(leaseKey, owner);
+            }
+        }
+    }
+
+    /**
+     * Poll until the lease is ours. Gives up after two lease lifetimes (a
+     * holder that stopped renewing has expired by then) or if Postgres is
+     * unreachable, in which case only in-node coalescing applies.
+     */
+    private boolean acquireLease(String leaseKey, String owner, String operation) {
+        long ttlSeconds = Math.max(1, leaseTtl.toSeconds());
+        long deadline = System.nanoTime() + leaseTtl.multipliedBy(2).toNanos();
+        Timer.Sample waitSample = Timer.start(meterRegistry);
+        boolean waited = false;
+
+        try {
+            while (true) {
+                if (leaseRepository.tryAcquire(leaseKey, owner, ttlSeconds) > 0) {
+                    if (waited) {
+                        log.info("🔓 Acquired lease {} after waiting for another node", leaseKey);
+                    }
+                    return true;
+                }
+                if (System.nanoTime() > deadline) {
+                    log.warn("⚠️ Timed out waiting for lease {}, proceeding without it", leaseKey);
+                    return false;
+                }
+                if (!waited) {
+                    log.info("⏳ {} is running on another node, waiting for lease {}", operation, leaseKey);
+                    waited = true;
+                }
+                Thread.sleep(pollInterval.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for lease " + leaseKey, e);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Lease {} unavailable, coalescing on this node only: {}", leaseKey, e.getMessage());
+            return false;
+        } finally {
+            waitSample.stop(meterRegistry.timer("single.flight.lease.wait", "operation", operation));
+        }
+    }
+
+    private void renewLease(String leaseKey, String owner) {
+        try {
+            if (leaseRepository.renew(leaseKey, owner, Math.max(1, leaseTtl.toSeconds())) == 0) {
+                log.warn("⚠️ Lease {} was lost before the job finished", leaseKey);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Failed to renew lease {}: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private void releaseLease(String leaseKey, String owner) {
+        try {
+            leaseRepository.release(leaseKey, owner);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Failed to release lease {}, it will expire: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.solace.scholar_ai.project_service.model.paper.Paper;
 import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
 import org.solace.scholar_ai.project_service.service.extraction.persistence.ExtractionPersistenceService;
+import org.solace.scholar_ai.project_service.service.pregeneration.PregenerationService;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,6 +36,7 @@ public class ExtractionService {
     private final PaperExtractionRepository paperExtractionRepository;
     private final ExtractionRequestSender extractionRequestSender;
     private final ExtractionPersistenceService extractionPersistenceService;
+    private final PregenerationService pregenerationService;
 
     /**
      * Trigger extraction for a paper
@@ -217,6 +219,10 @@ public class ExtractionService {
 
         paperRepository.save(paper);
 
+        if (Boolean.TRUE.equals(paper.getIsExtracted())) {
+            pregenerationService.onExtractionCompleted(paper);
+        }
+
         log.info("Successfully updated extraction status for paper {} to {}", event.paperId(), event.status());
     }
 
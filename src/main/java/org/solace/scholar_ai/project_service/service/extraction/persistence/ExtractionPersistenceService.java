@@ -9,6 +9,8 @@ import org.solace.scholar_ai.project_service.dto.event.extraction.ExtractionComp
 import org.solace.scholar_ai.project_service.model.extraction.*;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
 import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
+import org.solace.scholar_ai.project_service.service.citation.index.CitationCorpusIndexer;
+import org.solace.scholar_ai.project_service.util.text.MinHash;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class ExtractionPersistenceService {
 
     private final PaperExtractionRepository paperExtractionRepository;
     private final ObjectMapper objectMapper;
+    private final CitationCorpusIndexer citationCorpusIndexer;
 
     /**
      * Persist extraction results to database
@@ -95,6 +98,9 @@ public class ExtractionPersistenceService {
             log.info("Saving final PaperExtraction with all relationships for paper: {}", paper.getId());
             paperExtraction = paperExtractionRepository.save(paperExtraction);
 
+            // Citation checks must not keep searching the previous extraction
+            citationCorpusIndexer.invalidatePaper(paper.getId());
+
             // Log final counts
             int totalSections = paperExtraction.getSections().size();
             int totalParagraphs = paperExtraction.getSections().stream()
@@ -211,11 +217,14 @@ public class ExtractionPersistenceService {
 
     private ExtractedParagraph createExtractedParagraph(
             ExtractedSection section, JsonNode paragraphNode, int orderIndex) {
+        String text = getTextValue(paragraphNode, "text");
         ExtractedParagraph paragraph = ExtractedParagraph.builder()
                 .section(section)
-                .text(getTextValue(paragraphNode, "text"))
+                .text(text)
                 .page(getIntValue(paragraphNode, "page"))
                 .orderIndex(orderIndex)
+                // Signed once here so plagiarism checks never re-shingle the corpus
+                .minhashSignature(MinHash.encode(MinHash.signature(text)))
                 .build();
 
         // Extract bounding box if available
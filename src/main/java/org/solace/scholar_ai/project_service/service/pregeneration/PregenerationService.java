@@ -0,0 +1,349 @@
+package org.solace.scholar_ai.project_service.service.pregeneration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.PregenerationTask;
+import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.papersearch.WebSearchOperation;
+import org.solace.scholar_ai.project_service.model.pregeneration.PregenerationJob;
+import org.solace.scholar_ai.project_service.model.project.Project;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.papersearch.WebSearchOperationRepository;
+import org.solace.scholar_ai.project_service.repository.pregeneration.PregenerationJobRepository;
+import org.solace.scholar_ai.project_service.repository.project.ProjectRepository;
+import org.solace.scholar_ai.project_service.service.ai.AbstractAnalysisService;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.service.summary.PaperSummaryGenerationService;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Generates summaries and abstract analyses as soon as a paper's extraction
+ * completes, so the first reader does not wait for the LLM.
+ *
+ * <p>Opt-in per project. Work goes through a Postgres queue: every node polls
+ * it, claims due jobs with {@code FOR UPDATE SKIP LOCKED} and runs them on
+ * virtual threads. At most {@code max-concurrency} jobs run across all nodes
+ * and {@code max-concurrency-per-node} on each. Failed jobs are retried with
+ * exponential backoff up to {@code max-attempts}; jobs of a node that stops
+ * heartbeating are claimed again by the others.
+ *
+ * <p>Queue depth is published as {@code pregeneration.queue.depth}, tagged by
+ * task and state (PENDING, BACKOFF, RUNNING), and finished attempts as
+ * {@code pregeneration.jobs}, tagged by task and outcome.
+ */
+@Slf4j
+@Service
+public class PregenerationService {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+    private static final List<String> QUEUE_STATES = List.of("PENDING", "BACKOFF", "RUNNING");
+
+    private final PregenerationJobRepository jobRepository;
+    private final PaperRepository paperRepository;
+    private final ProjectRepository projectRepository;
+    private final WebSearchOperationRepository webSearchOperationRepository;
+    private final PaperSummaryGenerationService summaryGenerationService;
+    private final AbstractAnalysisService abstractAnalysisService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int maxConcurrency;
+    private final int maxConcurrencyPerNode;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration staleAfter;
+    private final String owner;
+    private volatile boolean shuttingDown;
+
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("pregeneration-", 0).factory());
+    private final ScheduledExecutorService scheduler = DaemonSchedulers.singleThread("pregeneration-poller");
+
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicLong> queueDepth = new ConcurrentHashMap<>();
+
+    public PregenerationService(
+            PregenerationJobRepository jobRepository,
+            PaperRepository paperRepository,
+            ProjectRepository projectRepository,
+            WebSearchOperationRepository webSearchOperationRepository,
+            PaperSummaryGenerationService summaryGenerationService,
+            AbstractAnalysisService abstractAnalysisService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            NodeIdentity nodeIdentity,
+            @Value("${pregeneration.enabled:true}") boolean enabled,
+            @Value("${pregeneration.poll-interval:5s}") Duration pollInterval,
+            @Value("${pregeneration.max-concurrency:4}") int maxConcurrency,
+            @Value("${pregeneration.max-concurrency-per-node:2}") int maxConcurrencyPerNode,
+            @Value("${pregeneration.max-attempts:5}") int maxAttempts,
+            @Value("${pregeneration.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${pregeneration.max-backoff:30m}") Duration maxBackoff,
+            @Value("${pregeneration.stale-after:2m}") Duration staleAfter) {
+        this.jobRepository = jobRepository;
+        this.paperRepository = paperRepository;
+        this.projectRepository = projectRepository;
+        this.webSearchOperationRepository = webSearchOperationRepository;
+        this.summaryGenerationService = summaryGenerationService;
+        this.abstractAnalysisService = abstractAnalysisService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.maxConcurrency = maxConcurrency;
+        this.maxConcurrencyPerNode = maxConcurrencyPerNode;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.staleAfter = staleAfter;
+        this.owner = nodeIdentity.newLeaseOwner();
+
+        for (PregenerationTask task : PregenerationTask.values()) {
+            for (String state : QUEUE_STATES) {
+                AtomicLong depth = new AtomicLong();
+                queueDepth.put(depthKey(task.name(), state), depth);
+                Gauge.builder("pregeneration.queue.depth", depth, AtomicLong::get)
+                        .description("Unfinished pre-generation jobs across all nodes")
+                        .tag("task", task.name())
+                        .tag("state", state)
+                        .register(meterRegistry);
+            }
+        }
+        Gauge.builder("pregeneration.workers.active", running, Set::size)
+                .description("Pre-generation jobs running on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue pre-generation for a freshly extracted paper if its project opted
+     * in. Inside a transaction the jobs are queued once it commits, so workers
+     * never see the paper before its extraction is visible.
+     */
+    public void onExtractionCompleted(Paper paper) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(paper);
+                }
+            });
+        } else {
+            enqueue(paper);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        if (!enabled) {
+            log.info("Summary pre-generation is disabled");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        scheduler.shutdownNow();
+        // Interrupted jobs stop heartbeating and are claimed again by another node
+        workers.shutdownNow();
+    }
+
+    private void enqueue(Paper paper) {
+        try {
+            Optional<UUID> projectId = findProjectId(paper);
+            boolean optedIn = projectId
+                    .flatMap(projectRepository::findById)
+                    .map(Project::getPregenerateSummaries)
+                    .orElse(false);
+            if (!optedIn) {
+                return;
+            }
+
+            int queued = jobRepository.enqueue(paper.getId(), projectId.get(), PregenerationTask.SUMMARY.name());
+            if (paper.getAbstractText() != null && !paper.getAbstractText().isBlank()) {
+                queued += jobRepository.enqueue(
+                        paper.getId(), projectId.get(), PregenerationTask.ABSTRACT_ANALYSIS.name());
+            }
+            log.info("📥 Queued {} pre-generation job(s) for paper {}", queued, paper.getId());
+        } catch (Exception e) {
+            log.warn("Failed to queue pre-generation for paper {}: {}", paper.getId(), e.getMessage());
+        }
+    }
+
+    private Optional<UUID> findProjectId(Paper paper) {
+        if (paper.getCorrelationId() == null) {
+            return Optional.empty();
+        }
+        return webSearchOperationRepository.findById(paper.getCorrelationId()).map(WebSearchOperation::getProjectId);
+    }
+
+    private void poll() {
+        try {
+            if (!running.isEmpty()) {
+                jobRepository.heartbeat(Set.copyOf(running), owner);
+            }
+            refreshQueueDepth();
+
+            int localFree = maxConcurrencyPerNode - running.size();
+            if (localFree <= 0) {
+                return;
+            }
+            List<UUID> claimed = transactionTemplate.execute(status -> claim(localFree));
+            if (claimed == null) {
+                return;
+            }
+            for (UUID jobId : claimed) {
+                running.add(jobId);
+                workers.submit(() -> run(jobId));
+            }
+        } catch (Exception e) {
+            log.warn("Pre-generation poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claim up to {@code localFree} jobs without exceeding the cluster-wide
+     * limit. Runs in one transaction holding the claim lock.
+     */
+    private List<UUID> claim(int localFree) {
+        jobRepository.lockClaims();
+        long clusterFree = maxConcurrency - jobRepository.countRunning(staleAfter.toSeconds());
+        int limit = (int) Math.min(localFree, clusterFree);
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<UUID> ids = jobRepository.lockClaimable(staleAfter.toSeconds(), limit);
+        if (!ids.isEmpty()) {
+            jobRepository.claim(ids, owner);
+        }
+        return ids;
+    }
+
+    private void run(UUID jobId) {
+        PregenerationJob job = null;
+        try {
+            job = jobRepository.findById(jobId).orElse(null);
+            if (job == null) {
+                return;
+            }
+            long startNanos = System.nanoTime();
+            execute(job);
+            jobRepository.complete(jobId, owner);
+            log.info(
+                    "✅ Pre-generated {} for paper {} in {} ms",
+                    job.getTask(),
+                    job.getPaperId(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+            outcome(job.getTask(), "completed").increment();
+        } catch (Exception e) {
+            if (job != null) {
+                handleFailure(job, e);
+            }
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    private void execute(PregenerationJob job) {
+        Paper paper = paperRepository.findById(job.getPaperId()).orElse(null);
+        if (paper == null) {
+            log.info("Paper {} was deleted, skipping pre-generation {}", job.getPaperId(), job.getTask());
+            return;
+        }
+        switch (job.getTask()) {
+            case SUMMARY -> summaryGenerationService.generateSummary(paper.getId(), false);
+            case ABSTRACT_ANALYSIS -> abstractAnalysisService.getOrCreateAnalysis(
+                    paper.getId().toString(), paper.getAbstractText());
+        }
+    }
+
+    private void handleFailure(PregenerationJob job, Exception e) {
+        if (shuttingDown) {
+            log.info("Pre-generation job {} interrupted by shutdown, leaving it for another node", job.getId());
+            return;
+        }
+        String error = truncate(e.getMessage());
+        // Attempts were incremented by the claim, so they include this one
+        if (e instanceof PaperNotExtractedException || job.getAttempts() >= maxAttempts) {
+            log.error("❌ Pre-generation {} for paper {} failed: {}", job.getTask(), job.getPaperId(), error);
+            jobRepository.fail(job.getId(), owner, error);
+            outcome(job.getTask(), "failed").increment();
+            return;
+        }
+
+        Duration delay = backoff(job.getAttempts());
+        log.warn(
+                "Pre-generation {} for paper {} failed (attempt {}/{}), retrying in {}: {}",
+                job.getTask(),
+                job.getPaperId(),
+                job.getAttempts(),
+                maxAttempts,
+                delay,
+                error);
+        jobRepository.retryLater(job.getId(), owner, delay.toSeconds(), error);
+        outcome(job.getTask(), "retried").increment();
+    }
+
+    /**
+     * Exponential backoff from {@code initial-backoff}, capped at {@code max-backoff}
+     */
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void refreshQueueDepth() {
+        queueDepth.values().forEach(depth -> depth.set(0));
+        for (Object[] row : jobRepository.countUnfinished()) {
+            AtomicLong depth = queueDepth.get(depthKey((String) row[0], (String) row[1]));
+            if (depth != null) {
+                depth.set(((Number) row[2]).longValue());
+            }
+        }
+    }
+
+    private Counter outcome(PregenerationTask task, String outcome) {
+        return meterRegistry.counter("pregeneration.jobs", "task", task.name(), "outcome", outcome);
+    }
+
+    private static String depthKey(String task, String state) {
+        return task + ":" + state;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
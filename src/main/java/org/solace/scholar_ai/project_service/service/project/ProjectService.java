@@ -122,6 +122,9 @@ public class ProjectService {
         if (updateProjectDto.isStarred() != null) {
             existingProject.setIsStarred(updateProjectDto.isStarred());
         }
+        if (updateProjectDto.pregenerateSummaries() != null) {
+            existingProject.setPregenerateSummaries(updateProjectDto.pregenerateSummaries());
+        }
 
         // Set last activity if not provided
         if (updateProjectDto.lastActivity() == null) {
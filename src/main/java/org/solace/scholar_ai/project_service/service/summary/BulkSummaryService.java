@@ -0,0 +1,508 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.summary.BulkSummaryRequestDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryBatchDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryPlan;
+import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.SummaryBatch;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.repository.summary.SummaryBatchRepository;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.service.paper.PaperPersistenceService;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Summarizes many papers in one request, e.g. every paper of a project for a
+ * literature review.
+ *
+ * <p>A paper whose stored summary was generated from its current extraction,
+ * i.e. every section's input hash still matches, is skipped without an LLM
+ * call. The rest are summarized through {@link SummaryJobService}, at most
+ * {@code parallelism} papers at a time. Their section calls still go through
+ * the fan-out executor and the shared limiter at batch priority, so a bulk
+ * run competes with other batch work instead of crowding out interactive
+ * calls.
+ *
+ * <p>The token budget is enforced on estimates. Before a paper starts, its
+ * estimated prompt tokens plus the output limit of every section it needs are
+ * reserved against the budget; a paper that does not fit is marked
+ * {@code OVER_BUDGET} and later, smaller papers may still run. Output limits
+ * are upper bounds, so actual usage stays under the budget.
+ *
+ * <p>Batches are durable like summary jobs: the running node heartbeats them
+ * and a batch whose heartbeat expires is resumed by another node's sweep,
+ * which waits for the papers already started instead of starting them again.
+ */
+@Slf4j
+@Service
+public class BulkSummaryService {
+
+    private static final int SWEEP_BATCH = 5;
+
+    /**
+     * Receives aggregate progress for one batch. Callbacks run on batch or
+     * scheduler threads and must not block.
+     */
+    public interface SummaryBatchListener {
+        void onProgress(SummaryBatchDto batch);
+
+        void onComplete(SummaryBatchDto batch);
+
+        void onKeepAlive();
+    }
+
+    private final SummaryBatchRepository batchRepository;
+    private final PaperRepository paperRepository;
+    private final PaperSummaryRepository summaryRepository;
+    private final PaperPersistenceService paperPersistenceService;
+    private final PaperSummaryGenerationService summaryGenerationService;
+    private final SummaryJobService summaryJobService;
+    private final TransactionTemplate progressTransaction;
+    private final int defaultParallelism;
+    private final int maxParallelism;
+    private final long defaultMaxTokens;
+    private final int maxPapers;
+    private final Duration heartbeatInterval;
+    private final Duration staleAfter;
+    private final Duration sweepInterval;
+    private final int maxAttempts;
+    private final String owner;
+    private volatile boolean shuttingDown;
+
+    private final ExecutorService runner = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("summary-batch-", 0).factory());
+    private final ScheduledExecutorService scheduler = DaemonSchedulers.singleThread("summary-batches");
+
+    private final ConcurrentMap<UUID, SummaryBatch> running = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, List<SummaryBatchListener>> listeners = new ConcurrentHashMap<>();
+
+    public BulkSummaryService(
+            SummaryBatchRepository batchRepository,
+            PaperRepository paperRepository,
+            PaperSummaryRepository summaryRepository,
+            PaperPersistenceService paperPersistenceService,
+            PaperSummaryGenerationService summaryGenerationService,
+            SummaryJobService summaryJobService,
+            TransactionTemplate transactionTemplate,
+            NodeIdentity nodeIdentity,
+            @Value("${summary.bulk.default-parallelism:4}") int defaultParallelism,
+            @Value("${summary.bulk.max-parallelism:8}") int maxParallelism,
+            @Value("${summary.bulk.default-max-tokens:0}") long defaultMaxTokens,
+            @Value("${summary.bulk.max-papers:500}") int maxPapers,
+            @Value("${summary.jobs.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${summary.jobs.stale-after:1m}") Duration staleAfter,
+            @Value("${summary.jobs.sweep-interval:30s}") Duration sweepInterval,
+            @Value("${summary.jobs.max-attempts:3}") int maxAttempts) {
+        this.batchRepository = batchRepository;
+        this.paperRepository = paperRepository;
+        this.summaryRepository = summaryRepository;
+        this.paperPersistenceService = paperPersistenceService;
+        this.summaryGenerationService = summaryGenerationService;
+        this.summaryJobService = summaryJobService;
+        this.progressTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.progressTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.defaultParallelism = defaultParallelism;
+        this.maxParallelism = maxParallelism;
+        this.defaultMaxTokens = defaultMaxTokens;
+        this.maxPapers = maxPapers;
+        this.heartbeatInterval = heartbeatInterval;
+        this.staleAfter = staleAfter;
+        this.sweepInterval = sweepInterval;
+        this.maxAttempts = maxAttempts;
+        this.owner = nodeIdentity.newLeaseOwner();
+    }
+
+    /**
+     * Queue bulk summarization and return the batch
+     *
+     * @throws IllegalArgumentException if the request names no papers, too
+     *     many papers or a non-positive budget
+     */
+    public SummaryBatch submit(BulkSummaryRequestDto request) {
+        List<UUID> paperIds = resolvePapers(request);
+        int parallelism = Math.clamp(
+                request.getParallelism() != null ? request.getParallelism() : defaultParallelism, 1, maxParallelism);
+        Long tokenBudget = request.getMaxTokens() != null
+                ? request.getMaxTokens()
+                : defaultMaxTokens > 0 ? Long.valueOf(defaultMaxTokens) : null;
+        if (tokenBudget != null && tokenBudget <= 0) {
+            throw new IllegalArgumentException("maxTokens must be positive");
+        }
+
+        Map<String, SummaryBatch.PaperProgress> papers = new LinkedHashMap<>();
+        for (UUID paperId : paperIds) {
+            papers.put(
+                    paperId.toString(),
+                    SummaryBatch.PaperProgress.builder()
+                            .state(SummaryBatch.PaperState.PENDING)
+                            .build());
+        }
+        SummaryBatch batch = batchRepository.save(SummaryBatch.builder()
+                .projectId(request.getProjectId())
+                .status(SummaryBatch.Status.QUEUED)
+                .parallelism(parallelism)
+                .tokenBudget(tokenBudget)
+                .papers(papers)
+                .createdAt(Instant.now())
+                .build());
+        log.info(
+                "🧾 Queued summary batch {} for {} papers (parallelism={}, tokenBudget={})",
+                batch.getId(),
+                papers.size(),
+                parallelism,
+                tokenBudget);
+
+        dispatch(batch.getId());
+        return batch;
+    }
+
+    public Optional<SummaryBatch> findBatch(UUID batchId) {
+        return batchRepository.findById(batchId);
+    }
+
+    public void subscribe(UUID batchId, SummaryBatchListener listener) {
+        listeners.computeIfAbsent(batchId, id -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void unsubscribe(UUID batchId, SummaryBatchListener listener) {
+        listeners.computeIfPresent(batchId, (id, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackgroundTasks() {
+        scheduler.scheduleWithFixedDelay(this::sweepStaleBatches, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+                this::heartbeatAndRefresh,
+                heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        scheduler.shutdownNow();
+        // Started paper jobs carry on; the batch is resumed by another node's sweep
+        runner.shutdownNow();
+    }
+
+    private List<UUID> resolvePapers(BulkSummaryRequestDto request) {
+        Stream<UUID> paperIds;
+        if (request.getPaperIds() != null && !request.getPaperIds().isEmpty()) {
+            paperIds = request.getPaperIds().stream().filter(Objects::nonNull);
+        } else if (request.getProjectId() != null) {
+            paperIds = paperPersistenceService.findPapersByProjectId(request.getProjectId()).stream()
+                    .map(Paper::getId);
+        } else {
+            throw new IllegalArgumentException("Either projectId or paperIds is required");
+        }
+
+        List<UUID> distinct = paperIds.distinct().toList();
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("No papers to summarize");
+        }
+        if (distinct.size() > maxPapers) {
+            throw new IllegalArgumentException(
+                    "At most " + maxPapers + " papers can be summarized per request, got " + distinct.size());
+        }
+        return distinct;
+    }
+
+    private void dispatch(UUID batchId) {
+        if (batchRepository.claim(batchId, owner, staleAfter.toSeconds()) == 0) {
+            return;
+        }
+        runner.submit(() -> run(batchId));
+    }
+
+    private void run(UUID batchId) {
+        SummaryBatch batch = batchRepository.findById(batchId).orElse(null);
+        if (batch == null) {
+            return;
+        }
+        running.put(batchId, batch);
+        try {
+            if (batch.getAttempts() > maxAttempts) {
+                throw new IllegalStateException("Gave up after " + maxAttempts + " attempts");
+            }
+            update(batch, b -> b.setStatus(SummaryBatch.Status.RUNNING));
+            publish(batchId, listener -> listener.onProgress(snapshot(batch)));
+
+            Semaphore slots = new Semaphore(batch.getParallelism());
+            List<CompletableFuture<Void>> papers = new ArrayList<>();
+            for (UUID paperId : unfinishedPapers(batch)) {
+                slots.acquire();
+                papers.add(CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                summarizePaper(batch, paperId);
+                            } finally {
+                                slots.release();
+                            }
+                        },
+                        runner));
+            }
+            CompletableFuture.allOf(papers.toArray(CompletableFuture[]::new)).get();
+
+            update(batch, b -> {
+                b.setStatus(SummaryBatch.Status.COMPLETED);
+                b.setCompletedAt(Instant.now());
+            });
+            SummaryBatchDto result = snapshot(batch);
+            log.info(
+                    "✅ Summary batch {} completed: {} (~{} tokens reserved)",
+                    batchId,
+                    result.getCounts(),
+                    result.getTokensReserved());
+            publish(batchId, listener -> listener.onComplete(result));
+        } catch (Exception e) {
+            if (shuttingDown) {
+                log.info("Summary batch {} interrupted by shutdown, leaving it for another node", batchId);
+                return;
+            }
+            log.error("❌ Summary batch {} failed", batchId, e);
+            update(batch, b -> {
+                b.setStatus(SummaryBatch.Status.FAILED);
+                b.setErrorMessage(e.getMessage());
+                b.setCompletedAt(Instant.now());
+            });
+            publish(batchId, listener -> listener.onComplete(snapshot(batch)));
+        } finally {
+            running.remove(batchId);
+            listeners.remove(batchId);
+        }
+    }
+
+    private List<UUID> unfinishedPapers(SummaryBatch batch) {
+        synchronized (batch) {
+            return batch.getPapers().entrySet().stream()
+                    .filter(entry -> !entry.getValue().getState().isFinished())
+                    .map(entry -> UUID.fromString(entry.getKey()))
+                    .toList();
+        }
+    }
+
+    /**
+     * Take one paper from wherever an earlier attempt left it to a final state
+     */
+    private void summarizePaper(SummaryBatch batch, UUID paperId) {
+        try {
+            if (progressOf(batch, paperId).getState() == SummaryBatch.PaperState.PENDING && !reserve(batch, paperId)) {
+                return;
+            }
+            UUID jobId = progressOf(batch, paperId).getJobId();
+            if (jobId == null) {
+                // Refreshing an existing summary regenerates only the sections whose input changed
+                boolean refresh = summaryRepository.existsByPaperId(paperId);
+                jobId = summaryJobService.submit(paperId, refresh).getId();
+                UUID startedJob = jobId;
+                updatePaper(batch, paperId, progress -> progress.setJobId(startedJob));
+            }
+
+            SummaryJobDto job = summaryJobService.awaitCompletion(jobId).get();
+            boolean completed = SummaryJob.Status.COMPLETED.name().equals(job.getStatus());
+            updatePaper(batch, paperId, progress -> {
+                progress.setState(completed ? SummaryBatch.PaperState.COMPLETED : SummaryBatch.PaperState.FAILED);
+                progress.setError(job.getErrorMessage());
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            if (shuttingDown) {
+                return;
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.warn("Summary batch {} could not summarize paper {}: {}", batch.getId(), paperId, cause.getMessage());
+            updatePaper(batch, paperId, progress -> {
+                progress.setState(SummaryBatch.PaperState.FAILED);
+                progress.setError(cause.getMessage());
+            });
+        }
+    }
+
+    /**
+     * Decide whether a pending paper needs summarizing and, if it fits the
+     * budget, reserve its estimated tokens and mark it running in one write.
+     * Returns {@code false} if the paper is finished without a job.
+     */
+    private boolean reserve(SummaryBatch batch, UUID paperId) {
+        Optional<Paper> paper = paperRepository.findById(paperId);
+        if (paper.isEmpty()) {
+            finishPaper(batch, paperId, SummaryBatch.PaperState.FAILED, "Paper not found: " + paperId);
+            return false;
+        }
+        try {
+            summaryGenerationService.requireExtracted(paper.get());
+        } catch (PaperNotExtractedException e) {
+            finishPaper(batch, paperId, SummaryBatch.PaperState.NOT_EXTRACTED, e.getMessage());
+            return false;
+        }
+
+        SummaryPlan plan = summaryGenerationService.planSummary(paperId);
+        if (plan.isUpToDate()) {
+            finishPaper(batch, paperId, SummaryBatch.PaperState.UP_TO_DATE, null);
+            return false;
+        }
+
+        boolean reserved;
+        synchronized (batch) {
+            Long budget = batch.getTokenBudget();
+            reserved = budget == null || batch.getTokensReserved() + plan.estimatedTokens() <= budget;
+            update(batch, b -> {
+                SummaryBatch.PaperProgress progress = b.getPapers().get(paperId.toString());
+                progress.setEstimatedTokens(plan.estimatedTokens());
+                if (reserved) {
+                    b.setTokensReserved(b.getTokensReserved() + plan.estimatedTokens());
+                    progress.setState(SummaryBatch.PaperState.RUNNING);
+                } else {
+                    progress.setState(SummaryBatch.PaperState.OVER_BUDGET);
+                    progress.setError("Needs ~" + plan.estimatedTokens() + " tokens, "
+                            + (b.getTokenBudget() - b.getTokensReserved()) + " left in budget");
+                }
+            });
+        }
+        publish(batch.getId(), listener -> listener.onProgress(snapshot(batch)));
+        if (!reserved) {
+            log.info(
+                    "💸 Summary batch {} skipping paper {}: ~{} tokens over budget",
+                    batch.getId(),
+                    paperId,
+                    plan.estimatedTokens());
+        }
+        return reserved;
+    }
+
+    private SummaryBatch.PaperProgress progressOf(SummaryBatch batch, UUID paperId) {
+        synchronized (batch) {
+            return batch.getPapers().get(paperId.toString());
+        }
+    }
+
+    private void finishPaper(SummaryBatch batch, UUID paperId, SummaryBatch.PaperState state, String error) {
+        updatePaper(batch, paperId, progress -> {
+            progress.setState(state);
+            progress.setError(error);
+        });
+    }
+
+    private void updatePaper(SummaryBatch batch, UUID paperId, Consumer<SummaryBatch.PaperProgress> change) {
+        update(batch, b -> change.accept(b.getPapers().get(paperId.toString())));
+        publish(batch.getId(), listener -> listener.onProgress(snapshot(batch)));
+    }
+
+    /**
+     * Apply {@code change} and persist it. Papers finish concurrently, so
+     * changes to one batch are serialized on the batch instance.
+     */
+    private void update(SummaryBatch batch, Consumer<SummaryBatch> change) {
+        synchronized (batch) {
+            change.accept(batch);
+            try {
+                progressTransaction.executeWithoutResult(status -> batchRepository.save(batch));
+            } catch (Exception e) {
+                log.warn("Failed to persist progress of summary batch {}: {}", batch.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private SummaryBatchDto snapshot(SummaryBatch batch) {
+        synchronized (batch) {
+            return SummaryBatchDto.fromEntity(batch);
+        }
+    }
+
+    private void publish(UUID batchId, Consumer<SummaryBatchListener> event) {
+        List<SummaryBatchListener> subscribers = listeners.get(batchId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SummaryBatchListener listener : subscribers) {
+            try {
+                event.accept(listener);
+            } catch (Exception e) {
+                log.debug("Summary batch listener for {} failed: {}", batchId, e.getMessage());
+            }
+        }
+    }
+
+    private void sweepStaleBatches() {
+        try {
+            for (UUID batchId : batchRepository.findStaleIds(staleAfter.toSeconds(), SWEEP_BATCH)) {
+                if (!running.containsKey(batchId)) {
+                    log.info("♻️ Resuming stale summary batch {}", batchId);
+                    dispatch(batchId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Summary batch sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private void heartbeatAndRefresh() {
+        try {
+            if (!running.isEmpty()) {
+                batchRepository.heartbeat(running.keySet(), owner);
+            }
+            for (Map.Entry<UUID, List<SummaryBatchListener>> entry : listeners.entrySet()) {
+                UUID batchId = entry.getKey();
+                entry.getValue().forEach(SummaryBatchListener::onKeepAlive);
+                if (!running.containsKey(batchId)) {
+                    refreshRemote(batchId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Summary batch heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forward the persisted state of a batch running on another node
+     */
+    private void refreshRemote(UUID batchId) {
+        batchRepository.findById(batchId).ifPresent(entity -> {
+            SummaryBatchDto batch = SummaryBatchDto.fromEntity(entity);
+            if (batch.isFinished()) {
+                publish(batchId, listener -> listener.onComplete(batch));
+                listeners.remove(batchId);
+            } else {
+                publish(batchId, listener -> listener.onProgress(batch));
+            }
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.dto.summary.ExtractionContext;
+import org.solace.scholar_ai.project_service.dto.summary.projection.ExtractionHeaderRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.ParagraphRow;
+import org.solace.scholar_ai.project_service.dto.summary.projection.SectionRow;
+import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read path that builds the {@link ExtractionContext} for summary generation
+ * from column projections instead of the extraction entity graph.
+ *
+ * <p>A context costs a fixed seven queries whatever the size of the paper:
+ * header, sections, paragraphs (streamed), figures, tables, code blocks and
+ * references. Only the columns {@link PromptBuilder} reads are selected, so
+ * figure OCR text, table rows and HTML, the reference enrichment payloads,
+ * equations and entities are never loaded.
+ *
+ * <p>Sections come out as before: top-level sections in order, each carrying
+ * its own paragraphs followed by those of its subsections, depth first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExtractionContextLoader {
+
+    private static final Comparator<SectionRow> SECTION_ORDER =
+            Comparator.comparing(SectionRow::orderIndex, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final PaperExtractionRepository extractionRepository;
+
+    /**
+     * Load the summary context for a paper, or empty if it has no extraction
+     */
+    @Transactional(readOnly = true)
+    public Optional<ExtractionContext> load(UUID paperId) {
+        return extractionRepository.findSummaryHeaderByPaperId(paperId).map(this::load);
+    }
+
+    private ExtractionContext load(ExtractionHeaderRow header) {
+        UUID extractionId = header.id();
+        log.debug("Loading extraction context {} for summary generation", extractionId);
+
+        return ExtractionContext.builder()
+                .title(header.title())
+                .abstractText(header.abstractText())
+                .sections(loadSections(extractionId))
+                .figures(extractionRepository.findSummaryFigures(extractionId).stream()
+                        .map(figure -> ExtractionContext.FigureContent.builder()
+                                .id(figure.figureId())
+                                .label(figure.label())
+                                .caption(figure.caption())
+                                .page(figure.page())
+                                .build())
+                        .toList())
+                .tables(extractionRepository.findSummaryTables(extractionId).stream()
+                        .map(table -> ExtractionContext.TableContent.builder()
+                                .id(table.tableId())
+                                .label(table.label())
+                                .caption(table.caption())
+                                .page(table.page())
+                                .headers(table.headers())
+                                .build())
+                        .toList())
+                .equations(List.of())
+                .codeBlocks(extractionRepository.findSummaryCodeBlocks(extractionId).stream()
+                        .map(code -> ExtractionContext.CodeBlockContent.builder()
+                                .id(code.codeId())
+                                .language(code.language())
+                                .code(code.code())
+                                .page(code.page())
+                                .build())
+                        .toList())
+                .references(extractionRepository.findSummaryReferences(extractionId).stream()
+                        .map(reference -> ExtractionContext.ReferenceContent.builder()
+                                .id(reference.referenceId())
+                                .title(reference.title())
+                                .authors(reference.authors())
+                                .year(reference.year())
+                                .venue(reference.venue())
+                                .doi(reference.doi())
+                                .build())
+                        .toList())
+                .entities(List.of())
+                .pageCount(header.pageCount())
+                .language(header.language())
+                .build();
+    }
+
+    private List<ExtractionContext.SectionContent> loadSections(UUID extractionId) {
+        List<SectionRow> rows = extractionRepository.findSummarySections(extractionId);
+
+        Map<UUID, List<SectionRow>> children = new HashMap<>();
+        List<SectionRow> topLevel = new ArrayList<>();
+        for (SectionRow row : rows) {
+            if (row.parentId() == null) {
+                topLevel.add(row);
+            } else {
+                children.computeIfAbsent(row.parentId(), id -> new ArrayList<>())
+                        .add(row);
+            }
+        }
+        topLevel.sort(SECTION_ORDER);
+
+        Map<UUID, List<String>> paragraphs = new HashMap<>(rows.size() * 2);
+        try (Stream<ParagraphRow> stream = extractionRepository.streamSummaryParagraphs(extractionId)) {
+            stream.forEach(paragraph -> paragraphs
+                    .computeIfAbsent(paragraph.sectionId(), id -> new ArrayList<>())
+                    .add(paragraph.text()));
+        }
+
+        List<ExtractionContext.SectionContent> sections = new ArrayList<>(topLevel.size());
+        for (SectionRow section : topLevel) {
+            List<String> text = new ArrayList<>();
+            collectParagraphs(section, children, paragraphs, text);
+            sections.add(ExtractionContext.SectionContent.builder()
+                    .id(section.sectionId())
+                    .title(section.title())
+                    .type(section.sectionType())
+                    .level(section.level())
+                    .paragraphs(text)
+                    .pageStart(section.pageStart())
+                    .pageEnd(section.pageEnd())
+                    .build());
+        }
+        return sections;
+    }
+
+    private static void collectParagraphs(
+            SectionRow section,
+            Map<UUID, List<SectionRow>> children,
+            Map<UUID, List<String>> paragraphs,
+            List<String> into) {
+        into.addAll(paragraphs.getOrDefault(section.id(), List.of()));
+        for (SectionRow subsection : children.getOrDefault(section.id(), List.of())) {
+            collectParagraphs(subsection, children, paragraphs, into);
+        }
+    }
+}
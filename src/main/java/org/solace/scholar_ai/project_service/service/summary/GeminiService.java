@@ -1,33 +1,25 @@
 package org.solace.scholar_ai.project_service.service.summary;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.github.resilience4j.retry.annotation.Retry;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.solace.scholar_ai.project_service.config.GeminiConfig;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.solace.scholar_ai.project_service.client.gemini.GeminiClient;
+import org.solace.scholar_ai.project_service.client.gemini.GeminiRequest;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.exception.LlmCapacityExceededException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GeminiService {
 
-    private final GeminiConfig geminiConfig;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final GeminiClient geminiClient;
+    private final LlmMetrics llmMetrics;
 
     @Data
     @Builder
@@ -43,6 +35,13 @@ public class GeminiService {
 
         @Builder.Default
         private Integer topK = 40;
+
+        // Bypass cached responses, e.g. when the user explicitly asks to regenerate
+        @Builder.Default
+        private boolean refreshCache = false;
+
+        // Sub-feature tag for LLM metrics, e.g. the summary section
+        private String operation;
     }
 
     /**
@@ -50,73 +49,30 @@ public class GeminiService {
      */
     @Retry(name = "gemini-api", fallbackMethod = "generateFallback")
     @CircuitBreaker(name = "gemini-api", fallbackMethod = "generateFallback")
-    @RateLimiter(name = "gemini-api", fallbackMethod = "generateFallback")
-    public String generate(String prompt, GenerationConfig config) {
+    public String generate(String prompt, GenerationConfig config, LlmCaller caller) {
+        RuntimeException failure = null;
         try {
-            String url = geminiConfig.getApiUrl() + "?key=" + geminiConfig.getApiKey();
-
-            Map<String, Object> requestBody = new HashMap<>();
-
-            // Add prompt
-            Map<String, Object> content = new HashMap<>();
-            content.put("parts", List.of(Map.of("text", prompt)));
-            requestBody.put("contents", List.of(content));
-
-            // Add generation config
-            Map<String, Object> generationConfig = new HashMap<>();
-            generationConfig.put("temperature", config.getTemperature());
-            generationConfig.put("maxOutputTokens", config.getMaxOutputTokens());
-            generationConfig.put("topP", config.getTopP());
-            generationConfig.put("topK", config.getTopK());
-            requestBody.put("generationConfig", generationConfig);
-
-            // Add safety settings
-            requestBody.put(
-                    "safetySettings",
-                    List.of(
-                            Map.of("category", "HARM_CATEGORY_DANGEROUS_CONTENT", "threshold", "BLOCK_NONE"),
-                            Map.of("category", "HARM_CATEGORY_HATE_SPEECH", "threshold", "BLOCK_NONE"),
-                            Map.of("category", "HARM_CATEGORY_HARASSMENT", "threshold", "BLOCK_NONE"),
-                            Map.of("category", "HARM_CATEGORY_SEXUALLY_EXPLICIT", "threshold", "BLOCK_NONE")));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return extractTextFromResponse(response.getBody());
+            String text = geminiClient.generateText(GeminiRequest.builder()
+                    .caller(caller)
+                    .operation(config.getOperation())
+                    .prompt(prompt)
+                    .temperature(config.getTemperature())
+                    .maxOutputTokens(config.getMaxOutputTokens())
+                    .topP(config.getTopP())
+                    .topK(config.getTopK())
+                    .relaxedSafety(true)
+                    .refreshCache(config.isRefreshCache())
+                    .build());
+
+            if (text == null) {
+                throw new IllegalStateException("Invalid response structure from Gemini");
             }
-
-            throw new RuntimeException("Failed to get response from Gemini");
-
-        } catch (Exception e) {
-            log.error("Error calling Gemini API", e);
-            throw new RuntimeException("Gemini API call failed", e);
-        }
-    }
-
-    /**
-     * Extract text from Gemini response
-     */
-    @SuppressWarnings("unchecked")
-    private String extractTextFromResponse(Map<String, Object> response) {
-        try {
-            List<Map<String, Object>> candidates = (List<Map<String, Object>>) response.get("candidates");
-            if (candidates != null && !candidates.isEmpty()) {
-                Map<String, Object> candidate = candidates.get(0);
-                Map<String, Object> content = (Map<String, Object>) candidate.get("content");
-                List<Map<String, Object>> parts = (List<Map<String, Object>>) content.get("parts");
-                if (parts != null && !parts.isEmpty()) {
-                    return (String) parts.get(0).get("text");
-                }
-            }
-            throw new RuntimeException("Invalid response structure from Gemini");
-        } catch (Exception e) {
-            log.error("Error extracting text from Gemini response", e);
-            throw new RuntimeException("Failed to parse Gemini response", e);
+            return text;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            llmMetrics.endAttempt(caller, config.getOperation(), failure);
         }
     }
 
@@ -124,7 +80,12 @@ public class GeminiService {
      * Fallback method for when Gemini API is unavailable
      * Returns a structured response that can be used to continue summary generation
      */
-    public String generateFallback(String prompt, GenerationConfig config, Exception exception) {
+    public String generateFallback(String prompt, GenerationConfig config, LlmCaller caller, Exception exception) {
+        if (exception instanceof LlmCapacityExceededException capacityExceeded) {
+            // Queued work that missed its deadline fails visibly instead of persisting canned content
+            throw capacityExceeded;
+        }
+        llmMetrics.recordFallback(caller, config.getOperation(), exception);
         log.warn("Gemini API unavailable, using fallback response. Error: {}", exception.getMessage());
 
         // Add metadata to identify this as a fallback response
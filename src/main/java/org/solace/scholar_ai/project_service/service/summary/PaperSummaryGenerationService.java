@@ -1,35 +1,54 @@
 package org.solace.scholar_ai.project_service.service.summary;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.solace.scholar_ai.project_service.client.UserNotificationClient;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
 import org.solace.scholar_ai.project_service.dto.summary.ExtractionContext;
 import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryPlan;
+import org.solace.scholar_ai.project_service.dto.summary.section.ContextImpactSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.EthicsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.MethodsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.QuickTakeSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.ReproducibilitySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySections;
 import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
-import org.solace.scholar_ai.project_service.model.extraction.*;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
 import org.solace.scholar_ai.project_service.model.papersearch.WebSearchOperation;
 import org.solace.scholar_ai.project_service.model.project.Project;
 import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
-import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
 import org.solace.scholar_ai.project_service.repository.papersearch.WebSearchOperationRepository;
 import org.solace.scholar_ai.project_service.repository.project.ProjectRepository;
 import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.service.coordination.LlmFanOutExecutor;
+import org.solace.scholar_ai.project_service.service.coordination.SingleFlightService;
+import org.solace.scholar_ai.project_service.util.prompt.TokenEstimator;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service for generating comprehensive paper summaries using extracted data and
@@ -41,21 +60,142 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaperSummaryGenerationService {
 
     private final PaperRepository paperRepository;
-    private final PaperExtractionRepository extractionRepository;
+    private final ExtractionContextLoader extractionContextLoader;
     private final PaperSummaryRepository summaryRepository;
     private final GeminiService geminiService;
-    private final ObjectMapper objectMapper;
     private final UserNotificationClient notificationClient;
     private final WebSearchOperationRepository webSearchOperationRepository;
     private final ProjectRepository projectRepository;
-
-    private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+    private final SingleFlightService singleFlightService;
+    private final GeminiConfig geminiConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final LlmMetrics llmMetrics;
+    private final LlmFanOutExecutor llmFanOutExecutor;
+    private final SummarySectionParser sectionParser;
 
     /**
      * Generate a comprehensive summary for a paper
      */
-    @Transactional
     public PaperSummary generateSummary(UUID paperId) {
+        return generateSummary(paperId, false);
+    }
+
+    /**
+     * Generate a comprehensive summary for a paper, optionally bypassing cached
+     * LLM responses so an explicit regeneration produces fresh output.
+     *
+     * <p>Concurrent requests for the same paper, on this or another node, share
+     * one generation: later callers wait for it and reuse the stored summary.
+     */
+    public PaperSummary generateSummary(UUID paperId, boolean refresh) {
+        return generateSummary(paperId, refresh, Map.of(), SummaryProgressListener.NONE);
+    }
+
+    /**
+     * Generate a summary, reporting each section to {@code listener} as it
+     * finishes. Sections in {@code completed}, e.g. from an interrupted earlier
+     * attempt, are reused rather than regenerated. A caller that joins another
+     * in-flight generation only sees the final result, not section progress.
+     */
+    public PaperSummary generateSummary(
+            UUID paperId,
+            boolean refresh,
+            Map<SummarySection, SummarySectionPayload> completed,
+            SummaryProgressListener listener) {
+        return generateSummary(paperId, refresh, Set.of(), completed, listener);
+    }
+
+    /**
+     * Regenerate {@code sections} of a paper's summary even if their inputs are
+     * unchanged. The remaining sections are regenerated only if their inputs
+     * changed since the stored summary was generated.
+     */
+    public PaperSummary regenerateSections(
+            UUID paperId,
+            Set<SummarySection> sections,
+            Map<SummarySection, SummarySectionPayload> completed,
+            SummaryProgressListener listener) {
+        return generateSummary(paperId, true, sections, completed, listener);
+    }
+
+    private PaperSummary generateSummary(
+            UUID paperId,
+            boolean refresh,
+            Set<SummarySection> forced,
+            Map<SummarySection, SummarySectionPayload> completed,
+            SummaryProgressListener listener) {
+        Instant requestedAt = Instant.now();
+        String flightInput = !refresh
+                ? "default"
+                : forced.isEmpty()
+                        ? "refresh"
+                        : "refresh:"
+                                + forced.stream()
+                                        .map(SummarySection::getKey)
+                                        .sorted()
+                                        .collect(Collectors.joining(","));
+        return singleFlightService.execute("paper-summary", paperId.toString(), flightInput, () -> summaryRepository
+                .findByPaperId(paperId)
+                .filter(existing -> !refresh
+                        || (forced.isEmpty()
+                                && existing.getGenerationTimestamp() != null
+                                && !existing.getGenerationTimestamp().isBefore(requestedAt)))
+                .map(existing -> {
+                    log.info("📋 Reusing summary generated concurrently for paper: {}", paperId);
+                    return existing;
+                })
+                .orElseGet(() -> transactionTemplate.execute(
+                        status -> doGenerateSummary(paperId, refresh, forced, completed, listener))));
+    }
+
+    /**
+     * Reject papers whose extraction has not completed, since a summary needs
+     * the extracted content
+     */
+    public void requireExtracted(Paper paper) {
+        if (!Boolean.TRUE.equals(paper.getIsExtracted())) {
+            throw new PaperNotExtractedException(
+                    "Paper has not been extracted yet. Please extract the paper first before generating a summary.");
+        }
+        if (!"COMPLETED".equals(paper.getExtractionStatus())) {
+            throw new PaperNotExtractedException("Paper extraction is not completed. Current status: "
+                    + paper.getExtractionStatus() + ". Please wait for extraction to complete.");
+        }
+    }
+
+    /**
+     * What summarizing the paper would take right now, without calling the
+     * LLM: the sections whose input differs from the stored summary and an
+     * upper bound on the tokens regenerating them would use. Expects an
+     * extracted paper; a paper without a summary needs every section.
+     */
+    public SummaryPlan planSummary(UUID paperId) {
+        ExtractionContext context = extractionContextLoader
+                .load(paperId)
+                .orElseThrow(() -> new PaperNotExtractedException("No extraction found for paper: " + paperId));
+        Map<String, String> storedHashes = summaryRepository
+                .findByPaperId(paperId)
+                .map(PaperSummary::getSectionInputHashes)
+                .orElse(null);
+
+        Set<SummarySection> stale = EnumSet.noneOf(SummarySection.class);
+        long estimatedTokens = 0;
+        for (SummarySection section : SummarySection.values()) {
+            String prompt = buildSectionPrompt(section, context);
+            if (storedHashes == null || !hash(prompt).equals(storedHashes.get(section.getKey()))) {
+                stale.add(section);
+                estimatedTokens += TokenEstimator.estimate(prompt) + maxOutputTokens(section);
+            }
+        }
+        return new SummaryPlan(storedHashes != null, stale, estimatedTokens);
+    }
+
+    private PaperSummary doGenerateSummary(
+            UUID paperId,
+            boolean refresh,
+            Set<SummarySection> forced,
+            Map<SummarySection, SummarySectionPayload> completed,
+            SummaryProgressListener listener) {
         log.info("Starting summary generation for paper: {}", paperId);
         long startTime = System.currentTimeMillis();
 
@@ -65,39 +205,32 @@ public class PaperSummaryGenerationService {
                     .findById(paperId)
                     .orElseThrow(() -> new RuntimeException("Paper not found: " + paperId));
 
-            // 2. Check if paper has been extracted
-            if (!paper.getIsExtracted()) {
-                throw new PaperNotExtractedException(
-                        "Paper has not been extracted yet. Please extract the paper first before generating a summary.");
-            }
-
-            // 3. Check extraction status
-            if (!"COMPLETED".equals(paper.getExtractionStatus())) {
-                throw new PaperNotExtractedException("Paper extraction is not completed. Current status: "
-                        + paper.getExtractionStatus() + ". Please wait for extraction to complete.");
-            }
+            // 2-3. Check that the paper has been extracted completely
+            requireExtracted(paper);
 
             // 4. Set summarization status to PROCESSING
             paper.setSummarizationStatus("PROCESSING");
             paper.setSummarizationStartedAt(Instant.now());
             paperRepository.save(paper);
 
-            // 5. Fetch extraction data
-            PaperExtraction extraction = extractionRepository
-                    .findByPaperId(paperId)
+            // 5-6. Load the extraction context the prompts are built from
+            ExtractionContext context = extractionContextLoader
+                    .load(paperId)
                     .orElseThrow(() -> new RuntimeException("No extraction found for paper: " + paperId));
 
-            // 6. Build extraction context
-            ExtractionContext context = buildExtractionContext(extraction);
-
-            // 7. Generate summary using parallel processing for different sections
-            PaperSummaryDto summaryDTO = generateSummaryWithGemini(context, extraction);
+            // 7. Generate summary using parallel processing for different sections, reusing
+            // sections of the summary being replaced whose inputs have not changed
+            PaperSummary previous =
+                    refresh ? summaryRepository.findByPaperId(paperId).orElse(null) : null;
+            GeneratedSections sections =
+                    generateSummaryWithGemini(context, refresh, previous, forced, completed, listener);
+            PaperSummaryDto summaryDTO = buildSummaryDTO(sections.payloads(), context);
 
             // 8. Calculate quality metrics
             enrichSummaryWithMetrics(summaryDTO, context);
 
             // 9. Save to database and update paper status
-            PaperSummary summary = saveSummary(summaryDTO, extraction.getPaper(), startTime);
+            PaperSummary summary = saveSummary(summaryDTO, sections, paper, previous, startTime);
 
             log.info(
                     "Summary generation completed for paper: {} in {} seconds",
@@ -127,406 +260,358 @@ public class PaperSummaryGenerationService {
     }
 
     /**
-     * Build extraction context from all extracted data
+     * Generate summary using Gemini with parallel processing. Sections are
+     * started in presentation order, quick take first, and reported as each
+     * finishes. A failed section does not stop the others from being saved;
+     * only a summary with no successful section fails as a whole.
+     *
+     * <p>When replacing {@code previous}, a section whose input hash matches
+     * the stored one is reused instead of regenerated, unless it is in
+     * {@code forced}. Reused sections are reported to {@code listener} straight
+     * away.
+     *
+     * <p>A section answered by the Gemini fallback is provisional: it gets no
+     * input hash, so it is never reused and always regenerated later, and the
+     * last real payload of {@code previous} is kept in its place if there is
+     * one. A section that fails is provisional in the same way, and is left
+     * empty if there is no such payload, so the gap is visible on the summary
+     * and gets repaired.
      */
-    private ExtractionContext buildExtractionContext(PaperExtraction extraction) {
-        log.debug(
-                "Building extraction context for paper: {}",
-                extraction.getPaper().getId());
-
-        // Process sections hierarchically
-        List<ExtractionContext.SectionContent> sections = processSections(extraction.getSections());
-
-        // Process figures
-        List<ExtractionContext.FigureContent> figures =
-                extraction.getFigures().stream().map(this::mapFigure).collect(Collectors.toList());
-
-        // Process tables
-        List<ExtractionContext.TableContent> tables =
-                extraction.getTables().stream().map(this::mapTable).collect(Collectors.toList());
-
-        // Process equations
-        List<ExtractionContext.EquationContent> equations =
-                extraction.getEquations().stream().map(this::mapEquation).collect(Collectors.toList());
-
-        // Process code blocks
-        List<ExtractionContext.CodeBlockContent> codeBlocks =
-                extraction.getCodeBlocks().stream().map(this::mapCodeBlock).collect(Collectors.toList());
-
-        // Process references
-        List<ExtractionContext.ReferenceContent> references =
-                extraction.getReferences().stream().map(this::mapReference).collect(Collectors.toList());
-
-        // Process entities
-        List<ExtractionContext.EntityContent> entities =
-                extraction.getEntities().stream().map(this::mapEntity).collect(Collectors.toList());
-
-        return ExtractionContext.builder()
-                .title(extraction.getTitle())
-                .abstractText(extraction.getAbstractText())
-                .sections(sections)
-                .figures(figures)
-                .tables(tables)
-                .equations(equations)
-                .codeBlocks(codeBlocks)
-                .references(references)
-                .entities(entities)
-                .pageCount(extraction.getPageCount())
-                .language(extraction.getLanguage())
-                .build();
+    private GeneratedSections generateSummaryWithGemini(
+            ExtractionContext context,
+            boolean refresh,
+            PaperSummary previous,
+            Set<SummarySection> forced,
+            Map<SummarySection, SummarySectionPayload> completed,
+            SummaryProgressListener listener) {
+        log.debug("Generating summary with Gemini for paper: {}", context.getTitle());
+
+        // Create parallel tasks for the sections that still need generating
+        Map<SummarySection, String> inputHashes = new EnumMap<>(SummarySection.class);
+        Map<SummarySection, CompletableFuture<SummarySectionPayload>> futures = new EnumMap<>(SummarySection.class);
+        for (SummarySection section : SummarySection.values()) {
+            String prompt = buildSectionPrompt(section, context);
+            String inputHash = hash(prompt);
+            inputHashes.put(section, inputHash);
+
+            SummarySectionPayload reused = completed.get(section);
+            if (reused == null && previous != null && !forced.contains(section)) {
+                reused = reusableSection(previous, section, inputHash);
+            }
+            if (reused != null) {
+                futures.put(section, CompletableFuture.completedFuture(reused));
+                notifySection(listener, section, reused, null);
+            } else {
+                futures.put(
+                        section,
+                        generateSection(section, () -> generateSectionContent(section, prompt, refresh), listener));
+            }
+        }
+        long regenerated =
+                futures.values().stream().filter(future -> !future.isDone()).count();
+        if (previous != null) {
+            log.info("♻️ Regenerating {} of {} summary sections", regenerated, futures.size());
+        }
+
+        // Wait for all tasks, keeping the sections that succeeded
+        Map<SummarySection, SummarySectionPayload> results = new EnumMap<>(SummarySection.class);
+        Set<SummarySection> provisional = EnumSet.noneOf(SummarySection.class);
+        String fallbackReason = null;
+        List<String> failedSections = new ArrayList<>();
+        Throwable lastError = null;
+        for (Map.Entry<SummarySection, CompletableFuture<SummarySectionPayload>> entry : futures.entrySet()) {
+            try {
+                SummarySectionPayload payload = entry.getValue().join();
+                if (payload.isFallback()) {
+                    provisional.add(entry.getKey());
+                    inputHashes.remove(entry.getKey());
+                    fallbackReason = Objects.requireNonNullElse(fallbackReason, payload.fallbackReason());
+                    SummarySectionPayload lastGood = lastGoodSection(previous, entry.getKey());
+                    if (lastGood != null) {
+                        payload = lastGood;
+                    }
+                }
+                results.put(entry.getKey(), payload);
+            } catch (CompletionException e) {
+                log.warn("Summary section {} failed: {}", entry.getKey().getKey(), e.getMessage());
+                failedSections.add(entry.getKey().getKey());
+                inputHashes.remove(entry.getKey());
+                lastError = e.getCause();
+                // Regenerate it later as after a fallback, keeping any payload being replaced
+                provisional.add(entry.getKey());
+                fallbackReason = Objects.requireNonNullElse(
+                        fallbackReason, "Section generation failed: " + errorMessage(lastError));
+                SummarySectionPayload lastGood = lastGoodSection(previous, entry.getKey());
+                if (lastGood != null) {
+                    results.put(entry.getKey(), lastGood);
+                }
+            }
+        }
+        if (failedSections.size() == futures.size()) {
+            throw new IllegalStateException("All summary sections failed", lastError);
+        }
+        if (!failedSections.isEmpty()) {
+            log.warn("Saving summary with failed sections {} marked provisional", failedSections);
+        }
+        if (!provisional.isEmpty()) {
+            log.warn("Saving summary with provisional sections {}: {}", provisional, fallbackReason);
+        }
+
+        return new GeneratedSections(SummarySections.of(results), inputHashes, provisional, fallbackReason);
     }
 
     /**
-     * Generate summary using Gemini with parallel processing
+     * The payload {@code previous} holds for {@code section}, unless it has
+     * none or it came from the Gemini fallback
      */
-    private PaperSummaryDto generateSummaryWithGemini(ExtractionContext context, PaperExtraction extraction) {
-        log.debug("Generating summary with Gemini for paper: {}", extraction.getTitle());
-
-        // Create parallel tasks for different aspects
-        CompletableFuture<Map<String, Object>> quickTakeFuture =
-                CompletableFuture.supplyAsync(() -> generateQuickTake(context), executorService);
-
-        CompletableFuture<Map<String, Object>> methodsFuture =
-                CompletableFuture.supplyAsync(() -> generateMethodsAndData(context), executorService);
+    private static SummarySectionPayload lastGoodSection(PaperSummary previous, SummarySection section) {
+        if (previous == null || previous.getSectionPayloads() == null) {
+            return null;
+        }
+        SummarySectionPayload payload = previous.getSectionPayloads().get(section);
+        return payload != null && !payload.isFallback() ? payload : null;
+    }
 
-        CompletableFuture<Map<String, Object>> reproducibilityFuture =
-                CompletableFuture.supplyAsync(() -> generateReproducibility(context), executorService);
+    private static String errorMessage(Throwable error) {
+        return error == null ? "unknown error" : Objects.requireNonNullElse(error.getMessage(), error.toString());
+    }
 
-        CompletableFuture<Map<String, Object>> ethicsFuture =
-                CompletableFuture.supplyAsync(() -> generateEthicsAndCompliance(context), executorService);
+    /**
+     * The stored payload of {@code section} if it was generated from the same
+     * input, or {@code null} if it has to be regenerated
+     */
+    private SummarySectionPayload reusableSection(PaperSummary previous, SummarySection section, String inputHash) {
+        Map<String, String> hashes = previous.getSectionInputHashes();
+        SummarySections payloads = previous.getSectionPayloads();
+        if (hashes == null || payloads == null || !inputHash.equals(hashes.get(section.getKey()))) {
+            return null;
+        }
+        return payloads.get(section);
+    }
 
-        CompletableFuture<Map<String, Object>> contextImpactFuture =
-                CompletableFuture.supplyAsync(() -> generateContextAndImpact(context), executorService);
+    /**
+     * The prompt a section is generated from. It holds exactly the slice of
+     * the extraction context the section sees, after its prompt budget is
+     * applied, so its hash changes only when that input does.
+     */
+    private String buildSectionPrompt(SummarySection section, ExtractionContext context) {
+        GeminiConfig.PromptBudget budget = geminiConfig.getPromptBudget();
+        return switch (section) {
+            case QUICK_TAKE -> PromptBuilder.buildQuickTakePrompt(context, budget.getQuickTake());
+            case METHODS -> PromptBuilder.buildMethodsPrompt(context, budget.getMethods());
+            case REPRODUCIBILITY -> PromptBuilder.buildReproducibilityPrompt(context, budget.getReproducibility());
+            case ETHICS -> PromptBuilder.buildEthicsPrompt(context, budget.getEthics());
+            case CONTEXT_IMPACT -> PromptBuilder.buildContextImpactPrompt(context, budget.getContextImpact());
+        };
+    }
 
-        // Wait for all tasks and combine results
-        CompletableFuture<Void> allFutures = CompletableFuture.allOf(
-                quickTakeFuture, methodsFuture, reproducibilityFuture, ethicsFuture, contextImpactFuture);
+    /**
+     * Upper bound on the completion tokens of a section's response
+     */
+    private static int maxOutputTokens(SummarySection section) {
+        return switch (section) {
+            case QUICK_TAKE, CONTEXT_IMPACT -> 1500;
+            case METHODS -> 2000;
+            case REPRODUCIBILITY, ETHICS -> 1000;
+        };
+    }
 
-        allFutures.join();
+    private SummarySectionPayload generateSectionContent(SummarySection section, String prompt, boolean refresh) {
+        return switch (section) {
+            case QUICK_TAKE -> generateQuickTake(prompt, refresh);
+            case METHODS -> generateMethodsAndData(prompt, refresh);
+            case REPRODUCIBILITY -> generateReproducibility(prompt, refresh);
+            case ETHICS -> generateEthicsAndCompliance(prompt, refresh);
+            case CONTEXT_IMPACT -> generateContextAndImpact(prompt, refresh);
+        };
+    }
 
-        // Combine results
-        Map<String, Object> quickTake = quickTakeFuture.join();
-        Map<String, Object> methods = methodsFuture.join();
-        Map<String, Object> reproducibility = reproducibilityFuture.join();
-        Map<String, Object> ethics = ethicsFuture.join();
-        Map<String, Object> contextImpact = contextImpactFuture.join();
+    /**
+     * Generate one section on the fan-out executor and report it to
+     * {@code listener} as soon as it finishes
+     */
+    private CompletableFuture<SummarySectionPayload> generateSection(
+            SummarySection section, Supplier<SummarySectionPayload> generator, SummaryProgressListener listener) {
+        return llmFanOutExecutor
+                .supplyAsync(generator)
+                .whenComplete((payload, error) -> notifySection(listener, section, payload, error));
+    }
 
-        // Build final summary DTO
-        return buildSummaryDTO(quickTake, methods, reproducibility, ethics, contextImpact, context);
+    private void notifySection(
+            SummaryProgressListener listener, SummarySection section, SummarySectionPayload payload, Throwable error) {
+        try {
+            listener.onSectionFinished(section, payload, error);
+        } catch (Exception e) {
+            log.warn("Summary progress listener failed for section {}: {}", section.getKey(), e.getMessage());
+        }
     }
 
     /**
      * Generate Quick Take section using Gemini
      */
-    private Map<String, Object> generateQuickTake(ExtractionContext context) {
-        String prompt = PromptBuilder.buildQuickTakePrompt(context);
+    private SummarySectionPayload generateQuickTake(String prompt, boolean refresh) {
         String response = geminiService.generate(
                 prompt,
                 GeminiService.GenerationConfig.builder()
                         .temperature(0.3)
-                        .maxOutputTokens(1500)
-                        .build());
+                        .maxOutputTokens(maxOutputTokens(SummarySection.QUICK_TAKE))
+                        .refreshCache(refresh)
+                        .operation(SummarySection.QUICK_TAKE.getKey())
+                        .build(),
+                LlmCaller.SUMMARY);
 
-        return parseJsonResponse(response);
+        return sectionParser.parse(SummarySection.QUICK_TAKE, response);
     }
 
     /**
      * Generate Methods and Data section using Gemini
      */
-    private Map<String, Object> generateMethodsAndData(ExtractionContext context) {
-        String prompt = PromptBuilder.buildMethodsPrompt(context);
+    private SummarySectionPayload generateMethodsAndData(String prompt, boolean refresh) {
         String response = geminiService.generate(
                 prompt,
                 GeminiService.GenerationConfig.builder()
                         .temperature(0.2)
-                        .maxOutputTokens(2000)
-                        .build());
+                        .maxOutputTokens(maxOutputTokens(SummarySection.METHODS))
+                        .refreshCache(refresh)
+                        .operation(SummarySection.METHODS.getKey())
+                        .build(),
+                LlmCaller.SUMMARY);
 
-        return parseJsonResponse(response);
+        return sectionParser.parse(SummarySection.METHODS, response);
     }
 
     /**
      * Generate Reproducibility section using Gemini
      */
-    private Map<String, Object> generateReproducibility(ExtractionContext context) {
-        String prompt = PromptBuilder.buildReproducibilityPrompt(context);
+    private SummarySectionPayload generateReproducibility(String prompt, boolean refresh) {
         String response = geminiService.generate(
                 prompt,
                 GeminiService.GenerationConfig.builder()
                         .temperature(0.2)
-                        .maxOutputTokens(1000)
-                        .build());
+                        .maxOutputTokens(maxOutputTokens(SummarySection.REPRODUCIBILITY))
+                        .refreshCache(refresh)
+                        .operation(SummarySection.REPRODUCIBILITY.getKey())
+                        .build(),
+                LlmCaller.SUMMARY);
 
-        return parseJsonResponse(response);
+        return sectionParser.parse(SummarySection.REPRODUCIBILITY, response);
     }
 
     /**
      * Generate Ethics and Compliance section using Gemini
      */
-    private Map<String, Object> generateEthicsAndCompliance(ExtractionContext context) {
-        String prompt = PromptBuilder.buildEthicsPrompt(context);
+    private SummarySectionPayload generateEthicsAndCompliance(String prompt, boolean refresh) {
         String response = geminiService.generate(
                 prompt,
                 GeminiService.GenerationConfig.builder()
                         .temperature(0.3)
-                        .maxOutputTokens(1000)
-                        .build());
+                        .maxOutputTokens(maxOutputTokens(SummarySection.ETHICS))
+                        .refreshCache(refresh)
+                        .operation(SummarySection.ETHICS.getKey())
+                        .build(),
+                LlmCaller.SUMMARY);
 
-        return parseJsonResponse(response);
+        return sectionParser.parse(SummarySection.ETHICS, response);
     }
 
     /**
      * Generate Context and Impact section using Gemini
      */
-    private Map<String, Object> generateContextAndImpact(ExtractionContext context) {
-        String prompt = PromptBuilder.buildContextImpactPrompt(context);
+    private SummarySectionPayload generateContextAndImpact(String prompt, boolean refresh) {
         String response = geminiService.generate(
                 prompt,
                 GeminiService.GenerationConfig.builder()
                         .temperature(0.4)
-                        .maxOutputTokens(1500)
-                        .build());
-
-        return parseJsonResponse(response);
-    }
-
-    /**
-     * Process sections hierarchically
-     */
-    private List<ExtractionContext.SectionContent> processSections(List<ExtractedSection> sections) {
-        // Sort by order index
-        sections.sort(
-                Comparator.comparing(ExtractedSection::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())));
-
-        List<ExtractionContext.SectionContent> result = new ArrayList<>();
-
-        for (ExtractedSection section : sections) {
-            // Only process top-level sections (parent is null)
-            if (section.getParentSection() == null) {
-                result.add(processSectionRecursively(section));
-            }
-        }
+                        .maxOutputTokens(maxOutputTokens(SummarySection.CONTEXT_IMPACT))
+                        .refreshCache(refresh)
+                        .operation(SummarySection.CONTEXT_IMPACT.getKey())
+                        .build(),
+                LlmCaller.SUMMARY);
 
-        return result;
+        return sectionParser.parse(SummarySection.CONTEXT_IMPACT, response);
     }
 
     /**
-     * Process a section and its subsections recursively
+     * Build final summary DTO from all components. Failed sections and
+     * fallback placeholders leave their fields empty.
      */
-    private ExtractionContext.SectionContent processSectionRecursively(ExtractedSection section) {
-        List<String> paragraphs = section.getParagraphs().stream()
-                .sorted(Comparator.comparing(
-                        ExtractedParagraph::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
-                .map(ExtractedParagraph::getText)
-                .collect(Collectors.toList());
-
-        // Add subsection content
-        for (ExtractedSection subsection : section.getSubsections()) {
-            ExtractionContext.SectionContent subContent = processSectionRecursively(subsection);
-            paragraphs.addAll(subContent.getParagraphs());
-        }
-
-        return ExtractionContext.SectionContent.builder()
-                .id(section.getSectionId())
-                .title(section.getTitle())
-                .type(section.getSectionType())
-                .level(section.getLevel())
-                .paragraphs(paragraphs)
-                .pageStart(section.getPageStart())
-                .pageEnd(section.getPageEnd())
-                .build();
-    }
-
-    // Mapping methods for other entities
-    private ExtractionContext.FigureContent mapFigure(ExtractedFigure figure) {
-        return ExtractionContext.FigureContent.builder()
-                .id(figure.getFigureId())
-                .label(figure.getLabel())
-                .caption(figure.getCaption())
-                .page(figure.getPage())
-                .ocrText(figure.getOcrText())
-                .build();
-    }
-
-    private ExtractionContext.TableContent mapTable(ExtractedTable table) {
-        return ExtractionContext.TableContent.builder()
-                .id(table.getTableId())
-                .label(table.getLabel())
-                .caption(table.getCaption())
-                .page(table.getPage())
-                .headers(table.getHeaders())
-                .rows(table.getRows())
-                .html(table.getHtml())
-                .build();
-    }
-
-    private ExtractionContext.EquationContent mapEquation(ExtractedEquation equation) {
-        return ExtractionContext.EquationContent.builder()
-                .id(equation.getEquationId())
-                .label(equation.getLabel())
-                .latexContent(equation.getLatex())
-                .page(equation.getPage())
-                .build();
-    }
-
-    private ExtractionContext.CodeBlockContent mapCodeBlock(ExtractedCodeBlock codeBlock) {
-        return ExtractionContext.CodeBlockContent.builder()
-                .id(codeBlock.getCodeId())
-                .language(codeBlock.getLanguage())
-                .code(codeBlock.getCode())
-                .page(codeBlock.getPage())
-                .build();
-    }
-
-    private ExtractionContext.ReferenceContent mapReference(ExtractedReference reference) {
-        return ExtractionContext.ReferenceContent.builder()
-                .id(reference.getReferenceId())
-                .title(reference.getTitle())
-                .authors(reference.getAuthors())
-                .year(reference.getYear())
-                .venue(reference.getVenue())
-                .doi(reference.getDoi())
-                .build();
-    }
-
-    private ExtractionContext.EntityContent mapEntity(ExtractedEntity entity) {
-        return ExtractionContext.EntityContent.builder()
-                .id(entity.getEntityId())
-                .text(entity.getName())
-                .type(entity.getEntityType())
-                .metadata(entity.getContext())
+    private PaperSummaryDto buildSummaryDTO(SummarySections sections, ExtractionContext context) {
+        QuickTakeSection quickTake = contentOrEmpty(sections.quickTake(), QuickTakeSection.EMPTY);
+        MethodsSection methods = contentOrEmpty(sections.methods(), MethodsSection.EMPTY);
+        ReproducibilitySection reproducibility =
+                contentOrEmpty(sections.reproducibility(), ReproducibilitySection.EMPTY);
+        EthicsSection ethics = contentOrEmpty(sections.ethics(), EthicsSection.EMPTY);
+        ContextImpactSection contextImpact = contentOrEmpty(sections.contextImpact(), ContextImpactSection.EMPTY);
+
+        return PaperSummaryDto.builder()
+                // Quick Take
+                .oneLiner(quickTake.oneLiner())
+                .keyContributions(listOrEmpty(quickTake.keyContributions()))
+                .methodOverview(quickTake.methodOverview())
+                .mainFindings(listOrEmpty(quickTake.mainFindings()))
+                .limitations(listOrEmpty(quickTake.limitations()))
+                .applicability(listOrEmpty(quickTake.applicability()))
+                // Methods & Data
+                .studyType(methods.studyType())
+                .researchQuestions(listOrEmpty(methods.researchQuestions()))
+                .datasets(listOrEmpty(methods.datasets()))
+                .participants(methods.participants())
+                .procedureOrPipeline(methods.procedureOrPipeline())
+                .baselinesOrControls(listOrEmpty(methods.baselinesOrControls()))
+                .metrics(listOrEmpty(methods.metrics()))
+                .statisticalAnalysis(listOrEmpty(methods.statisticalAnalysis()))
+                .computeResources(methods.computeResources())
+                .implementationDetails(methods.implementationDetails())
+                // Reproducibility
+                .artifacts(reproducibility.artifacts())
+                .reproducibilityNotes(reproducibility.reproducibilityNotes())
+                .reproScore(Objects.requireNonNullElse(reproducibility.reproScore(), 0.0))
+                // Ethics & Compliance
+                .ethics(ethics.ethics())
+                .biasAndFairness(listOrEmpty(ethics.biasAndFairness()))
+                .risksAndMisuse(listOrEmpty(ethics.risksAndMisuse()))
+                .dataRights(ethics.dataRights())
+                // Context & Impact
+                .noveltyType(contextImpact.noveltyType())
+                .positioning(listOrEmpty(contextImpact.positioning()))
+                .relatedWorksKey(listOrEmpty(contextImpact.relatedWorksKey()))
+                .impactNotes(contextImpact.impactNotes())
+                .domainClassification(listOrEmpty(contextImpact.domainClassification()))
+                .technicalDepth(contextImpact.technicalDepth())
+                .interdisciplinaryConnections(listOrEmpty(contextImpact.interdisciplinaryConnections()))
+                .futureWork(listOrEmpty(contextImpact.futureWork()))
+                .threatsToValidity(listOrEmpty(contextImpact.threatsToValidity()))
+                // Evidence anchors are generated separately
+                .evidenceAnchors(generateEvidenceAnchors(context))
+                // Confidence is how much of the schema the generated sections filled in
+                .confidence(calculateConfidence(sections))
                 .build();
     }
 
     /**
-     * Parse JSON response from Gemini and detect response source
+     * Calculate confidence score as the share of fields the generated sections
+     * filled in
      */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseJsonResponse(String response) {
-        try {
-            // Extract JSON from response (Gemini might include markdown)
-            String json = response;
-            if (response.contains("```json")) {
-                int start = response.indexOf("```json") + 7;
-                int end = response.lastIndexOf("```");
-                json = response.substring(start, end).trim();
-            }
-
-            Map<String, Object> parsed = objectMapper.readValue(json, Map.class);
-
-            // Check if this is a fallback response
-            if (parsed.containsKey("_response_source") && "fallback".equals(parsed.get("_response_source"))) {
-                log.info("Detected fallback response: {}", parsed.get("_fallback_reason"));
-                isFallbackResponse = true;
-                fallbackReason = (String) parsed.get("_fallback_reason");
-                // Remove metadata fields from the parsed response
-                parsed.remove("_response_source");
-                parsed.remove("_fallback_reason");
-                parsed.remove("_timestamp");
-            } else {
-                isFallbackResponse = false;
-                fallbackReason = null;
+    private Double calculateConfidence(SummarySections sections) {
+        int totalFields = 0;
+        double filledFields = 0;
+        for (SummarySectionPayload section : sections.asMap().values()) {
+            if (section.isFallback()) {
+                continue;
             }
-
-            return parsed;
-        } catch (Exception e) {
-            log.error("Failed to parse JSON response: {}", response, e);
-            return new HashMap<>();
+            int fields = section.fieldValues().size();
+            totalFields += fields;
+            filledFields += section.completeness() * fields;
         }
+        return totalFields > 0 ? filledFields / totalFields : 0.0;
     }
 
-    /**
-     * Track response source for monitoring and debugging
-     */
-    private boolean isFallbackResponse = false;
-
-    private String fallbackReason = null;
-
-    /**
-     * Build final summary DTO from all components
-     */
-    private PaperSummaryDto buildSummaryDTO(
-            Map<String, Object> quickTake,
-            Map<String, Object> methods,
-            Map<String, Object> reproducibility,
-            Map<String, Object> ethics,
-            Map<String, Object> contextImpact,
-            ExtractionContext context) {
-
-        PaperSummaryDto.PaperSummaryDtoBuilder builder = PaperSummaryDto.builder();
-
-        // Quick Take
-        builder.oneLiner((String) quickTake.get("one_liner"));
-        builder.keyContributions(convertToList(quickTake.get("key_contributions")));
-        builder.methodOverview((String) quickTake.get("method_overview"));
-        builder.mainFindings(convertToFindings(quickTake.get("main_findings")));
-        builder.limitations(convertToList(quickTake.get("limitations")));
-        builder.applicability(convertToList(quickTake.get("applicability")));
-
-        // Methods & Data
-        builder.studyType((String) methods.get("study_type"));
-        builder.researchQuestions(convertToList(methods.get("research_questions")));
-        builder.datasets(convertToDatasets(methods.get("datasets")));
-        builder.participants(convertToParticipants(methods.get("participants")));
-        builder.procedureOrPipeline((String) methods.get("procedure_or_pipeline"));
-        builder.baselinesOrControls(convertToList(methods.get("baselines_or_controls")));
-        builder.metrics(convertToMetrics(methods.get("metrics")));
-        builder.statisticalAnalysis(convertToList(methods.get("statistical_analysis")));
-        builder.computeResources(convertToCompute(methods.get("compute_resources")));
-        builder.implementationDetails(convertToImplementation(methods.get("implementation_details")));
-
-        // Reproducibility
-        builder.artifacts(convertToArtifacts(reproducibility.get("artifacts")));
-        builder.reproducibilityNotes((String) reproducibility.get("reproducibility_notes"));
-        builder.reproScore(convertToDouble(reproducibility.get("repro_score")));
-
-        // Ethics & Compliance
-        builder.ethics(convertToEthics(ethics.get("ethics")));
-        builder.biasAndFairness(convertToList(ethics.get("bias_and_fairness")));
-        builder.risksAndMisuse(convertToList(ethics.get("risks_and_misuse")));
-        builder.dataRights((String) ethics.get("data_rights"));
-
-        // Context & Impact
-        builder.noveltyType((String) contextImpact.get("novelty_type"));
-        builder.positioning(convertToList(contextImpact.get("positioning")));
-        builder.relatedWorksKey(convertToRelatedWorks(contextImpact.get("related_works_key")));
-        builder.impactNotes((String) contextImpact.get("impact_notes"));
-
-        // Additional fields
-        builder.domainClassification(convertToList(contextImpact.get("domain_classification")));
-        builder.technicalDepth((String) contextImpact.get("technical_depth"));
-        builder.interdisciplinaryConnections(convertToList(contextImpact.get("interdisciplinary_connections")));
-        builder.futureWork(convertToList(contextImpact.get("future_work")));
-
-        // Evidence anchors are generated separately
-        builder.evidenceAnchors(generateEvidenceAnchors(context));
-        builder.threatsToValidity(convertToList(contextImpact.get("threats_to_validity")));
-
-        // Calculate confidence based on extraction coverage and response quality
-        builder.confidence(calculateConfidence(quickTake, methods, reproducibility, ethics, contextImpact));
-
-        return builder.build();
+    private static <T extends SummarySectionPayload> T contentOrEmpty(T payload, T empty) {
+        return payload == null || payload.isFallback() ? empty : payload;
     }
 
-    /**
-     * Calculate confidence score based on extraction completeness
-     */
-    private Double calculateConfidence(Map<String, Object>... sections) {
-        int totalFields = 0;
-        int filledFields = 0;
-
-        for (Map<String, Object> section : sections) {
-            for (Map.Entry<String, Object> entry : section.entrySet()) {
-                totalFields++;
-                if (entry.getValue() != null
-                        && !(entry.getValue() instanceof List && ((List<?>) entry.getValue()).isEmpty())
-                        && !(entry.getValue() instanceof String && ((String) entry.getValue()).isEmpty())) {
-                    filledFields++;
-                }
-            }
-        }
-
-        return totalFields > 0 ? (double) filledFields / totalFields : 0.0;
+    private static <T> List<T> listOrEmpty(List<T> list) {
+        return list != null ? list : new ArrayList<>();
     }
 
     /**
@@ -810,10 +895,12 @@ public class PaperSummaryGenerationService {
     /**
      * Save summary to database
      */
-    private PaperSummary saveSummary(PaperSummaryDto dto, Paper paper, long startTime) {
+    private PaperSummary saveSummary(
+            PaperSummaryDto dto, GeneratedSections sections, Paper paper, PaperSummary previous, long startTime) {
         try {
             // Double-check if summary already exists (race condition protection)
-            if (summaryRepository.findByPaperId(paper.getId()).isPresent()) {
+            if (previous == null
+                    && summaryRepository.findByPaperId(paper.getId()).isPresent()) {
                 log.info("Summary already exists for paper: {}, returning existing summary", paper.getId());
                 return summaryRepository.findByPaperId(paper.getId()).get();
             }
@@ -821,52 +908,65 @@ public class PaperSummaryGenerationService {
             PaperSummary summary = PaperSummary.builder()
                     .paper(paper)
                     .oneLiner(dto.getOneLiner())
-                    .keyContributions(objectMapper.writeValueAsString(dto.getKeyContributions()))
+                    .keyContributions(dto.getKeyContributions())
                     .methodOverview(dto.getMethodOverview())
-                    .mainFindings(objectMapper.writeValueAsString(dto.getMainFindings()))
-                    .limitations(objectMapper.writeValueAsString(dto.getLimitations()))
-                    .applicability(objectMapper.writeValueAsString(dto.getApplicability()))
+                    .mainFindings(dto.getMainFindings())
+                    .limitations(dto.getLimitations())
+                    .applicability(dto.getApplicability())
                     .studyType(parseStudyType(dto.getStudyType()))
-                    .researchQuestions(objectMapper.writeValueAsString(dto.getResearchQuestions()))
-                    .datasets(objectMapper.writeValueAsString(dto.getDatasets()))
-                    .participants(objectMapper.writeValueAsString(dto.getParticipants()))
+                    .researchQuestions(dto.getResearchQuestions())
+                    .datasets(dto.getDatasets())
+                    .participants(dto.getParticipants())
                     .procedureOrPipeline(dto.getProcedureOrPipeline())
-                    .baselinesOrControls(objectMapper.writeValueAsString(dto.getBaselinesOrControls()))
-                    .metrics(objectMapper.writeValueAsString(dto.getMetrics()))
-                    .statisticalAnalysis(objectMapper.writeValueAsString(dto.getStatisticalAnalysis()))
-                    .computeResources(objectMapper.writeValueAsString(dto.getComputeResources()))
-                    .implementationDetails(objectMapper.writeValueAsString(dto.getImplementationDetails()))
-                    .artifacts(objectMapper.writeValueAsString(dto.getArtifacts()))
+                    .baselinesOrControls(dto.getBaselinesOrControls())
+                    .metrics(dto.getMetrics())
+                    .statisticalAnalysis(dto.getStatisticalAnalysis())
+                    .computeResources(dto.getComputeResources())
+                    .implementationDetails(dto.getImplementationDetails())
+                    .artifacts(dto.getArtifacts())
                     .reproducibilityNotes(dto.getReproducibilityNotes())
                     .reproScore(dto.getReproScore())
-                    .ethics(objectMapper.writeValueAsString(dto.getEthics()))
-                    .biasAndFairness(objectMapper.writeValueAsString(dto.getBiasAndFairness()))
-                    .risksAndMisuse(objectMapper.writeValueAsString(dto.getRisksAndMisuse()))
+                    .ethics(dto.getEthics())
+                    .biasAndFairness(dto.getBiasAndFairness())
+                    .risksAndMisuse(dto.getRisksAndMisuse())
                     .dataRights(dto.getDataRights())
                     .noveltyType(parseNoveltyType(dto.getNoveltyType()))
-                    .positioning(objectMapper.writeValueAsString(dto.getPositioning()))
-                    .relatedWorksKey(objectMapper.writeValueAsString(dto.getRelatedWorksKey()))
+                    .positioning(dto.getPositioning())
+                    .relatedWorksKey(dto.getRelatedWorksKey())
                     .impactNotes(dto.getImpactNotes())
                     .confidence(dto.getConfidence())
-                    .evidenceAnchors(objectMapper.writeValueAsString(dto.getEvidenceAnchors()))
-                    .threatsToValidity(objectMapper.writeValueAsString(dto.getThreatsToValidity()))
-                    .domainClassification(objectMapper.writeValueAsString(dto.getDomainClassification()))
+                    .evidenceAnchors(dto.getEvidenceAnchors())
+                    .threatsToValidity(dto.getThreatsToValidity())
+                    .domainClassification(dto.getDomainClassification())
                     .technicalDepth(dto.getTechnicalDepth())
-                    .interdisciplinaryConnections(
-                            objectMapper.writeValueAsString(dto.getInterdisciplinaryConnections()))
-                    .futureWork(objectMapper.writeValueAsString(dto.getFutureWork()))
+                    .interdisciplinaryConnections(dto.getInterdisciplinaryConnections())
+                    .futureWork(dto.getFutureWork())
                     .modelVersion("gemini-pro-1.5")
+                    // Any provisional section marks the whole summary until it is repaired
                     .responseSource(
-                            isFallbackResponse
-                                    ? PaperSummary.ResponseSource.FALLBACK
-                                    : PaperSummary.ResponseSource.GEMINI_API)
-                    .fallbackReason(fallbackReason)
+                            sections.provisional().isEmpty()
+                                    ? PaperSummary.ResponseSource.GEMINI_API
+                                    : PaperSummary.ResponseSource.FALLBACK)
+                    .fallbackReason(sections.fallbackReason())
                     .generationTimestamp(Instant.now())
                     .generationTimeSeconds((System.currentTimeMillis() - startTime) / 1000.0)
                     .validationStatus(PaperSummary.ValidationStatus.PENDING)
+                    .sectionInputHashes(sections.keyedHashes())
+                    .sectionPayloads(sections.payloads())
+                    .provisionalSections(sections.provisionalKeys())
                     .build();
 
-            summaryRepository.save(summary);
+            // A regeneration replaces the previous summary in place
+            if (previous != null) {
+                summary.setId(previous.getId());
+                summary.setCreatedAt(previous.getCreatedAt());
+                // Repair backoff carries over until no section is provisional
+                if (!sections.provisional().isEmpty()) {
+                    summary.setProvisionalRepairAttempts(previous.getProvisionalRepairAttempts());
+                    summary.setProvisionalNextAttemptAt(previous.getProvisionalNextAttemptAt());
+                }
+            }
+            summary = summaryRepository.save(summary);
 
             // Update paper status to COMPLETED
             paper.setSummarizationStatus("COMPLETED");
@@ -874,7 +974,14 @@ public class PaperSummaryGenerationService {
             paper.setIsSummarized(true);
             paperRepository.save(paper);
 
-            // Notify user
+            // Notify user once the summary is final; the background repair saves it again
+            if (!sections.provisional().isEmpty()) {
+                log.info(
+                        "Summary for paper {} saved with provisional sections {}, notification deferred",
+                        paper.getId(),
+                        summary.getProvisionalSections());
+                return summary;
+            }
             try {
                 java.util.Map<String, Object> data = new java.util.HashMap<>();
                 data.put("paperTitle", paper.getTitle());
@@ -926,213 +1033,6 @@ public class PaperSummaryGenerationService {
         }
     }
 
-    // Helper conversion methods
-    @SuppressWarnings("unchecked")
-    private List<String> convertToList(Object obj) {
-        if (obj instanceof List) {
-            List<?> list = (List<?>) obj;
-            return list.stream().map(item -> convertToString(item)).collect(Collectors.toList());
-        }
-        return new ArrayList<>();
-    }
-
-    private Double convertToDouble(Object obj) {
-        if (obj instanceof Number) {
-            return ((Number) obj).doubleValue();
-        }
-        return 0.0;
-    }
-
-    private String convertToString(Object obj) {
-        if (obj == null) {
-            return null;
-        }
-        return obj.toString();
-    }
-
-    private Boolean convertToBoolean(Object obj) {
-        if (obj == null) {
-            return null;
-        }
-        if (obj instanceof Boolean) {
-            return (Boolean) obj;
-        }
-        if (obj instanceof String) {
-            String str = (String) obj;
-            return "true".equalsIgnoreCase(str) || "1".equals(str) || "yes".equalsIgnoreCase(str);
-        }
-        if (obj instanceof Number) {
-            return ((Number) obj).intValue() != 0;
-        }
-        return false;
-    }
-
-    private Integer convertToInteger(Object obj) {
-        if (obj == null) {
-            return null;
-        }
-        if (obj instanceof Number) {
-            return ((Number) obj).intValue();
-        }
-        if (obj instanceof String) {
-            try {
-                return Integer.parseInt((String) obj);
-            } catch (NumberFormatException e) {
-                return null;
-            }
-        }
-        return null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<PaperSummaryDto.Finding> convertToFindings(Object obj) {
-        if (obj instanceof List) {
-            return ((List<Map<String, Object>>) obj)
-                    .stream()
-                            .map(map -> PaperSummaryDto.Finding.builder()
-                                    .task(convertToString(map.get("task")))
-                                    .metric(convertToString(map.get("metric")))
-                                    .value(convertToString(map.get("value")))
-                                    .comparator(convertToString(map.get("comparator")))
-                                    .delta(convertToString(map.get("delta")))
-                                    .significance(convertToString(map.get("significance")))
-                                    .build())
-                            .collect(Collectors.toList());
-        }
-        return new ArrayList<>();
-    }
-
-    // Additional conversion methods for other complex types...
-    @SuppressWarnings("unchecked")
-    private List<PaperSummaryDto.DatasetInfo> convertToDatasets(Object obj) {
-        if (obj instanceof List) {
-            return ((List<Map<String, Object>>) obj)
-                    .stream()
-                            .map(map -> PaperSummaryDto.DatasetInfo.builder()
-                                    .name(convertToString(map.get("name")))
-                                    .domain(convertToString(map.get("domain")))
-                                    .size(convertToString(map.get("size")))
-                                    .splitInfo(convertToString(map.get("split_info")))
-                                    .license(convertToString(map.get("license")))
-                                    .url(convertToString(map.get("url")))
-                                    .description(convertToString(map.get("description")))
-                                    .build())
-                            .collect(Collectors.toList());
-        }
-        return new ArrayList<>();
-    }
-
-    private PaperSummaryDto.ParticipantInfo convertToParticipants(Object obj) {
-        if (obj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) obj;
-            return PaperSummaryDto.ParticipantInfo.builder()
-                    .n((Integer) map.get("n"))
-                    .demographics((String) map.get("demographics"))
-                    .irbApproved((Boolean) map.get("irb_approved"))
-                    .recruitmentMethod((String) map.get("recruitment_method"))
-                    .compensationDetails((String) map.get("compensation_details"))
-                    .build();
-        }
-        return null;
-    }
-
-    // Additional conversion methods for other complex types
-    @SuppressWarnings("unchecked")
-    private List<PaperSummaryDto.MetricInfo> convertToMetrics(Object obj) {
-        if (obj instanceof List) {
-            return ((List<Map<String, Object>>) obj)
-                    .stream()
-                            .map(map -> PaperSummaryDto.MetricInfo.builder()
-                                    .name(convertToString(map.get("name")))
-                                    .definition(convertToString(map.get("definition")))
-                                    .formula(convertToString(map.get("formula")))
-                                    .interpretation(convertToString(map.get("interpretation")))
-                                    .build())
-                            .collect(Collectors.toList());
-        }
-        return new ArrayList<>();
-    }
-
-    private PaperSummaryDto.ComputeInfo convertToCompute(Object obj) {
-        if (obj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) obj;
-            return PaperSummaryDto.ComputeInfo.builder()
-                    .hardware(convertToString(map.get("hardware")))
-                    .trainingTime(convertToString(map.get("training_time")))
-                    .energyEstimateKwh(convertToDouble(map.get("energy_estimate_kwh")))
-                    .cloudProvider(convertToString(map.get("cloud_provider")))
-                    .estimatedCost(convertToDouble(map.get("estimated_cost")))
-                    .gpuCount(convertToInteger(map.get("gpu_count")))
-                    .build();
-        }
-        return null;
-    }
-
-    private PaperSummaryDto.ImplementationInfo convertToImplementation(Object obj) {
-        if (obj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) obj;
-            return PaperSummaryDto.ImplementationInfo.builder()
-                    .frameworks(convertToList(map.get("frameworks")))
-                    .keyHyperparams((Map<String, Object>) map.get("key_hyperparams"))
-                    .language(convertToString(map.get("language")))
-                    .dependencies(convertToString(map.get("dependencies")))
-                    .codeLines(convertToInteger(map.get("code_lines")))
-                    .build();
-        }
-        return null;
-    }
-
-    private PaperSummaryDto.ArtifactInfo convertToArtifacts(Object obj) {
-        if (obj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) obj;
-            return PaperSummaryDto.ArtifactInfo.builder()
-                    .codeUrl(convertToString(map.get("code_url")))
-                    .dataUrl(convertToString(map.get("data_url")))
-                    .modelUrl(convertToString(map.get("model_url")))
-                    .dockerImage(convertToString(map.get("docker_image")))
-                    .configFiles(convertToString(map.get("config_files")))
-                    .demoUrl(convertToString(map.get("demo_url")))
-                    .supplementaryMaterial(convertToString(map.get("supplementary_material")))
-                    .build();
-        }
-        return null;
-    }
-
-    private PaperSummaryDto.EthicsInfo convertToEthics(Object obj) {
-        if (obj instanceof Map) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> map = (Map<String, Object>) obj;
-            return PaperSummaryDto.EthicsInfo.builder()
-                    .irb(convertToBoolean(map.get("irb")))
-                    .consent(convertToBoolean(map.get("consent")))
-                    .sensitiveData(convertToBoolean(map.get("sensitive_data")))
-                    .privacyMeasures(convertToString(map.get("privacy_measures")))
-                    .dataAnonymization(convertToString(map.get("data_anonymization")))
-                    .build();
-        }
-        return null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<PaperSummaryDto.RelatedWork> convertToRelatedWorks(Object obj) {
-        if (obj instanceof List) {
-            return ((List<Map<String, Object>>) obj)
-                    .stream()
-                            .map(map -> PaperSummaryDto.RelatedWork.builder()
-                                    .citation((String) map.get("citation"))
-                                    .relation((String) map.get("relation"))
-                                    .description((String) map.get("description"))
-                                    .year(convertToString(map.get("year")))
-                                    .build())
-                            .collect(Collectors.toList());
-        }
-        return new ArrayList<>();
-    }
-
     /**
      * Safely parse StudyType enum from string, defaulting to UNKNOWN if invalid
      */
@@ -1162,4 +1062,35 @@ public class PaperSummaryGenerationService {
             return PaperSummary.NoveltyType.UNKNOWN;
         }
     }
+
+    private static String hash(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Parsed payload of every section that succeeded, its input hash, and the
+     * sections the Gemini fallback answered or that failed
+     */
+    private record GeneratedSections(
+            SummarySections payloads,
+            Map<SummarySection, String> inputHashes,
+            Set<SummarySection> provisional,
+            String fallbackReason) {
+
+        List<String> provisionalKeys() {
+            return new ArrayList<>(
+                    provisional.stream().map(SummarySection::getKey).toList());
+        }
+
+        Map<String, String> keyedHashes() {
+            Map<String, String> keyed = new LinkedHashMap<>();
+            inputHashes.forEach((section, hash) -> keyed.put(section.getKey(), hash));
+            return keyed;
+        }
+    }
 }
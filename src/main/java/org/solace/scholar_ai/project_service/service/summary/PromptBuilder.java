@@ -1,13 +1,25 @@
 package org.solace.scholar_ai.project_service.service.summary;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.solace.scholar_ai.project_service.dto.summary.ExtractionContext;
+import org.solace.scholar_ai.project_service.util.prompt.ContextPacker;
 
 /**
- * Builds optimized prompts for Gemini to generate accurate paper summaries
+ * Builds optimized prompts for Gemini to generate accurate paper summaries.
+ * Paper content is offered as ranked blocks and packed into a per-prompt token
+ * budget by {@link ContextPacker}.
  */
+@Slf4j
 public class PromptBuilder {
 
+    // Token budget for paper content when the caller does not pass one
+    public static final int DEFAULT_CONTEXT_TOKENS = 6000;
+
     private PromptBuilder() {
         // Utility class - prevent instantiation
     }
@@ -23,6 +35,14 @@ public class PromptBuilder {
      * Build prompt for Quick Take section
      */
     public static String buildQuickTakePrompt(ExtractionContext context) {
+        return buildQuickTakePrompt(context, DEFAULT_CONTEXT_TOKENS);
+    }
+
+    /**
+     * Build prompt for Quick Take section, packing paper content into
+     * {@code contextTokens}
+     */
+    public static String buildQuickTakePrompt(ExtractionContext context, int contextTokens) {
         StringBuilder prompt = new StringBuilder();
         prompt.append(SYSTEM_CONTEXT).append("\n\n");
 
@@ -30,8 +50,10 @@ public class PromptBuilder {
         prompt.append("Abstract: ").append(context.getAbstractText()).append("\n\n");
 
         // Add key sections for quick take
-        addIntroductionSection(prompt, context);
-        addConclusionSection(prompt, context);
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+        addIntroductionSection(blocks, context, 1.0);
+        addConclusionSection(blocks, context, 0.9);
+        appendPacked(prompt, blocks, contextTokens, "quick_take");
 
         prompt.append("\nGenerate a JSON object with the following structure:\n");
         prompt.append(
@@ -82,45 +104,42 @@ public class PromptBuilder {
      * Build prompt for Methods and Data section
      */
     public static String buildMethodsPrompt(ExtractionContext context) {
+        return buildMethodsPrompt(context, DEFAULT_CONTEXT_TOKENS);
+    }
+
+    /**
+     * Build prompt for Methods and Data section, packing paper content into
+     * {@code contextTokens}
+     */
+    public static String buildMethodsPrompt(ExtractionContext context, int contextTokens) {
         StringBuilder prompt = new StringBuilder();
         prompt.append(SYSTEM_CONTEXT).append("\n\n");
 
         prompt.append("Paper Title: ").append(context.getTitle()).append("\n\n");
 
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+
         // Add methods sections
-        addMethodsSections(prompt, context);
+        addMethodsSections(blocks, context, 1.0);
 
         // Add experiment sections
-        addExperimentSections(prompt, context);
+        addExperimentSections(blocks, context, 0.8);
 
-        // Add code blocks if present
-        if (!context.getCodeBlocks().isEmpty()) {
-            prompt.append("\n## Code Blocks Found:\n");
-            context.getCodeBlocks().forEach(code -> {
-                prompt.append("Language: ").append(code.getLanguage()).append("\n");
-                prompt.append("Code snippet (first 500 chars): ")
-                        .append(code.getCode()
-                                .substring(0, Math.min(500, code.getCode().length())))
-                        .append("\n\n");
-            });
+        // Add tables that might contain results
+        for (ExtractionContext.TableContent table : context.getTables()) {
+            String text = "Table " + table.getLabel() + ": " + table.getCaption()
+                    + (table.getHeaders() != null ? "\nHeaders: " + table.getHeaders() : "") + "\n";
+            blocks.add(new ContextPacker.Block("\n## Tables:\n", null, text, 0.7, blocks.size()));
         }
 
-        // Add tables that might contain results
-        if (!context.getTables().isEmpty()) {
-            prompt.append("\n## Tables:\n");
-            context.getTables().forEach(table -> {
-                prompt.append("Table ")
-                        .append(table.getLabel())
-                        .append(": ")
-                        .append(table.getCaption())
-                        .append("\n");
-                if (table.getHeaders() != null) {
-                    prompt.append("Headers: ").append(table.getHeaders()).append("\n");
-                }
-                prompt.append("\n");
-            });
+        // Add code blocks if present
+        for (ExtractionContext.CodeBlockContent code : context.getCodeBlocks()) {
+            String text = "Language: " + code.getLanguage() + "\nCode snippet: " + code.getCode() + "\n";
+            blocks.add(new ContextPacker.Block("\n## Code Blocks Found:\n", null, text, 0.5, blocks.size()));
         }
 
+        appendPacked(prompt, blocks, contextTokens, "methods");
+
         prompt.append("\nGenerate a JSON object with the following structure:\n");
         prompt.append(
                 """
@@ -188,24 +207,35 @@ public class PromptBuilder {
      * Build prompt for Reproducibility section
      */
     public static String buildReproducibilityPrompt(ExtractionContext context) {
+        return buildReproducibilityPrompt(context, DEFAULT_CONTEXT_TOKENS);
+    }
+
+    /**
+     * Build prompt for Reproducibility section, packing paper content into
+     * {@code contextTokens}
+     */
+    public static String buildReproducibilityPrompt(ExtractionContext context, int contextTokens) {
         StringBuilder prompt = new StringBuilder();
         prompt.append(SYSTEM_CONTEXT).append("\n\n");
 
         prompt.append("Paper Title: ").append(context.getTitle()).append("\n\n");
 
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+
         // Check for URLs in references
-        prompt.append("## References with URLs:\n");
         context.getReferences().stream()
                 .filter(ref -> ref.getUrl() != null || ref.getDoi() != null)
                 .forEach(ref -> {
-                    prompt.append("- ").append(ref.getTitle());
-                    if (ref.getUrl() != null) prompt.append(" URL: ").append(ref.getUrl());
-                    if (ref.getDoi() != null) prompt.append(" DOI: ").append(ref.getDoi());
-                    prompt.append("\n");
+                    StringBuilder line = new StringBuilder("- ").append(ref.getTitle());
+                    if (ref.getUrl() != null) line.append(" URL: ").append(ref.getUrl());
+                    if (ref.getDoi() != null) line.append(" DOI: ").append(ref.getDoi());
+                    blocks.add(new ContextPacker.Block(
+                            "## References with URLs:\n", null, line.toString(), 0.9, blocks.size()));
                 });
 
         // Add appendix or supplementary sections
-        addSupplementarySections(prompt, context);
+        addSupplementarySections(blocks, context, 1.0);
+        appendPacked(prompt, blocks, contextTokens, "reproducibility");
 
         // Check code blocks for configuration
         if (!context.getCodeBlocks().isEmpty()) {
@@ -281,29 +311,40 @@ public class PromptBuilder {
      * Build prompt for Ethics and Compliance section
      */
     public static String buildEthicsPrompt(ExtractionContext context) {
+        return buildEthicsPrompt(context, DEFAULT_CONTEXT_TOKENS);
+    }
+
+    /**
+     * Build prompt for Ethics and Compliance section, packing paper content
+     * into {@code contextTokens}
+     */
+    public static String buildEthicsPrompt(ExtractionContext context, int contextTokens) {
         StringBuilder prompt = new StringBuilder();
         prompt.append(SYSTEM_CONTEXT).append("\n\n");
 
         prompt.append("Paper Title: ").append(context.getTitle()).append("\n");
         prompt.append("Abstract: ").append(context.getAbstractText()).append("\n\n");
 
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+
         // Add ethics-related sections
-        addEthicsSections(prompt, context);
+        addEthicsSections(blocks, context, 1.0);
 
         // Look for limitations and broader impact sections
-        addLimitationsSections(prompt, context);
+        addLimitationsSections(blocks, context, 0.95);
 
         // Add methodology sections to infer potential biases
-        addMethodsSections(prompt, context);
+        addMethodsSections(blocks, context, 0.6);
 
         // Add experiment sections to identify potential risks
-        addExperimentSections(prompt, context);
+        addExperimentSections(blocks, context, 0.5);
 
         // Add discussion sections for broader impact
-        addDiscussionSections(prompt, context);
+        addDiscussionSections(blocks, context, 0.7);
 
         // Add comprehensive analysis sections
-        addComprehensiveAnalysisSections(prompt, context);
+        addComprehensiveAnalysisSections(blocks, context, 0.4);
+        appendPacked(prompt, blocks, contextTokens, "ethics");
 
         prompt.append("\nGenerate a JSON object with the following structure:\n");
         prompt.append(
@@ -372,33 +413,42 @@ public class PromptBuilder {
      * Build prompt for Context and Impact section
      */
     public static String buildContextImpactPrompt(ExtractionContext context) {
+        return buildContextImpactPrompt(context, DEFAULT_CONTEXT_TOKENS);
+    }
+
+    /**
+     * Build prompt for Context and Impact section, packing paper content into
+     * {@code contextTokens}
+     */
+    public static String buildContextImpactPrompt(ExtractionContext context, int contextTokens) {
         StringBuilder prompt = new StringBuilder();
         prompt.append(SYSTEM_CONTEXT).append("\n\n");
 
         prompt.append("Paper Title: ").append(context.getTitle()).append("\n");
         prompt.append("Abstract: ").append(context.getAbstractText()).append("\n\n");
 
+        List<ContextPacker.Block> blocks = new ArrayList<>();
+
         // Add introduction for positioning
-        addIntroductionSection(prompt, context);
+        addIntroductionSection(blocks, context, 0.9);
 
         // Add related work section
-        addRelatedWorkSection(prompt, context);
+        addRelatedWorkSection(blocks, context, 1.0);
 
         // Add discussion/future work sections
-        addDiscussionSections(prompt, context);
+        addDiscussionSections(blocks, context, 0.8);
 
         // Add comprehensive analysis sections
-        addComprehensiveAnalysisSections(prompt, context);
-
-        // Include references for context
-        prompt.append("\n## Key References:\n");
-        context.getReferences().stream().limit(10).forEach(ref -> prompt.append("- ")
-                .append(ref.getAuthors())
-                .append(" (")
-                .append(ref.getYear())
-                .append("): ")
-                .append(ref.getTitle())
-                .append("\n"));
+        addComprehensiveAnalysisSections(blocks, context, 0.5);
+
+        // Include references for context, earlier references ranked higher
+        List<ExtractionContext.ReferenceContent> references = context.getReferences();
+        for (int i = 0; i < references.size(); i++) {
+            ExtractionContext.ReferenceContent ref = references.get(i);
+            String line = "- " + ref.getAuthors() + " (" + ref.getYear() + "): " + ref.getTitle();
+            blocks.add(new ContextPacker.Block("\n## Key References:\n", null, line, 0.6 * decay(i), blocks.size()));
+        }
+        appendPacked(prompt, blocks, contextTokens, "context_impact");
 
         prompt.append("\nGenerate a JSON object with the following structure:\n");
         prompt.append(
@@ -469,148 +519,177 @@ public class PromptBuilder {
         return prompt.toString();
     }
 
-    // Helper methods to add specific sections
-    private static void addIntroductionSection(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("introduction")
-                                || s.getType().toLowerCase().contains("intro")))
-                .findFirst()
-                .ifPresent(section -> {
-                    prompt.append("\n## Introduction Section:\n");
-                    section.getParagraphs().stream().limit(3).forEach(p -> prompt.append(p)
-                            .append("\n"));
-                });
+    /**
+     * Pack ranked context blocks into the budget and append them to the prompt
+     */
+    private static void appendPacked(
+            StringBuilder prompt, List<ContextPacker.Block> blocks, int contextTokens, String promptType) {
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, contextTokens);
+        prompt.append(packed.text());
+        log.debug(
+                "Packed {} context into {} tokens: {} blocks kept, {} truncated, {} dropped",
+                promptType,
+                packed.tokens(),
+                packed.included(),
+                packed.truncated(),
+                packed.dropped());
     }
 
-    private static void addMethodsSections(StringBuilder prompt, ExtractionContext context) {
-        prompt.append("\n## Methods Sections:\n");
+    /**
+     * Add the paragraphs of each matching section as ranked blocks; earlier
+     * paragraphs of a section rank higher since they usually carry its gist
+     */
+    private static void addSections(
+            List<ContextPacker.Block> blocks,
+            ExtractionContext context,
+            Predicate<String> typeFilter,
+            boolean firstOnly,
+            String group,
+            Function<ExtractionContext.SectionContent, String> heading,
+            double weight) {
         context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("method")
-                                || s.getType().toLowerCase().contains("approach")
-                                || s.getType().toLowerCase().contains("algorithm")))
+                .filter(s -> s.getType() != null && typeFilter.test(s.getType().toLowerCase()))
+                .limit(firstOnly ? 1 : Long.MAX_VALUE)
                 .forEach(section -> {
-                    prompt.append("### ").append(section.getTitle()).append("\n");
-                    section.getParagraphs().stream().limit(5).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(500, p.length())))
-                            .append("...\n"));
+                    List<String> paragraphs = section.getParagraphs();
+                    for (int i = 0; i < paragraphs.size(); i++) {
+                        blocks.add(new ContextPacker.Block(
+                                group, heading.apply(section), paragraphs.get(i), weight * decay(i), blocks.size()));
+                    }
                 });
     }
 
-    private static void addExperimentSections(StringBuilder prompt, ExtractionContext context) {
-        prompt.append("\n## Experiment Sections:\n");
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("experiment")
-                                || s.getType().toLowerCase().contains("evaluation")
-                                || s.getType().toLowerCase().contains("result")))
-                .forEach(section -> {
-                    prompt.append("### ").append(section.getTitle()).append("\n");
-                    section.getParagraphs().stream().limit(3).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(500, p.length())))
-                            .append("...\n"));
-                });
+    private static double decay(int position) {
+        return 1.0 / (1.0 + 0.2 * position);
     }
 
-    private static void addConclusionSection(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("conclusion")
-                                || s.getType().toLowerCase().contains("summary")))
-                .findFirst()
-                .ifPresent(section -> {
-                    prompt.append("\n## Conclusion:\n");
-                    section.getParagraphs().forEach(p -> prompt.append(p).append("\n"));
-                });
+    // Helper methods to add specific sections
+    private static void addIntroductionSection(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("introduction") || type.contains("intro"),
+                true,
+                "\n## Introduction Section:\n",
+                section -> null,
+                weight);
     }
 
-    private static void addRelatedWorkSection(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("related")
-                                || s.getType().toLowerCase().contains("background")
-                                || s.getType().toLowerCase().contains("prior")))
-                .findFirst()
-                .ifPresent(section -> {
-                    prompt.append("\n## Related Work:\n");
-                    section.getParagraphs().stream().limit(3).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(500, p.length())))
-                            .append("...\n"));
-                });
+    private static void addMethodsSections(List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("method") || type.contains("approach") || type.contains("algorithm"),
+                false,
+                "\n## Methods Sections:\n",
+                section -> "### " + section.getTitle() + "\n",
+                weight);
     }
 
-    private static void addSupplementarySections(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("appendix")
-                                || s.getType().toLowerCase().contains("supplementary")
-                                || s.getType().toLowerCase().contains("implementation")))
-                .forEach(section -> {
-                    prompt.append("\n## ").append(section.getTitle()).append(":\n");
-                    section.getParagraphs().stream().limit(2).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(300, p.length())))
-                            .append("...\n"));
-                });
+    private static void addExperimentSections(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("experiment") || type.contains("evaluation") || type.contains("result"),
+                false,
+                "\n## Experiment Sections:\n",
+                section -> "### " + section.getTitle() + "\n",
+                weight);
     }
 
-    private static void addEthicsSections(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("ethic")
-                                || s.getType().toLowerCase().contains("bias")
-                                || s.getType().toLowerCase().contains("fairness")
-                                || s.getType().toLowerCase().contains("limitation")))
-                .forEach(section -> {
-                    prompt.append("\n## ").append(section.getTitle()).append(":\n");
-                    section.getParagraphs().forEach(p -> prompt.append(p).append("\n"));
-                });
+    private static void addConclusionSection(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("conclusion") || type.contains("summary"),
+                true,
+                "\n## Conclusion:\n",
+                section -> null,
+                weight);
     }
 
-    private static void addLimitationsSections(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("limitation")
-                                || s.getType().toLowerCase().contains("threat")
-                                || s.getType().toLowerCase().contains("broader impact")))
-                .forEach(section -> {
-                    prompt.append("\n## ").append(section.getTitle()).append(":\n");
-                    section.getParagraphs().forEach(p -> prompt.append(p).append("\n"));
-                });
+    private static void addRelatedWorkSection(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("related") || type.contains("background") || type.contains("prior"),
+                true,
+                "\n## Related Work:\n",
+                section -> null,
+                weight);
     }
 
-    private static void addDiscussionSections(StringBuilder prompt, ExtractionContext context) {
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("discussion")
-                                || s.getType().toLowerCase().contains("future")
-                                || s.getType().toLowerCase().contains("impact")))
-                .forEach(section -> {
-                    prompt.append("\n## ").append(section.getTitle()).append(":\n");
-                    section.getParagraphs().stream().limit(3).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(400, p.length())))
-                            .append("...\n"));
-                });
+    private static void addSupplementarySections(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("appendix") || type.contains("supplementary") || type.contains("implementation"),
+                false,
+                null,
+                section -> "\n## " + section.getTitle() + ":\n",
+                weight);
+    }
+
+    private static void addEthicsSections(List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("ethic")
+                        || type.contains("bias")
+                        || type.contains("fairness")
+                        || type.contains("limitation"),
+                false,
+                null,
+                section -> "\n## " + section.getTitle() + ":\n",
+                weight);
+    }
+
+    private static void addLimitationsSections(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("limitation") || type.contains("threat") || type.contains("broader impact"),
+                false,
+                null,
+                section -> "\n## " + section.getTitle() + ":\n",
+                weight);
+    }
+
+    private static void addDiscussionSections(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("discussion") || type.contains("future") || type.contains("impact"),
+                false,
+                null,
+                section -> "\n## " + section.getTitle() + ":\n",
+                weight);
     }
 
     /**
      * Add comprehensive analysis sections for better field extraction
      */
-    private static void addComprehensiveAnalysisSections(StringBuilder prompt, ExtractionContext context) {
+    private static void addComprehensiveAnalysisSections(
+            List<ContextPacker.Block> blocks, ExtractionContext context, double weight) {
         // Add any section that might contain relevant information
-        prompt.append("\n## Additional Analysis Sections:\n");
-        context.getSections().stream()
-                .filter(s -> s.getType() != null
-                        && (s.getType().toLowerCase().contains("analysis")
-                                || s.getType().toLowerCase().contains("evaluation")
-                                || s.getType().toLowerCase().contains("comparison")
-                                || s.getType().toLowerCase().contains("validation")
-                                || s.getType().toLowerCase().contains("assessment")))
-                .forEach(section -> {
-                    prompt.append("### ").append(section.getTitle()).append(":\n");
-                    section.getParagraphs().stream().limit(2).forEach(p -> prompt.append(
-                                    p.substring(0, Math.min(300, p.length())))
-                            .append("...\n"));
-                });
+        addSections(
+                blocks,
+                context,
+                type -> type.contains("analysis")
+                        || type.contains("evaluation")
+                        || type.contains("comparison")
+                        || type.contains("validation")
+                        || type.contains("assessment"),
+                false,
+                "\n## Additional Analysis Sections:\n",
+                section -> "### " + section.getTitle() + ":\n",
+                weight);
     }
 }
@@ -0,0 +1,320 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.solace.scholar_ai.project_service.repository.coordination.JobLeaseRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Regenerates summary sections that were answered by the Gemini fallback or
+ * failed outright.
+ *
+ * <p>Such sections are saved as provisional: their placeholder content never
+ * reaches the summary fields, they get no input hash, and the summary keeps
+ * {@code response_source = FALLBACK} until every one is replaced. This
+ * service works through them only while the {@code gemini-api} circuit
+ * breaker is closed, and starts a pass as soon as it closes. One node at a
+ * time drains the backlog, holding the {@value #LEASE_KEY} lease, with at
+ * most {@code max-in-flight} repair jobs running so a recovering Gemini is
+ * not hit by the whole backlog at once. Repairs are ordinary section
+ * regenerations through {@link SummaryJobService}. A repair that leaves
+ * sections provisional, because the job failed or Gemini fell back again,
+ * holds the paper back with exponential backoff from {@code initial-backoff}
+ * up to {@code max-backoff}, and the paper is no longer picked after
+ * {@code max-attempts} such repairs. Another pass starts right away only
+ * after a repair replaced every section.
+ *
+ * <p>The backlog is published as {@code summary.provisional.backlog}, tagged
+ * by unit (summaries, sections), and repaired sections as the counter
+ * {@code summary.provisional.sections.repaired}, whose rate is the drain
+ * rate. Finished repair jobs are counted in {@code summary.provisional.repairs},
+ * tagged by outcome.
+ */
+@Slf4j
+@Service
+public class ProvisionalSummaryRepairService {
+
+    static final String LEASE_KEY = "summary-provisional-repair";
+    private static final String CIRCUIT_BREAKER = "gemini-api";
+
+    private final PaperSummaryRepository summaryRepository;
+    private final SummaryJobService summaryJobService;
+    private final JobLeaseRepository leaseRepository;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int maxInFlight;
+    private final int scanSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final String owner;
+    private volatile boolean leaseHeld;
+
+    private final ScheduledExecutorService scheduler = DaemonSchedulers.singleThread("summary-provisional-repair");
+
+    // Paper id -> repair job id, for repairs started by this node
+    private final Map<UUID, UUID> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong backlogSummaries = new AtomicLong();
+    private final AtomicLong backlogSections = new AtomicLong();
+    private final Counter repairedSections;
+
+    public ProvisionalSummaryRepairService(
+            PaperSummaryRepository summaryRepository,
+            SummaryJobService summaryJobService,
+            JobLeaseRepository leaseRepository,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry,
+            NodeIdentity nodeIdentity,
+            @Value("${summary.provisional.enabled:true}") boolean enabled,
+            @Value("${summary.provisional.poll-interval:1m}") Duration pollInterval,
+            @Value("${summary.provisional.max-in-flight:2}") int maxInFlight,
+            @Value("${summary.provisional.scan-size:20}") int scanSize,
+            @Value("${summary.provisional.max-attempts:8}") int maxAttempts,
+            @Value("${summary.provisional.initial-backoff:5m}") Duration initialBackoff,
+            @Value("${summary.provisional.max-backoff:6h}") Duration maxBackoff) {
+        this.summaryRepository = summaryRepository;
+        this.summaryJobService = summaryJobService;
+        this.leaseRepository = leaseRepository;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.maxInFlight = maxInFlight;
+        this.scanSize = Math.max(scanSize, maxInFlight);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.owner = nodeIdentity.newLeaseOwner();
+
+        Gauge.builder("summary.provisional.backlog", backlogSummaries, AtomicLong::get)
+                .description("Summaries with sections awaiting regeneration after a Gemini fallback")
+                .tag("unit", "summaries")
+                .register(meterRegistry);
+        Gauge.builder("summary.provisional.backlog", backlogSections, AtomicLong::get)
+                .description("Summary sections awaiting regeneration after a Gemini fallback")
+                .tag("unit", "sections")
+                .register(meterRegistry);
+        Gauge.builder("summary.provisional.repairs.active", inFlight, Map::size)
+                .description("Provisional summary repairs running from this node")
+                .register(meterRegistry);
+        this.repairedSections = Counter.builder("summary.provisional.sections.repaired")
+                .description("Provisional summary sections replaced by a real Gemini response")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackgroundTasks() {
+        if (!enabled) {
+            log.info("Provisional summary repair is disabled");
+            return;
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                log.info("Gemini circuit closed, draining provisional summaries");
+                drainSoon();
+            }
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        // Running repair jobs carry on under SummaryJobService; only the lease is handed back
+        if (leaseHeld) {
+            try {
+                leaseRepository.release(LEASE_KEY, owner);
+            } catch (Exception e) {
+                log.debug("Could not release provisional repair lease: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One pass: refresh the backlog gauges and, if Gemini is healthy and this
+     * node holds the lease, start repairs up to {@code max-in-flight}
+     */
+    void drain() {
+        try {
+            backlogSummaries.set(summaryRepository.countProvisional());
+            backlogSections.set(summaryRepository.countProvisionalSections());
+            if (backlogSummaries.get() == 0
+                    || circuitBreaker.getState() != CircuitBreaker.State.CLOSED
+                    || inFlight.size() >= maxInFlight
+                    || !holdLease()) {
+                return;
+            }
+
+            for (PaperSummary summary : summaryRepository.findProvisional(maxAttempts, scanSize)) {
+                if (inFlight.size() >= maxInFlight) {
+                    break;
+                }
+                UUID paperId = summary.getPaper().getId();
+                if (!inFlight.containsKey(paperId)) {
+                    repair(paperId, summary.getProvisionalSections());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Provisional summary repair pass failed: {}", e.getMessage());
+        }
+    }
+
+    private void repair(UUID paperId, List<String> sectionKeys) {
+        Set<SummarySection> sections = sectionKeys.stream()
+                .flatMap(key -> SummarySection.fromKey(key).stream())
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(SummarySection.class)));
+        if (sections.isEmpty()) {
+            return;
+        }
+
+        SummaryJob job;
+        try {
+            job = summaryJobService.submitSections(paperId, sections);
+        } catch (RuntimeException e) {
+            log.warn("Could not queue repair of provisional summary for paper {}: {}", paperId, e.getMessage());
+            recordRepair("rejected");
+            return;
+        }
+        inFlight.put(paperId, job.getId());
+        log.info(
+                "🩹 Repairing provisional sections {} of paper {} in summary job {}",
+                sectionKeys,
+                paperId,
+                job.getId());
+
+        // Completion callbacks must not block the job thread; settle on the scheduler
+        summaryJobService.awaitCompletion(job.getId()).whenComplete((result, error) -> {
+            try {
+                scheduler.execute(() -> settle(paperId, sections, result, error));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(paperId);
+            }
+        });
+    }
+
+    private void settle(UUID paperId, Set<SummarySection> sections, SummaryJobDto result, Throwable error) {
+        boolean repairedAll = false;
+        try {
+            Optional<PaperSummary> summary = summaryRepository.findByPaperId(paperId);
+            if (error != null
+                    || result == null
+                    || !SummaryJob.Status.COMPLETED.name().equals(result.getStatus())) {
+                log.warn(
+                        "❌ Repair of provisional summary for paper {} failed: {}",
+                        paperId,
+                        error != null ? error.getMessage() : result != null ? result.getErrorMessage() : null);
+                recordRepair("failed");
+                summary.ifPresent(this::retryLater);
+                return;
+            }
+
+            List<String> remaining =
+                    summary.map(PaperSummary::getProvisionalSections).orElse(List.of());
+            long repaired = sections.stream()
+                    .filter(section -> !remaining.contains(section.getKey()))
+                    .count();
+            repairedAll = remaining.isEmpty();
+            recordRepair(repairedAll ? "repaired" : "still_provisional");
+            repairedSections.increment(repaired);
+            log.info("✅ Repaired {} of {} provisional sections of paper {}", repaired, sections.size(), paperId);
+            if (!repairedAll) {
+                summary.ifPresent(this::retryLater);
+            }
+        } catch (Exception e) {
+            log.warn("Could not settle provisional summary repair for paper {}: {}", paperId, e.getMessage());
+        } finally {
+            inFlight.remove(paperId);
+        }
+        // A slot is free and Gemini answered; keep draining while it stays healthy
+        if (repairedAll) {
+            drain();
+        }
+    }
+
+    /**
+     * Hold the next repair of a summary back, or give up on it after
+     * {@code max-attempts}
+     */
+    private void retryLater(PaperSummary summary) {
+        UUID paperId = summary.getPaper().getId();
+        int attempts = summary.getProvisionalRepairAttempts() + 1;
+        Duration delay = backoff(attempts);
+        if (attempts >= maxAttempts) {
+            log.error(
+                    "Giving up on provisional sections {} of paper {} after {} repairs",
+                    summary.getProvisionalSections(),
+                    paperId,
+                    attempts);
+            recordRepair("abandoned");
+        } else {
+            log.warn(
+                    "Provisional sections {} of paper {} remain after repair {}/{}, retrying in {}",
+                    summary.getProvisionalSections(),
+                    paperId,
+                    attempts,
+                    maxAttempts,
+                    delay);
+        }
+        summaryRepository.retryProvisionalLater(paperId, delay.toSeconds());
+    }
+
+    /**
+     * Exponential backoff from {@code initial-backoff}, capped at {@code max-backoff}
+     */
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private boolean holdLease() {
+        long ttlSeconds = Math.max(1, pollInterval.multipliedBy(3).toSeconds());
+        if (leaseHeld && leaseRepository.renew(LEASE_KEY, owner, ttlSeconds) > 0) {
+            return true;
+        }
+        leaseHeld = leaseRepository.tryAcquire(LEASE_KEY, owner, ttlSeconds) > 0;
+        return leaseHeld;
+    }
+
+    private void drainSoon() {
+        try {
+            scheduler.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug("Provisional repair scheduler is shut down");
+        }
+    }
+
+    private void recordRepair(String outcome) {
+        meterRegistry.counter("summary.provisional.repairs", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,452 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+import org.solace.scholar_ai.project_service.exception.PaperNotFoundException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.summary.SummaryJobRepository;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.util.concurrent.DaemonSchedulers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs summary generation as durable background jobs.
+ *
+ * <p>A job row records status and per-section progress so any node can answer
+ * polling requests. The node running a job holds it through a heartbeat; jobs
+ * whose heartbeat expires (node crash or restart) are claimed and rerun by a
+ * periodic sweep on any node. Progress is pushed to local subscribers as it
+ * happens; subscribers to jobs running elsewhere are refreshed from the
+ * database on every keep-alive tick.
+ *
+ * <p>Each section's parsed payload is persisted on the job as soon as it
+ * finishes, so a failed section does not lose the others and a resumed job
+ * only regenerates what is missing.
+ */
+@Slf4j
+@Service
+public class SummaryJobService {
+
+    private static final List<SummaryJob.Status> ACTIVE = List.of(SummaryJob.Status.QUEUED, SummaryJob.Status.RUNNING);
+    private static final int STARTED_PCT = 5;
+    private static final int SWEEP_BATCH = 20;
+
+    /**
+     * Receives progress for one job. Callbacks run on job or scheduler
+     * threads and must not block.
+     */
+    public interface SummaryJobListener {
+        void onStatus(SummaryJobDto job);
+
+        /**
+         * @param payload the parsed section, or {@code null} if it failed
+         */
+        void onSection(
+                SummaryJobDto job,
+                SummarySection section,
+                SummaryJob.SectionStatus status,
+                SummarySectionPayload payload);
+
+        void onComplete(SummaryJobDto job);
+
+        void onError(SummaryJobDto job);
+
+        void onKeepAlive();
+    }
+
+    private final SummaryJobRepository jobRepository;
+    private final PaperRepository paperRepository;
+    private final PaperSummaryGenerationService summaryGenerationService;
+    private final TransactionTemplate progressTransaction;
+    private final Duration heartbeatInterval;
+    private final Duration staleAfter;
+    private final Duration sweepInterval;
+    private final int maxAttempts;
+    private final String owner;
+    private volatile boolean shuttingDown;
+
+    private final ExecutorService runner = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("summary-job-", 0).factory());
+    private final ScheduledExecutorService scheduler = DaemonSchedulers.singleThread("summary-jobs");
+
+    private final ConcurrentMap<UUID, SummaryJob> running = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, List<SummaryJobListener>> listeners = new ConcurrentHashMap<>();
+
+    public SummaryJobService(
+            SummaryJobRepository jobRepository,
+            PaperRepository paperRepository,
+            PaperSummaryGenerationService summaryGenerationService,
+            TransactionTemplate transactionTemplate,
+            NodeIdentity nodeIdentity,
+            @Value("${summary.jobs.heartbeat-interval:15s}") Duration heartbeatInterval,
+            @Value("${summary.jobs.stale-after:1m}") Duration staleAfter,
+            @Value("${summary.jobs.sweep-interval:30s}") Duration sweepInterval,
+            @Value("${summary.jobs.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.paperRepository = paperRepository;
+        this.summaryGenerationService = summaryGenerationService;
+        // Reused sections are reported from inside the generation transaction;
+        // progress must be visible to other nodes before that commits
+        this.progressTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.progressTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.heartbeatInterval = heartbeatInterval;
+        this.staleAfter = staleAfter;
+        this.sweepInterval = sweepInterval;
+        this.maxAttempts = maxAttempts;
+        this.owner = nodeIdentity.newLeaseOwner();
+    }
+
+    /**
+     * Queue summary generation for a paper and return the job. An unfinished
+     * job for the same paper and mode is returned instead of starting another.
+     */
+    public SummaryJob submit(UUID paperId, boolean refresh) {
+        return submit(paperId, refresh, List.of());
+    }
+
+    /**
+     * Queue regeneration of specific sections of a paper's summary. Other
+     * sections are regenerated only if their inputs changed.
+     */
+    public SummaryJob submitSections(UUID paperId, Set<SummarySection> sections) {
+        return submit(
+                paperId,
+                true,
+                sections.stream().sorted().map(SummarySection::getKey).toList());
+    }
+
+    private SummaryJob submit(UUID paperId, boolean refresh, List<String> regenerateSections) {
+        Paper paper = paperRepository.findById(paperId).orElseThrow(() -> new PaperNotFoundException(paperId));
+        summaryGenerationService.requireExtracted(paper);
+
+        Optional<SummaryJob> active = jobRepository
+                .findFirstByPaperIdAndRefreshAndStatusInOrderByCreatedAtDesc(paperId, refresh, ACTIVE)
+                .filter(job -> regenerateSections.equals(job.getRegenerateSections()));
+        if (active.isPresent()) {
+            log.info(
+                    "📋 Summary job {} already active for paper {}",
+                    active.get().getId(),
+                    paperId);
+            return active.get();
+        }
+
+        SummaryJob job = SummaryJob.builder()
+                .paperId(paperId)
+                .status(SummaryJob.Status.QUEUED)
+                .refresh(refresh)
+                .regenerateSections(new ArrayList<>(regenerateSections))
+                .createdAt(Instant.now())
+                .build();
+        for (SummarySection section : SummarySection.values()) {
+            job.getSections().put(section.getKey(), SummaryJob.SectionStatus.PENDING.name());
+        }
+        job = jobRepository.save(job);
+        log.info("🧾 Queued summary job {} for paper {} (refresh={})", job.getId(), paperId, refresh);
+
+        dispatch(job.getId());
+        return job;
+    }
+
+    public Optional<SummaryJob> findJob(UUID jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    public Optional<SummaryJob> findLatestJob(UUID paperId) {
+        return jobRepository.findFirstByPaperIdOrderByCreatedAtDesc(paperId);
+    }
+
+    public void subscribe(UUID jobId, SummaryJobListener listener) {
+        listeners.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void unsubscribe(UUID jobId, SummaryJobListener listener) {
+        listeners.computeIfPresent(jobId, (id, current) -> {
+            current.remove(listener);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    /**
+     * Completes with the final state of a job once it finishes, on whichever
+     * node it runs
+     */
+    public CompletableFuture<SummaryJobDto> awaitCompletion(UUID jobId) {
+        CompletableFuture<SummaryJobDto> finished = new CompletableFuture<>();
+        SummaryJobListener listener = new SummaryJobListener() {
+            @Override
+            public void onStatus(SummaryJobDto job) {}
+
+            @Override
+            public void onSection(
+                    SummaryJobDto job,
+                    SummarySection section,
+                    SummaryJob.SectionStatus status,
+                    SummarySectionPayload payload) {}
+
+            @Override
+            public void onComplete(SummaryJobDto job) {
+                finished.complete(job);
+            }
+
+            @Override
+            public void onError(SummaryJobDto job) {
+                finished.complete(job);
+            }
+
+            @Override
+            public void onKeepAlive() {}
+        };
+        subscribe(jobId, listener);
+        finished.whenComplete((job, error) -> unsubscribe(jobId, listener));
+
+        // The job may have finished before the listener was subscribed
+        Optional<SummaryJob> job = findJob(jobId);
+        if (job.isEmpty()) {
+            finished.completeExceptionally(new IllegalStateException("Summary job not found: " + jobId));
+        } else if (job.get().isFinished()) {
+            finished.complete(SummaryJobDto.fromEntity(job.get()));
+        }
+        return finished;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackgroundTasks() {
+        scheduler.scheduleWithFixedDelay(this::sweepStaleJobs, 0, sweepInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+                this::heartbeatAndRefresh,
+                heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        scheduler.shutdownNow();
+        // Running jobs stop heartbeating and are picked up by another node's sweep
+        runner.shutdownNow();
+    }
+
+    private void dispatch(UUID jobId) {
+        if (jobRepository.claim(jobId, owner, staleAfter.toSeconds()) == 0) {
+            return;
+        }
+        runner.submit(() -> run(jobId));
+    }
+
+    private void run(UUID jobId) {
+        SummaryJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        running.put(jobId, job);
+        try {
+            if (job.getAttempts() > maxAttempts) {
+                throw new IllegalStateException("Gave up after " + maxAttempts + " attempts");
+            }
+            update(job, j -> {
+                j.setStatus(SummaryJob.Status.RUNNING);
+                j.setStartedAt(Instant.now());
+                j.setProgressPct(STARTED_PCT);
+            });
+            publish(jobId, listener -> listener.onStatus(snapshot(job)));
+
+            SummaryProgressListener progress = (section, payload, error) -> onSection(job, section, payload, error);
+            Set<SummarySection> regenerate = job.getRegenerateSections().stream()
+                    .flatMap(key -> SummarySection.fromKey(key).stream())
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(SummarySection.class)));
+            PaperSummary summary = regenerate.isEmpty()
+                    ? summaryGenerationService.generateSummary(
+                            job.getPaperId(), job.isRefresh(), completedSections(job), progress)
+                    : summaryGenerationService.regenerateSections(
+                            job.getPaperId(), regenerate, completedSections(job), progress);
+
+            update(job, j -> {
+                j.setStatus(SummaryJob.Status.COMPLETED);
+                j.setSummaryId(summary.getId());
+                j.setProgressPct(100);
+                j.setCompletedAt(Instant.now());
+                List<String> failed = j.getSections().entrySet().stream()
+                        .filter(entry -> SummaryJob.SectionStatus.FAILED.name().equals(entry.getValue()))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                if (!failed.isEmpty()) {
+                    // The summary keeps them as provisional sections until they are repaired
+                    j.setErrorMessage("Failed sections, queued for repair: " + String.join(", ", failed));
+                }
+            });
+            log.info("✅ Summary job {} completed for paper {}", jobId, job.getPaperId());
+            publish(jobId, listener -> listener.onComplete(snapshot(job)));
+        } catch (Exception e) {
+            if (shuttingDown) {
+                log.info("Summary job {} interrupted by shutdown, leaving it for another node", jobId);
+                return;
+            }
+            log.error("❌ Summary job {} failed for paper {}", jobId, job.getPaperId(), e);
+            update(job, j -> {
+                j.setStatus(SummaryJob.Status.FAILED);
+                j.setErrorMessage(e.getMessage());
+                j.setCompletedAt(Instant.now());
+            });
+            publish(jobId, listener -> listener.onError(snapshot(job)));
+        } finally {
+            running.remove(jobId);
+            listeners.remove(jobId);
+        }
+    }
+
+    /**
+     * Sections persisted by an earlier attempt of this job
+     */
+    private Map<SummarySection, SummarySectionPayload> completedSections(SummaryJob job) {
+        Map<SummarySection, SummarySectionPayload> completed;
+        synchronized (job) {
+            completed = job.getSectionResults().asMap();
+        }
+        if (!completed.isEmpty()) {
+            log.info("♻️ Summary job {} reusing sections {}", job.getId(), completed.keySet());
+        }
+        return completed;
+    }
+
+    private void onSection(SummaryJob job, SummarySection section, SummarySectionPayload payload, Throwable error) {
+        SummaryJob.SectionStatus sectionStatus =
+                error == null ? SummaryJob.SectionStatus.COMPLETED : SummaryJob.SectionStatus.FAILED;
+        update(job, j -> {
+            j.getSections().put(section.getKey(), sectionStatus.name());
+            if (error == null) {
+                j.setSectionResults(j.getSectionResults().with(section, payload));
+            }
+            long finished = j.getSections().values().stream()
+                    .filter(status -> !SummaryJob.SectionStatus.PENDING.name().equals(status))
+                    .count();
+            j.setProgressPct(STARTED_PCT
+                    + (int) ((100 - 2 * STARTED_PCT)
+                            * finished
+                            / j.getSections().size()));
+        });
+        SummaryJobDto snapshot = snapshot(job);
+        publish(job.getId(), listener -> listener.onSection(snapshot, section, sectionStatus, payload));
+    }
+
+    /**
+     * Apply {@code change} and persist it. Sections finish concurrently, so
+     * changes to one job are serialized on the job instance.
+     */
+    private void update(SummaryJob job, Consumer<SummaryJob> change) {
+        synchronized (job) {
+            change.accept(job);
+            try {
+                progressTransaction.executeWithoutResult(status -> jobRepository.save(job));
+            } catch (Exception e) {
+                log.warn("Failed to persist progress of summary job {}: {}", job.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private SummaryJobDto snapshot(SummaryJob job) {
+        synchronized (job) {
+            return SummaryJobDto.fromEntity(job);
+        }
+    }
+
+    private void publish(UUID jobId, Consumer<SummaryJobListener> event) {
+        List<SummaryJobListener> subscribers = listeners.get(jobId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SummaryJobListener listener : subscribers) {
+            try {
+                event.accept(listener);
+            } catch (Exception e) {
+                log.debug("Summary job listener for {} failed: {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    private void sweepStaleJobs() {
+        try {
+            for (UUID jobId : jobRepository.findStaleIds(staleAfter.toSeconds(), SWEEP_BATCH)) {
+                if (!running.containsKey(jobId)) {
+                    log.info("♻️ Resuming stale summary job {}", jobId);
+                    dispatch(jobId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Summary job sweep failed: {}", e.getMessage());
+        }
+    }
+
+    private void heartbeatAndRefresh() {
+        try {
+            if (!running.isEmpty()) {
+                jobRepository.heartbeat(running.keySet(), owner);
+            }
+            for (Map.Entry<UUID, List<SummaryJobListener>> entry : listeners.entrySet()) {
+                UUID jobId = entry.getKey();
+                entry.getValue().forEach(SummaryJobListener::onKeepAlive);
+                if (!running.containsKey(jobId)) {
+                    refreshRemote(jobId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Summary job heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forward the persisted state of a job running on another node
+     */
+    private void refreshRemote(UUID jobId) {
+        jobRepository.findById(jobId).ifPresent(entity -> {
+            SummaryJobDto job = SummaryJobDto.fromEntity(entity);
+            for (SummarySection section : SummarySection.values()) {
+                String status = entity.getSections().get(section.getKey());
+                if (status != null && !SummaryJob.SectionStatus.PENDING.name().equals(status)) {
+                    SummaryJob.SectionStatus sectionStatus = SummaryJob.SectionStatus.valueOf(status);
+                    SummarySectionPayload payload = entity.getSectionResults().get(section);
+                    publish(jobId, listener -> listener.onSection(job, section, sectionStatus, payload));
+                }
+            }
+            if (SummaryJob.Status.COMPLETED.name().equals(job.getStatus())) {
+                publish(jobId, listener -> listener.onComplete(job));
+                listeners.remove(jobId);
+            } else if (SummaryJob.Status.FAILED.name().equals(job.getStatus())) {
+                publish(jobId, listener -> listener.onError(job));
+                listeners.remove(jobId);
+            } else {
+                publish(jobId, listener -> listener.onStatus(job));
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+
+/**
+ * Receives each summary section as soon as its generation finishes. Called
+ * from the fan-out thread that produced the section, so implementations must
+ * be thread-safe and should not block.
+ */
+@FunctionalInterface
+public interface SummaryProgressListener {
+
+    SummaryProgressListener NONE = (section, payload, error) -> {};
+
+    /**
+     * @param payload the parsed section, or {@code null} if it failed
+     * @param error why the section failed, or {@code null} on success
+     */
+    void onSectionFinished(SummarySection section, SummarySectionPayload payload, Throwable error);
+}
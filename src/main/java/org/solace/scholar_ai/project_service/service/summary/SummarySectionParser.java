@@ -0,0 +1,142 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.ContextImpactSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.EthicsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.MethodsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.QuickTakeSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.ReproducibilitySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+import org.solace.scholar_ai.project_service.util.json.LlmJsonRepair;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds a Gemini summary response straight into its typed section record.
+ *
+ * <p>The response first goes through {@link LlmJsonRepair}, then is read by
+ * a streaming {@link ObjectReader} per section, with no intermediate map or
+ * tree. Binding is lenient about the shapes models get wrong: unknown fields
+ * and trailing commas are ignored, a single value is accepted where a list is
+ * expected, an array or object where text is expected is kept as text, and
+ * values that cannot be coerced (e.g. {@code "gpu_count": "several"}) become
+ * null instead of failing the section.
+ */
+@Slf4j
+@Component
+public class SummarySectionParser {
+
+    private final Map<SummarySection, ObjectReader> readers = new EnumMap<>(SummarySection.class);
+    private final LlmMetrics llmMetrics;
+
+    public SummarySectionParser(ObjectMapper objectMapper, LlmMetrics llmMetrics) {
+        this.llmMetrics = llmMetrics;
+
+        ObjectMapper lenient = objectMapper
+                .copy()
+                .configure(JsonReadFeature.ALLOW_TRAILING_COMMA.mappedFeature(), true)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true)
+                .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
+                .addHandler(new LenientValues());
+        readers.put(SummarySection.QUICK_TAKE, lenient.readerFor(QuickTakeSection.class));
+        readers.put(SummarySection.METHODS, lenient.readerFor(MethodsSection.class));
+        readers.put(SummarySection.REPRODUCIBILITY, lenient.readerFor(ReproducibilitySection.class));
+        readers.put(SummarySection.ETHICS, lenient.readerFor(EthicsSection.class));
+        readers.put(SummarySection.CONTEXT_IMPACT, lenient.readerFor(ContextImpactSection.class));
+    }
+
+    /**
+     * Parse the response for {@code section}
+     *
+     * @throws IllegalStateException if no JSON object can be recovered from it
+     */
+    public SummarySectionPayload parse(SummarySection section, String response) {
+        String json = LlmJsonRepair.repair(response);
+        try {
+            if (json == null || json.charAt(0) != '{') {
+                throw new IllegalStateException("no JSON object in response");
+            }
+            SummarySectionPayload payload = readers.get(section).readValue(json);
+            if (payload.isFallback()) {
+                log.info("Detected fallback response for {}: {}", section.getKey(), payload.fallbackReason());
+            }
+            return payload;
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to parse {} response: {}", section.getKey(), response, e);
+            llmMetrics.recordParseFailure(LlmCaller.SUMMARY, section.getKey());
+            throw new IllegalStateException("Unparseable " + section.getKey() + " response", e);
+        }
+    }
+
+    /**
+     * Turns values of the wrong shape into text or null instead of failing the
+     * whole section
+     */
+    private static final class LenientValues extends DeserializationProblemHandler {
+
+        @Override
+        public Object handleUnexpectedToken(
+                DeserializationContext ctxt, JavaType targetType, JsonToken token, JsonParser parser, String failureMsg)
+                throws IOException {
+            if (targetType.hasRawClass(String.class) && token.isStructStart()) {
+                JsonNode node = ctxt.readTree(parser);
+                return node.isArray()
+                        ? StreamSupport.stream(node.spliterator(), false)
+                                .map(element -> element.isValueNode() ? element.asText() : element.toString())
+                                .collect(Collectors.joining(", "))
+                        : node.toString();
+            }
+            parser.skipChildren();
+            return null;
+        }
+
+        @Override
+        public Object handleWeirdStringValue(
+                DeserializationContext ctxt, Class<?> targetType, String value, String failureMsg) {
+            if (targetType == Boolean.class) {
+                String normalized = value.trim().toLowerCase(Locale.ROOT);
+                return normalized.equals("yes") || normalized.equals("y") || normalized.equals("1");
+            }
+            return null;
+        }
+
+        @Override
+        public Object handleWeirdNumberValue(
+                DeserializationContext ctxt, Class<?> targetType, Number value, String failureMsg) {
+            return null;
+        }
+
+        @Override
+        public Object handleMissingInstantiator(
+                DeserializationContext ctxt,
+                Class<?> instClass,
+                ValueInstantiator instantiator,
+                JsonParser parser,
+                String msg)
+                throws IOException {
+            // e.g. "participants": "not reported" where an object is expected
+            parser.skipChildren();
+            return null;
+        }
+    }
+}
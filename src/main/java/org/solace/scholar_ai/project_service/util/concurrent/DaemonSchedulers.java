@@ -0,0 +1,27 @@
+package org.solace.scholar_ai.project_service.util.concurrent;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Schedulers for background work of singleton components, on daemon threads
+ * so they never hold up JVM shutdown if a component is not shut down.
+ */
+public class DaemonSchedulers {
+
+    private DaemonSchedulers() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * A scheduler running its tasks one at a time on a daemon thread named
+     * {@code threadName}
+     */
+    public static ScheduledExecutorService singleThread(String threadName) {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
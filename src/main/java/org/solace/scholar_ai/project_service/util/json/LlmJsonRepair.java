@@ -0,0 +1,117 @@
+package org.solace.scholar_ai.project_service.util.json;
+
+import java.util.Arrays;
+
+/**
+ * Recovers the JSON document from an LLM response in a single pass.
+ *
+ * <ul>
+ *   <li>Markdown fences ({@code ```json ... ```}) and any prose before the
+ *       first {@code {} or {@code [} or after the document are dropped.
+ *   <li>A document cut off mid-way, typically by the output token limit, is
+ *       closed after its last complete value: a partial string, number,
+ *       literal or key is discarded and the open arrays and objects are
+ *       closed in order.
+ * </ul>
+ *
+ * <p>A well-formed response comes back as a substring without copying
+ * through a builder. Trailing commas are left for the parser, which is
+ * expected to allow them.
+ */
+public final class LlmJsonRepair {
+
+    private LlmJsonRepair() {}
+
+    /**
+     * The JSON document in {@code text}, or {@code null} if it has none
+     */
+    public static String repair(String text) {
+        if (text == null) {
+            return null;
+        }
+        // An opening fence is prose before the document and a closing fence
+        // prose after it, so neither needs special handling. Fences inside
+        // string values are left alone.
+        int to = text.length();
+        int start = 0;
+        while (start < to && text.charAt(start) != '{' && text.charAt(start) != '[') {
+            start++;
+        }
+        if (start == to) {
+            return null;
+        }
+
+        // Closers of the open containers, innermost last
+        char[] closers = new char[16];
+        // Whether each open object expects a key next
+        boolean[] expectKey = new boolean[16];
+        int depth = 0;
+        boolean inString = false;
+        boolean stringIsKey = false;
+        boolean escaped = false;
+        // Where the document can be cut and closed, and how deep it is there
+        int safeEnd = start;
+        int safeDepth = 0;
+
+        for (int i = start; i < to; i++) {
+            char c = text.charAt(i);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                    if (!stringIsKey) {
+                        safeEnd = i + 1;
+                        safeDepth = depth;
+                    }
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    inString = true;
+                    stringIsKey = closers[depth - 1] == '}' && expectKey[depth - 1];
+                }
+                case '{', '[' -> {
+                    if (depth == closers.length) {
+                        closers = Arrays.copyOf(closers, depth * 2);
+                        expectKey = Arrays.copyOf(expectKey, depth * 2);
+                    }
+                    closers[depth] = c == '{' ? '}' : ']';
+                    expectKey[depth] = c == '{';
+                    depth++;
+                    safeEnd = i + 1;
+                    safeDepth = depth;
+                }
+                case '}', ']' -> {
+                    depth--;
+                    if (depth == 0) {
+                        return text.substring(start, i + 1);
+                    }
+                    safeEnd = i + 1;
+                    safeDepth = depth;
+                }
+                case ':' -> expectKey[depth - 1] = false;
+                case ',' -> {
+                    // Everything before the comma is a complete member
+                    safeEnd = i;
+                    safeDepth = depth;
+                    expectKey[depth - 1] = closers[depth - 1] == '}';
+                }
+                default -> {
+                    // Whitespace, or part of a number or literal
+                }
+            }
+        }
+
+        // Truncated: close what was open at the last safe point
+        StringBuilder repaired = new StringBuilder(safeEnd - start + safeDepth);
+        repaired.append(text, start, safeEnd);
+        for (int level = safeDepth - 1; level >= 0; level--) {
+            repaired.append(closers[level]);
+        }
+        return repaired.toString();
+    }
+}
@@ -0,0 +1,173 @@
+package org.solace.scholar_ai.project_service.util.prompt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Budget-driven compaction of prompt context.
+ *
+ * <p>Candidate blocks are ranked by relevance and packed greedily into a token
+ * budget; the block that first overflows is truncated to the remaining space
+ * if enough is left. Duplicate texts are packed once. Chosen blocks are
+ * rendered back in their original order under their group and heading lines,
+ * so the prompt keeps the paper's flow.
+ *
+ * <p>Each group and heading line is charged once, so it is also rendered once:
+ * if a group's blocks are not contiguous in {@code order}, its later blocks
+ * are moved up behind its first one, and likewise for headings within a group.
+ */
+public class ContextPacker {
+
+    // Below this many spare tokens a truncated block is more noise than signal
+    private static final int MIN_PARTIAL_TOKENS = 48;
+
+    // "..." appended to truncated blocks
+    private static final int ELLIPSIS_TOKENS = 3;
+
+    private ContextPacker() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * A unit of optional context. {@code group} and {@code heading} are
+     * rendered once before the first chosen block that carries them; either
+     * may be null.
+     */
+    public record Block(String group, String heading, String text, double relevance, int order) {}
+
+    /**
+     * Result of packing: rendered text, its estimated tokens, and how many
+     * distinct candidate texts were kept whole, truncated or dropped. Blank
+     * blocks and repeats of a text are not counted.
+     */
+    public record Packed(String text, int tokens, int included, int truncated, int dropped) {}
+
+    public static Packed pack(List<Block> blocks, int budgetTokens) {
+        List<Block> ranked = new ArrayList<>(blocks);
+        ranked.sort(Comparator.comparingDouble(Block::relevance).reversed().thenComparingInt(Block::order));
+
+        List<Block> chosen = new ArrayList<>();
+        Set<String> chargedHeaders = new HashSet<>();
+        Set<String> seenTexts = new HashSet<>();
+        int used = 0;
+        int truncated = 0;
+
+        for (Block block : ranked) {
+            if (block.text() == null || block.text().isBlank() || !seenTexts.add(block.text())) {
+                // Overlapping section filters can offer the same paragraph twice
+                continue;
+            }
+            int headerCost = headerCost(block, chargedHeaders);
+            int cost = TokenEstimator.estimate(block.text()) + 1 + headerCost;
+
+            if (used + cost <= budgetTokens) {
+                chosen.add(block);
+                used += cost;
+                chargeHeaders(block, chargedHeaders);
+                continue;
+            }
+
+            int remaining = budgetTokens - used - headerCost - 1;
+            if (remaining >= MIN_PARTIAL_TOKENS) {
+                String prefix = TokenEstimator.truncateToTokens(block.text(), remaining - ELLIPSIS_TOKENS) + "...";
+                chosen.add(new Block(block.group(), block.heading(), prefix, block.relevance(), block.order()));
+                used += TokenEstimator.estimate(prefix) + 1 + headerCost;
+                chargeHeaders(block, chargedHeaders);
+                truncated++;
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+        String currentGroup = null;
+        String currentHeading = null;
+        for (Block block : renderOrder(chosen)) {
+            if (!Objects.equals(block.group(), currentGroup)) {
+                if (block.group() != null) {
+                    text.append(block.group());
+                }
+                currentGroup = block.group();
+                currentHeading = null;
+            }
+            if (block.heading() != null && !block.heading().equals(currentHeading)) {
+                text.append(block.heading());
+                currentHeading = block.heading();
+            }
+            text.append(block.text()).append("\n");
+        }
+
+        int kept = chosen.size() - truncated;
+        int distinct = (int) blocks.stream()
+                .map(Block::text)
+                .filter(t -> t != null && !t.isBlank())
+                .distinct()
+                .count();
+        return new Packed(text.toString(), used, kept, truncated, distinct - chosen.size());
+    }
+
+    /**
+     * Chosen blocks in original order, except that each group, and each
+     * heading within a group, forms one contiguous run starting where it first
+     * appears. A block without a heading stays under the heading before it.
+     */
+    private static List<Block> renderOrder(List<Block> chosen) {
+        List<Block> byOrder = new ArrayList<>(chosen);
+        byOrder.sort(Comparator.comparingInt(Block::order));
+
+        Map<String, Integer> firstOrder = new HashMap<>();
+        List<Placed> placed = new ArrayList<>(byOrder.size());
+        String previousGroup = null;
+        String previousHeading = null;
+        for (Block block : byOrder) {
+            String group = groupKey(block);
+            String heading =
+                    block.heading() != null ? headingKey(block) : group.equals(previousGroup) ? previousHeading : null;
+            int groupRank = firstOrder.computeIfAbsent(group, key -> block.order());
+            int headingRank =
+                    heading == null ? Integer.MIN_VALUE : firstOrder.computeIfAbsent(heading, key -> block.order());
+            placed.add(new Placed(block, groupRank, headingRank));
+            previousGroup = group;
+            previousHeading = heading;
+        }
+
+        placed.sort(Comparator.comparingInt(Placed::groupRank)
+                .thenComparingInt(Placed::headingRank)
+                .thenComparingInt(p -> p.block().order()));
+        return placed.stream().map(Placed::block).toList();
+    }
+
+    private record Placed(Block block, int groupRank, int headingRank) {}
+
+    private static int headerCost(Block block, Set<String> chargedHeaders) {
+        int cost = 0;
+        if (block.group() != null && !chargedHeaders.contains(groupKey(block))) {
+            cost += TokenEstimator.estimate(block.group());
+        }
+        if (block.heading() != null && !chargedHeaders.contains(headingKey(block))) {
+            cost += TokenEstimator.estimate(block.heading());
+        }
+        return cost;
+    }
+
+    private static void chargeHeaders(Block block, Set<String> chargedHeaders) {
+        if (block.group() != null) {
+            chargedHeaders.add(groupKey(block));
+        }
+        if (block.heading() != null) {
+            chargedHeaders.add(headingKey(block));
+        }
+    }
+
+    private static String groupKey(Block block) {
+        return "g:" + block.group();
+    }
+
+    private static String headingKey(Block block) {
+        return "h:" + Objects.toString(block.group(), "") + "\u0000" + block.heading();
+    }
+}
@@ -0,0 +1,87 @@
+package org.solace.scholar_ai.project_service.util.prompt;
+
+/**
+ * Local approximation of Gemini's tokenizer, used to size prompts before they
+ * are sent.
+ *
+ * <p>Counts one token per punctuation or symbol character, one per CJK
+ * character, and one per four characters (rounded up) of each run of letters
+ * or digits. This is close enough for budgeting; compare the
+ * {@code llm.prompt.tokens.estimated} and {@code llm.tokens} metrics to check
+ * it against the API's own counts.
+ */
+public class TokenEstimator {
+
+    private static final int CHARS_PER_WORD_TOKEN = 4;
+
+    private TokenEstimator() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Estimate the number of tokens in {@code text}
+     */
+    public static int estimate(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int tokens = 0;
+        int wordRun = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) && !isCjk(c)) {
+                wordRun++;
+                continue;
+            }
+            tokens += wordTokens(wordRun);
+            wordRun = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + wordTokens(wordRun);
+    }
+
+    /**
+     * Longest prefix of {@code text} estimated to fit in {@code maxTokens},
+     * cut back to a word boundary
+     */
+    public static String truncateToTokens(String text, int maxTokens) {
+        if (text == null || maxTokens <= 0) {
+            return "";
+        }
+        if (estimate(text) <= maxTokens) {
+            return text;
+        }
+
+        int low = 0;
+        int high = text.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (estimate(text.subSequence(0, mid)) <= maxTokens) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        int cut = low;
+        while (cut > 0 && !Character.isWhitespace(text.charAt(cut - 1))) {
+            cut--;
+        }
+        return text.substring(0, cut > 0 ? cut : low).stripTrailing();
+    }
+
+    private static int wordTokens(int runLength) {
+        return (runLength + CHARS_PER_WORD_TOKEN - 1) / CHARS_PER_WORD_TOKEN;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
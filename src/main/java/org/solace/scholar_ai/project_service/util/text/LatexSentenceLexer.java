@@ -0,0 +1,539 @@
+package org.solace.scholar_ai.project_service.util.text;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits the prose of a LaTeX document into sentences in one pass over its
+ * characters, keeping the exact source span of each.
+ *
+ * <p>Comments, inline and display math, math and verbatim environments, and
+ * the arguments of non-prose commands ({@code \label}, {@code \ref},
+ * {@code \includegraphics}, ...) are skipped; math is kept as a
+ * {@code [MATH]} or {@code [DISPLAY_MATH]} placeholder. Formatting commands
+ * such as {@code \emph} keep their text. Footnotes, {@code \thanks} and
+ * captions are sentences of their own, listed after the sentence around
+ * them. The keys of every {@code \cite}
+ * variant ({@code \citep}, {@code \citet}, {@code \parencite}, ...) go to
+ * the sentence they appear in, including a citation right after its full
+ * stop. Sentences end at {@code .}, {@code !} or {@code ?} followed by
+ * space, except after common abbreviations and initials, and at blank
+ * lines, headings, list items and environment boundaries. They may span
+ * lines. When the source has a {@code document} environment, only its body
+ * is read.
+ */
+public final class LatexSentenceLexer {
+
+    // Sentences this short are fragments: labels, stray words, list markers
+    static final int MIN_SENTENCE_LENGTH = 10;
+
+    private static final String MATH = "[MATH]";
+    private static final String DISPLAY_MATH = "[DISPLAY_MATH]";
+    private static final String BEGIN_DOCUMENT = "\\begin{document}";
+    private static final String END_DOCUMENT = "\\end{document}";
+
+    private static final Set<String> MATH_ENVIRONMENTS = Set.of(
+            "equation",
+            "equation*",
+            "align",
+            "align*",
+            "alignat",
+            "alignat*",
+            "gather",
+            "gather*",
+            "multline",
+            "multline*",
+            "flalign",
+            "flalign*",
+            "eqnarray",
+            "eqnarray*",
+            "displaymath",
+            "math");
+    private static final Set<String> SKIPPED_ENVIRONMENTS = Set.of(
+            "verbatim",
+            "verbatim*",
+            "lstlisting",
+            "minted",
+            "comment",
+            "thebibliography",
+            "tikzpicture",
+            "filecontents",
+            "filecontents*");
+    // Commands whose arguments are not prose
+    private static final Set<String> ARGUMENT_COMMANDS = Set.of(
+            "label",
+            "ref",
+            "eqref",
+            "pageref",
+            "autoref",
+            "cref",
+            "Cref",
+            "nameref",
+            "url",
+            "href",
+            "includegraphics",
+            "input",
+            "include",
+            "bibliography",
+            "bibliographystyle",
+            "addbibresource",
+            "usepackage",
+            "documentclass",
+            "newcommand",
+            "renewcommand",
+            "providecommand",
+            "vspace",
+            "hspace",
+            "setlength",
+            "setcounter",
+            "addtocounter",
+            "bibitem");
+    // Commands whose argument is prose of its own, lexed as separate sentences
+    private static final Set<String> NOTE_COMMANDS = Set.of("footnote", "footnotetext", "thanks", "caption");
+    // Commands that end the sentence in progress and whose arguments are headings
+    private static final Set<String> BREAK_COMMANDS = Set.of(
+            "part",
+            "chapter",
+            "section",
+            "subsection",
+            "subsubsection",
+            "paragraph",
+            "subparagraph",
+            "title",
+            "author",
+            "date",
+            "item",
+            "par",
+            "maketitle",
+            "tableofcontents",
+            "appendix");
+    private static final Set<String> ABBREVIATIONS = Set.of(
+            "e.g", "i.e", "al", "fig", "figs", "eq", "eqs", "vs", "cf", "sec", "secs", "no", "resp", "approx", "ref",
+            "refs", "tab", "ch", "chap", "viz", "ca", "dr", "prof", "mr", "ms");
+
+    /**
+     * A sentence with its cleaned text, source offsets ({@code endPos}
+     * exclusive) and 1-based lines
+     */
+    public record Sentence(String text, int startPos, int endPos, int lineStart, int lineEnd, Set<String> citedKeys) {}
+
+    private final String source;
+    private final int end;
+    private final List<Sentence> sentences = new ArrayList<>();
+    // Footnote and caption sentences met in the sentence in progress
+    private final List<Sentence> notes = new ArrayList<>();
+
+    // Sentence in progress
+    private final StringBuilder text = new StringBuilder();
+    private Set<String> citedKeys = new LinkedHashSet<>();
+    private int sentenceStart = -1;
+    private int sentenceEnd = -1;
+    private boolean pendingSpace;
+    private boolean pendingBreak;
+    private boolean hasWords;
+
+    // Line counting, advanced lazily as sentences are emitted in order
+    private int lineOffset;
+    private int line = 1;
+
+    private LatexSentenceLexer(String source, int end, int lineOffset, int line) {
+        this.source = source;
+        this.end = end;
+        this.lineOffset = lineOffset;
+        this.line = line;
+    }
+
+    public static List<Sentence> sentences(String latex) {
+        if (latex == null || latex.isEmpty()) {
+            return List.of();
+        }
+        int beginDocument = latex.indexOf(BEGIN_DOCUMENT);
+        int endDocument = latex.indexOf(END_DOCUMENT);
+        return new LatexSentenceLexer(latex, endDocument >= 0 ? endDocument : latex.length(), 0, 1)
+                .lex(beginDocument >= 0 ? beginDocument + BEGIN_DOCUMENT.length() : 0);
+    }
+
+    private List<Sentence> lex(int start) {
+        int i = start;
+        while (i < end) {
+            char c = source.charAt(i);
+            switch (c) {
+                case '%' -> i = skipComment(i);
+                case '\\' -> i = command(i);
+                case '$' -> i = dollarMath(i);
+                case '\n' -> i = newline(i);
+                case '{', '}', '#', '^', '_' -> i++;
+                case '~', '&', '\t', '\r', ' ' -> {
+                    space();
+                    i++;
+                }
+                default -> {
+                    character(c, i);
+                    i++;
+                }
+            }
+        }
+        endSentence();
+        return sentences;
+    }
+
+    // Sentence text
+
+    private void character(char c, int offset) {
+        if (pendingBreak) {
+            if (c == ')' || c == '"' || c == '\'' || c == '.' || c == '!' || c == '?') {
+                append(c, offset);
+                return;
+            }
+            pendingBreak = false;
+        }
+        append(c, offset);
+        if ((c == '!' || c == '?') || (c == '.' && !abbreviation())) {
+            pendingBreak = true;
+        }
+    }
+
+    private void append(char c, int offset) {
+        if (sentenceStart < 0) {
+            sentenceStart = offset;
+        } else if (pendingSpace && ".,;:!?".indexOf(c) < 0) {
+            text.append(' ');
+        }
+        text.append(c);
+        sentenceEnd = offset + 1;
+        pendingSpace = false;
+        hasWords |= Character.isLetter(c);
+    }
+
+    private void placeholder(String placeholder, int from, int to) {
+        pendingBreak = false;
+        if (sentenceStart < 0) {
+            sentenceStart = from;
+        } else {
+            text.append(' ');
+        }
+        text.append(placeholder);
+        sentenceEnd = to;
+        pendingSpace = true;
+    }
+
+    private void space() {
+        if (pendingBreak) {
+            endSentence();
+        } else if (sentenceStart >= 0) {
+            pendingSpace = true;
+        }
+    }
+
+    private void endSentence() {
+        // Display math between sentences has no words to check
+        if (hasWords && text.length() > MIN_SENTENCE_LENGTH) {
+            int lineStart = lineAt(sentenceStart);
+            int lineEnd = lineAt(sentenceEnd - 1);
+            sentences.add(new Sentence(
+                    text.toString(), sentenceStart, sentenceEnd, lineStart, lineEnd, Set.copyOf(citedKeys)));
+        }
+        sentences.addAll(notes);
+        notes.clear();
+        text.setLength(0);
+        citedKeys = new LinkedHashSet<>();
+        sentenceStart = -1;
+        sentenceEnd = -1;
+        pendingSpace = false;
+        pendingBreak = false;
+        hasWords = false;
+    }
+
+    /**
+     * Whether the word before the full stop just appended is an abbreviation
+     * or an initial, which do not end a sentence
+     */
+    private boolean abbreviation() {
+        int wordEnd = text.length() - 1;
+        int wordStart = wordEnd;
+        while (wordStart > 0 && (Character.isLetter(text.charAt(wordStart - 1)) || text.charAt(wordStart - 1) == '.')) {
+            wordStart--;
+        }
+        if (wordEnd - wordStart == 1 && Character.isLetter(text.charAt(wordStart))) {
+            return true;
+        }
+        return wordEnd > wordStart
+                && ABBREVIATIONS.contains(text.substring(wordStart, wordEnd).toLowerCase());
+    }
+
+    private int lineAt(int offset) {
+        while (lineOffset < offset) {
+            if (source.charAt(lineOffset) == '\n') {
+                line++;
+            }
+            lineOffset++;
+        }
+        return line;
+    }
+
+    // Source constructs; each returns the offset after what it consumed
+
+    private int newline(int i) {
+        int next = i + 1;
+        while (next < end
+                && (source.charAt(next) == ' ' || source.charAt(next) == '\t' || source.charAt(next) == '\r')) {
+            next++;
+        }
+        if (next < end && source.charAt(next) == '\n') {
+            endSentence();
+        } else {
+            space();
+        }
+        return next;
+    }
+
+    private int skipComment(int i) {
+        int newline = source.indexOf('\n', i);
+        return newline < 0 || newline > end ? end : newline;
+    }
+
+    private int dollarMath(int i) {
+        boolean display = i + 1 < end && source.charAt(i + 1) == '$';
+        int j = display ? i + 2 : i + 1;
+        while (j < end) {
+            char c = source.charAt(j);
+            if (c == '\\') {
+                j += 2;
+            } else if (c == '$') {
+                if (!display) {
+                    placeholder(MATH, i, j + 1);
+                    return j + 1;
+                }
+                if (j + 1 < end && source.charAt(j + 1) == '$') {
+                    placeholder(DISPLAY_MATH, i, j + 2);
+                    return j + 2;
+                }
+                j++;
+            } else {
+                j++;
+            }
+        }
+        return end;
+    }
+
+    private int command(int i) {
+        if (i + 1 >= end) {
+            return end;
+        }
+        char next = source.charAt(i + 1);
+        if (!Character.isLetter(next)) {
+            return symbolCommand(i, next);
+        }
+        int nameEnd = i + 1;
+        while (nameEnd < end && Character.isLetter(source.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        if (nameEnd < end && source.charAt(nameEnd) == '*') {
+            nameEnd++;
+        }
+        String name = source.substring(i + 1, nameEnd);
+        String baseName = name.endsWith("*") ? name.substring(0, name.length() - 1) : name;
+
+        if (isCitation(baseName)) {
+            return citation(nameEnd);
+        }
+        if (baseName.equals("begin")) {
+            return beginEnvironment(i, nameEnd);
+        }
+        if (baseName.equals("end")) {
+            endSentence();
+            return skipArguments(nameEnd);
+        }
+        if (baseName.equals("verb")) {
+            return verbatim(nameEnd);
+        }
+        if (NOTE_COMMANDS.contains(baseName)) {
+            return note(baseName.equals("caption"), nameEnd);
+        }
+        if (BREAK_COMMANDS.contains(baseName)) {
+            endSentence();
+            return skipArguments(nameEnd);
+        }
+        if (ARGUMENT_COMMANDS.contains(baseName)) {
+            space();
+            return skipArguments(nameEnd);
+        }
+        // Formatting and unknown commands: the command goes, its arguments stay as text
+        return nameEnd;
+    }
+
+    private int symbolCommand(int i, char symbol) {
+        switch (symbol) {
+            case '%', '$', '&', '#', '_', '{', '}' -> {
+                character(symbol, i + 1);
+                return i + 2;
+            }
+            case '(' -> {
+                return delimitedMath(i, "\\)", MATH);
+            }
+            case '[' -> {
+                return delimitedMath(i, "\\]", DISPLAY_MATH);
+            }
+            case '\\' -> {
+                // Forced line break, with an optional spacing argument
+                space();
+                return i + 2 < end && source.charAt(i + 2) == '[' ? skipGroup(i + 2, '[', ']') : i + 2;
+            }
+            case ' ', '\n' -> {
+                space();
+                return i + 2;
+            }
+            default -> {
+                // Accents, thin spaces, hyphenation hints
+                return i + 2;
+            }
+        }
+    }
+
+    private int delimitedMath(int i, String closing, String placeholder) {
+        int close = source.indexOf(closing, i + 2);
+        int after = close < 0 || close >= end ? end : close + closing.length();
+        placeholder(placeholder, i, after);
+        return after;
+    }
+
+    private static boolean isCitation(String name) {
+        return name.startsWith("cite") || name.endsWith("cite") || name.equals("Citet") || name.equals("Citep");
+    }
+
+    /**
+     * Collect the comma-separated keys of a citation command; optional
+     * arguments (pre- and post-notes) are skipped
+     */
+    private int citation(int i) {
+        int j = skipSpaces(i);
+        while (j < end && source.charAt(j) == '[') {
+            j = skipSpaces(skipGroup(j, '[', ']'));
+        }
+        if (j >= end || source.charAt(j) != '{') {
+            return j;
+        }
+        int close = skipGroup(j, '{', '}');
+        int keyStart = j + 1;
+        int keysEnd = Math.min(close - 1, end);
+        for (int k = keyStart; k <= keysEnd; k++) {
+            if (k == keysEnd || source.charAt(k) == ',') {
+                String key = source.substring(keyStart, k).strip();
+                if (!key.isEmpty()) {
+                    citedKeys.add(key);
+                }
+                keyStart = k + 1;
+            }
+        }
+        if (!pendingBreak) {
+            space();
+        }
+        return close;
+    }
+
+    /**
+     * Lex the mandatory argument of a footnote or caption as sentences of its
+     * own, kept until the sentence around it ends; a caption also ends that
+     * sentence
+     */
+    private int note(boolean breaks, int i) {
+        if (breaks) {
+            endSentence();
+        } else {
+            space();
+        }
+        int j = skipSpaces(i);
+        while (j < end && source.charAt(j) == '[') {
+            j = skipSpaces(skipGroup(j, '[', ']'));
+        }
+        if (j >= end || source.charAt(j) != '{') {
+            return j;
+        }
+        int close = skipGroup(j, '{', '}');
+        int bodyEnd = close > j + 1 && source.charAt(close - 1) == '}' ? close - 1 : end;
+        // Lines are counted on from where this lexer got to, which precedes the note
+        notes.addAll(new LatexSentenceLexer(source, bodyEnd, lineOffset, line).lex(j + 1));
+        return close;
+    }
+
+    private int beginEnvironment(int i, int nameEnd) {
+        int j = skipSpaces(nameEnd);
+        if (j >= end || source.charAt(j) != '{') {
+            return j;
+        }
+        int close = skipGroup(j, '{', '}');
+        String environment = source.substring(j + 1, Math.max(j + 1, close - 1)).strip();
+        if (MATH_ENVIRONMENTS.contains(environment) || SKIPPED_ENVIRONMENTS.contains(environment)) {
+            String endTag = "\\end{" + environment + "}";
+            int endAt = source.indexOf(endTag, close);
+            int after = endAt < 0 || endAt >= end ? end : endAt + endTag.length();
+            if (MATH_ENVIRONMENTS.contains(environment)) {
+                placeholder(DISPLAY_MATH, i, after);
+            } else {
+                endSentence();
+            }
+            return after;
+        }
+        endSentence();
+        return skipArguments(close);
+    }
+
+    private int verbatim(int i) {
+        if (i >= end) {
+            return end;
+        }
+        int close = source.indexOf(source.charAt(i), i + 1);
+        int after = close < 0 || close >= end ? end : close + 1;
+        space();
+        return after;
+    }
+
+    /**
+     * Skip the optional and mandatory arguments directly following a command
+     */
+    private int skipArguments(int i) {
+        int j = i;
+        while (j < end) {
+            char c = source.charAt(j);
+            if (c == '{') {
+                j = skipGroup(j, '{', '}');
+            } else if (c == '[') {
+                j = skipGroup(j, '[', ']');
+            } else {
+                return j;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Offset after the bracket closing the group opened at {@code i}, nested
+     * groups and escaped brackets included
+     */
+    private int skipGroup(int i, char open, char close) {
+        int depth = 0;
+        for (int j = i; j < end; j++) {
+            char c = source.charAt(j);
+            if (c == '\\') {
+                j++;
+            } else if (c == '%' && open == '{') {
+                j = skipComment(j);
+            } else if (c == open) {
+                depth++;
+            } else if (c == close && --depth == 0) {
+                return j + 1;
+            }
+        }
+        return end;
+    }
+
+    private int skipSpaces(int i) {
+        int j = i;
+        while (j < end && Character.isWhitespace(source.charAt(j))) {
+            j++;
+        }
+        return j;
+    }
+}
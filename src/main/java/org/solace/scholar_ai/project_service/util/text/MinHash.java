@@ -0,0 +1,140 @@
+package org.solace.scholar_ai.project_service.util.text;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures of a text's term set, for finding near-duplicate text
+ * without comparing every pair.
+ *
+ * <p>The shingles are the single terms of {@link TextTokenizer}, so the
+ * fraction of equal signature values estimates the same word-set Jaccard
+ * similarity the plagiarism check verifies with. Signatures are split into
+ * {@value #BANDS} bands of {@value #ROWS} rows for locality-sensitive hashing:
+ * two texts share at least one band key with probability
+ * {@code 1 - (1 - J^ROWS)^BANDS}, about 0.99 at J = 0.85 and 0.06 at J = 0.5.
+ *
+ * <p>Signatures are persisted with extracted paragraphs, so the hash
+ * functions are fixed by a constant seed; changing {@link #NUM_HASHES} or the
+ * seed invalidates stored signatures.
+ */
+public final class MinHash {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = 8;
+    public static final int NUM_HASHES = BANDS * ROWS;
+
+    private static final long SEED = 0x5EED_C17E_D0C5L;
+    private static final long[] MULTIPLIERS = new long[NUM_HASHES];
+    private static final long[] INCREMENTS = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {}
+
+    /**
+     * Signature of the text's term set, or {@code null} if it has no terms
+     */
+    public static int[] signature(String text) {
+        return signature(TextTokenizer.termSet(text));
+    }
+
+    public static int[] signature(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String term : terms) {
+            long base = termHash(term);
+            for (int i = 0; i < NUM_HASHES; i++) {
+                // Multiply-shift universal hashing, one function per position
+                int value = (int) ((base * MULTIPLIERS[i] + INCREMENTS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Key of one band of a signature; texts sharing any band key are candidates
+     */
+    public static long bandKey(int[] signature, int band) {
+        long key = band + 1;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x100000001B3L + signature[row];
+        }
+        return mix(key);
+    }
+
+    /**
+     * Exact Jaccard similarity of two term sets
+     */
+    public static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String term : smaller) {
+            if (larger.contains(term)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    public static byte[] encode(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /**
+     * Decode a stored signature, or {@code null} if it is missing or was
+     * computed with a different number of hashes
+     */
+    public static int[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length != NUM_HASHES * Integer.BYTES) {
+            return null;
+        }
+        int[] signature = new int[NUM_HASHES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    // FNV-1a over the UTF-8 bytes, mixed; independent of String.hashCode
+    private static long termHash(String term) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : term.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
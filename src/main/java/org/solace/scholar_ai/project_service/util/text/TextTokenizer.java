@@ -0,0 +1,56 @@
+package org.solace.scholar_ai.project_service.util.text;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased terms in one pass over its characters.
+ *
+ * <p>Terms are runs of letters and digits; anything else separates them.
+ * Terms of {@value #MIN_TERM_LENGTH} characters or fewer are dropped, which
+ * removes most stop words without a list.
+ */
+public final class TextTokenizer {
+
+    static final int MIN_TERM_LENGTH = 3;
+
+    private TextTokenizer() {}
+
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean termChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (termChar && start < 0) {
+                start = i;
+            } else if (!termChar && start >= 0) {
+                if (i - start > MIN_TERM_LENGTH) {
+                    terms.add(lowerCase(text, start, i));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * The distinct terms of {@code text}
+     */
+    public static Set<String> termSet(String text) {
+        return new HashSet<>(tokenize(text));
+    }
+
+    private static String lowerCase(String text, int start, int end) {
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            chars[i - start] = Character.toLowerCase(text.charAt(i));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,18 @@
+-- Persistent tier of the content-addressed LLM response cache
+-- V15__create_llm_response_cache.sql
+
+CREATE TABLE IF NOT EXISTS llm_response_cache (
+    cache_key VARCHAR(64) PRIMARY KEY,
+    caller VARCHAR(50) NOT NULL,
+    model VARCHAR(100) NOT NULL,
+    response_text TEXT NOT NULL,
+    finish_reason VARCHAR(50),
+    prompt_tokens INTEGER,
+    completion_tokens INTEGER,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_llm_response_cache_expires_at ON llm_response_cache(expires_at);
+
+COMMENT ON COLUMN llm_response_cache.cache_key IS 'SHA256 of model, prompt and generation parameters';
@@ -0,0 +1,13 @@
+-- Cross-node leases used to coalesce identical AI jobs (single-flight)
+-- V16__create_job_leases.sql
+
+CREATE TABLE IF NOT EXISTS job_leases (
+    lease_key VARCHAR(255) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    acquired_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_leases_expires_at ON job_leases(expires_at);
+
+COMMENT ON COLUMN job_leases.owner IS 'Node and acquisition token of the current holder; only the holder may renew or release';
@@ -0,0 +1,25 @@
+-- Durable background summary generation with per-section progress
+-- V17__create_summary_jobs.sql
+
+CREATE TABLE IF NOT EXISTS summary_jobs (
+    id UUID PRIMARY KEY,
+    paper_id UUID NOT NULL REFERENCES papers(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    refresh BOOLEAN NOT NULL DEFAULT FALSE,
+    progress_pct INTEGER NOT NULL DEFAULT 0,
+    sections JSONB NOT NULL DEFAULT '{}'::jsonb,
+    summary_id UUID,
+    error_message TEXT,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    owner VARCHAR(255),
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_jobs_paper_created ON summary_jobs(paper_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_summary_jobs_active_heartbeat ON summary_jobs(heartbeat_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+COMMENT ON COLUMN summary_jobs.owner IS 'Node and token of the runner; a job whose heartbeat expired may be claimed by another node';
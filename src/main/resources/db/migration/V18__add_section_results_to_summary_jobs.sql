@@ -0,0 +1,6 @@
+-- Persist each summary section as it completes so partial results survive failures
+-- V18__add_section_results_to_summary_jobs.sql
+
+ALTER TABLE summary_jobs ADD COLUMN IF NOT EXISTS section_results JSONB NOT NULL DEFAULT '{}'::jsonb;
+
+COMMENT ON COLUMN summary_jobs.section_results IS 'Parsed payload of each completed section, keyed by section';
@@ -0,0 +1,11 @@
+-- Track what each summary section was generated from so regeneration can skip unchanged sections
+-- V19__add_section_hashes_to_paper_summaries.sql
+
+ALTER TABLE paper_summaries ADD COLUMN IF NOT EXISTS section_input_hashes JSONB NOT NULL DEFAULT '{}'::jsonb;
+ALTER TABLE paper_summaries ADD COLUMN IF NOT EXISTS section_payloads JSONB NOT NULL DEFAULT '{}'::jsonb;
+
+ALTER TABLE summary_jobs ADD COLUMN IF NOT EXISTS regenerate_sections JSONB NOT NULL DEFAULT '[]'::jsonb;
+
+COMMENT ON COLUMN paper_summaries.section_input_hashes IS 'SHA-256 of the extraction input each section was generated from, keyed by section';
+COMMENT ON COLUMN paper_summaries.section_payloads IS 'Parsed model output of each section, reused when its input hash is unchanged';
+COMMENT ON COLUMN summary_jobs.regenerate_sections IS 'Sections to regenerate regardless of input hash; empty means changed sections only';
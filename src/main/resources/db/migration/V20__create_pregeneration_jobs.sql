@@ -0,0 +1,29 @@
+-- Durable queue for summary and abstract-analysis work started when extraction completes
+-- V20__create_pregeneration_jobs.sql
+
+CREATE TABLE IF NOT EXISTS pregeneration_jobs (
+    id UUID PRIMARY KEY,
+    paper_id UUID NOT NULL,
+    project_id UUID,
+    task VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    owner VARCHAR(255),
+    heartbeat_at TIMESTAMP WITH TIME ZONE,
+    last_error TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    completed_at TIMESTAMP WITH TIME ZONE
+);
+
+-- At most one unfinished job per paper and task; enqueue relies on this for ON CONFLICT
+CREATE UNIQUE INDEX IF NOT EXISTS uq_pregeneration_jobs_active
+    ON pregeneration_jobs (paper_id, task) WHERE status IN ('PENDING', 'RUNNING');
+
+CREATE INDEX IF NOT EXISTS idx_pregeneration_jobs_due
+    ON pregeneration_jobs (next_attempt_at) WHERE status IN ('PENDING', 'RUNNING');
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS pregenerate_summaries BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON TABLE pregeneration_jobs IS 'Work queue for LLM output generated ahead of the first reader';
+COMMENT ON COLUMN projects.pregenerate_summaries IS 'Generate summaries and abstract analyses as soon as extraction completes';
@@ -0,0 +1,34 @@
+-- Store structured summary fields as JSONB bound directly to typed records instead of JSON text
+-- V21__store_summary_fields_as_jsonb.sql
+
+-- Every one of these columns was written by Jackson, so the text is valid JSON
+ALTER TABLE paper_summaries
+    ALTER COLUMN key_contributions TYPE JSONB USING key_contributions::jsonb,
+    ALTER COLUMN main_findings TYPE JSONB USING main_findings::jsonb,
+    ALTER COLUMN limitations TYPE JSONB USING limitations::jsonb,
+    ALTER COLUMN applicability TYPE JSONB USING applicability::jsonb,
+    ALTER COLUMN research_questions TYPE JSONB USING research_questions::jsonb,
+    ALTER COLUMN datasets TYPE JSONB USING datasets::jsonb,
+    ALTER COLUMN participants TYPE JSONB USING participants::jsonb,
+    ALTER COLUMN baselines_or_controls TYPE JSONB USING baselines_or_controls::jsonb,
+    ALTER COLUMN metrics TYPE JSONB USING metrics::jsonb,
+    ALTER COLUMN statistical_analysis TYPE JSONB USING statistical_analysis::jsonb,
+    ALTER COLUMN compute_resources TYPE JSONB USING compute_resources::jsonb,
+    ALTER COLUMN implementation_details TYPE JSONB USING implementation_details::jsonb,
+    ALTER COLUMN artifacts TYPE JSONB USING artifacts::jsonb,
+    ALTER COLUMN ethics TYPE JSONB USING ethics::jsonb,
+    ALTER COLUMN bias_and_fairness TYPE JSONB USING bias_and_fairness::jsonb,
+    ALTER COLUMN risks_and_misuse TYPE JSONB USING risks_and_misuse::jsonb,
+    ALTER COLUMN positioning TYPE JSONB USING positioning::jsonb,
+    ALTER COLUMN related_works_key TYPE JSONB USING related_works_key::jsonb,
+    ALTER COLUMN evidence_anchors TYPE JSONB USING evidence_anchors::jsonb,
+    ALTER COLUMN threats_to_validity TYPE JSONB USING threats_to_validity::jsonb,
+    ALTER COLUMN domain_classification TYPE JSONB USING domain_classification::jsonb,
+    ALTER COLUMN interdisciplinary_connections TYPE JSONB USING interdisciplinary_connections::jsonb,
+    ALTER COLUMN future_work TYPE JSONB USING future_work::jsonb;
+
+-- Section payloads used to hold raw model output, which may not bind to the typed
+-- section records. Drop them: the next refresh regenerates every section once,
+-- and a resumed job regenerates the sections it had already completed.
+UPDATE paper_summaries SET section_payloads = '{}'::jsonb, section_input_hashes = '{}'::jsonb;
+UPDATE summary_jobs SET section_results = '{}'::jsonb;
@@ -0,0 +1,24 @@
+-- Bulk summarization of a project's papers under a token budget
+-- V22__create_summary_batches.sql
+
+CREATE TABLE IF NOT EXISTS summary_batches (
+    id UUID PRIMARY KEY,
+    project_id UUID,
+    status VARCHAR(20) NOT NULL,
+    parallelism INTEGER NOT NULL,
+    token_budget BIGINT,
+    tokens_reserved BIGINT NOT NULL DEFAULT 0,
+    papers JSONB NOT NULL DEFAULT '{}'::jsonb,
+    error_message TEXT,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    owner VARCHAR(255),
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_summary_batches_active_heartbeat ON summary_batches(heartbeat_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+COMMENT ON COLUMN summary_batches.papers IS 'Paper id -> state, summary job and estimated tokens, in request order';
+COMMENT ON COLUMN summary_batches.tokens_reserved IS 'Estimated tokens of the papers started so far, checked against token_budget';
@@ -0,0 +1,14 @@
+-- Track summary sections answered by the Gemini fallback so they are regenerated in the background
+-- V23__add_provisional_sections_to_paper_summaries.sql
+
+ALTER TABLE paper_summaries ADD COLUMN IF NOT EXISTS provisional_sections JSONB NOT NULL DEFAULT '[]'::jsonb;
+
+-- Fallback summaries saved before this did not record which sections fell back
+UPDATE paper_summaries
+SET provisional_sections = '["quick_take", "methods", "reproducibility", "ethics", "context_impact"]'::jsonb
+WHERE response_source = 'FALLBACK';
+
+CREATE INDEX IF NOT EXISTS idx_paper_summaries_provisional ON paper_summaries(updated_at)
+    WHERE provisional_sections <> '[]'::jsonb;
+
+COMMENT ON COLUMN paper_summaries.provisional_sections IS 'Section keys answered by the Gemini fallback, regenerated once the circuit closes';
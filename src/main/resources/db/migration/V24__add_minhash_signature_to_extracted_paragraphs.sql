@@ -0,0 +1,7 @@
+-- MinHash signature of each paragraph's terms, for LSH near-duplicate lookup in plagiarism checks
+-- V24__add_minhash_signature_to_extracted_paragraphs.sql
+
+-- 128 big-endian 32-bit values; paragraphs persisted earlier are signed when first indexed
+ALTER TABLE extracted_paragraphs ADD COLUMN IF NOT EXISTS minhash_signature BYTEA;
+
+COMMENT ON COLUMN extracted_paragraphs.minhash_signature IS 'MinHash of the paragraph term set (128 x int32), see MinHash';
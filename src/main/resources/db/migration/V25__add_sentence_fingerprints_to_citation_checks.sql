@@ -0,0 +1,12 @@
+-- Sentence fingerprints so a re-check only analyzes sentences edited since the previous check
+-- V25__add_sentence_fingerprints_to_citation_checks.sql
+
+ALTER TABLE citation_checks ADD COLUMN IF NOT EXISTS sentence_fingerprints JSONB;
+ALTER TABLE citation_checks ADD COLUMN IF NOT EXISTS analysis_context_hash VARCHAR(64);
+
+-- Set on issues raised by sentence analysis; document-level issues are recomputed on every check
+ALTER TABLE citation_issues ADD COLUMN IF NOT EXISTS sentence_fingerprint VARCHAR(16);
+
+COMMENT ON COLUMN citation_checks.sentence_fingerprints IS 'Fingerprints of the sentences analyzed by this check, see SentenceFingerprint';
+COMMENT ON COLUMN citation_checks.analysis_context_hash IS 'Hash of selected papers, their extraction versions and thresholds; results are reused only when it matches';
+COMMENT ON COLUMN citation_issues.sentence_fingerprint IS 'Fingerprint of the sentence the issue was raised for, null for document-level issues';
@@ -0,0 +1,14 @@
+-- Back off repairs of provisional summary sections that keep falling back, and give up after a cap
+-- V26__add_provisional_repair_backoff_to_paper_summaries.sql
+
+ALTER TABLE paper_summaries ADD COLUMN IF NOT EXISTS provisional_repair_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE paper_summaries ADD COLUMN IF NOT EXISTS provisional_next_attempt_at TIMESTAMP WITH TIME ZONE;
+
+-- Summaries never attempted are picked first, in save order, then the rest by due time
+DROP INDEX IF EXISTS idx_paper_summaries_provisional;
+CREATE INDEX IF NOT EXISTS idx_paper_summaries_provisional
+    ON paper_summaries(provisional_next_attempt_at NULLS FIRST, updated_at)
+    WHERE provisional_sections <> '[]'::jsonb;
+
+COMMENT ON COLUMN paper_summaries.provisional_repair_attempts IS 'Background repairs of the provisional sections that did not replace them all; reset once none is provisional';
+COMMENT ON COLUMN paper_summaries.provisional_next_attempt_at IS 'Earliest time of the next background repair, null if none was attempted yet';
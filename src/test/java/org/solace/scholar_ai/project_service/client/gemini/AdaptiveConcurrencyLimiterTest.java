@@ -0,0 +1,243 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.LlmPriority;
+import org.solace.scholar_ai.project_service.exception.LlmCapacityExceededException;
+import org.springframework.web.client.ResourceAccessException;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @AfterEach
+    void tearDown() {
+        if (limiter != null) {
+            limiter.shutdown();
+        }
+    }
+
+    @Test
+    void acquire_CapsBatchCallsAtBatchShare() {
+        // Arrange: a limit of 4 leaves 2 batch slots
+        newLimiter(config -> {});
+
+        // Act
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> batch = acquireAll(LlmCaller.SUMMARY, 3);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> interactive = limiter.acquire(LlmCaller.PAPER_CHAT);
+
+        // Assert
+        assertEquals(2, limiter.capacity(LlmPriority.BATCH));
+        assertTrue(batch.get(0).isDone());
+        assertTrue(batch.get(1).isDone());
+        assertFalse(batch.get(2).isDone());
+        assertTrue(interactive.isDone());
+        assertTrue(limiter.hasQueuedWaiters());
+    }
+
+    @Test
+    void release_AdmitsQueuedInteractiveBeforeBatch() {
+        // Arrange: fill the limit, then queue batch work ahead of an interactive call
+        newLimiter(config -> {});
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> running = acquireAll(LlmCaller.PAPER_CHAT, 4);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> batch = limiter.acquire(LlmCaller.SUMMARY);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> interactive = limiter.acquire(LlmCaller.PAPER_CHAT);
+
+        // Act
+        limiter.release(running.get(0).join(), null);
+
+        // Assert
+        assertTrue(interactive.isDone());
+        assertFalse(batch.isDone());
+        assertEquals(1.0, queued(LlmPriority.BATCH));
+        assertEquals(0.0, queued(LlmPriority.INTERACTIVE));
+    }
+
+    @Test
+    void acquire_FailsWithCapacityExceededAfterQueueDeadline() {
+        // Arrange
+        newLimiter(config -> config.getMaxQueueWait().put(LlmPriority.BATCH, Duration.ofMillis(50)));
+        acquireAll(LlmCaller.SUMMARY, 2);
+
+        // Act
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiter = limiter.acquire(LlmCaller.SUMMARY);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+
+        // Assert
+        assertInstanceOf(LlmCapacityExceededException.class, error.getCause());
+        assertFalse(limiter.hasQueuedWaiters());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("llm.limiter.rejected")
+                        .tag("priority", LlmPriority.BATCH.name())
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void acquire_CancellingWithdrawsWaiter() {
+        // Arrange
+        newLimiter(config -> {});
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> running = acquireAll(LlmCaller.SUMMARY, 2);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiter = limiter.acquire(LlmCaller.SUMMARY);
+
+        // Act
+        waiter.cancel(false);
+        limiter.release(running.get(0).join(), null);
+
+        // Assert
+        assertFalse(limiter.hasQueuedWaiters());
+        assertEquals(0.0, queued(LlmPriority.BATCH));
+        assertEquals(1.0, inFlight());
+    }
+
+    @Test
+    void release_HandsSlotBackWhenAdmittedWaiterWasCancelled() {
+        // Arrange: cancel the waiter once it has been admitted but before its
+        // future completes. Its queue wait is the first batch one recorded, so
+        // registering that timer marks the moment.
+        AtomicReference<CompletableFuture<?>> cancelOnAdmission = new AtomicReference<>();
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                CompletableFuture<?> waiter = cancelOnAdmission.get();
+                if (waiter != null
+                        && "llm.limiter.queue.wait".equals(id.getName())
+                        && LlmPriority.BATCH.name().equals(id.getTag("priority"))) {
+                    waiter.cancel(false);
+                }
+                return id;
+            }
+        });
+        newLimiter(config -> {});
+        // Interactive calls fill both batch slots
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> running = acquireAll(LlmCaller.PAPER_CHAT, 2);
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiter = limiter.acquire(LlmCaller.SUMMARY);
+        cancelOnAdmission.set(waiter);
+
+        // Act
+        limiter.release(running.get(0).join(), null);
+
+        // Assert
+        assertTrue(waiter.isCancelled());
+        assertFalse(limiter.hasQueuedWaiters());
+        assertEquals(1.0, inFlight());
+    }
+
+    @Test
+    void release_GrowsLimitAdditivelyWhileLimitIsUsed() {
+        // Arrange
+        newLimiter(config -> config.setLatencyTolerance(Double.MAX_VALUE));
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> running = acquireAll(LlmCaller.PAPER_CHAT, 4);
+
+        // Act
+        limiter.release(running.get(0).join(), null);
+
+        // Assert: one success at a limit of 4 adds a quarter slot
+        assertEquals(4.25, limit(), 1e-9);
+    }
+
+    @Test
+    void release_BacksOffMultiplicativelyOnOverloadDownToMinimum() {
+        // Arrange
+        newLimiter(config -> {});
+
+        // Act & Assert
+        limiter.release(limiter.acquire(LlmCaller.PAPER_CHAT).join(), new ResourceAccessException("Read timed out"));
+        assertEquals(2.0, limit(), 1e-9);
+        assertEquals(1, limiter.capacity(LlmPriority.BATCH));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("llm.limiter.overload")
+                        .tag("caller", LlmCaller.PAPER_CHAT.name())
+                        .counter()
+                        .count());
+
+        limiter.release(limiter.acquire(LlmCaller.PAPER_CHAT).join(), new ResourceAccessException("Read timed out"));
+        limiter.release(limiter.acquire(LlmCaller.PAPER_CHAT).join(), new ResourceAccessException("Read timed out"));
+        assertEquals(1.0, limit(), 1e-9);
+    }
+
+    @Test
+    void release_IgnoresErrorsThatAreNotOverload() {
+        // Arrange
+        newLimiter(config -> {});
+
+        // Act
+        limiter.release(limiter.acquire(LlmCaller.PAPER_CHAT).join(), new IllegalStateException("bad response"));
+
+        // Assert
+        assertEquals(4.0, limit(), 1e-9);
+    }
+
+    @Test
+    void release_ShrinksLimitGentlyWhenCallIsMuchSlowerThanBaseline() throws Exception {
+        // Arrange: a fast call sets the caller's latency baseline
+        newLimiter(config -> {});
+        limiter.release(limiter.acquire(LlmCaller.PAPER_CHAT).join(), null);
+        AdaptiveConcurrencyLimiter.Permit slow =
+                limiter.acquire(LlmCaller.PAPER_CHAT).join();
+        Thread.sleep(50);
+
+        // Act
+        limiter.release(slow, null);
+
+        // Assert
+        assertEquals(3.6, limit(), 1e-9);
+        assertEquals(3, limiter.capacity(LlmPriority.INTERACTIVE));
+    }
+
+    /**
+     * Limit of 4, half of it for batch work, halving on overload
+     */
+    private void newLimiter(Consumer<GeminiConfig.Limiter> customizer) {
+        GeminiConfig config = new GeminiConfig();
+        config.getLimiter().setInitialLimit(4);
+        config.getLimiter().setBatchShare(0.5);
+        config.getLimiter().setBackoffRatio(0.5);
+        customizer.accept(config.getLimiter());
+        limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+    }
+
+    private List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> acquireAll(LlmCaller caller, int count) {
+        List<CompletableFuture<AdaptiveConcurrencyLimiter.Permit>> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire(caller));
+        }
+        return permits;
+    }
+
+    private double limit() {
+        return meterRegistry.get("llm.limiter.limit").gauge().value();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("llm.limiter.inflight").gauge().value();
+    }
+
+    private double queued(LlmPriority priority) {
+        return meterRegistry
+                .get("llm.limiter.queued")
+                .tag("priority", priority.name())
+                .gauge()
+                .value();
+    }
+}
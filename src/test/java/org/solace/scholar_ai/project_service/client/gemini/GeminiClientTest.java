@@ -0,0 +1,143 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.support.gemini.FakeGeminiServer;
+import org.solace.scholar_ai.project_service.support.gemini.FakeGeminiServer.PromptType;
+import org.springframework.web.client.HttpClientErrorException;
+
+class GeminiClientTest {
+
+    private FakeGeminiServer server;
+    private HttpClient httpClient;
+    private SimpleMeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    @Test
+    void generate_ReturnsCannedResponseForPromptType() {
+        // Arrange
+        server = FakeGeminiServer.builder().start();
+        GeminiClient client = clientFor(server);
+
+        // Act
+        GeminiResponse response = client.generate(GeminiRequest.builder()
+                .caller(LlmCaller.SUMMARY)
+                .prompt("Generate a JSON object with the following structure: {\"one_liner\": \"...\"}")
+                .build());
+
+        // Assert
+        assertTrue(response.text().contains("\"one_liner\""));
+        assertEquals("STOP", response.finishReason());
+        assertNotNull(response.promptTokens());
+        assertEquals(1, server.requestCount(PromptType.QUICK_TAKE));
+    }
+
+    @Test
+    void generate_RecordsCallMetricsTaggedByFeature() {
+        // Arrange
+        server = FakeGeminiServer.builder().start();
+        GeminiClient client = clientFor(server);
+
+        // Act
+        client.generate(GeminiRequest.builder()
+                .caller(LlmCaller.SUMMARY)
+                .operation("quick_take")
+                .prompt("Generate a JSON object with the following structure: {\"one_liner\": \"...\"}")
+                .build());
+
+        // Assert
+        Timer calls = meterRegistry
+                .find("llm.calls")
+                .tags("caller", "SUMMARY", "operation", "quick_take", "outcome", "success")
+                .timer();
+        assertNotNull(calls);
+        assertEquals(1, calls.count());
+        assertTrue(meterRegistry
+                        .get("llm.response.bytes")
+                        .tag("operation", "quick_take")
+                        .summary()
+                        .totalAmount()
+                > 0);
+        assertNotNull(meterRegistry
+                .find("llm.tokens")
+                .tags("caller", "SUMMARY", "type", "completion")
+                .summary());
+    }
+
+    @Test
+    void streamAsync_DeliversAnswerInChunks() {
+        // Arrange
+        server = FakeGeminiServer.builder().start();
+        GeminiClient client = clientFor(server);
+        List<String> tokens = new CopyOnWriteArrayList<>();
+
+        // Act
+        GeminiResponse response = client.streamAsync(
+                        GeminiRequest.builder()
+                                .caller(LlmCaller.PAPER_CHAT)
+                                .prompt("What is the main contribution of this paper?")
+                                .build(),
+                        tokens::add)
+                .join();
+
+        // Assert
+        assertTrue(tokens.size() > 1);
+        assertEquals(response.text(), String.join("", tokens));
+        assertEquals("STOP", response.finishReason());
+        assertEquals(1, server.requestCount(PromptType.CHAT));
+    }
+
+    @Test
+    void generate_WhenThrottled_ThrowsTooManyRequests() {
+        // Arrange
+        server = FakeGeminiServer.builder().throttleRate(1.0).start();
+        GeminiClient client = clientFor(server);
+
+        // Act & Assert
+        assertThrows(
+                HttpClientErrorException.TooManyRequests.class,
+                () -> client.generate(GeminiRequest.builder()
+                        .caller(LlmCaller.CITATION_VERIFY)
+                        .prompt("You are a scientific fact-checker.")
+                        .build()));
+        assertEquals(1, server.throttledCount());
+    }
+
+    private GeminiClient clientFor(FakeGeminiServer server) {
+        GeminiConfig config = new GeminiConfig();
+        config.setApiKey("test-key");
+        config.setApiUrl(server.apiUrl());
+
+        meterRegistry = new SimpleMeterRegistry();
+        GeminiResponseCache responseCache = mock(GeminiResponseCache.class);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+        RequestHedger hedger = new RequestHedger(config, limiter, meterRegistry);
+        LlmMetrics llmMetrics =
+                new LlmMetrics(meterRegistry, CircuitBreakerRegistry.ofDefaults(), RetryRegistry.ofDefaults());
+        httpClient = HttpClient.newHttpClient();
+
+        return new GeminiClient(httpClient, config, new ObjectMapper(), responseCache, limiter, hedger, llmMetrics);
+    }
+}
@@ -0,0 +1,174 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.model.llm.LlmResponseCacheEntry;
+import org.solace.scholar_ai.project_service.repository.llm.LlmResponseCacheRepository;
+
+class GeminiResponseCacheTest {
+
+    private static final String MODEL_URL =
+            "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash-lite:generateContent";
+    private static final String KEY = "cache-key";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GeminiConfig config;
+    private LlmResponseCacheRepository repository;
+    private GeminiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new GeminiConfig();
+        config.setApiUrl(MODEL_URL);
+        config.getCache().getTtl().put(LlmCaller.SUMMARY, Duration.ofHours(1));
+        repository = mock(LlmResponseCacheRepository.class);
+        cache = new GeminiResponseCache(config, repository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void store_PersistsCompletedResponseWithCallerTtl() {
+        // Arrange
+        Instant before = Instant.now();
+
+        // Act
+        cache.store(LlmCaller.SUMMARY, KEY, response("STOP", "summary"));
+
+        // Assert
+        ArgumentCaptor<LlmResponseCacheEntry> entry = ArgumentCaptor.forClass(LlmResponseCacheEntry.class);
+        verify(repository, timeout(5000)).upsert(entry.capture());
+        assertEquals(KEY, entry.getValue().getCacheKey());
+        assertEquals("gemini-2.0-flash-lite", entry.getValue().getModel());
+        assertEquals("summary", entry.getValue().getResponseText());
+        assertFalse(entry.getValue().getExpiresAt().isBefore(before.plus(Duration.ofHours(1))));
+    }
+
+    @Test
+    void store_SkipsTruncatedAndEmptyResponses() throws Exception {
+        // Act
+        cache.store(LlmCaller.SUMMARY, KEY, response("MAX_TOKENS", "cut off"));
+        cache.store(LlmCaller.SUMMARY, "other-key", response("STOP", null));
+
+        // Assert
+        assertTrue(lookup(LlmCaller.SUMMARY, KEY).isEmpty());
+        assertTrue(lookup(LlmCaller.SUMMARY, "other-key").isEmpty());
+        verify(repository, never()).upsert(any());
+        assertEquals(2.0, lookups(LlmCaller.SUMMARY, "miss"));
+    }
+
+    @Test
+    void store_SkipsCallersWithoutTtl() throws Exception {
+        // Act
+        cache.store(LlmCaller.PAPER_CHAT, KEY, response("STOP", "answer"));
+
+        // Assert
+        assertFalse(cache.isEnabledFor(LlmCaller.PAPER_CHAT));
+        assertTrue(lookup(LlmCaller.PAPER_CHAT, KEY).isEmpty());
+        verify(repository, never()).upsert(any());
+    }
+
+    @Test
+    void lookup_MemoryHitSkipsRepository() throws Exception {
+        // Arrange
+        GeminiResponse stored = response("STOP", "summary");
+        cache.store(LlmCaller.SUMMARY, KEY, stored);
+
+        // Act
+        Optional<GeminiResponse> hit = lookup(LlmCaller.SUMMARY, KEY);
+
+        // Assert
+        assertEquals(Optional.of(stored), hit);
+        verify(repository, never()).findLive(any(), any());
+        assertEquals(1.0, lookups(LlmCaller.SUMMARY, "memory"));
+    }
+
+    @Test
+    void lookup_DatabaseHitRepopulatesMemoryWithStoredExpiry() throws Exception {
+        // Arrange: the stored entry expires long before the caller's one-hour TTL
+        when(repository.findLive(eq(KEY), any()))
+                .thenReturn(Optional.of(LlmResponseCacheEntry.builder()
+                        .cacheKey(KEY)
+                        .caller(LlmCaller.SUMMARY)
+                        .responseText("summary")
+                        .finishReason("STOP")
+                        .expiresAt(Instant.now().plusMillis(300))
+                        .build()));
+
+        // Act
+        Optional<GeminiResponse> fromDatabase = lookup(LlmCaller.SUMMARY, KEY);
+        Optional<GeminiResponse> fromMemory = lookup(LlmCaller.SUMMARY, KEY);
+        Thread.sleep(500);
+        lookup(LlmCaller.SUMMARY, KEY);
+
+        // Assert
+        assertEquals("summary", fromDatabase.orElseThrow().text());
+        assertEquals(fromDatabase, fromMemory);
+        assertEquals(2.0, lookups(LlmCaller.SUMMARY, "database"));
+        assertEquals(1.0, lookups(LlmCaller.SUMMARY, "memory"));
+        verify(repository, times(2)).findLive(eq(KEY), any());
+    }
+
+    @Test
+    void lookup_RepositoryFailureIsAMiss() throws Exception {
+        // Arrange
+        when(repository.findLive(eq(KEY), any())).thenThrow(new IllegalStateException("connection refused"));
+
+        // Act
+        Optional<GeminiResponse> result = lookup(LlmCaller.SUMMARY, KEY);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1.0, lookups(LlmCaller.SUMMARY, "miss"));
+    }
+
+    @Test
+    void keyFor_ChangesWithModelAndRequestBody() {
+        // Arrange
+        byte[] body = "{\"contents\":[]}".getBytes(StandardCharsets.UTF_8);
+        String key = cache.keyFor(body);
+
+        // Act
+        String sameKey = cache.keyFor(body.clone());
+        String otherBodyKey = cache.keyFor("{\"contents\":[1]}".getBytes(StandardCharsets.UTF_8));
+        config.setApiUrl(MODEL_URL.replace("gemini-2.0-flash-lite", "gemini-2.5-pro"));
+        String otherModelKey = cache.keyFor(body);
+
+        // Assert
+        assertEquals(key, sameKey);
+        assertNotEquals(key, otherBodyKey);
+        assertNotEquals(key, otherModelKey);
+    }
+
+    private Optional<GeminiResponse> lookup(LlmCaller caller, String key) throws Exception {
+        return cache.lookup(caller, key).get(5, TimeUnit.SECONDS);
+    }
+
+    private double lookups(LlmCaller caller, String result) {
+        return meterRegistry
+                .counter("llm.cache.lookups", "caller", caller.name(), "result", result)
+                .count();
+    }
+
+    private static GeminiResponse response(String finishReason, String text) {
+        return new GeminiResponse(text, finishReason, 12, 34, Duration.ofMillis(40));
+    }
+}
@@ -0,0 +1,89 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+
+class LlmMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LlmMetrics llmMetrics;
+    private Retry retry;
+
+    @BeforeEach
+    void setUp() {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .build());
+        llmMetrics = new LlmMetrics(meterRegistry, CircuitBreakerRegistry.ofDefaults(), retryRegistry);
+        retry = retryRegistry.retry("gemini-api");
+    }
+
+    @Test
+    void retry_IsAttributedToTheFailedAttemptAfterItEnded() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        String result = retry.executeSupplier(() -> attempt(LlmCaller.SUMMARY, calls.getAndIncrement() == 0));
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(1.0, retries(LlmCaller.SUMMARY.name(), "quick_take"));
+    }
+
+    @Test
+    void retry_OfAnUntrackedAttemptIsUnknown() {
+        // Arrange: a tracked attempt that succeeded, then a failure nobody tracked
+        attempt(LlmCaller.PAPER_CHAT, false);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        retry.executeSupplier(() -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("boom");
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertEquals(1.0, retries("unknown", LlmMetrics.NO_OPERATION));
+    }
+
+    /**
+     * One attempt bracketed the way {@code GeminiService.generate} does it
+     */
+    private String attempt(LlmCaller caller, boolean fail) {
+        RuntimeException failure = null;
+        try {
+            if (fail) {
+                throw new IllegalStateException("boom");
+            }
+            return "ok";
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            llmMetrics.endAttempt(caller, "quick_take", failure);
+        }
+    }
+
+    private double retries(String caller, String operation) {
+        return meterRegistry
+                .get("llm.retries")
+                .tag("caller", caller)
+                .tag("operation", operation)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,224 @@
+package org.solace.scholar_ai.project_service.client.gemini;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+
+class RequestHedgerTest {
+
+    private static final LlmCaller CALLER = LlmCaller.PAPER_CHAT;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<CompletableFuture<GeminiResponse>> attempts = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> attemptTokens = new CopyOnWriteArrayList<>();
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private GeminiConfig config;
+    private RequestHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        concurrencyLimiter = mock(AdaptiveConcurrencyLimiter.class);
+        config = new GeminiConfig();
+        config.getHedging().setCallers(EnumSet.of(CALLER));
+        config.getHedging().setMinSamples(1);
+        config.getHedging().setMinDelay(Duration.ofMillis(20));
+        config.getHedging().setWindow(8);
+        config.getHedging().setMaxHedgeRatio(0.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hedger != null) {
+            hedger.shutdown();
+        }
+    }
+
+    @Test
+    void generate_CancelsSlowPrimaryWhenBackupWins() throws Exception {
+        // Arrange
+        newHedger();
+        warmUp();
+        GeminiResponse backupResponse = response("backup");
+
+        // Act
+        CompletableFuture<GeminiResponse> result = hedger.generate(CALLER, this::admittedAttempt);
+        awaitAttempts(2);
+        attempts.get(1).complete(backupResponse);
+
+        // Assert
+        assertSame(backupResponse, result.get(5, TimeUnit.SECONDS));
+        assertTrue(attempts.get(0).isCancelled());
+        assertEquals(1.0, count("llm.hedge.fired"));
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("llm.hedge.wins")
+                        .tag("caller", CALLER.name())
+                        .tag("winner", "backup")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void generate_ThrottlesBackupOnceBudgetIsSpent() throws Exception {
+        // Arrange: no refill, so the initial budget pays for exactly one backup
+        newHedger();
+        warmUp();
+        CompletableFuture<GeminiResponse> first = hedger.generate(CALLER, this::admittedAttempt);
+        awaitAttempts(2);
+        attempts.get(0).complete(response("primary"));
+        first.get(5, TimeUnit.SECONDS);
+        attempts.clear();
+
+        // Act
+        CompletableFuture<GeminiResponse> second = hedger.generate(CALLER, this::admittedAttempt);
+        await(() -> count("llm.hedge.throttled") == 1.0);
+
+        // Assert
+        assertEquals(1, attempts.size());
+        assertEquals(1.0, count("llm.hedge.fired"));
+        assertFalse(second.isDone());
+    }
+
+    @Test
+    void generate_ThrottlesBackupWhileLimiterIsQueueing() {
+        // Arrange
+        newHedger();
+        warmUp();
+        when(concurrencyLimiter.hasQueuedWaiters()).thenReturn(true);
+
+        // Act
+        CompletableFuture<GeminiResponse> result = hedger.generate(CALLER, this::admittedAttempt);
+        await(() -> count("llm.hedge.throttled") == 1.0);
+
+        // Assert
+        assertEquals(1, attempts.size());
+        assertEquals(0.0, count("llm.hedge.fired"));
+        assertFalse(result.isDone());
+    }
+
+    @Test
+    void generate_StartsHedgeClockOnlyOnceAdmitted() throws Exception {
+        // Arrange
+        newHedger();
+        warmUp();
+        List<Runnable> admissions = new ArrayList<>();
+
+        // Act: the primary queues in the limiter for far longer than the hedge delay
+        hedger.generate(CALLER, onAdmitted -> {
+            admissions.add(onAdmitted);
+            return newAttempt(null);
+        });
+        Thread.sleep(200);
+        int attemptsWhileQueued = attempts.size();
+        admissions.get(0).run();
+        awaitAttempts(2);
+
+        // Assert
+        assertEquals(1, attemptsWhileQueued);
+        assertEquals(1.0, count("llm.hedge.fired"));
+    }
+
+    @Test
+    void stream_DeliversOnlyTheFirstTokenWinnersTokens() throws Exception {
+        // Arrange
+        newHedger();
+        warmUpStream();
+        List<String> received = new CopyOnWriteArrayList<>();
+        GeminiResponse backupResponse = response("backup");
+
+        // Act
+        CompletableFuture<GeminiResponse> result = hedger.stream(
+                CALLER,
+                (tokens, onAdmitted) -> {
+                    onAdmitted.run();
+                    return newAttempt(tokens);
+                },
+                received::add);
+        awaitAttempts(2);
+        attemptTokens.get(1).accept("backup token");
+        attemptTokens.get(0).accept("primary token");
+        attempts.get(1).complete(backupResponse);
+
+        // Assert
+        assertSame(backupResponse, result.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("backup token"), received);
+        assertTrue(attempts.get(0).isCancelled());
+    }
+
+    private void newHedger() {
+        hedger = new RequestHedger(config, concurrencyLimiter, meterRegistry);
+    }
+
+    /**
+     * One fast call, enough for the hedge delay to fall back to the minimum
+     */
+    private void warmUp() {
+        hedger.generate(CALLER, onAdmitted -> {
+                    onAdmitted.run();
+                    return CompletableFuture.completedFuture(response("warm-up"));
+                })
+                .join();
+    }
+
+    private void warmUpStream() {
+        hedger.stream(
+                        CALLER,
+                        (tokens, onAdmitted) -> {
+                            onAdmitted.run();
+                            tokens.accept("warm-up");
+                            return CompletableFuture.completedFuture(response("warm-up"));
+                        },
+                        token -> {})
+                .join();
+    }
+
+    private CompletableFuture<GeminiResponse> admittedAttempt(Runnable onAdmitted) {
+        onAdmitted.run();
+        return newAttempt(null);
+    }
+
+    private CompletableFuture<GeminiResponse> newAttempt(Consumer<String> tokens) {
+        CompletableFuture<GeminiResponse> attempt = new CompletableFuture<>();
+        attemptTokens.add(tokens == null ? token -> {} : tokens);
+        attempts.add(attempt);
+        return attempt;
+    }
+
+    private void awaitAttempts(int expected) {
+        await(() -> attempts.size() >= expected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "caller", CALLER.name()).count();
+    }
+
+    private static GeminiResponse response(String text) {
+        return new GeminiResponse(text, "STOP", 10, 5, Duration.ofMillis(5));
+    }
+}
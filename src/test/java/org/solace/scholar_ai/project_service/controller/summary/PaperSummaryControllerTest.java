@@ -1,21 +1,37 @@
 package org.solace.scholar_ai.project_service.controller.summary;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryDto;
+import org.solace.scholar_ai.project_service.dto.summary.PaperSummaryResponseDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
 import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
 import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.service.summary.SummaryJobService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class PaperSummaryControllerTest {
@@ -23,6 +39,12 @@ class PaperSummaryControllerTest {
     @Mock
     private PaperRepository paperRepository;
 
+    @Mock
+    private PaperSummaryRepository summaryRepository;
+
+    @Mock
+    private SummaryJobService summaryJobService;
+
     @InjectMocks
     private PaperSummaryController controller;
 
@@ -100,4 +122,187 @@ class PaperSummaryControllerTest {
         assertNull(status.get("summarizationStartedAt"));
         assertNull(status.get("summarizationCompletedAt"));
     }
+
+    @Test
+    void generateSummary_WhenNoSummary_ReturnsAcceptedWithJob() {
+        // Arrange
+        UUID paperId = UUID.randomUUID();
+        SummaryJob job = SummaryJob.builder()
+                .id(UUID.randomUUID())
+                .paperId(paperId)
+                .status(SummaryJob.Status.QUEUED)
+                .build();
+
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.empty());
+        when(summaryJobService.submit(paperId, false)).thenReturn(job);
+
+        // Act
+        ResponseEntity<?> response = controller.generateSummary(paperId);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getHeaders().getLocation());
+        SummaryJobDto body = assertInstanceOf(SummaryJobDto.class, response.getBody());
+        assertEquals(job.getId(), body.getJobId());
+        assertEquals("QUEUED", body.getStatus());
+    }
+
+    @Test
+    void getSummarizationStatus_WhenJobRunning_ReportsJobProgress() {
+        // Arrange
+        UUID paperId = UUID.randomUUID();
+        Paper paper = Paper.builder()
+                .id(paperId)
+                .isSummarized(false)
+                .summarizationStatus("PENDING")
+                .build();
+        SummaryJob job = SummaryJob.builder()
+                .id(UUID.randomUUID())
+                .paperId(paperId)
+                .status(SummaryJob.Status.RUNNING)
+                .progressPct(41)
+                .build();
+        job.getSections().put("quick_take", "COMPLETED");
+
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(paper));
+        when(summaryJobService.findLatestJob(paperId)).thenReturn(Optional.of(job));
+
+        // Act
+        ResponseEntity<Map<String, Object>> response = controller.getSummarizationStatus(paperId);
+
+        // Assert
+        Map<String, Object> status = response.getBody();
+        assertNotNull(status);
+        assertEquals("PROCESSING", status.get("summarizationStatus"));
+        assertEquals(job.getId(), status.get("jobId"));
+        assertEquals(41, status.get("progressPct"));
+        assertEquals(Map.of("quick_take", "COMPLETED"), status.get("sections"));
+    }
+
+    @Test
+    void streamSummary_WhenNoSummary_SubscribesToNewJob() {
+        // Arrange
+        UUID paperId = UUID.randomUUID();
+        SummaryJob job = SummaryJob.builder()
+                .id(UUID.randomUUID())
+                .paperId(paperId)
+                .status(SummaryJob.Status.RUNNING)
+                .build();
+
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.empty());
+        when(summaryJobService.submit(paperId, false)).thenReturn(job);
+        when(summaryJobService.findJob(job.getId())).thenReturn(Optional.of(job));
+
+        // Act
+        SseEmitter emitter = controller.streamSummary(paperId, new MockHttpServletResponse());
+
+        // Assert
+        assertNotNull(emitter);
+        verify(summaryJobService).subscribe(eq(job.getId()), any(SummaryJobService.SummaryJobListener.class));
+    }
+
+    @Test
+    void regenerateSection_WhenSectionUnknown_ReturnsBadRequest() {
+        // Arrange
+        UUID paperId = UUID.randomUUID();
+
+        // Act
+        ResponseEntity<?> response = controller.regenerateSection(paperId, "abstract");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(summaryJobService);
+    }
+
+    @Test
+    void getSummary_SerializesEveryFieldEvenWhenEmpty() throws Exception {
+        // Arrange
+        UUID paperId = UUID.randomUUID();
+        PaperSummary summary = PaperSummary.builder()
+                .id(UUID.randomUUID())
+                .paper(Paper.builder().id(paperId).build())
+                .limitations(List.of())
+                .artifacts(PaperSummaryDto.ArtifactInfo.builder()
+                        .dataUrl("https://example.org/data")
+                        .build())
+                .build();
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.of(summary));
+
+        // Act
+        ResponseEntity<PaperSummaryResponseDto> response = controller.getSummary(paperId);
+        JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(response.getBody());
+
+        // Assert
+        assertEquals(
+                Set.of(
+                        "id",
+                        "paperId",
+                        "oneLiner",
+                        "keyContributions",
+                        "methodOverview",
+                        "mainFindings",
+                        "limitations",
+                        "applicability",
+                        "studyType",
+                        "researchQuestions",
+                        "datasets",
+                        "participants",
+                        "procedureOrPipeline",
+                        "baselinesOrControls",
+                        "metrics",
+                        "statisticalAnalysis",
+                        "computeResources",
+                        "implementationDetails",
+                        "artifacts",
+                        "reproducibilityNotes",
+                        "reproScore",
+                        "ethics",
+                        "biasAndFairness",
+                        "risksAndMisuse",
+                        "dataRights",
+                        "noveltyType",
+                        "positioning",
+                        "relatedWorksKey",
+                        "impactNotes",
+                        "confidence",
+                        "evidenceAnchors",
+                        "threatsToValidity",
+                        "domainClassification",
+                        "technicalDepth",
+                        "interdisciplinaryConnections",
+                        "futureWork",
+                        "modelVersion",
+                        "responseSource",
+                        "fallbackReason",
+                        "provisionalSections",
+                        "generationTimestamp",
+                        "generationTimeSeconds",
+                        "promptTokens",
+                        "completionTokens",
+                        "extractionCoverageUsed",
+                        "validationStatus",
+                        "validationNotes",
+                        "createdAt",
+                        "updatedAt"),
+                fieldNames(json));
+        assertTrue(json.get("limitations").isArray());
+        assertTrue(json.get("limitations").isEmpty());
+        assertEquals(
+                Set.of(
+                        "codeUrl",
+                        "dataUrl",
+                        "modelUrl",
+                        "dockerImage",
+                        "configFiles",
+                        "demoUrl",
+                        "supplementaryMaterial"),
+                fieldNames(json.get("artifacts")));
+        assertTrue(json.get("artifacts").get("codeUrl").isNull());
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
 }
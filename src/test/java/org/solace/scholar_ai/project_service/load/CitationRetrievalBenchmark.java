@@ -0,0 +1,263 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.service.citation.index.Bm25Index;
+import org.solace.scholar_ai.project_service.service.citation.index.CitationCorpusIndexer;
+import org.solace.scholar_ai.project_service.service.citation.index.PaperTermIndex;
+
+/**
+ * Compares BM25 retrieval over {@link PaperTermIndex} segments with the
+ * pairwise word-overlap scan it replaced in citation checks: a 300-sentence
+ * document against 20 selected papers of 150 paragraphs each.
+ *
+ * <p>The corpus is synthetic, drawn from a Zipf-distributed vocabulary with a
+ * fixed seed; a third of the sentences paraphrase a paragraph, and recall is
+ * how often that paragraph is among the five candidates. No Spring context
+ * is needed. Part of the load suite; run it with
+ * {@code mvn test -Pload-test -Dtest=CitationRetrievalBenchmark}. Results are
+ * logged and written to {@code target/citation-retrieval-benchmark.txt}.
+ */
+@Slf4j
+@Tag("load")
+class CitationRetrievalBenchmark {
+
+    private static final int PAPERS = 20;
+    private static final int PARAGRAPHS_PER_PAPER = 150;
+    private static final int SENTENCES = 300;
+    private static final int VOCABULARY = 5_000;
+    private static final int ROUNDS = Integer.getInteger("load.iterations", 3);
+    private static final int TOP_K = 5;
+
+    private final Random random = new Random(42);
+    private final String[] words = vocabulary();
+    private final double[] zipf = zipfCumulative();
+
+    @Test
+    void bm25RetrievalIsFasterThanPairwiseScan() {
+        Map<String, List<ExtractedParagraph>> corpus = corpus();
+        List<String> sentences = new ArrayList<>();
+        Map<Integer, ExtractedParagraph> sources = new LinkedHashMap<>();
+        List<ExtractedParagraph> all =
+                corpus.values().stream().flatMap(List::stream).toList();
+        for (int i = 0; i < SENTENCES; i++) {
+            if (i % 3 == 0) {
+                ExtractedParagraph source = all.get(random.nextInt(all.size()));
+                sources.put(i, source);
+                sentences.add(paraphrase(source.getText()));
+            } else {
+                sentences.add(text(25));
+            }
+        }
+
+        // Warm both paths before timing either
+        pairwiseScan(sentences.subList(0, 20), corpus);
+        bm25(sentences, corpus);
+
+        long scanNanos = 0;
+        List<List<ExtractedParagraph>> scanResults = null;
+        long indexNanos = 0;
+        long searchNanos = 0;
+        List<List<ExtractedParagraph>> bm25Results = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            scanResults = pairwiseScan(sentences, corpus);
+            scanNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Bm25Index index = index(corpus);
+            indexNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            bm25Results = search(index, sentences);
+            searchNanos += System.nanoTime() - start;
+        }
+
+        String report = String.format(
+                "%d sentences x %d papers x %d paragraphs, mean of %d rounds%n"
+                        + "%-22s %12s %10s%n%-22s %12.1f %10.2f%n%-22s %12.1f%n%-22s %12.1f %10.2f%n",
+                SENTENCES,
+                PAPERS,
+                PARAGRAPHS_PER_PAPER,
+                ROUNDS,
+                "path",
+                "mean ms",
+                "recall",
+                "pairwise word overlap",
+                scanNanos / 1e6 / ROUNDS,
+                recall(scanResults, sources),
+                "bm25 index build",
+                indexNanos / 1e6 / ROUNDS,
+                "bm25 search",
+                searchNanos / 1e6 / ROUNDS,
+                recall(bm25Results, sources));
+        log.info("Citation retrieval benchmark:\n{}", report);
+        try {
+            Files.writeString(Path.of("target", "citation-retrieval-benchmark.txt"), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // The index is cached per paper, so searches are what a repeat check pays
+        assertTrue(searchNanos * 10 < scanNanos);
+        assertTrue(recall(bm25Results, sources) >= recall(scanResults, sources));
+    }
+
+    // What CitationAnalysisService.performLocalVerification did before
+
+    private static List<List<ExtractedParagraph>> pairwiseScan(
+            List<String> sentences, Map<String, List<ExtractedParagraph>> corpus) {
+        List<List<ExtractedParagraph>> results = new ArrayList<>();
+        for (String sentence : sentences) {
+            List<Map.Entry<ExtractedParagraph, Double>> candidates = new ArrayList<>();
+            for (List<ExtractedParagraph> paragraphs : corpus.values()) {
+                for (ExtractedParagraph paragraph : paragraphs) {
+                    if (paragraph.getText() != null && paragraph.getText().length() > 50) {
+                        double similarity = wordOverlap(sentence, paragraph.getText());
+                        if (similarity > 0.3) {
+                            candidates.add(Map.entry(paragraph, similarity));
+                        }
+                    }
+                }
+            }
+            candidates.sort((a, b) -> Double.compare(b.getValue(), a.getValue()));
+            results.add(candidates.stream().limit(TOP_K).map(Map.Entry::getKey).toList());
+        }
+        return results;
+    }
+
+    private static double wordOverlap(String text1, String text2) {
+        Set<String> words1 = Arrays.stream(text1.toLowerCase().split("\\W+"))
+                .filter(w -> w.length() > 3)
+                .collect(Collectors.toSet());
+        Set<String> words2 = Arrays.stream(text2.toLowerCase().split("\\W+"))
+                .filter(w -> w.length() > 3)
+                .collect(Collectors.toSet());
+        Set<String> intersection = new HashSet<>(words1);
+        intersection.retainAll(words2);
+        Set<String> union = new HashSet<>(words1);
+        union.addAll(words2);
+        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+    }
+
+    private static List<List<ExtractedParagraph>> bm25(
+            List<String> sentences, Map<String, List<ExtractedParagraph>> corpus) {
+        return search(index(corpus), sentences);
+    }
+
+    private static Bm25Index index(Map<String, List<ExtractedParagraph>> corpus) {
+        List<PaperTermIndex> papers = new ArrayList<>();
+        corpus.forEach((paperId, paragraphs) ->
+                papers.add(PaperTermIndex.build(paperId, paragraphs, CitationCorpusIndexer.MIN_PARAGRAPH_LENGTH)));
+        return Bm25Index.of(papers);
+    }
+
+    private static List<List<ExtractedParagraph>> search(Bm25Index index, List<String> sentences) {
+        List<List<ExtractedParagraph>> results = new ArrayList<>();
+        for (String sentence : sentences) {
+            results.add(index.search(sentence, TOP_K, 0.3).stream()
+                    .map(Bm25Index.Hit::paragraph)
+                    .toList());
+        }
+        return results;
+    }
+
+    private static double recall(List<List<ExtractedParagraph>> results, Map<Integer, ExtractedParagraph> sources) {
+        long found = sources.entrySet().stream()
+                .filter(entry -> results.get(entry.getKey()).contains(entry.getValue()))
+                .count();
+        return (double) found / sources.size();
+    }
+
+    // Synthetic corpus
+
+    private Map<String, List<ExtractedParagraph>> corpus() {
+        Map<String, List<ExtractedParagraph>> corpus = new LinkedHashMap<>();
+        for (int p = 0; p < PAPERS; p++) {
+            List<ExtractedParagraph> paragraphs = new ArrayList<>();
+            for (int i = 0; i < PARAGRAPHS_PER_PAPER; i++) {
+                paragraphs.add(ExtractedParagraph.builder()
+                        .id(UUID.randomUUID())
+                        .text(text(80 + random.nextInt(80)))
+                        .page(i / 8 + 1)
+                        .orderIndex(i)
+                        .build());
+            }
+            corpus.put(UUID.randomUUID().toString(), paragraphs);
+        }
+        return corpus;
+    }
+
+    /**
+     * About twenty words lifted from the paragraph with a few filler words in
+     * between, the way a claim restates its source
+     */
+    private String paraphrase(String paragraph) {
+        String[] source = paragraph.split(" ");
+        int start = random.nextInt(Math.max(1, source.length - 20));
+        StringBuilder sentence = new StringBuilder();
+        for (int i = start; i < Math.min(source.length, start + 20); i++) {
+            sentence.append(source[i]).append(' ');
+            if (random.nextInt(4) == 0) {
+                sentence.append(word()).append(' ');
+            }
+        }
+        return sentence.toString().trim() + ".";
+    }
+
+    private String text(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(i == 0 ? "" : " ").append(word());
+        }
+        return text.append('.').toString();
+    }
+
+    private String word() {
+        int index = Arrays.binarySearch(zipf, random.nextDouble());
+        return words[Math.min(VOCABULARY - 1, index >= 0 ? index : -index - 1)];
+    }
+
+    private String[] vocabulary() {
+        String[] vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 3 + random.nextInt(8);
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary[i] = word.toString();
+        }
+        return vocabulary;
+    }
+
+    private static double[] zipfCumulative() {
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < VOCABULARY; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,246 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.solace.scholar_ai.project_service.dto.summary.ExtractionContext;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedSection;
+import org.solace.scholar_ai.project_service.model.extraction.PaperExtraction;
+import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.service.summary.ExtractionContextLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compares the projection-based {@link ExtractionContextLoader} with the
+ * entity-graph walk it replaced, on a 60-page paper from
+ * {@link LoadTestFixtures#sixtyPagePaper(int)}.
+ *
+ * <p>Each iteration runs in a fresh transaction, so nothing is served from the
+ * persistence context. Reports mean wall time, SQL statements and bytes
+ * allocated on the calling thread per context. Part of the load suite; run it
+ * with {@code mvn test -Pload-test -Dtest=ExtractionContextLoadBenchmark}.
+ * Results are logged and written to {@code target/extraction-context-benchmark.txt}.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(
+        properties = {
+            "eureka.client.enabled=false",
+            "spring.jpa.properties.hibernate.generate_statistics=true",
+            "logging.level.org.hibernate.SQL=INFO",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExtractionContextLoadBenchmark {
+
+    private static final int WARMUP = Integer.getInteger("load.warmup", 20);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 100);
+
+    @Autowired
+    private ExtractionContextLoader extractionContextLoader;
+
+    @Autowired
+    private PaperExtractionRepository extractionRepository;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID paperId;
+
+    @BeforeAll
+    void seed() {
+        paperId = paperRepository.save(LoadTestFixtures.sixtyPagePaper(0)).getId();
+    }
+
+    @Test
+    void projectionLoaderBeatsEntityGraphWalk() {
+        ExtractionContext legacy = transactionTemplate.execute(status -> loadByEntityGraph(paperId));
+        ExtractionContext projected = extractionContextLoader.load(paperId).orElseThrow();
+        assertEquals(sectionText(legacy), sectionText(projected), "Both paths must feed the prompts the same text");
+
+        Measurement entityGraph = measure("entity graph walk", () -> loadByEntityGraph(paperId));
+        Measurement projection = measure(
+                "column projections",
+                () -> extractionContextLoader.load(paperId).orElseThrow());
+
+        String report = String.format(
+                "60-page paper, %d iterations after %d warmup%n%s%n%s%n%s%n",
+                ITERATIONS, WARMUP, Measurement.HEADER, entityGraph.format(), projection.format());
+        log.info("Extraction context benchmark:\n{}", report);
+        try {
+            Files.writeString(Path.of("target", "extraction-context-benchmark.txt"), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        assertTrue(projection.statements() <= 7, "Projection loader must use a bounded number of queries");
+        assertTrue(projection.statements() < entityGraph.statements());
+        assertTrue(projection.allocatedBytes() < entityGraph.allocatedBytes());
+    }
+
+    private Measurement measure(String name, Supplier<ExtractionContext> load) {
+        for (int i = 0; i < WARMUP; i++) {
+            transactionTemplate.execute(status -> load.get());
+        }
+
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        statistics.clear();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            transactionTemplate.execute(status -> load.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(
+                name,
+                elapsed / 1_000_000.0 / ITERATIONS,
+                statistics.getPrepareStatementCount() / ITERATIONS,
+                allocated / ITERATIONS);
+    }
+
+    private static List<String> sectionText(ExtractionContext context) {
+        return context.getSections().stream()
+                .map(section -> section.getId() + ":" + String.join("|", section.getParagraphs()))
+                .toList();
+    }
+
+    // The entity-graph walk PaperSummaryGenerationService used before the
+    // projection loader, kept here as the baseline
+
+    private ExtractionContext loadByEntityGraph(UUID paperId) {
+        PaperExtraction extraction = extractionRepository.findByPaperId(paperId).orElseThrow();
+        List<ExtractedSection> sections = extraction.getSections();
+        sections.sort(
+                Comparator.comparing(ExtractedSection::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return ExtractionContext.builder()
+                .title(extraction.getTitle())
+                .abstractText(extraction.getAbstractText())
+                .sections(sections.stream()
+                        .filter(section -> section.getParentSection() == null)
+                        .map(this::walkSection)
+                        .collect(Collectors.toList()))
+                .figures(extraction.getFigures().stream()
+                        .map(figure -> ExtractionContext.FigureContent.builder()
+                                .id(figure.getFigureId())
+                                .label(figure.getLabel())
+                                .caption(figure.getCaption())
+                                .page(figure.getPage())
+                                .ocrText(figure.getOcrText())
+                                .build())
+                        .collect(Collectors.toList()))
+                .tables(extraction.getTables().stream()
+                        .map(table -> ExtractionContext.TableContent.builder()
+                                .id(table.getTableId())
+                                .label(table.getLabel())
+                                .caption(table.getCaption())
+                                .page(table.getPage())
+                                .headers(table.getHeaders())
+                                .rows(table.getRows())
+                                .html(table.getHtml())
+                                .build())
+                        .collect(Collectors.toList()))
+                .equations(extraction.getEquations().stream()
+                        .map(equation -> ExtractionContext.EquationContent.builder()
+                                .id(equation.getEquationId())
+                                .label(equation.getLabel())
+                                .latexContent(equation.getLatex())
+                                .page(equation.getPage())
+                                .build())
+                        .collect(Collectors.toList()))
+                .codeBlocks(extraction.getCodeBlocks().stream()
+                        .map(code -> ExtractionContext.CodeBlockContent.builder()
+                                .id(code.getCodeId())
+                                .language(code.getLanguage())
+                                .code(code.getCode())
+                                .page(code.getPage())
+                                .build())
+                        .collect(Collectors.toList()))
+                .references(extraction.getReferences().stream()
+                        .map(reference -> ExtractionContext.ReferenceContent.builder()
+                                .id(reference.getReferenceId())
+                                .title(reference.getTitle())
+                                .authors(reference.getAuthors())
+                                .year(reference.getYear())
+                                .venue(reference.getVenue())
+                                .doi(reference.getDoi())
+                                .build())
+                        .collect(Collectors.toList()))
+                .entities(extraction.getEntities().stream()
+                        .map(entity -> ExtractionContext.EntityContent.builder()
+                                .id(entity.getEntityId())
+                                .text(entity.getName())
+                                .type(entity.getEntityType())
+                                .metadata(entity.getContext())
+                                .build())
+                        .collect(Collectors.toList()))
+                .pageCount(extraction.getPageCount())
+                .language(extraction.getLanguage())
+                .build();
+    }
+
+    private ExtractionContext.SectionContent walkSection(ExtractedSection section) {
+        List<String> paragraphs = section.getParagraphs().stream()
+                .sorted(Comparator.comparing(
+                        ExtractedParagraph::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ExtractedParagraph::getText)
+                .collect(Collectors.toList());
+        for (ExtractedSection subsection : section.getSubsections()) {
+            paragraphs.addAll(walkSection(subsection).getParagraphs());
+        }
+        return ExtractionContext.SectionContent.builder()
+                .id(section.getSectionId())
+                .title(section.getTitle())
+                .type(section.getSectionType())
+                .level(section.getLevel())
+                .paragraphs(paragraphs)
+                .pageStart(section.getPageStart())
+                .pageEnd(section.getPageEnd())
+                .build();
+    }
+
+    private record Measurement(String name, double meanMillis, long statements, long allocatedBytes) {
+
+        static final String HEADER =
+                String.format("%-22s %12s %12s %16s", "path", "mean ms", "statements", "allocated KiB");
+
+        String format() {
+            return String.format("%-22s %12.2f %12d %16d", name, meanMillis, statements, allocatedBytes / 1024);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.util.text.LatexSentenceLexer;
+
+/**
+ * Compares {@link LatexSentenceLexer} with the line-by-line regex parser it
+ * replaced in citation checks, for throughput and allocation on large
+ * theses.
+ *
+ * <p>The theses are synthetic and seeded: chapters of sections of paragraphs
+ * with citations ({@code \cite}, {@code \citep}, {@code \citet}), inline and
+ * display math, comments, figures and lists, from about 60 to 300 pages.
+ * Both parsers are warmed up on every thesis before any round is measured,
+ * then run for {@code load.iterations} rounds; the report gives the median
+ * time and the bytes allocated per parse, measured with the thread
+ * allocation counter. Timings vary too much between machines and JIT runs
+ * to assert on, so only the allocation ratio is checked. The project has no JMH setup, so this runs as
+ * part of the load suite instead: {@code mvn test -Pload-test
+ * -Dtest=LatexParsingBenchmark}. Results are logged and written to
+ * {@code target/latex-parsing-benchmark.txt}.
+ */
+@Slf4j
+@Tag("load")
+class LatexParsingBenchmark {
+
+    private static final int[] CHAPTERS = {2, 5, 10};
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = Integer.getInteger("load.iterations", 15);
+    private static final List<Function<String, Integer>> PARSERS =
+            List.of(LatexParsingBenchmark::legacyParse, latex -> LatexSentenceLexer.sentences(latex)
+                    .size());
+    private static final String[] WORDS =
+            ("model data training results method approach analysis network learning performance "
+                            + "accuracy dataset evaluation baseline feature representation improvement error "
+                            + "experiment benchmark optimization gradient parameter layer attention sample "
+                            + "distribution inference task domain transfer robust efficient scalable signal")
+                    .split(" ");
+
+    private final Random random = new Random(11);
+
+    @Test
+    void lexerAllocatesLessThanRegexParser() {
+        StringBuilder report = new StringBuilder(String.format(
+                "%-10s %-8s %12s %12s %14s %12s%n", "size KB", "parser", "median ms", "MB/s", "alloc KB", "sentences"));
+
+        List<String> theses = Arrays.stream(CHAPTERS).mapToObj(this::thesis).toList();
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (String thesis : theses) {
+                PARSERS.forEach(parser -> parser.apply(thesis));
+            }
+        }
+
+        double worstSpeedup = Double.MAX_VALUE;
+        double worstAllocationRatio = Double.MAX_VALUE;
+        for (String thesis : theses) {
+            Result legacy = measure(thesis, PARSERS.get(0));
+            Result lexer = measure(thesis, PARSERS.get(1));
+            report.append(legacy.row(thesis, "regex")).append(lexer.row(thesis, "lexer"));
+            worstSpeedup = Math.min(worstSpeedup, (double) legacy.medianNanos() / lexer.medianNanos());
+            worstAllocationRatio =
+                    Math.min(worstAllocationRatio, (double) legacy.allocatedBytes() / lexer.allocatedBytes());
+        }
+        report.append(String.format(
+                "worst speedup %.1fx, worst allocation ratio %.1fx%n", worstSpeedup, worstAllocationRatio));
+
+        log.info("LaTeX parsing benchmark:\n{}", report);
+        try {
+            Files.writeString(Path.of("target", "latex-parsing-benchmark.txt"), report.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        assertTrue(worstAllocationRatio > 5, "Lexer allocation ratio " + worstAllocationRatio);
+    }
+
+    private record Result(long medianNanos, long allocatedBytes, int sentences) {
+
+        String row(String thesis, String parser) {
+            return String.format(
+                    "%-10d %-8s %12.2f %12.1f %14d %12d%n",
+                    thesis.length() / 1024,
+                    parser,
+                    medianNanos / 1e6,
+                    thesis.length() / 1e6 / (medianNanos / 1e9),
+                    allocatedBytes / 1024,
+                    sentences);
+        }
+    }
+
+    private static Result measure(String thesis, Function<String, Integer> parser) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        int sentences = 0;
+        long[] nanos = new long[ROUNDS];
+        long allocated = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sentences = parser.apply(thesis);
+            nanos[round] = System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        Arrays.sort(nanos);
+        return new Result(nanos[ROUNDS / 2], allocated / ROUNDS, sentences);
+    }
+
+    // CitationAnalysisService.parseLatexIntoSentences before the lexer, minus
+    // its logging: returns the number of sentences
+
+    private static final Pattern CITE_PATTERN = Pattern.compile("\\\\cite\\{([^}]+)\\}");
+
+    private static int legacyParse(String latexContent) {
+        List<Object[]> sentences = new ArrayList<>();
+        String[] originalLines = latexContent.split("\n");
+        int currentPos = 0;
+        for (int lineNumber = 0; lineNumber < originalLines.length; lineNumber++) {
+            String originalLine = originalLines[lineNumber];
+            String cleanLine = originalLine
+                    .replaceAll("\\\\[a-zA-Z]+\\*?\\{[^}]*\\}", " ")
+                    .replaceAll("\\\\[a-zA-Z]+\\*?", " ")
+                    .replaceAll("\\$[^$]*\\$", " [MATH] ")
+                    .replaceAll("\\$\\$[^$]*\\$\\$", " [DISPLAY_MATH] ")
+                    .replaceAll("\\\\\\[[^\\]]*\\\\\\]", " [DISPLAY_MATH] ")
+                    .replaceAll("\\%.*", "")
+                    .replaceAll("\\s+", " ")
+                    .trim();
+            if (cleanLine.isEmpty()) {
+                currentPos += originalLine.length() + 1;
+                continue;
+            }
+            String[] sentenceParts = cleanLine.split("\\. ");
+            int linePos = 0;
+            for (String part : sentenceParts) {
+                String sentenceText = part.trim();
+                if (sentenceText.length() > 10) {
+                    int sentenceStart = currentPos + linePos;
+                    Set<String> citedKeys = new HashSet<>();
+                    Matcher matcher = CITE_PATTERN.matcher(originalLine);
+                    while (matcher.find()) {
+                        Arrays.stream(matcher.group(1).split(","))
+                                .map(String::trim)
+                                .forEach(citedKeys::add);
+                    }
+                    sentences.add(new Object[] {
+                        sentenceText, sentenceStart, sentenceStart + sentenceText.length(), lineNumber + 1, citedKeys
+                    });
+                }
+                linePos += sentenceText.length() + 2;
+            }
+            currentPos += originalLine.length() + 1;
+        }
+        return sentences.size();
+    }
+
+    // Fixture
+
+    private String thesis(int chapters) {
+        StringBuilder latex = new StringBuilder(
+                "\\documentclass{report}\n\\usepackage{amsmath}\n\\usepackage{natbib}\n\\begin{document}\n");
+        for (int chapter = 0; chapter < chapters; chapter++) {
+            latex.append("\\chapter{")
+                    .append(words(3))
+                    .append("}\n\\label{ch:")
+                    .append(chapter)
+                    .append("}\n\n");
+            for (int section = 0; section < 6; section++) {
+                latex.append("\\section{").append(words(4)).append("}\n");
+                for (int paragraph = 0; paragraph < 12; paragraph++) {
+                    paragraph(latex, chapter, section, paragraph);
+                }
+            }
+        }
+        return latex.append("\\bibliographystyle{plainnat}\n\\bibliography{refs}\n\\end{document}\n")
+                .toString();
+    }
+
+    private void paragraph(StringBuilder latex, int chapter, int section, int paragraph) {
+        int sentences = 4 + random.nextInt(4);
+        for (int s = 0; s < sentences; s++) {
+            StringBuilder sentence = new StringBuilder(capitalized(words(6 + random.nextInt(14))));
+            switch (random.nextInt(8)) {
+                case 0 -> sentence.append(" as shown by~\\cite{key")
+                        .append(random.nextInt(200))
+                        .append('}');
+                case 1 -> sentence.append(" \\citep[see][]{key")
+                        .append(random.nextInt(200))
+                        .append(", key")
+                        .append(random.nextInt(200))
+                        .append('}');
+                case 2 -> sentence.append(" with $\\alpha_{")
+                        .append(s)
+                        .append("} = 0.")
+                        .append(random.nextInt(99))
+                        .append('$');
+                case 3 -> sentence.append(" in \\textbf{").append(words(2)).append("} settings");
+                case 4 -> sentence.append(" % TODO ").append(words(3));
+                default -> {}
+            }
+            latex.append(sentence).append(random.nextBoolean() ? ".\n" : ". ");
+        }
+        latex.append("\n\n");
+        if (paragraph % 5 == 4) {
+            latex.append("\\begin{equation}\n  \\mathcal{L} = \\sum_{i=1}^{n} \\ell(x_i, y_i)\n\\end{equation}\n\n");
+        }
+        if (paragraph % 7 == 6) {
+            latex.append("\\begin{figure}[t]\n\\centering\n\\includegraphics[width=\\linewidth]{fig")
+                    .append(chapter)
+                    .append(section)
+                    .append("}\n\\caption{")
+                    .append(capitalized(words(8)))
+                    .append(".}\n\\end{figure}\n\n");
+        }
+        if (paragraph % 11 == 10) {
+            latex.append("\\begin{itemize}\n");
+            for (int item = 0; item < 3; item++) {
+                latex.append("  \\item ").append(capitalized(words(7))).append(".\n");
+            }
+            latex.append("\\end{itemize}\n\n");
+        }
+    }
+
+    private String words(int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            words.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+
+    private static String capitalized(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}
@@ -0,0 +1,73 @@
+package org.solace.scholar_ai.project_service.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Closed-loop load generator: {@code concurrency} workers issue requests back
+ * to back until {@code requests} have completed.
+ */
+@Slf4j
+final class LoadDriver {
+
+    private LoadDriver() {}
+
+    /**
+     * Run {@code call} for request indexes {@code 0..requests-1}. The call
+     * returns whether the request succeeded; exceptions count as failures.
+     * {@code warmup} extra requests run first and are not measured.
+     */
+    static LoadResult run(String scenario, int requests, int concurrency, int warmup, IntPredicate call) {
+        for (int i = 0; i < warmup; i++) {
+            invoke(call, requests + i);
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        long[] latencies = new long[requests];
+        boolean[] succeeded = new boolean[requests];
+
+        long startNanos = System.nanoTime();
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int w = 0; w < concurrency; w++) {
+                futures.add(workers.submit(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long callStart = System.nanoTime();
+                        succeeded[index] = invoke(call, index);
+                        latencies[index] = System.nanoTime() - callStart;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Load scenario " + scenario + " aborted", e);
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+
+        int failures = 0;
+        for (boolean ok : succeeded) {
+            if (!ok) {
+                failures++;
+            }
+        }
+        return LoadResult.of(scenario, concurrency, latencies, failures, wallNanos);
+    }
+
+    private static boolean invoke(IntPredicate call, int index) {
+        try {
+            return call.test(index);
+        } catch (RuntimeException e) {
+            log.debug("Load request {} failed: {}", index, e.getMessage());
+            return false;
+        }
+    }
+}
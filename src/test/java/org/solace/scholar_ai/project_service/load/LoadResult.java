@@ -0,0 +1,46 @@
+package org.solace.scholar_ai.project_service.load;
+
+import java.util.Arrays;
+
+/**
+ * Throughput and latency percentiles for one load scenario
+ */
+record LoadResult(
+        String scenario, int concurrency, int requests, int failures, double throughputPerSecond, long[] sortedMillis) {
+
+    static final String HEADER = String.format(
+            "%-28s %5s %8s %7s %9s %8s %8s %8s %8s",
+            "scenario", "conc", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+
+    static LoadResult of(String scenario, int concurrency, long[] latencyNanos, int failures, long wallNanos) {
+        long[] millis =
+                Arrays.stream(latencyNanos).map(n -> n / 1_000_000).sorted().toArray();
+        double seconds = Math.max(wallNanos, 1) / 1_000_000_000.0;
+        return new LoadResult(scenario, concurrency, millis.length, failures, millis.length / seconds, millis);
+    }
+
+    /**
+     * Nearest-rank percentile, {@code quantile} in (0, 1]
+     */
+    long percentile(double quantile) {
+        if (sortedMillis.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sortedMillis.length);
+        return sortedMillis[Math.min(sortedMillis.length, Math.max(1, rank)) - 1];
+    }
+
+    String format() {
+        return String.format(
+                "%-28s %5d %8d %7d %9.2f %8d %8d %8d %8d",
+                scenario,
+                concurrency,
+                requests,
+                failures,
+                throughputPerSecond,
+                percentile(0.50),
+                percentile(0.95),
+                percentile(0.99),
+                sortedMillis.length == 0 ? 0 : sortedMillis[sortedMillis.length - 1]);
+    }
+}
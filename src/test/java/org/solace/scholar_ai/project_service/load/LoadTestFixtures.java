@@ -0,0 +1,326 @@
+package org.solace.scholar_ai.project_service.load;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedCodeBlock;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedEntity;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedEquation;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedFigure;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedReference;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedSection;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedTable;
+import org.solace.scholar_ai.project_service.model.extraction.PaperExtraction;
+import org.solace.scholar_ai.project_service.model.latex.Document;
+import org.solace.scholar_ai.project_service.model.latex.DocumentType;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.project.Project;
+
+/**
+ * Deterministic papers, extractions and LaTeX documents for the load suite.
+ * Paragraphs and LaTeX claims draw on the same sentences so citation checks
+ * find local evidence and reach the verification step.
+ */
+final class LoadTestFixtures {
+
+    static final String[] SECTION_TYPES = {
+        "introduction", "related_work", "methods", "experiments", "results", "discussion", "limitations", "conclusion"
+    };
+
+    private static final String[] SENTENCES = {
+        "The proposed sparse encoder routes each token to two of eight experts in every second layer.",
+        "Routing weights are regularised with a capacity factor instead of an auxiliary load balancing loss.",
+        "Experiments on four document classification benchmarks show macro F1 comparable to dense models.",
+        "The sparse model uses roughly a third of the inference compute of the dense baseline.",
+        "Training was performed on eight accelerators for fourteen hours with a fixed random seed.",
+        "The analysis shows that expert utilisation remains balanced across all evaluated datasets.",
+        "Prior research on mixture of experts focused on language modelling rather than classification.",
+        "Results degrade on rare categories where fewer than one hundred training documents are available.",
+        "The method is evaluated only on English data, which limits claims about multilingual settings.",
+        "Code, configuration files and trained checkpoints are released under a permissive licence.",
+        "Statistical significance is assessed with a paired bootstrap over five random seeds.",
+        "Future work includes multilingual evaluation and an analysis of expert specialisation."
+    };
+
+    private static final String[] CITATION_KEYS = {"fedus2022", "shazeer2017", "lepikhin2021", "devlin2019"};
+
+    private LoadTestFixtures() {}
+
+    static Project project() {
+        Project project = new Project();
+        project.setName("Load test project");
+        project.setDescription("Seeded by PipelineLoadTest");
+        project.setUserId(UUID.randomUUID());
+        return project;
+    }
+
+    /**
+     * An extracted paper with {@code paragraphsPerSection} paragraphs in each
+     * of the {@link #SECTION_TYPES}, ready for summary generation and chat
+     */
+    static Paper extractedPaper(int index, int paragraphsPerSection) {
+        Paper paper = Paper.builder()
+                .correlationId("load-test-" + index)
+                .title("Sparse Mixture-of-Experts Encoders for Long Documents (" + index + ")")
+                .abstractText(SENTENCES[0] + " " + SENTENCES[2] + " " + SENTENCES[3])
+                .source("load-test")
+                .isExtracted(true)
+                .extractionStatus("COMPLETED")
+                .extractionCompletedAt(Instant.now())
+                .extractionCoverage(100.0)
+                .isLatexContext(true)
+                .build();
+
+        PaperExtraction extraction = PaperExtraction.builder()
+                .paper(paper)
+                .extractionId("load-test-extraction-" + index + "-" + UUID.randomUUID())
+                .extractionTimestamp(Instant.now())
+                .title(paper.getTitle())
+                .abstractText(paper.getAbstractText())
+                .language("en")
+                .pageCount(SECTION_TYPES.length * 2)
+                .extractionCoverage(100.0)
+                .build();
+
+        int page = 1;
+        for (int s = 0; s < SECTION_TYPES.length; s++) {
+            ExtractedSection section = ExtractedSection.builder()
+                    .paperExtraction(extraction)
+                    .sectionId("sec-" + s)
+                    .label(String.valueOf(s + 1))
+                    .title(capitalize(SECTION_TYPES[s].replace('_', ' ')))
+                    .sectionType(SECTION_TYPES[s])
+                    .level(1)
+                    .pageStart(page)
+                    .pageEnd(page + 1)
+                    .orderIndex(s)
+                    .build();
+            List<ExtractedParagraph> paragraphs = new ArrayList<>(paragraphsPerSection);
+            for (int p = 0; p < paragraphsPerSection; p++) {
+                paragraphs.add(ExtractedParagraph.builder()
+                        .section(section)
+                        .text(paragraph(index + s * paragraphsPerSection + p))
+                        .page(page + p % 2)
+                        .orderIndex(p)
+                        .build());
+            }
+            section.setParagraphs(paragraphs);
+            extraction.getSections().add(section);
+            page += 2;
+        }
+
+        paper.setPaperExtraction(extraction);
+        return paper;
+    }
+
+    /**
+     * A 60-page extracted paper shaped like a real journal article: ten
+     * sections with two subsections each, eight paragraphs per page, and
+     * figures, tables, equations, code, entities and enriched references
+     * carrying the large TEXT payloads the extractor stores
+     */
+    static Paper sixtyPagePaper(int index) {
+        Paper paper = extractedPaper(index, 0);
+        PaperExtraction extraction = paper.getPaperExtraction();
+        extraction.getSections().clear();
+        extraction.setPageCount(60);
+
+        String enrichment = "{\"payload\":\"" + "x".repeat(4096) + "\"}";
+        String tableHtml = "<table>" + "<tr><td>0.912</td><td>0.887</td><td>0.903</td></tr>".repeat(120) + "</table>";
+        int page = 1;
+        int order = 0;
+        for (int s = 0; s < 10; s++) {
+            ExtractedSection section =
+                    section(extraction, null, "sec-" + s, SECTION_TYPES[s % SECTION_TYPES.length], 1, order++, page);
+            extraction.getSections().add(section);
+            addParagraphs(section, page, 4, index + s);
+            for (int sub = 0; sub < 2; sub++) {
+                ExtractedSection subsection = section(
+                        extraction,
+                        section,
+                        "sec-" + s + "." + sub,
+                        SECTION_TYPES[s % SECTION_TYPES.length],
+                        2,
+                        order++,
+                        page);
+                section.addSubsection(subsection);
+                extraction.getSections().add(subsection);
+                for (int p = 0; p < 3; p++, page++) {
+                    addParagraphs(subsection, page, 8, index + page);
+                }
+            }
+        }
+
+        for (int f = 0; f < 24; f++) {
+            extraction
+                    .getFigures()
+                    .add(ExtractedFigure.builder()
+                            .paperExtraction(extraction)
+                            .figureId("fig-" + f)
+                            .label("Figure " + (f + 1))
+                            .caption(paragraph(index + f))
+                            .page(1 + f * 2)
+                            .ocrText(paragraph(f).repeat(6))
+                            .orderIndex(f)
+                            .build());
+        }
+        for (int t = 0; t < 16; t++) {
+            extraction
+                    .getTables()
+                    .add(ExtractedTable.builder()
+                            .paperExtraction(extraction)
+                            .tableId("tab-" + t)
+                            .label("Table " + (t + 1))
+                            .caption(SENTENCES[t % SENTENCES.length])
+                            .page(2 + t * 3)
+                            .headers("[[\"Model\",\"Macro F1\",\"Accuracy\",\"Compute\"]]")
+                            .rows("[" + "[\"sparse\",0.912,0.887,0.33],".repeat(120) + "[]]")
+                            .structure(enrichment)
+                            .html(tableHtml)
+                            .orderIndex(t)
+                            .build());
+        }
+        for (int e = 0; e < 40; e++) {
+            extraction
+                    .getEquations()
+                    .add(ExtractedEquation.builder()
+                            .paperExtraction(extraction)
+                            .equationId("eq-" + e)
+                            .label("(" + (e + 1) + ")")
+                            .latex("\\mathcal{L} = \\sum_i \\alpha_i \\log p(y_i \\mid x_i)")
+                            .mathml(enrichment)
+                            .page(1 + e % 60)
+                            .orderIndex(e)
+                            .build());
+        }
+        for (int c = 0; c < 4; c++) {
+            extraction
+                    .getCodeBlocks()
+                    .add(ExtractedCodeBlock.builder()
+                            .paperExtraction(extraction)
+                            .codeId("code-" + c)
+                            .language("python")
+                            .code("def route(tokens, experts):\n    return topk(gate(tokens), k=2)\n".repeat(10))
+                            .page(50 + c)
+                            .orderIndex(c)
+                            .build());
+        }
+        for (int r = 0; r < 80; r++) {
+            extraction
+                    .getReferences()
+                    .add(ExtractedReference.builder()
+                            .paperExtraction(extraction)
+                            .referenceId("ref-" + r)
+                            .rawText(SENTENCES[r % SENTENCES.length])
+                            .title("Reference work " + r + " on sparse expert models")
+                            .authors("[\"A. Author\",\"B. Author\"]")
+                            .year(2015 + r % 10)
+                            .venue("Proceedings of a Venue")
+                            .doi("10.1000/load." + r)
+                            .crossrefData(enrichment)
+                            .openalexData(enrichment)
+                            .unpaywallData(enrichment)
+                            .orderIndex(r)
+                            .build());
+        }
+        for (int n = 0; n < 120; n++) {
+            extraction
+                    .getEntities()
+                    .add(ExtractedEntity.builder()
+                            .paperExtraction(extraction)
+                            .entityId("ent-" + n)
+                            .entityType("METHOD")
+                            .name("entity " + n)
+                            .page(1 + n % 60)
+                            .context(paragraph(n))
+                            .orderIndex(n)
+                            .build());
+        }
+        return paper;
+    }
+
+    static Document latexDocument(UUID projectId, int index) {
+        String content = latexContent(index);
+        return Document.builder()
+                .projectId(projectId)
+                .title("load-test-" + index + ".tex")
+                .content(content)
+                .documentType(DocumentType.LATEX)
+                .fileExtension("tex")
+                .fileSize((long) content.length())
+                .version(1)
+                .isAutoSaved(false)
+                .build();
+    }
+
+    /**
+     * A short paper body whose cited claims paraphrase the fixture paragraphs
+     */
+    static String latexContent(int index) {
+        StringBuilder latex = new StringBuilder();
+        latex.append("\\documentclass{article}\n\\begin{document}\n\\section{Introduction}\n");
+        for (int i = 0; i < 8; i++) {
+            String sentence = SENTENCES[(index + i) % SENTENCES.length];
+            String key = CITATION_KEYS[i % CITATION_KEYS.length];
+            latex.append(sentence, 0, sentence.length() - 1)
+                    .append(" \\cite{")
+                    .append(key)
+                    .append("}.\n");
+        }
+        latex.append("\\bibliographystyle{plain}\n\\begin{thebibliography}{9}\n");
+        for (String key : CITATION_KEYS) {
+            latex.append("\\bibitem{").append(key).append("} ").append(key).append(".\n");
+        }
+        latex.append("\\end{thebibliography}\n\\end{document}\n");
+        return latex.toString();
+    }
+
+    private static String paragraph(int seed) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(SENTENCES[(seed + i * 5) % SENTENCES.length]);
+        }
+        return text.toString();
+    }
+
+    private static ExtractedSection section(
+            PaperExtraction extraction,
+            ExtractedSection parent,
+            String id,
+            String type,
+            int level,
+            int order,
+            int page) {
+        return ExtractedSection.builder()
+                .paperExtraction(extraction)
+                .parentSection(parent)
+                .sectionId(id)
+                .label(id.substring(4))
+                .title(capitalize(type.replace('_', ' ')) + " " + id.substring(4))
+                .sectionType(type)
+                .level(level)
+                .pageStart(page)
+                .pageEnd(page + 5)
+                .orderIndex(order)
+                .build();
+    }
+
+    private static void addParagraphs(ExtractedSection section, int page, int count, int seed) {
+        for (int p = 0; p < count; p++) {
+            section.addParagraph(ExtractedParagraph.builder()
+                    .text(paragraph(seed + p))
+                    .page(page)
+                    .orderIndex(section.getParagraphs().size())
+                    .build());
+        }
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}
@@ -0,0 +1,233 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.solace.scholar_ai.project_service.dto.citation.CitationCheckRequestDto;
+import org.solace.scholar_ai.project_service.dto.citation.CitationCheckResponseDto;
+import org.solace.scholar_ai.project_service.dto.request.chat.PaperChatRequest;
+import org.solace.scholar_ai.project_service.model.latex.Document;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.project.Project;
+import org.solace.scholar_ai.project_service.repository.latex.DocumentRepository;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.project.ProjectRepository;
+import org.solace.scholar_ai.project_service.service.chat.EnhancedPaperContextChatService;
+import org.solace.scholar_ai.project_service.service.citation.CitationCheckService;
+import org.solace.scholar_ai.project_service.service.summary.PaperSummaryGenerationService;
+import org.solace.scholar_ai.project_service.support.gemini.FakeGeminiServer;
+import org.solace.scholar_ai.project_service.support.gemini.FakeGeminiServer.LatencyDistribution;
+import org.solace.scholar_ai.project_service.support.gemini.FakeGeminiServer.PromptType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * End-to-end load suite for the Gemini-backed pipelines, run against the
+ * local Postgres and RabbitMQ from docker-compose with Gemini replaced by
+ * {@link FakeGeminiServer}.
+ *
+ * <p>Excluded from the default build; run it with {@code mvn test -Pload-test}.
+ * Knobs are system properties, e.g.
+ * {@code -Dload.requests=200 -Dload.concurrency=16 -Dload.gemini.median-ms=1200}.
+ * Results are logged and written to {@code target/load-test-report.txt}.
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(
+        properties = {
+            "eureka.client.enabled=false",
+            // Measure the pipelines, not the response cache
+            "gemini.cache.enabled=false"
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class PipelineLoadTest {
+
+    private static final int PAPERS = Integer.getInteger("load.papers", 12);
+    private static final int PARAGRAPHS_PER_SECTION = Integer.getInteger("load.paragraphs-per-section", 6);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 60);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 8);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 4);
+
+    private static final String[] QUESTIONS = {
+        "What is the main contribution of this paper?",
+        "How are the experts routed and balanced?",
+        "What datasets and metrics are used in the evaluation?",
+        "What are the limitations the authors acknowledge?"
+    };
+
+    private static final FakeGeminiServer GEMINI = FakeGeminiServer.builder()
+            .latency(LatencyDistribution.logNormal(
+                    Duration.ofMillis(Long.getLong("load.gemini.median-ms", 800)),
+                    Double.parseDouble(System.getProperty("load.gemini.sigma", "0.5"))))
+            .throttleRate(Double.parseDouble(System.getProperty("load.gemini.throttle-rate", "0.02")))
+            .errorRate(Double.parseDouble(System.getProperty("load.gemini.error-rate", "0.01")))
+            .start();
+
+    @Autowired
+    private PaperSummaryGenerationService summaryGenerationService;
+
+    @Autowired
+    private EnhancedPaperContextChatService paperChatService;
+
+    @Autowired
+    private CitationCheckService citationCheckService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    private final List<LoadResult> results = new ArrayList<>();
+    private final List<String> geminiStats = new ArrayList<>();
+    private final List<UUID> paperIds = new ArrayList<>();
+    private final List<UUID> documentIds = new ArrayList<>();
+    private UUID projectId;
+
+    @DynamicPropertySource
+    static void geminiProperties(DynamicPropertyRegistry registry) {
+        registry.add("gemini.api-url", GEMINI::apiUrl);
+        registry.add("gemini.api-key", () -> "load-test");
+    }
+
+    @BeforeAll
+    void seed() {
+        Project project = projectRepository.save(LoadTestFixtures.project());
+        projectId = project.getId();
+        for (int i = 0; i < PAPERS; i++) {
+            Paper paper = paperRepository.save(LoadTestFixtures.extractedPaper(i, PARAGRAPHS_PER_SECTION));
+            paperIds.add(paper.getId());
+        }
+        for (int i = 0; i < REQUESTS + WARMUP; i++) {
+            Document document = documentRepository.save(LoadTestFixtures.latexDocument(projectId, i));
+            documentIds.add(document.getId());
+        }
+        log.info("Seeded {} papers and {} LaTeX documents for the load suite", PAPERS, documentIds.size());
+    }
+
+    @BeforeEach
+    void resetGemini() {
+        GEMINI.resetCounters();
+    }
+
+    @Test
+    @Order(1)
+    void summaryGeneration() {
+        // Concurrent calls for the same paper coalesce, so cycle through distinct papers
+        record(LoadDriver.run("summary generation", REQUESTS, CONCURRENCY, WARMUP, i -> {
+            summaryGenerationService.generateSummary(paperIds.get(i % paperIds.size()), true);
+            return true;
+        }));
+        assertTrue(GEMINI.requestCount(PromptType.QUICK_TAKE) > 0);
+    }
+
+    @Test
+    @Order(2)
+    void paperChat() {
+        record(LoadDriver.run("paper chat", REQUESTS, CONCURRENCY, WARMUP, i -> paperChatService
+                .chatWithPaper(paperIds.get(i % paperIds.size()), chatRequest(i))
+                .isSuccess()));
+        assertTrue(GEMINI.requestCount(PromptType.CHAT) > 0);
+    }
+
+    @Test
+    @Order(3)
+    void paperChatStreaming() {
+        Consumer<String> discard = token -> {};
+        record(LoadDriver.run("paper chat (stream)", REQUESTS, CONCURRENCY, WARMUP, i -> paperChatService
+                .streamChatWithPaper(paperIds.get(i % paperIds.size()), chatRequest(i), discard)
+                .join()
+                .isSuccess()));
+        assertTrue(GEMINI.requestCount(PromptType.CHAT) > 0);
+    }
+
+    @Test
+    @Order(4)
+    void citationCheck() {
+        record(LoadDriver.run("citation check", REQUESTS, CONCURRENCY, WARMUP, i -> {
+            CitationCheckResponseDto response = citationCheckService.startCitationCheck(citationRequest(i));
+            return "DONE".equalsIgnoreCase(response.getStatus());
+        }));
+        assertTrue(GEMINI.requestCount(PromptType.CITATION_VERIFY) > 0);
+    }
+
+    @AfterAll
+    void report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(
+                "Fake Gemini: lognormal median %s ms, sigma %s, throttle %s, error %s%n%n",
+                Long.getLong("load.gemini.median-ms", 800),
+                System.getProperty("load.gemini.sigma", "0.5"),
+                System.getProperty("load.gemini.throttle-rate", "0.02"),
+                System.getProperty("load.gemini.error-rate", "0.01")));
+        report.append(LoadResult.HEADER).append('\n');
+        for (LoadResult result : results) {
+            report.append(result.format()).append('\n');
+        }
+        report.append('\n');
+        geminiStats.forEach(line -> report.append(line).append('\n'));
+        log.info("Load test results:\n{}", report);
+
+        try {
+            Files.writeString(Path.of("target", "load-test-report.txt"), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            GEMINI.close();
+        }
+    }
+
+    private void record(LoadResult result) {
+        results.add(result);
+        geminiStats.add(String.format(
+                "%-28s gemini calls %d (throttled %d, failed %d)",
+                result.scenario(), GEMINI.totalRequests(), GEMINI.throttledCount(), GEMINI.failedCount()));
+        log.info(result.format());
+    }
+
+    private static PaperChatRequest chatRequest(int index) {
+        return PaperChatRequest.builder()
+                .message(QUESTIONS[index % QUESTIONS.length])
+                .build();
+    }
+
+    private CitationCheckRequestDto citationRequest(int index) {
+        CitationCheckRequestDto.Options options = new CitationCheckRequestDto.Options();
+        options.setCheckWeb(false);
+
+        CitationCheckRequestDto request = new CitationCheckRequestDto();
+        request.setProjectId(projectId);
+        request.setDocumentId(documentIds.get(index));
+        request.setContent(LoadTestFixtures.latexContent(index));
+        request.setSelectedPaperIds(paperIds.subList(0, Math.min(4, paperIds.size())));
+        request.setForceRecheck(true);
+        request.setOptions(options);
+        return request;
+    }
+}
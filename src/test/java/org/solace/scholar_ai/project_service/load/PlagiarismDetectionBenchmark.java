@@ -0,0 +1,249 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.service.citation.index.CitationCorpusIndexer;
+import org.solace.scholar_ai.project_service.service.citation.index.NearDuplicateIndex;
+import org.solace.scholar_ai.project_service.service.citation.index.PaperLshIndex;
+import org.solace.scholar_ai.project_service.util.text.MinHash;
+
+/**
+ * Compares LSH near-duplicate lookup with the all-pairs word-overlap sweep it
+ * replaced in the plagiarism pass, for accuracy and for how each scales with
+ * the number of selected papers.
+ *
+ * <p>The fixture is synthetic and seeded: papers of 150 paragraphs, a fifth
+ * of them sentence-length. The 300-sentence document copies 60 of those
+ * short paragraphs with zero to three words changed, some pushing similarity
+ * just under the threshold; the rest are unrelated. The all-pairs sweep at
+ * the same threshold is the ground truth for recall and precision.
+ * Signatures are computed up front, the way they are stored when an
+ * extraction is persisted. Part of the load suite; run it with
+ * {@code mvn test -Pload-test -Dtest=PlagiarismDetectionBenchmark}. Results
+ * are logged and written to {@code target/plagiarism-detection-benchmark.txt}.
+ */
+@Slf4j
+@Tag("load")
+class PlagiarismDetectionBenchmark {
+
+    private static final int[] PAPER_COUNTS = {5, 20, 80};
+    private static final int PARAGRAPHS_PER_PAPER = 150;
+    private static final int SENTENCES = 300;
+    private static final int COPIES = 60;
+    private static final int VOCABULARY = 5_000;
+    private static final double THRESHOLD = 0.85;
+
+    private final Random random = new Random(7);
+    private final String[] words = vocabulary();
+    private final double[] zipf = zipfCumulative();
+
+    @Test
+    void lshMatchesAllPairsSweepAndScalesSubLinearly() {
+        StringBuilder report = new StringBuilder(String.format(
+                "%d sentences (%d copies), threshold %.2f, %d paragraphs per paper%n%-8s %14s %14s %8s %10s %10s%n",
+                SENTENCES,
+                COPIES,
+                THRESHOLD,
+                PARAGRAPHS_PER_PAPER,
+                "papers",
+                "all-pairs ms",
+                "lsh ms",
+                "speedup",
+                "recall",
+                "precision"));
+
+        double worstRecall = 1.0;
+        double largestSpeedup = 0;
+        for (int paperCount : PAPER_COUNTS) {
+            Map<String, List<ExtractedParagraph>> corpus = corpus(paperCount);
+            List<String> sentences = sentences(corpus);
+            NearDuplicateIndex index = index(corpus);
+
+            // Warm both paths before timing either
+            allPairs(sentences.subList(0, 10), corpus);
+            lsh(sentences, index);
+
+            long start = System.nanoTime();
+            Set<String> expected = allPairs(sentences, corpus);
+            long allPairsNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            Set<String> found = lsh(sentences, index);
+            long lshNanos = System.nanoTime() - start;
+
+            Set<String> truePositives = new HashSet<>(found);
+            truePositives.retainAll(expected);
+            double recall = expected.isEmpty() ? 1.0 : (double) truePositives.size() / expected.size();
+            double precision = found.isEmpty() ? 1.0 : (double) truePositives.size() / found.size();
+            double speedup = (double) allPairsNanos / lshNanos;
+            worstRecall = Math.min(worstRecall, recall);
+            largestSpeedup = Math.max(largestSpeedup, speedup);
+            report.append(String.format(
+                    "%-8d %14.1f %14.2f %7.0fx %10.3f %10.3f%n",
+                    paperCount, allPairsNanos / 1e6, lshNanos / 1e6, speedup, recall, precision));
+        }
+
+        log.info("Plagiarism detection benchmark:\n{}", report);
+        try {
+            Files.writeString(Path.of("target", "plagiarism-detection-benchmark.txt"), report.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        assertTrue(worstRecall >= 0.95, "LSH recall " + worstRecall);
+        assertTrue(largestSpeedup > 10, "LSH speedup " + largestSpeedup);
+    }
+
+    // What CitationAnalysisService.detectPotentialPlagiarism did before, at the
+    // same threshold: matches as "sentence index:paper id"
+
+    private static Set<String> allPairs(List<String> sentences, Map<String, List<ExtractedParagraph>> corpus) {
+        Set<String> matches = new HashSet<>();
+        for (int s = 0; s < sentences.size(); s++) {
+            for (Map.Entry<String, List<ExtractedParagraph>> entry : corpus.entrySet()) {
+                for (ExtractedParagraph paragraph : entry.getValue()) {
+                    if (paragraph.getText() != null && paragraph.getText().length() > 30) {
+                        if (wordOverlap(sentences.get(s), paragraph.getText()) > THRESHOLD) {
+                            matches.add(s + ":" + entry.getKey());
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static double wordOverlap(String text1, String text2) {
+        Set<String> words1 = Arrays.stream(text1.toLowerCase().split("\\W+"))
+                .filter(w -> w.length() > 3)
+                .collect(Collectors.toSet());
+        Set<String> words2 = Arrays.stream(text2.toLowerCase().split("\\W+"))
+                .filter(w -> w.length() > 3)
+                .collect(Collectors.toSet());
+        Set<String> intersection = new HashSet<>(words1);
+        intersection.retainAll(words2);
+        Set<String> union = new HashSet<>(words1);
+        union.addAll(words2);
+        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+    }
+
+    private static Set<String> lsh(List<String> sentences, NearDuplicateIndex index) {
+        Set<String> matches = new HashSet<>();
+        for (int s = 0; s < sentences.size(); s++) {
+            for (NearDuplicateIndex.Match match : index.find(sentences.get(s), THRESHOLD)) {
+                matches.add(s + ":" + match.paperId());
+            }
+        }
+        return matches;
+    }
+
+    private static NearDuplicateIndex index(Map<String, List<ExtractedParagraph>> corpus) {
+        List<PaperLshIndex> papers = new ArrayList<>();
+        corpus.forEach((paperId, paragraphs) -> papers.add(
+                PaperLshIndex.build(paperId, paragraphs, CitationCorpusIndexer.MIN_DUPLICATE_PARAGRAPH_LENGTH)));
+        return NearDuplicateIndex.of(papers);
+    }
+
+    // Fixture
+
+    private Map<String, List<ExtractedParagraph>> corpus(int paperCount) {
+        Map<String, List<ExtractedParagraph>> corpus = new LinkedHashMap<>();
+        for (int p = 0; p < paperCount; p++) {
+            List<ExtractedParagraph> paragraphs = new ArrayList<>();
+            for (int i = 0; i < PARAGRAPHS_PER_PAPER; i++) {
+                String text = i % 5 == 0 ? text(20 + random.nextInt(10)) : text(80 + random.nextInt(80));
+                paragraphs.add(ExtractedParagraph.builder()
+                        .id(UUID.randomUUID())
+                        .text(text)
+                        .minhashSignature(MinHash.encode(MinHash.signature(text)))
+                        .build());
+            }
+            corpus.put(UUID.randomUUID().toString(), paragraphs);
+        }
+        return corpus;
+    }
+
+    private List<String> sentences(Map<String, List<ExtractedParagraph>> corpus) {
+        List<ExtractedParagraph> shortParagraphs = corpus.values().stream()
+                .flatMap(List::stream)
+                .filter(paragraph -> paragraph.getText().split(" ").length < 40)
+                .toList();
+        List<String> sentences = new ArrayList<>();
+        for (int i = 0; i < SENTENCES; i++) {
+            if (i < COPIES) {
+                String source = shortParagraphs
+                        .get(random.nextInt(shortParagraphs.size()))
+                        .getText();
+                sentences.add(edit(source, i % 4));
+            } else {
+                sentences.add(text(25));
+            }
+        }
+        return sentences;
+    }
+
+    private String edit(String text, int replacements) {
+        String[] tokens = text.substring(0, text.length() - 1).split(" ");
+        for (int i = 0; i < replacements; i++) {
+            tokens[random.nextInt(tokens.length)] = word();
+        }
+        return String.join(" ", tokens) + ".";
+    }
+
+    private String text(int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(i == 0 ? "" : " ").append(word());
+        }
+        return text.append('.').toString();
+    }
+
+    private String word() {
+        int index = Arrays.binarySearch(zipf, random.nextDouble());
+        return words[Math.min(VOCABULARY - 1, index >= 0 ? index : -index - 1)];
+    }
+
+    private String[] vocabulary() {
+        String[] vocabulary = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 4 + random.nextInt(7);
+            for (int c = 0; c < length; c++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            vocabulary[i] = word.toString();
+        }
+        return vocabulary;
+    }
+
+    private static double[] zipfCumulative() {
+        double[] cumulative = new double[VOCABULARY];
+        double total = 0;
+        for (int i = 0; i < VOCABULARY; i++) {
+            total += 1.0 / (i + 1);
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < VOCABULARY; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+}
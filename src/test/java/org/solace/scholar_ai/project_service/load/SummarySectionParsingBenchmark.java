@@ -0,0 +1,153 @@
+package org.solace.scholar_ai.project_service.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+import org.solace.scholar_ai.project_service.service.summary.SummarySectionParser;
+
+/**
+ * Compares {@link SummarySectionParser} with the map round trip it replaced:
+ * parse each response into a {@code Map<String, Object>}, convert every
+ * field, then serialize each field again for its TEXT column.
+ *
+ * <p>Inputs are the canned section responses of the fake Gemini server,
+ * wrapped in a markdown fence the way the model usually returns them. No
+ * Spring context is needed. Part of the load suite; run it with
+ * {@code mvn test -Pload-test -Dtest=SummarySectionParsingBenchmark}.
+ * Results are logged and written to {@code target/summary-parsing-benchmark.txt}.
+ */
+@Slf4j
+@Tag("load")
+class SummarySectionParsingBenchmark {
+
+    private static final int WARMUP = Integer.getInteger("load.warmup", 2_000);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 20_000);
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SummarySectionParser parser = new SummarySectionParser(objectMapper, mock(LlmMetrics.class));
+
+    @Test
+    void typedBindingAllocatesLessThanMapRoundTrip() {
+        Map<SummarySection, String> responses = cannedResponses();
+        responses.forEach((section, response) ->
+                assertTrue(parser.parse(section, response).completeness() > 0, section.getKey()));
+
+        // Both paths share Jackson, so warm them together before timing either
+        for (int i = 0; i < WARMUP; i++) {
+            responses.forEach(this::mapRoundTrip);
+            responses.forEach(this::typedBinding);
+        }
+
+        Measurement roundTrip = measure("map round trip", responses, this::mapRoundTrip);
+        Measurement typed = measure("typed binding", responses, this::typedBinding);
+
+        String report = String.format(
+                "5 sections per summary, %d summaries after %d warmup%n%s%n%s%n%s%n",
+                ITERATIONS, WARMUP, Measurement.HEADER, roundTrip.format(), typed.format());
+        log.info("Summary parsing benchmark:\n{}", report);
+        try {
+            Files.writeString(Path.of("target", "summary-parsing-benchmark.txt"), report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        assertTrue(typed.allocatedBytes() < roundTrip.allocatedBytes());
+    }
+
+    // What PaperSummaryGenerationService did before: strip the fence, read a
+    // map, convert the nested values, then write each field back as a string
+
+    private Object mapRoundTrip(SummarySection section, String response) {
+        String json = response.trim();
+        if (json.startsWith("```json")) {
+            json = json.substring(7);
+        }
+        if (json.endsWith("```")) {
+            json = json.substring(0, json.length() - 3);
+        }
+        try {
+            Map<String, Object> parsed = objectMapper.readValue(json.trim(), MAP);
+            List<String> columns = new ArrayList<>(parsed.size());
+            for (Object value : parsed.values()) {
+                columns.add(objectMapper.writeValueAsString(value));
+            }
+            return columns;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object typedBinding(SummarySection section, String response) {
+        SummarySectionPayload payload = parser.parse(section, response);
+        try {
+            // The JSONB columns are written once, by Hibernate's JSON mapper
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Measurement measure(String name, Map<SummarySection, String> responses, SectionHandler handler) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            responses.forEach(handler::handle);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(name, elapsed / 1_000.0 / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static Map<SummarySection, String> cannedResponses() {
+        Map<SummarySection, String> responses = new EnumMap<>(SummarySection.class);
+        for (SummarySection section : SummarySection.values()) {
+            String resource = "/fake-gemini/" + section.getKey() + ".json";
+            try (InputStream in = SummarySectionParsingBenchmark.class.getResourceAsStream(resource)) {
+                assertNotNull(in, "Missing canned response " + resource);
+                responses.put(section, "```json\n" + new String(in.readAllBytes(), StandardCharsets.UTF_8) + "\n```");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return responses;
+    }
+
+    @FunctionalInterface
+    private interface SectionHandler {
+        Object handle(SummarySection section, String response);
+    }
+
+    private record Measurement(String name, double meanMicros, long allocatedBytes) {
+
+        static final String HEADER = String.format("%-16s %14s %18s", "path", "mean µs", "allocated bytes");
+
+        String format() {
+            return String.format("%-16s %14.1f %18d", name, meanMicros, allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.solace.scholar_ai.project_service.service.citation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusParagraphRow;
+import org.solace.scholar_ai.project_service.model.citation.CitationCheck;
+import org.solace.scholar_ai.project_service.model.citation.CitationIssue;
+import org.solace.scholar_ai.project_service.repository.extraction.PaperExtractionRepository;
+import org.solace.scholar_ai.project_service.repository.paper.PaperAuthorRepository;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.service.ai.GeminiGeneralService;
+import org.solace.scholar_ai.project_service.service.citation.incremental.CitationBaseline;
+import org.solace.scholar_ai.project_service.service.citation.index.CitationCorpusIndexer;
+import org.solace.scholar_ai.project_service.service.coordination.LlmFanOutExecutor;
+
+class CitationAnalysisServiceTest {
+
+    private static final Pattern ITEM = Pattern.compile("ITEM (\\d+)");
+    private static final String[] TOPICS = {
+        "contrastive pretraining aligns image caption embeddings",
+        "graph neural networks propagate messages between molecules",
+        "diffusion models denoise latent representations iteratively",
+        "reinforcement learning agents maximize discounted rewards",
+        "sparse attention reduces transformer memory consumption",
+        "federated training keeps hospital records decentralized",
+        "curriculum schedules order examples by difficulty",
+        "knowledge distillation compresses teacher networks",
+        "bayesian optimization tunes expensive hyperparameters",
+        "speech recognizers transcribe noisy telephone audio",
+        "protein folding predictors estimate residue distances",
+        "retrieval augmentation grounds generated answers"
+    };
+
+    private GeminiGeneralService geminiGeneralService;
+    private CitationAnalysisService service;
+    private final String paperId = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+        geminiGeneralService = mock(GeminiGeneralService.class);
+        when(geminiGeneralService.generateContent(anyString(), eq(LlmCaller.CITATION_VERIFY)))
+                .thenAnswer(invocation -> supportAll(invocation.getArgument(0)));
+
+        LlmFanOutExecutor fanOut = mock(LlmFanOutExecutor.class);
+        when(fanOut.supplyAsync(any()))
+                .thenAnswer(invocation ->
+                        CompletableFuture.completedFuture(((Supplier<?>) invocation.getArgument(0)).get()));
+
+        PaperExtractionRepository extractionRepository = mock(PaperExtractionRepository.class);
+        UUID extractionId = UUID.randomUUID();
+        when(extractionRepository.findCitationCorpusExtractions(List.of(UUID.fromString(paperId))))
+                .thenReturn(List.of(new CorpusExtractionRow(UUID.fromString(paperId), extractionId, Instant.now())));
+        when(extractionRepository.findCitationParagraphs(Set.of(extractionId))).thenReturn(paragraphs(extractionId));
+        when(extractionRepository.findCitationReferences(any())).thenReturn(List.of());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new CitationAnalysisService(
+                geminiGeneralService,
+                extractionRepository,
+                mock(PaperRepository.class),
+                mock(PaperAuthorRepository.class),
+                new ObjectMapper(),
+                mock(LlmMetrics.class),
+                fanOut,
+                new CitationCorpusIndexer(meterRegistry, 1_000_000),
+                meterRegistry);
+    }
+
+    @Test
+    void analyzeDocument_VerifiesClaimEvidencePairsInBatches() {
+        // Arrange
+        CitationCheck check = check();
+
+        // Act
+        List<CitationIssue> issues = service.analyzeDocument(check, document(null), List.of(paperId), false, null);
+
+        // Assert
+        int pairs = (Integer) check.getSummary().get("verifiedPairCount");
+        assertTrue(pairs >= TOPICS.length, "pairs " + pairs);
+        verify(geminiGeneralService, times((pairs + 7) / 8))
+                .generateContent(anyString(), eq(LlmCaller.CITATION_VERIFY));
+        assertEquals(
+                TOPICS.length,
+                issues.stream()
+                        .filter(issue -> issue.getType() == CitationIssue.IssueType.MISSING_CITATION)
+                        .count());
+        @SuppressWarnings("unchecked")
+        Map<String, Long> timings = (Map<String, Long>) check.getSummary().get("stageTimingsMs");
+        assertTrue(timings.keySet().containsAll(List.of("parsing", "retrieval", "verification", "plagiarism")));
+    }
+
+    @Test
+    void analyzeDocument_ReanalyzesOnlyEditedSentencesAgainstBaseline() {
+        // Arrange
+        CitationCheck previous = check();
+        List<CitationIssue> previousIssues =
+                service.analyzeDocument(previous, document(null), List.of(paperId), false, null);
+        CitationBaseline baseline = CitationBaseline.of(previous, previousIssues);
+        clearInvocations(geminiGeneralService);
+        CitationCheck next = check();
+
+        // Act
+        List<CitationIssue> issues = service.analyzeDocument(
+                next, document("Our new study shows that " + TOPICS[3]), List.of(paperId), false, null, baseline);
+
+        // Assert
+        assertEquals(1, next.getSummary().get("analyzedSentenceCount"));
+        verify(geminiGeneralService, times(1)).generateContent(anyString(), eq(LlmCaller.CITATION_VERIFY));
+        List<CitationIssue> sentenceIssues = issues.stream()
+                .filter(issue -> issue.getSentenceFingerprint() != null)
+                .toList();
+        assertEquals(TOPICS.length, sentenceIssues.size());
+        assertTrue(sentenceIssues.stream().allMatch(issue -> issue.getCitationCheck() == next));
+        assertEquals(
+                previous.getSentenceFingerprints().size(),
+                next.getSentenceFingerprints().size());
+    }
+
+    // Every item supported, so each claim without a citation raises an issue
+    private static String supportAll(String prompt) {
+        List<String> verdicts = new ArrayList<>();
+        Matcher matcher = ITEM.matcher(prompt);
+        while (matcher.find()) {
+            verdicts.add("{\"item\": " + matcher.group(1)
+                    + ", \"decision\": \"supports\", \"confidence\": 0.9, \"rationale\": \"Same finding\"}");
+        }
+        return "```json\n[" + String.join(",", verdicts) + "]\n```";
+    }
+
+    // One claim per line, the fourth replaced by {@code editedClaim} if given
+    private static String document(String editedClaim) {
+        StringBuilder document = new StringBuilder("\\section{Related work}\n");
+        for (int i = 0; i < TOPICS.length; i++) {
+            String claim = i == 3 && editedClaim != null ? editedClaim : "A recent study shows that " + TOPICS[i];
+            document.append(claim).append(".\n");
+        }
+        return document.toString();
+    }
+
+    private static List<CorpusParagraphRow> paragraphs(UUID extractionId) {
+        List<CorpusParagraphRow> paragraphs = new ArrayList<>();
+        for (int i = 0; i < TOPICS.length; i++) {
+            paragraphs.add(new CorpusParagraphRow(
+                    extractionId,
+                    UUID.randomUUID(),
+                    "We find that " + TOPICS[i] + " across every benchmark we evaluated.",
+                    i + 1,
+                    null));
+        }
+        return paragraphs;
+    }
+
+    private static CitationCheck check() {
+        return CitationCheck.builder()
+                .id(UUID.randomUUID())
+                .projectId(UUID.randomUUID())
+                .documentId(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package org.solace.scholar_ai.project_service.service.citation.events;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.solace.scholar_ai.project_service.dto.citation.CitationSummaryDto;
+import org.solace.scholar_ai.project_service.dto.event.citation.CitationJobEvent;
+import org.solace.scholar_ai.project_service.messaging.publisher.citation.CitationJobEventSender;
+import org.solace.scholar_ai.project_service.service.citation.CitationCheckService.CitationJobListener;
+import org.springframework.amqp.AmqpConnectException;
+
+class CitationJobEventHubTest {
+
+    private final UUID jobId = UUID.randomUUID();
+    private CitationJobEventSender sender;
+    private CitationJobEventHub hub;
+    private CitationJobListener listener;
+
+    @BeforeEach
+    void setUp() {
+        sender = mock(CitationJobEventSender.class);
+        hub = new CitationJobEventHub(sender, Duration.ofMinutes(30), 100);
+        listener = mock(CitationJobListener.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void subscribe_ReplaysEventsReceivedBeforeSubscribing() {
+        // Arrange: the job runs on another node
+        CitationSummaryDto summary = CitationSummaryDto.builder().total(0).build();
+        hub.receive(CitationJobEvent.status(jobId, "RUNNING", "PARSING", 10).withSequence(1));
+        hub.receive(
+                CitationJobEvent.status(jobId, "RUNNING", "LOCAL_RETRIEVAL", 30).withSequence(2));
+        @SuppressWarnings("unchecked")
+        Supplier<List<CitationJobEvent>> current = mock(Supplier.class);
+
+        // Act
+        hub.subscribe(jobId, listener, current);
+        hub.receive(
+                CitationJobEvent.status(jobId, "RUNNING", "LOCAL_RETRIEVAL", 30).withSequence(2));
+        hub.receive(CitationJobEvent.summary(jobId, summary).withSequence(3));
+        hub.receive(CitationJobEvent.complete(jobId).withSequence(4));
+        hub.receive(CitationJobEvent.status(jobId, "DONE", "DONE", 100).withSequence(5));
+
+        // Assert
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onStatus(jobId, "RUNNING", "PARSING", 10);
+        inOrder.verify(listener).onStatus(jobId, "RUNNING", "LOCAL_RETRIEVAL", 30);
+        inOrder.verify(listener).onSummary(jobId, summary);
+        inOrder.verify(listener).onComplete(jobId);
+        verifyNoMoreInteractions(listener);
+        verifyNoInteractions(current);
+    }
+
+    @Test
+    void subscribe_CatchesUpFromPersistedStateWithoutEvents() {
+        // Arrange: this node started after the job did
+
+        // Act
+        hub.subscribe(jobId, listener, () -> List.of(CitationJobEvent.status(jobId, "RUNNING", "LOCAL_RETRIEVAL", 30)));
+        hub.receive(CitationJobEvent.status(jobId, "RUNNING", "SAVING", 80).withSequence(5));
+
+        // Assert
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onStatus(jobId, "RUNNING", "LOCAL_RETRIEVAL", 30);
+        inOrder.verify(listener).onStatus(jobId, "RUNNING", "SAVING", 80);
+    }
+
+    @Test
+    void publish_DeliversOnThisNodeWhenBrokerIsUnreachable() {
+        // Arrange
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+                .when(sender)
+                .send(any());
+        hub.subscribe(jobId, listener, List::of);
+
+        // Act
+        hub.publish(CitationJobEvent.status(jobId, "RUNNING", "PARSING", 10));
+        hub.publish(CitationJobEvent.error(jobId, "Gemini unavailable"));
+
+        // Assert
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onStatus(jobId, "RUNNING", "PARSING", 10);
+        inOrder.verify(listener).onError(jobId, "Gemini unavailable");
+        verify(sender, times(2)).send(any());
+    }
+}
@@ -0,0 +1,90 @@
+package org.solace.scholar_ai.project_service.service.citation.incremental;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.model.citation.CitationCheck;
+import org.solace.scholar_ai.project_service.model.citation.CitationEvidence;
+import org.solace.scholar_ai.project_service.model.citation.CitationIssue;
+
+class CitationBaselineTest {
+
+    private static final String SENTENCE = "Prior work shows that contrastive pretraining improves zero-shot accuracy";
+
+    @Test
+    void reuse_MovesIssueAndEvidenceToTheSentencesNewPosition() {
+        // Arrange
+        String fingerprint = SentenceFingerprint.of(SENTENCE, Set.of());
+        CitationCheck previous = check(List.of(fingerprint, SentenceFingerprint.of("Unrelated sentence", Set.of())));
+        CitationIssue issue = issue(previous, fingerprint);
+        issue.setResolved(true);
+        issue.addEvidence(CitationEvidence.builder()
+                .source(Map.of("kind", "local"))
+                .matchedText("Contrastive pretraining raises zero-shot accuracy")
+                .similarity(0.8)
+                .supportScore(0.9)
+                .build());
+        CitationBaseline baseline = CitationBaseline.of(previous, List.of(issue));
+        CitationCheck next = CitationCheck.builder().id(UUID.randomUUID()).build();
+
+        // Act
+        List<CitationIssue> reused = baseline.reuse(fingerprint, next, 500, 572, 20, 20);
+
+        // Assert
+        assertTrue(baseline.appliesTo("context"));
+        assertFalse(baseline.appliesTo("other-context"));
+        assertEquals(1, reused.size());
+        CitationIssue copy = reused.get(0);
+        assertNotSame(issue, copy);
+        assertSame(next, copy.getCitationCheck());
+        assertEquals(500, copy.getFromPos());
+        assertEquals(572, copy.getToPos());
+        assertEquals(20, copy.getLineStart());
+        assertTrue(copy.getResolved());
+        assertEquals(1, copy.getEvidence().size());
+        assertSame(copy, copy.getEvidence().get(0).getCitationIssue());
+        assertEquals(0.9, copy.getEvidence().get(0).getSupportScore());
+    }
+
+    @Test
+    void of_CoversAnalyzedSentencesWithoutIssuesAndIgnoresDocumentLevelIssues() {
+        // Arrange
+        String clean = SentenceFingerprint.of(SENTENCE, Set.of("radford2021"));
+        CitationCheck previous = check(List.of(clean));
+
+        // Act
+        CitationBaseline baseline = CitationBaseline.of(previous, List.of(issue(previous, null)));
+
+        // Assert
+        assertTrue(baseline.covers(clean));
+        assertTrue(baseline.reuse(clean, previous, 0, 10, 1, 1).isEmpty());
+        assertFalse(baseline.covers(SentenceFingerprint.of(SENTENCE, Set.of())));
+        assertNull(CitationBaseline.of(CitationCheck.builder().build(), List.of()));
+    }
+
+    private static CitationCheck check(List<String> fingerprints) {
+        return CitationCheck.builder()
+                .id(UUID.randomUUID())
+                .sentenceFingerprints(fingerprints)
+                .analysisContextHash("context")
+                .build();
+    }
+
+    private static CitationIssue issue(CitationCheck check, String fingerprint) {
+        return CitationIssue.builder()
+                .citationCheck(check)
+                .type(CitationIssue.IssueType.MISSING_CITATION)
+                .severity(CitationIssue.Severity.MEDIUM)
+                .fromPos(100)
+                .toPos(172)
+                .lineStart(4)
+                .lineEnd(4)
+                .snippet(SENTENCE)
+                .sentenceFingerprint(fingerprint)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+
+class Bm25IndexTest {
+
+    private static final String TRANSFORMERS =
+            "Transformer models trained on large corpora achieve strong results on translation benchmarks.";
+    private static final String GRAPHS =
+            "Graph neural networks propagate node features along edges to classify molecules and proteins.";
+    private static final String SAMPLING =
+            "Importance sampling reduces the variance of Monte Carlo estimates for rare event probabilities.";
+
+    @Test
+    void search_RanksParagraphsSharingRareTermsFirstAcrossPapers() {
+        // Arrange
+        Bm25Index index = Bm25Index.of(List.of(
+                PaperTermIndex.build("paper-a", List.of(paragraph(TRANSFORMERS), paragraph(SAMPLING)), 50),
+                PaperTermIndex.build("paper-b", List.of(paragraph(GRAPHS), paragraph("Too short to index.")), 50)));
+
+        // Act
+        List<Bm25Index.Hit> hits = index.search("Graph neural networks classify proteins", 2, 0.0);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(1, hits.size());
+        assertEquals("paper-b", hits.get(0).paperId());
+        assertEquals(GRAPHS, hits.get(0).paragraph().getText());
+        assertTrue(hits.get(0).score() > 0.9);
+    }
+
+    @Test
+    void search_DropsMatchesBelowMinimumScore() {
+        // Arrange
+        Bm25Index index = Bm25Index.of(
+                List.of(PaperTermIndex.build("paper-a", List.of(paragraph(TRANSFORMERS), paragraph(GRAPHS)), 50)));
+
+        // Act
+        List<Bm25Index.Hit> weak = index.search("Large language models hallucinate citations", 5, 0.3);
+        List<Bm25Index.Hit> any = index.search("Large language models hallucinate citations", 5, 0.0);
+
+        // Assert
+        assertTrue(weak.isEmpty());
+        assertEquals(1, any.size());
+    }
+
+    private static ExtractedParagraph paragraph(String text) {
+        return ExtractedParagraph.builder().text(text).build();
+    }
+}
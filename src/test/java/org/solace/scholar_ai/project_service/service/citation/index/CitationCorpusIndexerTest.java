@@ -0,0 +1,75 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.dto.citation.projection.CorpusExtractionRow;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+
+class CitationCorpusIndexerTest {
+
+    private final CitationCorpusIndexer indexer = new CitationCorpusIndexer(new SimpleMeterRegistry(), 1_000_000);
+    private final List<Set<UUID>> loads = new ArrayList<>();
+
+    @Test
+    void index_LoadsOnlyExtractionsMissingOrOutdatedInCache() {
+        // Arrange
+        Instant extractedAt = Instant.parse("2026-01-01T00:00:00Z");
+        CorpusExtractionRow first = extraction(extractedAt);
+        CorpusExtractionRow second = extraction(extractedAt);
+        indexer.index(List.of(first), this::load);
+        CorpusExtractionRow reextracted =
+                new CorpusExtractionRow(first.paperId(), first.extractionId(), extractedAt.plusSeconds(60));
+
+        // Act
+        CorpusIndex cached = indexer.index(List.of(first, second), this::load);
+        CorpusIndex updated = indexer.index(List.of(reextracted, second), this::load);
+
+        // Assert
+        assertEquals(
+                List.of(Set.of(first.extractionId()), Set.of(second.extractionId()), Set.of(first.extractionId())),
+                loads);
+        assertEquals(2, cached.evidence().size());
+        assertNotEquals(cached.version(), updated.version());
+    }
+
+    @Test
+    void invalidatePaper_ReloadsPaperOnNextIndex() {
+        // Arrange
+        CorpusExtractionRow extraction = extraction(Instant.now());
+        indexer.index(List.of(extraction), this::load);
+
+        // Act
+        indexer.invalidatePaper(extraction.paperId());
+        indexer.index(List.of(extraction), this::load);
+
+        // Assert
+        assertEquals(List.of(Set.of(extraction.extractionId()), Set.of(extraction.extractionId())), loads);
+    }
+
+    private Map<UUID, List<ExtractedParagraph>> load(Set<UUID> extractionIds) {
+        loads.add(extractionIds);
+        Map<UUID, List<ExtractedParagraph>> paragraphs = new HashMap<>();
+        for (UUID extractionId : extractionIds) {
+            paragraphs.put(
+                    extractionId,
+                    List.of(ExtractedParagraph.builder()
+                            .text("Contrastive pretraining aligns image and caption embeddings across every"
+                                    + " benchmark we evaluated.")
+                            .build()));
+        }
+        return paragraphs;
+    }
+
+    private static CorpusExtractionRow extraction(Instant updatedAt) {
+        return new CorpusExtractionRow(UUID.randomUUID(), UUID.randomUUID(), updatedAt);
+    }
+}
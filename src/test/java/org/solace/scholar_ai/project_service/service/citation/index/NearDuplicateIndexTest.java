@@ -0,0 +1,58 @@
+package org.solace.scholar_ai.project_service.service.citation.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.model.extraction.ExtractedParagraph;
+import org.solace.scholar_ai.project_service.util.text.MinHash;
+
+class NearDuplicateIndexTest {
+
+    private static final String COPIED = "Contrastive pretraining aligns image and caption embeddings, which lets"
+            + " the model classify unseen categories from their textual descriptions alone.";
+    private static final String UNRELATED = "Importance sampling reduces the variance of Monte Carlo estimates"
+            + " for rare event probabilities in reliability engineering.";
+
+    @Test
+    void find_MatchesLightlyEditedCopyThroughStoredSignatures() {
+        // Arrange
+        ExtractedParagraph stored = ExtractedParagraph.builder()
+                .text(COPIED)
+                .minhashSignature(MinHash.encode(MinHash.signature(COPIED)))
+                .build();
+        NearDuplicateIndex index = NearDuplicateIndex.of(List.of(
+                PaperLshIndex.build("paper-a", List.of(stored), 30),
+                PaperLshIndex.build("paper-b", List.of(paragraph(UNRELATED)), 30)));
+        String sentence = COPIED.replace("alone", "only");
+
+        // Act
+        List<NearDuplicateIndex.Match> matches = index.find(sentence, 0.85);
+
+        // Assert
+        assertEquals(1, matches.size());
+        assertEquals("paper-a", matches.get(0).paperId());
+        assertSame(stored, matches.get(0).paragraph());
+        assertTrue(matches.get(0).similarity() > 0.85);
+    }
+
+    @Test
+    void find_SignsLegacyParagraphsAndVerifiesExactly() {
+        // Arrange
+        PaperLshIndex paper = PaperLshIndex.build("paper-a", List.of(paragraph(COPIED), paragraph(UNRELATED)), 30);
+        NearDuplicateIndex index = NearDuplicateIndex.of(List.of(paper));
+
+        // Act
+        List<NearDuplicateIndex.Match> exact = index.find(COPIED, 0.85);
+        List<NearDuplicateIndex.Match> unrelated = index.find("Variance reduction for rare events", 0.85);
+
+        // Assert
+        assertEquals(2, paper.getSignedOnIndex());
+        assertEquals(1.0, exact.get(0).similarity());
+        assertTrue(unrelated.isEmpty());
+    }
+
+    private static ExtractedParagraph paragraph(String text) {
+        return ExtractedParagraph.builder().text(text).build();
+    }
+}
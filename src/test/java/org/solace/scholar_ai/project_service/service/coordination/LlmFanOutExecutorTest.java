@@ -0,0 +1,89 @@
+package org.solace.scholar_ai.project_service.service.coordination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.client.gemini.AdaptiveConcurrencyLimiter;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.LlmPriority;
+import org.springframework.web.client.ResourceAccessException;
+
+class LlmFanOutExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyLimiter limiter;
+    private LlmFanOutExecutor fanOut;
+
+    @BeforeEach
+    void setUp() {
+        GeminiConfig config = new GeminiConfig();
+        config.getLimiter().setInitialLimit(8);
+        config.getLimiter().setBatchShare(0.5);
+        config.getLimiter().setBackoffRatio(0.5);
+        limiter = new AdaptiveConcurrencyLimiter(config, meterRegistry);
+        fanOut = new LlmFanOutExecutor(limiter, meterRegistry, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+        limiter.shutdown();
+    }
+
+    @Test
+    void supplyAsync_FollowsBatchCapacityWhenLimitShrinks() throws Exception {
+        // Arrange: a timeout halves the limit, leaving two of four batch slots
+        AdaptiveConcurrencyLimiter.Permit permit =
+                limiter.acquire(LlmCaller.SUMMARY).get(1, TimeUnit.SECONDS);
+        limiter.release(permit, new ResourceAccessException("Read timed out"));
+        CountDownLatch blocked = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // Act
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(fanOut.supplyAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return running.decrementAndGet();
+            }));
+        }
+        awaitGauge("llm.fanout.waiting", 2);
+        double active = meterRegistry.get("llm.fanout.active").gauge().value();
+        blocked.countDown();
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(2, limiter.capacity(LlmPriority.BATCH));
+        assertEquals(2.0, active);
+        assertEquals(2, maxRunning.get());
+        assertEquals(0.0, meterRegistry.get("llm.fanout.active").gauge().value());
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (meterRegistry.get(name).gauge().value() == expected) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail(name + " never reached " + expected);
+    }
+}
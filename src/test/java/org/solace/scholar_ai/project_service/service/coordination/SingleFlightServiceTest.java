@@ -0,0 +1,217 @@
+package org.solace.scholar_ai.project_service.service.coordination;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.solace.scholar_ai.project_service.repository.coordination.JobLeaseRepository;
+
+class SingleFlightServiceTest {
+
+    private static final String OPERATION = "summary";
+    private static final String LEASE_KEY = "summary:paper-1";
+    private static final Duration LEASE_TTL = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobLeaseRepository leaseRepository;
+    private SingleFlightService service;
+
+    @BeforeEach
+    void setUp() {
+        leaseRepository = mock(JobLeaseRepository.class);
+        when(leaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1);
+        service = new SingleFlightService(
+                leaseRepository, meterRegistry, new NodeIdentity(), LEASE_TTL, Duration.ofMillis(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void execute_FollowersShareLeadersResult() throws Exception {
+        // Arrange
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(() -> {
+            computations.incrementAndGet();
+            leaderRunning.countDown();
+            awaitLatch(finish);
+            return "summary";
+        }));
+        assertTrue(leaderRunning.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> execute(() -> {
+            computations.incrementAndGet();
+            return "duplicate";
+        }));
+        awaitFollowers(1);
+        finish.countDown();
+
+        // Assert
+        assertEquals("summary", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("summary", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, computations.get());
+    }
+
+    @Test
+    void execute_FollowersRethrowLeadersRuntimeException() throws Exception {
+        // Arrange
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("model unavailable");
+
+        // Act
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(() -> {
+            leaderRunning.countDown();
+            awaitLatch(finish);
+            throw failure;
+        }));
+        assertTrue(leaderRunning.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Throwable> follower = CompletableFuture.supplyAsync(
+                () -> assertThrows(IllegalStateException.class, () -> execute(() -> "duplicate")));
+        awaitFollowers(1);
+        finish.countDown();
+
+        // Assert: the follower sees the leader's exception itself, not a CompletionException
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, follower.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_ForgetsFlightAfterSuccessAndFailure() {
+        // Arrange
+        AtomicInteger computations = new AtomicInteger();
+
+        // Act
+        execute(() -> computations.incrementAndGet());
+        assertThrows(
+                IllegalStateException.class,
+                () -> execute(() -> {
+                    computations.incrementAndGet();
+                    throw new IllegalStateException("boom");
+                }));
+        int result = execute(() -> computations.incrementAndGet());
+
+        // Assert: every call led its own flight
+        assertEquals(3, result);
+        assertEquals(3.0, calls("leader"));
+        assertEquals(0.0, calls("follower"));
+    }
+
+    @Test
+    void execute_PollsUntilLeaseIsFreeThenReleasesIt() {
+        // Arrange: another node holds the lease for two polls
+        when(leaseRepository.tryAcquire(eq(LEASE_KEY), anyString(), anyLong())).thenReturn(0, 0, 1);
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        String result = execute(() -> "summary");
+
+        // Assert
+        assertEquals("summary", result);
+        verify(leaseRepository, times(3)).tryAcquire(eq(LEASE_KEY), owner.capture(), eq(1L));
+        verify(leaseRepository).release(LEASE_KEY, owner.getValue());
+    }
+
+    @Test
+    void execute_ProceedsWithoutLeaseAfterTwoLeaseLifetimes() {
+        // Arrange
+        when(leaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(0);
+        long startNanos = System.nanoTime();
+
+        // Act
+        String result = execute(() -> "summary");
+
+        // Assert
+        assertEquals("summary", result);
+        assertTrue(System.nanoTime() - startNanos >= LEASE_TTL.multipliedBy(2).toNanos());
+        verify(leaseRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void execute_ProceedsWithoutLeaseWhenRepositoryFails() {
+        // Arrange
+        when(leaseRepository.tryAcquire(anyString(), anyString(), anyLong()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // Act
+        String result = execute(() -> "summary");
+
+        // Assert
+        assertEquals("summary", result);
+        verify(leaseRepository, times(1)).tryAcquire(anyString(), anyString(), anyLong());
+        verify(leaseRepository, never()).renew(anyString(), anyString(), anyLong());
+        verify(leaseRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    void execute_RenewsLeaseWhileComputationRuns() {
+        // Arrange: renewal runs every second at the earliest, so wait for one
+        CountDownLatch renewed = new CountDownLatch(1);
+        when(leaseRepository.renew(anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            renewed.countDown();
+            return 1;
+        });
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        String result = execute(() -> {
+            awaitLatch(renewed);
+            return "summary";
+        });
+
+        // Assert
+        assertEquals("summary", result);
+        verify(leaseRepository).tryAcquire(eq(LEASE_KEY), owner.capture(), eq(1L));
+        verify(leaseRepository, atLeastOnce()).renew(LEASE_KEY, owner.getValue(), 1L);
+        verify(leaseRepository).release(LEASE_KEY, owner.getValue());
+    }
+
+    private <T> T execute(Supplier<T> computation) {
+        return service.execute(OPERATION, "paper-1", "hash", computation);
+    }
+
+    private void awaitFollowers(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("follower") < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("Follower did not join the flight");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private double calls(String role) {
+        return meterRegistry
+                .counter("single.flight.calls", "operation", OPERATION, "role", role)
+                .count();
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
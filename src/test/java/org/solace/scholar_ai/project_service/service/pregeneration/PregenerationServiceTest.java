@@ -0,0 +1,205 @@
+package org.solace.scholar_ai.project_service.service.pregeneration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.solace.scholar_ai.project_service.constant.PregenerationTask;
+import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.pregeneration.PregenerationJob;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.papersearch.WebSearchOperationRepository;
+import org.solace.scholar_ai.project_service.repository.pregeneration.PregenerationJobRepository;
+import org.solace.scholar_ai.project_service.repository.project.ProjectRepository;
+import org.solace.scholar_ai.project_service.service.ai.AbstractAnalysisService;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.service.summary.PaperSummaryGenerationService;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PregenerationServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long VERIFY_TIMEOUT_MS = 5000;
+
+    private final UUID paperId = UUID.randomUUID();
+    private PregenerationJob job;
+    private PregenerationJobRepository jobRepository;
+    private PaperSummaryGenerationService summaryGenerationService;
+    private SimpleMeterRegistry meterRegistry;
+    private PregenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(PregenerationJobRepository.class);
+        PaperRepository paperRepository = mock(PaperRepository.class);
+        summaryGenerationService = mock(PaperSummaryGenerationService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        Paper paper = new Paper();
+        paper.setId(paperId);
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(paper));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        queueOneJob();
+
+        service = new PregenerationService(
+                jobRepository,
+                paperRepository,
+                mock(ProjectRepository.class),
+                mock(WebSearchOperationRepository.class),
+                summaryGenerationService,
+                mock(AbstractAnalysisService.class),
+                transactionTemplate,
+                meterRegistry,
+                new NodeIdentity(),
+                true,
+                Duration.ofMillis(10),
+                4,
+                2,
+                MAX_ATTEMPTS,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(45),
+                Duration.ofMinutes(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void failingJob_IsRetriedWithBackoffThenAbandonedAfterMaxAttempts() {
+        // Arrange
+        when(summaryGenerationService.generateSummary(paperId, false)).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        service.startWorkers();
+
+        // Assert: backoff doubles from 30s and is capped at 45s
+        verify(jobRepository, timeout(VERIFY_TIMEOUT_MS)).fail(eq(job.getId()), anyString(), eq("boom"));
+        InOrder inOrder = inOrder(jobRepository);
+        inOrder.verify(jobRepository).claim(eq(List.of(job.getId())), anyString());
+        inOrder.verify(jobRepository).retryLater(eq(job.getId()), anyString(), eq(30L), eq("boom"));
+        inOrder.verify(jobRepository).claim(eq(List.of(job.getId())), anyString());
+        inOrder.verify(jobRepository).retryLater(eq(job.getId()), anyString(), eq(45L), eq("boom"));
+        inOrder.verify(jobRepository).claim(eq(List.of(job.getId())), anyString());
+        inOrder.verify(jobRepository).fail(eq(job.getId()), anyString(), eq("boom"));
+        verify(jobRepository, never()).complete(any(), anyString());
+        verify(summaryGenerationService, times(MAX_ATTEMPTS)).generateSummary(paperId, false);
+        assertEquals(MAX_ATTEMPTS, job.getAttempts());
+        awaitOutcome("failed");
+        assertEquals(2.0, outcomes("retried"));
+    }
+
+    @Test
+    void unextractedPaper_IsAbandonedWithoutRetry() {
+        // Arrange
+        when(summaryGenerationService.generateSummary(paperId, false))
+                .thenThrow(new PaperNotExtractedException(paperId));
+
+        // Act
+        service.startWorkers();
+
+        // Assert
+        verify(jobRepository, timeout(VERIFY_TIMEOUT_MS)).fail(eq(job.getId()), anyString(), anyString());
+        verify(jobRepository, never()).retryLater(any(), anyString(), anyLong(), any());
+        assertEquals(1, job.getAttempts());
+        awaitOutcome("failed");
+    }
+
+    @Test
+    void succeedingJob_IsCompletedByItsClaimer() {
+        // Act
+        service.startWorkers();
+
+        // Assert
+        verify(jobRepository, timeout(VERIFY_TIMEOUT_MS)).complete(eq(job.getId()), anyString());
+        verify(jobRepository, never()).retryLater(any(), anyString(), anyLong(), any());
+        assertEquals(PregenerationJob.Status.COMPLETED, job.getStatus());
+        awaitOutcome("completed");
+    }
+
+    /**
+     * Back the repository's native queue queries with a single in-memory
+     * summary job. Backoff delays are recorded but not waited for.
+     */
+    private void queueOneJob() {
+        job = PregenerationJob.builder()
+                .id(UUID.randomUUID())
+                .paperId(paperId)
+                .task(PregenerationTask.SUMMARY)
+                .status(PregenerationJob.Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(Instant.now())
+                .createdAt(Instant.now())
+                .build();
+
+        when(jobRepository.lockClaimable(anyLong(), anyInt())).thenAnswer(invocation -> {
+            synchronized (job) {
+                return job.getStatus() == PregenerationJob.Status.PENDING ? List.of(job.getId()) : List.of();
+            }
+        });
+        when(jobRepository.claim(anyCollection(), anyString())).thenAnswer(invocation -> {
+            synchronized (job) {
+                job.setStatus(PregenerationJob.Status.RUNNING);
+                job.setOwner(invocation.getArgument(1));
+                job.setAttempts(job.getAttempts() + 1);
+            }
+            return 1;
+        });
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        when(jobRepository.retryLater(eq(job.getId()), anyString(), anyLong(), any()))
+                .thenAnswer(invocation -> finish(PregenerationJob.Status.PENDING));
+        when(jobRepository.complete(eq(job.getId()), anyString()))
+                .thenAnswer(invocation -> finish(PregenerationJob.Status.COMPLETED));
+        when(jobRepository.fail(eq(job.getId()), anyString(), any()))
+                .thenAnswer(invocation -> finish(PregenerationJob.Status.FAILED));
+    }
+
+    private int finish(PregenerationJob.Status status) {
+        synchronized (job) {
+            job.setStatus(status);
+            job.setOwner(null);
+        }
+        return 1;
+    }
+
+    /**
+     * The outcome is counted just after the repository call the test waits on
+     */
+    private void awaitOutcome(String outcome) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(VERIFY_TIMEOUT_MS);
+        while (outcomes(outcome) < 1.0) {
+            if (System.nanoTime() > deadline) {
+                fail("No " + outcome + " job was counted");
+            }
+            Thread.onSpinWait();
+        }
+        assertEquals(1.0, outcomes(outcome));
+    }
+
+    private double outcomes(String outcome) {
+        return meterRegistry
+                .counter("pregeneration.jobs", "task", PregenerationTask.SUMMARY.name(), "outcome", outcome)
+                .count();
+    }
+}
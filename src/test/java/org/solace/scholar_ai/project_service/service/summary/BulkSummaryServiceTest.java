@@ -0,0 +1,174 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.BulkSummaryRequestDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryPlan;
+import org.solace.scholar_ai.project_service.exception.PaperNotExtractedException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.SummaryBatch;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.repository.summary.SummaryBatchRepository;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+import org.solace.scholar_ai.project_service.service.paper.PaperPersistenceService;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class BulkSummaryServiceTest {
+
+    private SummaryBatchRepository batchRepository;
+    private PaperRepository paperRepository;
+    private PaperSummaryRepository summaryRepository;
+    private PaperSummaryGenerationService summaryGenerationService;
+    private SummaryJobService summaryJobService;
+    private BulkSummaryService service;
+    private SummaryBatch saved;
+
+    @BeforeEach
+    void setUp() {
+        batchRepository = mock(SummaryBatchRepository.class);
+        paperRepository = mock(PaperRepository.class);
+        summaryRepository = mock(PaperSummaryRepository.class);
+        summaryGenerationService = mock(PaperSummaryGenerationService.class);
+        summaryJobService = mock(SummaryJobService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.getTransactionManager()).thenReturn(mock(PlatformTransactionManager.class));
+
+        when(batchRepository.save(any(SummaryBatch.class))).thenAnswer(invocation -> {
+            SummaryBatch batch = invocation.getArgument(0);
+            if (batch.getId() == null) {
+                batch.setId(UUID.randomUUID());
+                saved = batch;
+            }
+            return batch;
+        });
+        when(batchRepository.claim(any(), anyString(), anyLong())).thenReturn(1);
+        when(batchRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(saved));
+
+        service = new BulkSummaryService(
+                batchRepository,
+                paperRepository,
+                summaryRepository,
+                mock(PaperPersistenceService.class),
+                summaryGenerationService,
+                summaryJobService,
+                transactionTemplate,
+                new NodeIdentity(),
+                4,
+                8,
+                0,
+                500,
+                Duration.ofSeconds(15),
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(30),
+                3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void submit_SkipsUpToDatePapersAndStopsAtTokenBudget() throws Exception {
+        // Arrange
+        UUID upToDate = extractedPaper();
+        UUID stale = extractedPaper();
+        UUID overBudget = extractedPaper();
+        UUID notExtracted = extractedPaper();
+        when(summaryGenerationService.planSummary(upToDate)).thenReturn(new SummaryPlan(true, Set.of(), 0));
+        when(summaryGenerationService.planSummary(stale))
+                .thenReturn(new SummaryPlan(true, EnumSet.of(SummarySection.METHODS), 600));
+        when(summaryGenerationService.planSummary(overBudget))
+                .thenReturn(new SummaryPlan(false, EnumSet.allOf(SummarySection.class), 600));
+        doThrow(new PaperNotExtractedException("Paper has not been extracted yet."))
+                .when(summaryGenerationService)
+                .requireExtracted(argThat(paper -> paper != null && notExtracted.equals(paper.getId())));
+
+        UUID jobId = UUID.randomUUID();
+        when(summaryRepository.existsByPaperId(stale)).thenReturn(true);
+        when(summaryJobService.submit(stale, true))
+                .thenReturn(SummaryJob.builder().id(jobId).paperId(stale).build());
+        when(summaryJobService.awaitCompletion(jobId))
+                .thenReturn(CompletableFuture.completedFuture(SummaryJobDto.builder()
+                        .jobId(jobId)
+                        .status(SummaryJob.Status.COMPLETED.name())
+                        .build()));
+
+        // Act
+        service.submit(BulkSummaryRequestDto.builder()
+                .paperIds(List.of(upToDate, stale, stale, overBudget, notExtracted))
+                .parallelism(1)
+                .maxTokens(1000L)
+                .build());
+        SummaryBatch batch = awaitFinished();
+
+        // Assert
+        assertEquals(SummaryBatch.Status.COMPLETED, batch.getStatus());
+        assertEquals(4, batch.getPapers().size());
+        assertEquals(SummaryBatch.PaperState.UP_TO_DATE, state(batch, upToDate));
+        assertEquals(SummaryBatch.PaperState.COMPLETED, state(batch, stale));
+        assertEquals(SummaryBatch.PaperState.OVER_BUDGET, state(batch, overBudget));
+        assertEquals(SummaryBatch.PaperState.NOT_EXTRACTED, state(batch, notExtracted));
+        assertEquals(600L, batch.getTokensReserved());
+        verify(summaryJobService).submit(stale, true);
+        verify(summaryJobService, never()).submit(eq(upToDate), anyBoolean());
+        verify(summaryJobService, never()).submit(eq(overBudget), anyBoolean());
+    }
+
+    @Test
+    void submit_RejectsRequestWithoutPapers() {
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.submit(BulkSummaryRequestDto.builder().build()));
+        verify(batchRepository, never()).save(any());
+    }
+
+    private UUID extractedPaper() {
+        UUID paperId = UUID.randomUUID();
+        Paper paper = new Paper();
+        paper.setId(paperId);
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(paper));
+        return paperId;
+    }
+
+    private SummaryBatch awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (saved != null) {
+                synchronized (saved) {
+                    if (saved.isFinished()) {
+                        return saved;
+                    }
+                }
+            }
+            Thread.sleep(20);
+        }
+        fail("Summary batch did not finish");
+        return null;
+    }
+
+    private static SummaryBatch.PaperState state(SummaryBatch batch, UUID paperId) {
+        return batch.getPapers().get(paperId.toString()).getState();
+    }
+}
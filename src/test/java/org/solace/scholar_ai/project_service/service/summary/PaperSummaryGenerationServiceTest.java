@@ -0,0 +1,160 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.client.UserNotificationClient;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.config.GeminiConfig;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.ExtractionContext;
+import org.solace.scholar_ai.project_service.dto.summary.section.EthicsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySections;
+import org.solace.scholar_ai.project_service.exception.LlmCapacityExceededException;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.repository.paper.PaperRepository;
+import org.solace.scholar_ai.project_service.repository.papersearch.WebSearchOperationRepository;
+import org.solace.scholar_ai.project_service.repository.project.ProjectRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.service.coordination.LlmFanOutExecutor;
+import org.solace.scholar_ai.project_service.service.coordination.SingleFlightService;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PaperSummaryGenerationServiceTest {
+
+    private final UUID paperId = UUID.randomUUID();
+    private PaperSummaryRepository summaryRepository;
+    private GeminiService geminiService;
+    private UserNotificationClient notificationClient;
+    private PaperSummaryGenerationService service;
+
+    @BeforeEach
+    void setUp() {
+        PaperRepository paperRepository = mock(PaperRepository.class);
+        ExtractionContextLoader extractionContextLoader = mock(ExtractionContextLoader.class);
+        summaryRepository = mock(PaperSummaryRepository.class);
+        geminiService = mock(GeminiService.class);
+        notificationClient = mock(UserNotificationClient.class);
+        SingleFlightService singleFlightService = mock(SingleFlightService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        LlmMetrics llmMetrics = mock(LlmMetrics.class);
+        LlmFanOutExecutor llmFanOutExecutor = mock(LlmFanOutExecutor.class);
+
+        Paper paper = new Paper();
+        paper.setId(paperId);
+        paper.setTitle("Adaptive Query Processing");
+        paper.setIsExtracted(true);
+        paper.setExtractionStatus("COMPLETED");
+        when(paperRepository.findById(paperId)).thenReturn(Optional.of(paper));
+        when(extractionContextLoader.load(paperId)).thenReturn(Optional.of(context()));
+        when(summaryRepository.save(any(PaperSummary.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(singleFlightService.execute(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+        when(llmFanOutExecutor.supplyAsync(any()))
+                .thenAnswer(invocation ->
+                        CompletableFuture.supplyAsync((Supplier<?>) invocation.getArgument(0), Runnable::run));
+
+        service = new PaperSummaryGenerationService(
+                paperRepository,
+                extractionContextLoader,
+                summaryRepository,
+                geminiService,
+                notificationClient,
+                mock(WebSearchOperationRepository.class),
+                mock(ProjectRepository.class),
+                singleFlightService,
+                new GeminiConfig(),
+                transactionTemplate,
+                llmMetrics,
+                llmFanOutExecutor,
+                new SummarySectionParser(new ObjectMapper(), llmMetrics));
+    }
+
+    @Test
+    void regenerateSections_KeepsLastGoodPayloadOfFailedSection() {
+        // Arrange: the stored ethics section is real output, and regenerating it fails
+        EthicsSection lastGood = new EthicsSection(null, List.of("Sampling bias"), null, "CC-BY", null, null);
+        PaperSummary previous = PaperSummary.builder()
+                .id(UUID.randomUUID())
+                .generationTimestamp(Instant.now().minusSeconds(60))
+                .sectionPayloads(SummarySections.EMPTY.with(SummarySection.ETHICS, lastGood))
+                .build();
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.of(previous));
+        failSection(SummarySection.ETHICS);
+
+        // Act
+        PaperSummary summary = service.regenerateSections(
+                paperId, EnumSet.of(SummarySection.ETHICS), Map.of(), SummaryProgressListener.NONE);
+
+        // Assert
+        assertEquals(previous.getId(), summary.getId());
+        assertEquals(lastGood, summary.getSectionPayloads().get(SummarySection.ETHICS));
+        assertEquals("CC-BY", summary.getDataRights());
+        assertEquals(List.of(SummarySection.ETHICS.getKey()), summary.getProvisionalSections());
+        assertFalse(summary.getSectionInputHashes().containsKey(SummarySection.ETHICS.getKey()));
+        assertEquals(PaperSummary.ResponseSource.FALLBACK, summary.getResponseSource());
+        verifyNoInteractions(notificationClient);
+    }
+
+    @Test
+    void generateSummary_MarksFailedSectionProvisionalOnFirstSummary() {
+        // Arrange
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.empty());
+        failSection(SummarySection.METHODS);
+
+        // Act
+        PaperSummary summary = service.generateSummary(paperId);
+
+        // Assert
+        assertNull(summary.getSectionPayloads().get(SummarySection.METHODS));
+        assertNotNull(summary.getSectionPayloads().get(SummarySection.QUICK_TAKE));
+        assertEquals(List.of(SummarySection.METHODS.getKey()), summary.getProvisionalSections());
+        assertEquals(PaperSummary.ResponseSource.FALLBACK, summary.getResponseSource());
+        assertTrue(summary.getFallbackReason().startsWith("Section generation failed"));
+        verifyNoInteractions(notificationClient);
+    }
+
+    private void failSection(SummarySection failing) {
+        when(geminiService.generate(anyString(), any(), eq(LlmCaller.SUMMARY))).thenAnswer(invocation -> {
+            GeminiService.GenerationConfig config = invocation.getArgument(1);
+            if (failing.getKey().equals(config.getOperation())) {
+                throw new LlmCapacityExceededException(LlmCaller.SUMMARY, Duration.ofSeconds(30));
+            }
+            return "{}";
+        });
+    }
+
+    private static ExtractionContext context() {
+        return ExtractionContext.builder()
+                .title("Adaptive Query Processing")
+                .abstractText("We study adaptive query processing.")
+                .sections(List.of())
+                .figures(List.of())
+                .tables(List.of())
+                .equations(List.of())
+                .codeBlocks(List.of())
+                .references(List.of())
+                .entities(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.SummaryJobDto;
+import org.solace.scholar_ai.project_service.model.paper.Paper;
+import org.solace.scholar_ai.project_service.model.summary.PaperSummary;
+import org.solace.scholar_ai.project_service.model.summary.SummaryJob;
+import org.solace.scholar_ai.project_service.repository.coordination.JobLeaseRepository;
+import org.solace.scholar_ai.project_service.repository.summary.PaperSummaryRepository;
+import org.solace.scholar_ai.project_service.service.coordination.NodeIdentity;
+
+class ProvisionalSummaryRepairServiceTest {
+
+    private PaperSummaryRepository summaryRepository;
+    private SummaryJobService summaryJobService;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private ProvisionalSummaryRepairService service;
+
+    @BeforeEach
+    void setUp() {
+        summaryRepository = mock(PaperSummaryRepository.class);
+        summaryJobService = mock(SummaryJobService.class);
+        JobLeaseRepository leaseRepository = mock(JobLeaseRepository.class);
+        when(leaseRepository.tryAcquire(anyString(), anyString(), anyLong())).thenReturn(1);
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        meterRegistry = new SimpleMeterRegistry();
+
+        service = new ProvisionalSummaryRepairService(
+                summaryRepository,
+                summaryJobService,
+                leaseRepository,
+                circuitBreakerRegistry,
+                meterRegistry,
+                new NodeIdentity(),
+                true,
+                Duration.ofMinutes(1),
+                2,
+                20,
+                8,
+                Duration.ofMinutes(5),
+                Duration.ofHours(6));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void drain_RegeneratesProvisionalSectionsAndBacksOffWhileSomeRemain() throws Exception {
+        // Arrange
+        PaperSummary summary = provisionalSummary(List.of("methods", "ethics"));
+        UUID paperId = summary.getPaper().getId();
+        when(summaryRepository.countProvisional()).thenReturn(1L).thenReturn(0L);
+        when(summaryRepository.countProvisionalSections()).thenReturn(2L).thenReturn(0L);
+        when(summaryRepository.findProvisional(anyInt(), anyInt())).thenReturn(List.of(summary));
+
+        UUID jobId = UUID.randomUUID();
+        when(summaryJobService.submitSections(eq(paperId), any()))
+                .thenReturn(SummaryJob.builder().id(jobId).paperId(paperId).build());
+        when(summaryJobService.awaitCompletion(jobId))
+                .thenReturn(CompletableFuture.completedFuture(SummaryJobDto.builder()
+                        .jobId(jobId)
+                        .status(SummaryJob.Status.COMPLETED.name())
+                        .build()));
+        // Ethics fell back again, methods was repaired
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.of(provisionalSummary(List.of("ethics"))));
+
+        // Act
+        service.drain();
+        double repaired = awaitRepairedSections(1);
+
+        // Assert
+        verify(summaryJobService).submitSections(paperId, EnumSet.of(SummarySection.METHODS, SummarySection.ETHICS));
+        assertEquals(1.0, repaired);
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .counter("summary.provisional.repairs", "outcome", "still_provisional")
+                        .count());
+        verify(summaryRepository, timeout(5_000)).retryProvisionalLater(paperId, 300);
+        verify(summaryRepository).findProvisional(anyInt(), anyInt());
+    }
+
+    @Test
+    void drain_GivesUpAfterMaxAttemptsWithoutDrainingAgain() {
+        // Arrange: the job completes as failed on every attempt
+        PaperSummary summary = provisionalSummary(List.of("methods"));
+        summary.setProvisionalRepairAttempts(7);
+        UUID paperId = summary.getPaper().getId();
+        when(summaryRepository.countProvisional()).thenReturn(1L);
+        when(summaryRepository.countProvisionalSections()).thenReturn(1L);
+        when(summaryRepository.findProvisional(anyInt(), anyInt())).thenReturn(List.of(summary));
+        when(summaryRepository.findByPaperId(paperId)).thenReturn(Optional.of(summary));
+
+        UUID jobId = UUID.randomUUID();
+        when(summaryJobService.submitSections(eq(paperId), any()))
+                .thenReturn(SummaryJob.builder().id(jobId).paperId(paperId).build());
+        when(summaryJobService.awaitCompletion(jobId))
+                .thenReturn(CompletableFuture.completedFuture(SummaryJobDto.builder()
+                        .jobId(jobId)
+                        .status(SummaryJob.Status.FAILED.name())
+                        .errorMessage("Gemini returned no candidates")
+                        .build()));
+
+        // Act
+        service.drain();
+
+        // Assert: eighth attempt, backoff capped at six hours
+        verify(summaryRepository, timeout(5_000))
+                .retryProvisionalLater(paperId, Duration.ofHours(6).toSeconds());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .counter("summary.provisional.repairs", "outcome", "abandoned")
+                        .count());
+        verify(summaryRepository).findProvisional(anyInt(), eq(20));
+        verify(summaryJobService).submitSections(eq(paperId), any());
+    }
+
+    @Test
+    void drain_WaitsWhileCircuitIsOpen() {
+        // Arrange
+        when(summaryRepository.countProvisional()).thenReturn(3L);
+        when(summaryRepository.countProvisionalSections()).thenReturn(7L);
+        circuitBreakerRegistry.circuitBreaker("gemini-api").transitionToOpenState();
+
+        // Act
+        service.drain();
+
+        // Assert
+        verify(summaryRepository, never()).findProvisional(anyInt(), anyInt());
+        verify(summaryJobService, never()).submitSections(any(), any());
+        assertEquals(
+                7.0,
+                meterRegistry
+                        .get("summary.provisional.backlog")
+                        .tag("unit", "sections")
+                        .gauge()
+                        .value());
+    }
+
+    private static PaperSummary provisionalSummary(List<String> sections) {
+        Paper paper = new Paper();
+        paper.setId(UUID.nameUUIDFromBytes("paper".getBytes()));
+        return PaperSummary.builder()
+                .paper(paper)
+                .provisionalSections(new ArrayList<>(sections))
+                .build();
+    }
+
+    private double awaitRepairedSections(double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            double count = meterRegistry
+                    .counter("summary.provisional.sections.repaired")
+                    .count();
+            if (count >= expected) {
+                return count;
+            }
+            Thread.sleep(20);
+        }
+        fail("Provisional repair did not settle");
+        return 0;
+    }
+}
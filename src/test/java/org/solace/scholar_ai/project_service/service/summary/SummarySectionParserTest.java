@@ -0,0 +1,100 @@
+package org.solace.scholar_ai.project_service.service.summary;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.solace.scholar_ai.project_service.client.gemini.LlmMetrics;
+import org.solace.scholar_ai.project_service.constant.LlmCaller;
+import org.solace.scholar_ai.project_service.constant.SummarySection;
+import org.solace.scholar_ai.project_service.dto.summary.section.MethodsSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.QuickTakeSection;
+import org.solace.scholar_ai.project_service.dto.summary.section.SummarySectionPayload;
+
+class SummarySectionParserTest {
+
+    private LlmMetrics llmMetrics;
+    private SummarySectionParser parser;
+
+    @BeforeEach
+    void setUp() {
+        llmMetrics = mock(LlmMetrics.class);
+        parser = new SummarySectionParser(new ObjectMapper(), llmMetrics);
+    }
+
+    @Test
+    void parse_BindsFencedResponseIntoSectionRecord() {
+        // Arrange
+        String response = "Here is the summary:\n```json\n{\"one_liner\": \"A faster parser\","
+                + " \"key_contributions\": [\"single pass\", \"typed records\",],"
+                + " \"main_findings\": [{\"task\": \"parse\", \"metric\": \"latency\", \"value\": \"2x\"}]}\n```";
+
+        // Act
+        SummarySectionPayload payload = parser.parse(SummarySection.QUICK_TAKE, response);
+
+        // Assert
+        QuickTakeSection quickTake = assertInstanceOf(QuickTakeSection.class, payload);
+        assertEquals("A faster parser", quickTake.oneLiner());
+        assertEquals(List.of("single pass", "typed records"), quickTake.keyContributions());
+        assertEquals("latency", quickTake.mainFindings().get(0).getMetric());
+        assertFalse(quickTake.isFallback());
+    }
+
+    @Test
+    void parse_ClosesTruncatedResponseAfterLastCompleteValue() {
+        // Arrange
+        String response = "{\"one_liner\": \"Cut short\", \"key_contributions\": [\"first\", \"sec";
+
+        // Act
+        QuickTakeSection quickTake = (QuickTakeSection) parser.parse(SummarySection.QUICK_TAKE, response);
+
+        // Assert
+        assertEquals("Cut short", quickTake.oneLiner());
+        assertEquals(List.of("first"), quickTake.keyContributions());
+    }
+
+    @Test
+    void parse_CoercesValuesOfTheWrongShape() {
+        // Arrange
+        String response = "{\"study_type\": \"EMPIRICAL\", \"research_questions\": \"Does it scale?\","
+                + " \"participants\": {\"n\": \"unknown\", \"irb_approved\": \"yes\"},"
+                + " \"procedure_or_pipeline\": [\"collect\", \"train\"],"
+                + " \"compute_resources\": \"not reported\"}";
+
+        // Act
+        MethodsSection methods = (MethodsSection) parser.parse(SummarySection.METHODS, response);
+
+        // Assert
+        assertEquals(List.of("Does it scale?"), methods.researchQuestions());
+        assertNull(methods.participants().getN());
+        assertTrue(methods.participants().getIrbApproved());
+        assertEquals("collect, train", methods.procedureOrPipeline());
+        assertNull(methods.computeResources());
+    }
+
+    @Test
+    void parse_FlagsFallbackResponse() {
+        // Arrange
+        String response =
+                "{\"one_liner\": \"\", \"_response_source\": \"fallback\", \"_fallback_reason\": \"rate limited\"}";
+
+        // Act
+        SummarySectionPayload payload = parser.parse(SummarySection.QUICK_TAKE, response);
+
+        // Assert
+        assertTrue(payload.isFallback());
+        assertEquals("rate limited", payload.fallbackReason());
+    }
+
+    @Test
+    void parse_ThrowsAndRecordsFailureWhenNoJsonObject() {
+        // Act & Assert
+        assertThrows(
+                IllegalStateException.class,
+                () -> parser.parse(SummarySection.ETHICS, "I could not summarize this paper."));
+        verify(llmMetrics).recordParseFailure(LlmCaller.SUMMARY, SummarySection.ETHICS.getKey());
+    }
+}
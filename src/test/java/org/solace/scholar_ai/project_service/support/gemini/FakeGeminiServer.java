@@ -0,0 +1,333 @@
+package org.solace.scholar_ai.project_service.support.gemini;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * In-process stand-in for the Gemini {@code generateContent} and
+ * {@code streamGenerateContent?alt=sse} endpoints.
+ *
+ * <p>Each request is classified by its prompt into a {@link PromptType} and
+ * answered with the canned text under {@code src/test/resources/fake-gemini}
+ * after a delay drawn from the configured {@link LatencyDistribution}. A share
+ * of requests can be answered with 429 or 500 instead, to exercise retries,
+ * the circuit breaker and the adaptive concurrency limit.
+ */
+public final class FakeGeminiServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int STREAM_CHUNKS = 6;
+
+    private final LatencyDistribution latency;
+    private final double throttleRate;
+    private final double errorRate;
+    private final Map<PromptType, String> responses;
+    private final Map<PromptType, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    private FakeGeminiServer(Builder builder) {
+        this.latency = builder.latency;
+        this.throttleRate = builder.throttleRate;
+        this.errorRate = builder.errorRate;
+        this.responses = new EnumMap<>(PromptType.class);
+        for (PromptType type : PromptType.values()) {
+            responses.put(type, builder.responses.getOrDefault(type, type.loadCannedResponse()));
+            requestCounts.put(type, new AtomicLong());
+        }
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start fake Gemini server", e);
+        }
+        server.createContext("/v1beta/models/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Value for {@code gemini.api-url} pointing at this server
+     */
+    public String apiUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1beta/models/fake-gemini:generateContent";
+    }
+
+    public long requestCount(PromptType type) {
+        return requestCounts.get(type).get();
+    }
+
+    public long totalRequests() {
+        return requestCounts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public long throttledCount() {
+        return throttled.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    public void resetCounters() {
+        requestCounts.values().forEach(count -> count.set(0));
+        throttled.set(0);
+        failed.set(0);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String prompt = extractPrompt(exchange.getRequestBody());
+            PromptType type = PromptType.classify(prompt);
+            requestCounts.get(type).incrementAndGet();
+
+            sleep(latency.sample(ThreadLocalRandom.current()));
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < throttleRate) {
+                throttled.incrementAndGet();
+                sendError(exchange, 429, "RESOURCE_EXHAUSTED", "Resource has been exhausted (e.g. check quota).");
+                return;
+            }
+            if (roll < throttleRate + errorRate) {
+                failed.incrementAndGet();
+                sendError(exchange, 500, "INTERNAL", "An internal error has occurred.");
+                return;
+            }
+
+            String text = responses.get(type);
+            if (exchange.getRequestURI().getPath().endsWith(":streamGenerateContent")) {
+                sendStream(exchange, prompt, text);
+            } else {
+                sendJson(exchange, 200, responseBody(text, "STOP", prompt, text));
+            }
+        }
+    }
+
+    private static String extractPrompt(InputStream body) throws IOException {
+        JsonNode request = MAPPER.readTree(body);
+        StringBuilder prompt = new StringBuilder();
+        for (JsonNode content : request.path("contents")) {
+            for (JsonNode part : content.path("parts")) {
+                prompt.append(part.path("text").asText(""));
+            }
+        }
+        return prompt.toString();
+    }
+
+    /**
+     * Same envelope the real API returns: candidates[].content.parts[].text
+     * plus usage metadata
+     */
+    private static ObjectNode responseBody(String text, String finishReason, String prompt, String completion) {
+        ObjectNode root = MAPPER.createObjectNode();
+        ArrayNode candidates = root.putArray("candidates");
+        ObjectNode candidate = candidates.addObject();
+        ObjectNode content = candidate.putObject("content");
+        content.putArray("parts").addObject().put("text", text);
+        content.put("role", "model");
+        if (finishReason != null) {
+            candidate.put("finishReason", finishReason);
+            candidate.put("index", 0);
+            ObjectNode usage = root.putObject("usageMetadata");
+            usage.put("promptTokenCount", estimateTokens(prompt));
+            usage.put("candidatesTokenCount", estimateTokens(completion));
+            usage.put("totalTokenCount", estimateTokens(prompt) + estimateTokens(completion));
+        }
+        root.put("modelVersion", "fake-gemini");
+        return root;
+    }
+
+    private static void sendStream(HttpExchange exchange, String prompt, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int chunkSize = Math.max(1, (text.length() + STREAM_CHUNKS - 1) / STREAM_CHUNKS);
+        for (int start = 0; start < text.length(); start += chunkSize) {
+            int end = Math.min(text.length(), start + chunkSize);
+            String finishReason = end == text.length() ? "STOP" : null;
+            ObjectNode chunk = responseBody(text.substring(start, end), finishReason, prompt, text);
+            out.write(("data: " + MAPPER.writeValueAsString(chunk) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String reason, String message) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ObjectNode error = root.putObject("error");
+        error.put("code", status);
+        error.put("message", message);
+        error.put("status", reason);
+        sendJson(exchange, status, root);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static int estimateTokens(String text) {
+        return Math.max(1, text.length() / 4);
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Kind of call, recognised by a marker the corresponding prompt always contains
+     */
+    public enum PromptType {
+        QUICK_TAKE("\"one_liner\"", "quick_take.json"),
+        METHODS("\"study_type\"", "methods.json"),
+        REPRODUCIBILITY("\"repro_score\"", "reproducibility.json"),
+        ETHICS("\"bias_and_fairness\"", "ethics.json"),
+        CONTEXT_IMPACT("\"novelty_type\"", "context_impact.json"),
+        CITATION_VERIFY("scientific fact-checker", "citation_verify.json"),
+        CHAT(null, "chat.txt");
+
+        private final String marker;
+        private final String resource;
+
+        PromptType(String marker, String resource) {
+            this.marker = marker;
+            this.resource = resource;
+        }
+
+        public static PromptType classify(String prompt) {
+            for (PromptType type : values()) {
+                if (type.marker != null && prompt.contains(type.marker)) {
+                    return type;
+                }
+            }
+            return CHAT;
+        }
+
+        private String loadCannedResponse() {
+            try (InputStream in = FakeGeminiServer.class.getResourceAsStream("/fake-gemini/" + resource)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing canned response /fake-gemini/" + resource);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Per-request delay before the fake answers
+     */
+    @FunctionalInterface
+    public interface LatencyDistribution {
+
+        Duration sample(RandomGenerator random);
+
+        static LatencyDistribution none() {
+            return random -> Duration.ZERO;
+        }
+
+        static LatencyDistribution fixed(Duration latency) {
+            return random -> latency;
+        }
+
+        static LatencyDistribution uniform(Duration min, Duration max) {
+            long minMillis = min.toMillis();
+            long maxMillis = max.toMillis();
+            return random -> Duration.ofMillis(minMillis + random.nextLong(maxMillis - minMillis + 1));
+        }
+
+        /**
+         * Right-skewed latency typical of LLM APIs: most calls near the median,
+         * with a long tail controlled by {@code sigma}
+         */
+        static LatencyDistribution logNormal(Duration median, double sigma) {
+            double mu = Math.log(Math.max(1, median.toMillis()));
+            return random -> Duration.ofMillis(Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+        }
+    }
+
+    public static final class Builder {
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double throttleRate;
+        private double errorRate;
+        private final Map<PromptType, String> responses = new EnumMap<>(PromptType.class);
+
+        private Builder() {}
+
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Share of requests answered with 429 RESOURCE_EXHAUSTED
+         */
+        public Builder throttleRate(double throttleRate) {
+            this.throttleRate = throttleRate;
+            return this;
+        }
+
+        /**
+         * Share of requests answered with 500 INTERNAL
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder response(PromptType type, String text) {
+            responses.put(type, text);
+            return this;
+        }
+
+        public FakeGeminiServer start() {
+            return new FakeGeminiServer(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.solace.scholar_ai.project_service.util.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ContextPackerTest {
+
+    // Estimated at 5 tokens
+    private static final String METHODS = "## Methods:\n";
+    private static final String RESULTS = "## Results:\n";
+
+    @Test
+    void pack_KeepsMostRelevantBlocksInOriginalOrder() {
+        // Arrange: each block costs 10 tokens plus its newline
+        String first = words("aaaa", 10);
+        String second = words("bbbb", 10);
+        String third = words("cccc", 10);
+        List<ContextPacker.Block> blocks =
+                List.of(block(null, first, 0.2, 0), block(null, second, 0.9, 1), block(null, third, 0.5, 2));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 22);
+
+        // Assert
+        assertEquals(second + "\n" + third + "\n", packed.text());
+        assertEquals(22, packed.tokens());
+        assertEquals(2, packed.included());
+        assertEquals(0, packed.truncated());
+        assertEquals(1, packed.dropped());
+    }
+
+    @Test
+    void pack_PacksDuplicateTextOnceWithoutCountingItDropped() {
+        // Arrange
+        String paragraph = words("aaaa", 10);
+        String other = words("bbbb", 10);
+        List<ContextPacker.Block> blocks =
+                List.of(block(null, paragraph, 0.9, 0), block(null, other, 0.5, 1), block(null, paragraph, 0.4, 2));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 100);
+
+        // Assert
+        assertEquals(paragraph + "\n" + other + "\n", packed.text());
+        assertEquals(2, packed.included());
+        assertEquals(0, packed.dropped());
+    }
+
+    @Test
+    void pack_TruncatesOverflowingBlockWhenEnoughBudgetRemains() {
+        // Arrange: 11 tokens for the first block leaves 48 for the second after its newline
+        String lead = words("aaaa", 10);
+        String longParagraph = words("bbbb", 100);
+        List<ContextPacker.Block> blocks = List.of(block(null, lead, 1.0, 0), block(null, longParagraph, 0.5, 1));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 60);
+
+        // Assert: 45 words and the ellipsis
+        assertEquals(lead + "\n" + words("bbbb", 45) + "...\n", packed.text());
+        assertEquals(60, packed.tokens());
+        assertEquals(1, packed.included());
+        assertEquals(1, packed.truncated());
+        assertEquals(0, packed.dropped());
+    }
+
+    @Test
+    void pack_DropsOverflowingBlockWhenTooLittleBudgetRemains() {
+        // Arrange
+        List<ContextPacker.Block> blocks =
+                List.of(block(null, words("aaaa", 10), 1.0, 0), block(null, words("bbbb", 100), 0.5, 1));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 59);
+
+        // Assert
+        assertEquals(11, packed.tokens());
+        assertEquals(1, packed.included());
+        assertEquals(0, packed.truncated());
+        assertEquals(1, packed.dropped());
+    }
+
+    @Test
+    void pack_ChargesAndRendersGroupHeaderOnce() {
+        // Arrange: 5 header tokens, then 11 per block
+        String first = words("aaaa", 10);
+        String second = words("bbbb", 10);
+        List<ContextPacker.Block> blocks =
+                List.of(block(METHODS, first, 0.9, 0), block(METHODS, second, 0.8, 1), block(METHODS, "cccc", 0.1, 2));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 27);
+
+        // Assert
+        assertEquals(METHODS + first + "\n" + second + "\n", packed.text());
+        assertEquals(27, packed.tokens());
+        assertEquals(2, packed.included());
+        assertEquals(1, packed.dropped());
+    }
+
+    @Test
+    void pack_RendersNonContiguousGroupAsOneRunWithinBudget() {
+        // Arrange: the methods group is split by a results block
+        String first = words("aaaa", 10);
+        String result = words("bbbb", 10);
+        String second = words("cccc", 10);
+        List<ContextPacker.Block> blocks =
+                List.of(block(METHODS, first, 0.9, 0), block(RESULTS, result, 0.9, 1), block(METHODS, second, 0.9, 2));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 43);
+
+        // Assert: each header is rendered once, as it was charged
+        assertEquals(METHODS + first + "\n" + second + "\n" + RESULTS + result + "\n", packed.text());
+        assertEquals(43, packed.tokens());
+        assertTrue(TokenEstimator.estimate(packed.text()) <= packed.tokens());
+        assertEquals(3, packed.included());
+    }
+
+    @Test
+    void pack_RendersRepeatedHeadingWithinGroupOnce() {
+        // Arrange: two sections of the same group share a heading, split by another
+        String intro = words("aaaa", 10);
+        String setup = words("bbbb", 10);
+        String introContinued = words("cccc", 10);
+        List<ContextPacker.Block> blocks = List.of(
+                new ContextPacker.Block(METHODS, "### Intro\n", intro, 0.9, 0),
+                new ContextPacker.Block(METHODS, "### Setup\n", setup, 0.9, 1),
+                new ContextPacker.Block(METHODS, "### Intro\n", introContinued, 0.9, 2));
+
+        // Act
+        ContextPacker.Packed packed = ContextPacker.pack(blocks, 100);
+
+        // Assert
+        assertEquals(
+                METHODS + "### Intro\n" + intro + "\n" + introContinued + "\n" + "### Setup\n" + setup + "\n",
+                packed.text());
+        assertTrue(TokenEstimator.estimate(packed.text()) <= packed.tokens());
+    }
+
+    private static ContextPacker.Block block(String group, String text, double relevance, int order) {
+        return new ContextPacker.Block(group, null, text, relevance, order);
+    }
+
+    /**
+     * {@code count} copies of a four-letter word, one token each
+     */
+    private static String words(String word, int count) {
+        return String.join(" ", Collections.nCopies(count, word));
+    }
+}
@@ -0,0 +1,49 @@
+package org.solace.scholar_ai.project_service.util.prompt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class TokenEstimatorTest {
+
+    @Test
+    void estimate_CountsWordRunsInFourCharacterChunks() {
+        // Act & Assert
+        assertEquals(0, TokenEstimator.estimate(null));
+        assertEquals(0, TokenEstimator.estimate("  \n "));
+        assertEquals(1, TokenEstimator.estimate("data"));
+        assertEquals(2, TokenEstimator.estimate("model"));
+        assertEquals(4, TokenEstimator.estimate("hello world"));
+        assertEquals(2, TokenEstimator.estimate("12345"));
+    }
+
+    @Test
+    void estimate_CountsEachPunctuationAndCjkCharacter() {
+        // Act & Assert
+        assertEquals(4, TokenEstimator.estimate("a, b."));
+        assertEquals(3, TokenEstimator.estimate("{\"}"));
+        assertEquals(2, TokenEstimator.estimate("中文"));
+        assertEquals(3, TokenEstimator.estimate("模型abc"));
+    }
+
+    @Test
+    void truncateToTokens_CutsBackToWordBoundaryWithinBudget() {
+        // Arrange: 2 + 1 + 2 + 2 tokens
+        String text = "alpha beta gamma delta";
+
+        // Act
+        String truncated = TokenEstimator.truncateToTokens(text, 4);
+
+        // Assert: "alpha beta gamm" fits, but the cut backs off to the whole words
+        assertEquals("alpha beta", truncated);
+        assertTrue(TokenEstimator.estimate(truncated) <= 4);
+    }
+
+    @Test
+    void truncateToTokens_KeepsTextThatFitsAndEmptiesNonPositiveBudgets() {
+        // Act & Assert
+        assertEquals("alpha beta", TokenEstimator.truncateToTokens("alpha beta", 3));
+        assertEquals("", TokenEstimator.truncateToTokens("alpha beta", 0));
+        assertEquals("", TokenEstimator.truncateToTokens(null, 10));
+    }
+}
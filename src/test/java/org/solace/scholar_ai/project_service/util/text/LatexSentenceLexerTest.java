@@ -0,0 +1,123 @@
+package org.solace.scholar_ai.project_service.util.text;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class LatexSentenceLexerTest {
+
+    @Test
+    void sentences_SpanLinesWithExactOffsetsAndCitationKeys() {
+        // Arrange
+        String latex = "\\section{Introduction}\n"
+                + "Deep models need data.\n"
+                + "Large corpora help, as\n"
+                + "shown by~\\citet{smith2020}. Short.\n";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(2, sentences.size());
+        LatexSentenceLexer.Sentence sentence = sentences.get(1);
+        assertEquals("Large corpora help, as shown by.", sentence.text());
+        assertEquals(latex.indexOf("Large"), sentence.startPos());
+        assertEquals(latex.indexOf(" Short"), sentence.endPos());
+        assertEquals(3, sentence.lineStart());
+        assertEquals(4, sentence.lineEnd());
+        assertEquals(Set.of("smith2020"), sentence.citedKeys());
+        assertEquals(2, sentences.get(0).lineStart());
+    }
+
+    @Test
+    void sentences_SkipCommentsMathAndNonProseEnvironments() {
+        // Arrange
+        String latex = "Results improve by $\\alpha = 3\\%$ % reviewer note. Not prose\n"
+                + "over baselines~\\citep[see][p.~4]{jones2019, lee2021}.\n"
+                + "\\begin{equation}\n  x = \\frac{a}{b}. \n\\end{equation}\n"
+                + "\\begin{verbatim}\nSome code. More code.\n\\end{verbatim}\n";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(1, sentences.size());
+        assertEquals(
+                "Results improve by [MATH] over baselines.", sentences.get(0).text());
+        assertEquals(Set.of("jones2019", "lee2021"), sentences.get(0).citedKeys());
+    }
+
+    @Test
+    void sentences_KeepAbbreviationsInsideSentences() {
+        // Arrange
+        String latex = "Prior work, e.g. Fig.~3 of Smith et al.\\ (2020), is \\emph{closely} related. "
+                + "A second sentence follows here!";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(
+                List.of(
+                        "Prior work, e.g. Fig. 3 of Smith et al. (2020), is closely related.",
+                        "A second sentence follows here!"),
+                sentences.stream().map(LatexSentenceLexer.Sentence::text).toList());
+    }
+
+    @Test
+    void sentences_ReadOnlyTheDocumentBodyAndBreakAtListItems() {
+        // Arrange
+        String latex = "\\documentclass{article}\n\\title{A preamble title here}\n\\begin{document}\n"
+                + "\\begin{itemize}\n\\item First listed point here\n\\item[b)] Second listed point here\n"
+                + "\\end{itemize}\n\\end{document}\nTrailing text after the end.";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(
+                List.of("First listed point here", "Second listed point here"),
+                sentences.stream().map(LatexSentenceLexer.Sentence::text).toList());
+        assertEquals(5, sentences.get(0).lineStart());
+    }
+
+    @Test
+    void sentences_LexFootnotesAsSentencesOfTheirOwn() {
+        // Arrange
+        String latex = "Transformers dominate translation\\footnote{see \\cite{a} for a survey} today.\n"
+                + "Another sentence follows here.";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(
+                List.of(
+                        "Transformers dominate translation today.",
+                        "see for a survey",
+                        "Another sentence follows here."),
+                sentences.stream().map(LatexSentenceLexer.Sentence::text).toList());
+        assertEquals(Set.of(), sentences.get(0).citedKeys());
+        assertEquals(Set.of("a"), sentences.get(1).citedKeys());
+        assertEquals(latex.indexOf("see"), sentences.get(1).startPos());
+        assertEquals(1, sentences.get(1).lineStart());
+    }
+
+    @Test
+    void sentences_LexCaptionsAsSentencesOfTheirOwn() {
+        // Arrange
+        String latex = "\\begin{figure}[t]\n\\centering\n\\includegraphics{plot}\n"
+                + "\\caption[Short]{Accuracy of the baseline, from \\citet{b}.}\n\\end{figure}\n";
+
+        // Act
+        List<LatexSentenceLexer.Sentence> sentences = LatexSentenceLexer.sentences(latex);
+
+        // Assert
+        assertEquals(1, sentences.size());
+        assertEquals("Accuracy of the baseline, from.", sentences.get(0).text());
+        assertEquals(Set.of("b"), sentences.get(0).citedKeys());
+        assertEquals(4, sentences.get(0).lineStart());
+    }
+}